@@ -118,6 +118,9 @@
 
 -keep class * extends com.tencent.mtt.hippy.modules.nativemodules.HippyNativeModuleBase{   public *;}
 
+-keep class * extends com.tencent.mtt.hippy.modules.nativemodules.HippyNativeModuleInvoker{   public <init>();}
+-keep class * extends com.tencent.mtt.hippy.uimanager.HippyPropsSetter{   public <init>();}
+
 -keep class com.tencent.mtt.hippy.modules.nativemodules.* {*;}
 
 -keep class com.tencent.mtt.hippy.modules.javascriptmodules.* {*;}
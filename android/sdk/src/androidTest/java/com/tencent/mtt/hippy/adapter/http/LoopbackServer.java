@@ -0,0 +1,197 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.adapter.http;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FileName: LoopbackServer
+ * Description：a minimal keep-alive http/1.1 server on 127.0.0.1 for the http adapter tests. Every request is
+ * answered 200 with the same body after mResponseDelayMs, and the server counts the connections it accepted and
+ * the most requests it handled at once.
+ * History：
+ */
+class LoopbackServer
+{
+	private final ServerSocket		mServerSocket;
+	private final byte[]			mBody;
+	private final long				mResponseDelayMs;
+
+	final AtomicInteger				mConnectionCount	= new AtomicInteger();
+	final AtomicInteger				mRequestCount		= new AtomicInteger();
+	final AtomicInteger				mMaxConcurrent		= new AtomicInteger();
+	private final AtomicInteger		mConcurrent			= new AtomicInteger();
+
+	LoopbackServer(byte[] body, long responseDelayMs) throws IOException
+	{
+		mServerSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+		mBody = body;
+		mResponseDelayMs = responseDelayMs;
+		Thread acceptThread = new Thread(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				acceptLoop();
+			}
+		}, "LoopbackServer-accept");
+		acceptThread.setDaemon(true);
+		acceptThread.start();
+	}
+
+	String getUrl(String path)
+	{
+		return String.format(Locale.US, "http://127.0.0.1:%d%s", mServerSocket.getLocalPort(), path);
+	}
+
+	void close() throws IOException
+	{
+		mServerSocket.close();
+	}
+
+	private void acceptLoop()
+	{
+		while (!mServerSocket.isClosed())
+		{
+			final Socket socket;
+			try
+			{
+				socket = mServerSocket.accept();
+			}
+			catch (IOException e)
+			{
+				return;
+			}
+			mConnectionCount.incrementAndGet();
+			Thread connectionThread = new Thread(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					serve(socket);
+				}
+			}, "LoopbackServer-connection");
+			connectionThread.setDaemon(true);
+			connectionThread.start();
+		}
+	}
+
+	private void serve(Socket socket)
+	{
+		try
+		{
+			InputStream in = new BufferedInputStream(socket.getInputStream());
+			OutputStream out = socket.getOutputStream();
+			while (readRequest(in))
+			{
+				mRequestCount.incrementAndGet();
+				int concurrent = mConcurrent.incrementAndGet();
+				int max;
+				while (concurrent > (max = mMaxConcurrent.get()) && !mMaxConcurrent.compareAndSet(max, concurrent))
+				{
+					// another connection raised the max in between, try again
+				}
+				if (mResponseDelayMs > 0)
+				{
+					Thread.sleep(mResponseDelayMs);
+				}
+				mConcurrent.decrementAndGet();
+
+				String head = "HTTP/1.1 200 OK\r\nContent-Type: text/plain; charset=utf-8\r\nContent-Length: " + mBody.length
+						+ "\r\nConnection: keep-alive\r\n\r\n";
+				out.write(head.getBytes("US-ASCII"));
+				out.write(mBody);
+				out.flush();
+			}
+		}
+		catch (Exception e)
+		{
+			// the client closed the connection
+		}
+		finally
+		{
+			try
+			{
+				socket.close();
+			}
+			catch (IOException e)
+			{
+				// already closed
+			}
+		}
+	}
+
+	/**
+	 * reads the request line and the headers, and the body if there is a Content-Length
+	 * @return false if the connection was closed before a request
+	 */
+	private static boolean readRequest(InputStream in) throws IOException
+	{
+		int contentLength = 0;
+		boolean requestLine = true;
+		String line;
+		while ((line = readLine(in)) != null)
+		{
+			if (line.isEmpty())
+			{
+				if (requestLine)
+				{
+					continue;
+				}
+				for (int i = 0; i < contentLength; i++)
+				{
+					if (in.read() == -1)
+					{
+						return false;
+					}
+				}
+				return true;
+			}
+			requestLine = false;
+			if (line.toLowerCase(Locale.US).startsWith("content-length:"))
+			{
+				contentLength = Integer.parseInt(line.substring("content-length:".length()).trim());
+			}
+		}
+		return false;
+	}
+
+	private static String readLine(InputStream in) throws IOException
+	{
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		int c;
+		while ((c = in.read()) != -1)
+		{
+			if (c == '\n')
+			{
+				byte[] bytes = line.toByteArray();
+				int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+				return new String(bytes, 0, length, "US-ASCII");
+			}
+			line.write(c);
+		}
+		return null;
+	}
+}
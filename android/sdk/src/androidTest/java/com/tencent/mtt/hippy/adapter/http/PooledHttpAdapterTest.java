@@ -0,0 +1,184 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.adapter.http;
+
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * FileName: PooledHttpAdapterTest
+ * Description：PooledHttpAdapter against a server on the loopback interface: bodies, connection reuse, the
+ * limit of requests per host and the body cap.
+ * History：
+ */
+@RunWith(AndroidJUnit4.class)
+public class PooledHttpAdapterTest
+{
+	private static final long	TIMEOUT_SECONDS	= 10;
+
+	private LoopbackServer		mServer;
+	private PooledHttpAdapter	mAdapter;
+
+	@After
+	public void tearDown() throws IOException
+	{
+		if (mAdapter != null)
+		{
+			mAdapter.destroyIfNeed();
+		}
+		if (mServer != null)
+		{
+			mServer.close();
+		}
+	}
+
+	@Test
+	public void deliversTheBody() throws Exception
+	{
+		byte[] body = "hello hippy".getBytes("UTF-8");
+		mServer = new LoopbackServer(body, 0);
+		mAdapter = new PooledHttpAdapter();
+
+		RecordingCallback callback = send(mServer.getUrl("/body"), 1);
+		assertTrue(callback.await());
+		assertNull(callback.mError);
+		assertEquals(200, callback.mStatusCode);
+		assertArrayEquals(body, callback.mBody);
+	}
+
+	@Test
+	public void reusesTheConnection() throws Exception
+	{
+		mServer = new LoopbackServer("keep-alive".getBytes("UTF-8"), 0);
+		mAdapter = new PooledHttpAdapter();
+
+		for (int i = 0; i < 3; i++)
+		{
+			RecordingCallback callback = send(mServer.getUrl("/reuse/" + i), 1);
+			assertTrue(callback.await());
+			assertNull(callback.mError);
+		}
+		assertEquals(3, mServer.mRequestCount.get());
+		assertEquals(1, mServer.mConnectionCount.get());
+	}
+
+	@Test
+	public void limitsTheRequestsPerHost() throws Exception
+	{
+		mServer = new LoopbackServer("slow".getBytes("UTF-8"), 200);
+		mAdapter = new PooledHttpAdapter(16, 2, PooledHttpAdapter.DEFAULT_MAX_BODY_BYTES, null, null);
+
+		int requests = 6;
+		CountDownLatch latch = new CountDownLatch(requests);
+		RecordingCallback[] callbacks = new RecordingCallback[requests];
+		for (int i = 0; i < requests; i++)
+		{
+			callbacks[i] = send(mServer.getUrl("/limit/" + i), latch);
+		}
+		assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		for (RecordingCallback callback : callbacks)
+		{
+			assertNull(callback.mError);
+		}
+		assertEquals(requests, mServer.mRequestCount.get());
+		assertTrue("max concurrent " + mServer.mMaxConcurrent.get(), mServer.mMaxConcurrent.get() <= 2);
+	}
+
+	@Test
+	public void failsPastTheBodyCap() throws Exception
+	{
+		byte[] body = new byte[100];
+		Arrays.fill(body, (byte) 'x');
+		mServer = new LoopbackServer(body, 0);
+		mAdapter = new PooledHttpAdapter(16, 5, 16, null, null);
+
+		RecordingCallback callback = send(mServer.getUrl("/cap"), 1);
+		assertTrue(callback.await());
+		assertTrue(String.valueOf(callback.mError), callback.mError instanceof IOException);
+	}
+
+	private RecordingCallback send(String url, int count)
+	{
+		return send(url, new CountDownLatch(count));
+	}
+
+	private RecordingCallback send(String url, CountDownLatch latch)
+	{
+		HippyHttpRequest request = new HippyHttpRequest();
+		request.setUrl(url);
+		request.setUseCaches(false);
+		RecordingCallback callback = new RecordingCallback(latch);
+		mAdapter.sendRequest(request, callback);
+		return callback;
+	}
+
+	private static class RecordingCallback implements HippyHttpAdapter.HttpTaskCallback
+	{
+		final CountDownLatch	mLatch;
+		volatile int			mStatusCode;
+		volatile byte[]			mBody;
+		volatile Throwable		mError;
+
+		RecordingCallback(CountDownLatch latch)
+		{
+			mLatch = latch;
+		}
+
+		boolean await() throws InterruptedException
+		{
+			return mLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		}
+
+		@Override
+		public void onTaskSuccess(HippyHttpRequest request, HippyHttpResponse response) throws Exception
+		{
+			mStatusCode = response.getStatusCode();
+			// reads the whole body like NetworkModule, past the cap the adapter reports onTaskFailed
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			InputStream in = response.getInputStream();
+			byte[] buffer = new byte[1024];
+			int count;
+			while ((count = in.read(buffer)) != -1)
+			{
+				out.write(buffer, 0, count);
+			}
+			mBody = out.toByteArray();
+			mLatch.countDown();
+		}
+
+		@Override
+		public void onTaskFailed(HippyHttpRequest request, Throwable error)
+		{
+			mError = error;
+			mLatch.countDown();
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.modules.nativemodules.network;
+
+import android.support.test.runner.AndroidJUnit4;
+
+import com.tencent.mtt.hippy.common.HippyArray;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * FileName: NetworkModuleBodyChunksTest
+ * Description：the chunks fetch gets a body in when it asks for respBodyChunked
+ * History：
+ */
+@RunWith(AndroidJUnit4.class)
+public class NetworkModuleBodyChunksTest
+{
+	@Test
+	public void emptyBodyHasNoChunk() throws Exception
+	{
+		assertEquals(0, NetworkModule.readBodyChunks(new StringReader("")).size());
+	}
+
+	@Test
+	public void shortBodyIsOneChunk() throws Exception
+	{
+		HippyArray chunks = NetworkModule.readBodyChunks(new StringReader("{\"a\":1}"));
+		assertEquals(1, chunks.size());
+		assertEquals("{\"a\":1}", chunks.getString(0));
+	}
+
+	@Test
+	public void chunksJoinToTheBody() throws Exception
+	{
+		StringBuilder body = new StringBuilder();
+		while (body.length() < NetworkModule.BODY_CHUNK_CHARS * 2 + 100)
+		{
+			body.append("hippy ");
+		}
+		HippyArray chunks = NetworkModule.readBodyChunks(new StringReader(body.toString()));
+		assertEquals(3, chunks.size());
+		assertEquals(body.toString(), join(chunks));
+	}
+
+	@Test
+	public void surrogatePairIsNotSplit() throws Exception
+	{
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < NetworkModule.BODY_CHUNK_CHARS - 1; i++)
+		{
+			body.append('a');
+		}
+		// U+1F600, its high surrogate is the last char of the first chunk if it is split
+		body.append("\uD83D\uDE00tail");
+		HippyArray chunks = NetworkModule.readBodyChunks(new StringReader(body.toString()));
+		for (int i = 0; i < chunks.size(); i++)
+		{
+			String chunk = chunks.getString(i);
+			assertFalse(Character.isHighSurrogate(chunk.charAt(chunk.length() - 1)));
+			assertTrue(chunk.length() <= NetworkModule.BODY_CHUNK_CHARS);
+		}
+		assertEquals(body.toString(), join(chunks));
+	}
+
+	private static String join(HippyArray chunks)
+	{
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < chunks.size(); i++)
+		{
+			sb.append(chunks.getString(i));
+		}
+		return sb.toString();
+	}
+}
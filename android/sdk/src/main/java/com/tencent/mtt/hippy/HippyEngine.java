@@ -30,6 +30,8 @@ import com.tencent.mtt.hippy.adapter.font.DefaultFontScaleAdapter;
 import com.tencent.mtt.hippy.adapter.font.HippyFontScaleAdapter;
 import com.tencent.mtt.hippy.adapter.http.DefaultHttpAdapter;
 import com.tencent.mtt.hippy.adapter.http.HippyHttpAdapter;
+import com.tencent.mtt.hippy.adapter.http.HippyHttpCache;
+import com.tencent.mtt.hippy.adapter.http.PooledHttpAdapter;
 import com.tencent.mtt.hippy.adapter.image.HippyImageLoader;
 import com.tencent.mtt.hippy.adapter.monitor.DefaultEngineMonitorAdapter;
 import com.tencent.mtt.hippy.adapter.monitor.HippyEngineMonitorAdapter;
@@ -37,6 +39,7 @@ import com.tencent.mtt.hippy.adapter.sharedpreferences.DefaultSharedPreferencesA
 import com.tencent.mtt.hippy.adapter.sharedpreferences.HippySharedPreferencesAdapter;
 import com.tencent.mtt.hippy.adapter.soloader.DefaultSoLoaderAdapter;
 import com.tencent.mtt.hippy.adapter.soloader.HippySoLoaderAdapter;
+import com.tencent.mtt.hippy.adapter.storage.CachingStorageAdapter;
 import com.tencent.mtt.hippy.adapter.storage.DefaultStorageAdapter;
 import com.tencent.mtt.hippy.adapter.storage.HippyStorageAdapter;
 import com.tencent.mtt.hippy.bridge.HippyCoreAPI;
@@ -48,6 +51,7 @@ import com.tencent.mtt.hippy.utils.LogUtils;
 import com.tencent.mtt.hippy.utils.UIThreadUtils;
 import com.tencent.mtt.hippy.adapter.thirdparty.HippyThirdPartyAdapter;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -272,6 +276,13 @@ public abstract class HippyEngine
 		public List<HippyAPIProvider> providers;
 		// 可选参数 是否允许Hippy启用底层buffer。默认为true
 		public boolean enableBuffer = true;
+		// 可选参数 是否合并高频的JS事件（onScroll、onLayout、onTouchMove），并按帧批量发送给JS。默认为false
+		public boolean enableEventCoalescing = false;
+		// 可选参数 未设置storageAdapter时，是否在默认的storage之上启用写缓存（CachingStorageAdapter）。写入在落库前即返回成功，
+		// 延迟落库期间进程被杀会丢失这部分写入。默认为false
+		public boolean enableStorageWriteCache = false;
+		// 可选参数 未设置httpAdapter时，是否使用带连接池和磁盘缓存（cacheDir下）的PooledHttpAdapter代替DefaultHttpAdapter。默认为false
+		public boolean enablePooledHttp = false;
 		// 可选参数 是否打印引擎的完整的log。默认为false
 		public boolean enableLog = false;
 		// 可选参数 code cache的名字，如果设置为空，则不启用code cache，默认为 ""
@@ -314,14 +325,24 @@ public abstract class HippyEngine
 				sharedPreferencesAdapter = new DefaultSharedPreferencesAdapter(context);
 			if (exceptionHandler == null)
 				exceptionHandler = new DefaultExceptionHandler();
-			if (httpAdapter == null)
-				httpAdapter = new DefaultHttpAdapter();
 			if (executorSupplier == null)
 				executorSupplier = new DefaultExecutorSupplierAdapter();
 			if (storageAdapter == null)
+			{
 				storageAdapter = new DefaultStorageAdapter(context, executorSupplier.getDBExecutor());
+				if (enableStorageWriteCache)
+					storageAdapter = new CachingStorageAdapter(storageAdapter);
+			}
 			if (engineMonitor == null)
 				engineMonitor = new DefaultEngineMonitorAdapter();
+			if (httpAdapter == null)
+			{
+				if (enablePooledHttp)
+					httpAdapter = new PooledHttpAdapter(HippyHttpCache.open(new File(context.getCacheDir(), HippyHttpCache.DEFAULT_DIRECTORY),
+							HippyHttpCache.DEFAULT_MAX_BYTES), engineMonitor);
+				else
+					httpAdapter = new DefaultHttpAdapter();
+			}
 			if (fontScaleAdapter == null)
 				fontScaleAdapter = new DefaultFontScaleAdapter();
 			if (soLoader == null)
@@ -21,6 +21,7 @@ import com.tencent.mtt.hippy.devsupport.DevSupportManager;
 import com.tencent.mtt.hippy.dom.DomManager;
 import com.tencent.mtt.hippy.modules.HippyModuleManager;
 import com.tencent.mtt.hippy.uimanager.RenderManager;
+import com.tencent.mtt.hippy.utils.HippyTracer;
 import com.tencent.mtt.hippy.utils.TimeMonitor;
 
 /**
@@ -124,5 +125,12 @@ public interface HippyEngineContext
 
 	TimeMonitor getStartTimeMonitor();
 
+	/**
+	 * Get the tracer of the render pipeline, disabled by default
+	 *
+	 * @return
+	 */
+	HippyTracer getTracer();
+
 	int getEngineId();
 }
@@ -42,6 +42,7 @@ import com.tencent.mtt.hippy.modules.HippyModuleManagerImpl;
 import com.tencent.mtt.hippy.modules.javascriptmodules.EventDispatcher;
 import com.tencent.mtt.hippy.modules.nativemodules.deviceevent.DeviceEventModule;
 import com.tencent.mtt.hippy.uimanager.RenderManager;
+import com.tencent.mtt.hippy.utils.HippyTracer;
 import com.tencent.mtt.hippy.utils.LogUtils;
 import com.tencent.mtt.hippy.utils.TimeMonitor;
 import com.tencent.mtt.hippy.utils.UIThreadUtils;
@@ -91,6 +92,8 @@ public abstract class HippyEngineManagerImpl extends HippyEngineManager implemen
 
 	boolean										mEnableHippyBuffer			= false;
 
+	boolean										mEnableEventCoalescing		= false;
+
 	boolean             						mDevManagerInited 			= false;
 	TimeMonitor									mStartTimeMonitor;
 	boolean										mHasReportEngineLoadResult	= false;
@@ -133,6 +136,7 @@ public abstract class HippyEngineManagerImpl extends HippyEngineManager implemen
 		this.mServerBundleName = params.debugMode ? params.debugBundleName : "";
 		this.mStartTimeMonitor = new TimeMonitor(!params.debugMode);
 		this.mEnableHippyBuffer = params.enableBuffer;
+		this.mEnableEventCoalescing = params.enableEventCoalescing;
 		this.mServerHost = params.debugServerHost;
 		this.mGroupId = params.groupId;
 		this.mThirdPartyAdapter = params.thirdPartyAdapter;
@@ -783,12 +787,17 @@ public abstract class HippyEngineManagerImpl extends HippyEngineManager implemen
 		 * Dom Manager
 		 */
 		private DomManager													mDomManager;
+		/**
+		 * Render pipeline tracer
+		 */
+		private final HippyTracer											mTracer;
 
 		public HippyEngineContextImpl(boolean isDevModule, String debugServerHost)
 		{
+			mTracer = new HippyTracer(mGlobalConfigs.getEngineMonitorAdapter());
 			mModuleManager = new HippyModuleManagerImpl(this, mAPIProviders);
 			mBridgeManager = new HippyBridgeManagerImpl(this, mCoreBundleLoader, HippyEngineManagerImpl.this.getBridgeType(),
-					mEnableHippyBuffer, isDevModule, debugServerHost, mGroupId, mThirdPartyAdapter);
+					mEnableHippyBuffer, mEnableEventCoalescing, isDevModule, debugServerHost, mGroupId, mThirdPartyAdapter);
 			mRenderManager = new RenderManager(this, mAPIProviders);
 			mDomManager = new DomManager(this);
 		}
@@ -926,6 +935,12 @@ public abstract class HippyEngineManagerImpl extends HippyEngineManager implemen
 			return HippyEngineManagerImpl.this.mStartTimeMonitor;
 		}
 
+		@Override
+		public HippyTracer getTracer()
+		{
+			return mTracer;
+		}
+
 		@Override
 		public int getEngineId() {
 			return HippyEngineManagerImpl.this.getId();
@@ -937,6 +952,8 @@ public abstract class HippyEngineManagerImpl extends HippyEngineManager implemen
 
 		public void destroy()
 		{
+			// reports the spans counted since the last report
+			mTracer.setEnabled(false);
 			if (mBridgeManager != null)
 			{
 				mBridgeManager.destroy();
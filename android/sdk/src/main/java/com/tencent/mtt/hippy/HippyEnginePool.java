@@ -0,0 +1,283 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
+
+import com.tencent.mtt.hippy.bridge.bundleloader.HippyBundleLoader;
+import com.tencent.mtt.hippy.utils.LogUtils;
+import com.tencent.mtt.hippy.utils.UIThreadUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FileName: HippyEnginePool
+ * Description：keeps up to size engines initialized, with the common bundles already run, and hands them out to
+ * the pages that are opened. Engines are created one at a time once the ui thread is idle, so that the pool does
+ * not slow down the page which is starting. Under memory pressure the idle engines are destroyed, and the pool is
+ * refilled on the next acquire only. Every engine comes from the factory, engines must not share adapters since
+ * an engine destroys the adapters of its init params. Used on the ui thread.
+ * History：
+ */
+public class HippyEnginePool implements ComponentCallbacks2, MessageQueue.IdleHandler
+{
+	private static final String				TAG						= "HippyEnginePool";
+
+	public interface EngineFactory
+	{
+		/**
+		 * @return a new engine, created with {@link HippyEngine#create} from new init params
+		 */
+		HippyEngine createEngine();
+	}
+
+	private final EngineFactory				mFactory;
+	private final int						mSize;
+	private final List<HippyBundleLoader>	mPreloadBundles;
+	private final ArrayDeque<HippyEngine>	mReadyEngines			= new ArrayDeque<>();
+	// the engine being initialized for the pool, the pool fills one engine at a time
+	private HippyEngine						mWarmingEngine;
+	private boolean							mRefillScheduled		= false;
+	private boolean							mRefillSuspended		= false;
+	private boolean							mDestroyed				= false;
+	private final Context					mContext;
+
+	private int								mHitCount;
+	private int								mMissCount;
+	private long							mTotalAcquireLatency;
+	private int								mAcquireLatencyCount;
+
+	/**
+	 * @param size the number of initialized engines to keep
+	 * @param preloadBundles the bundles run in every engine of the pool once it is initialized, may be null
+	 */
+	public HippyEnginePool(Context context, EngineFactory factory, int size, List<HippyBundleLoader> preloadBundles)
+	{
+		mContext = context.getApplicationContext() != null ? context.getApplicationContext() : context;
+		mFactory = factory;
+		mSize = size;
+		mPreloadBundles = preloadBundles != null ? new ArrayList<>(preloadBundles) : new ArrayList<HippyBundleLoader>();
+		mContext.registerComponentCallbacks(this);
+	}
+
+	/**
+	 * starts filling the pool
+	 */
+	public void warmUp()
+	{
+		mRefillSuspended = false;
+		scheduleRefill();
+	}
+
+	/**
+	 * hands out an initialized engine if there is one, else the engine being initialized for the pool, else a
+	 * new engine. Call {@link HippyEngine#initEngine} on it as usual, the listener is called at once if the engine
+	 * is ready. The engine belongs to the caller, who destroys it
+	 */
+	public HippyEngine acquire()
+	{
+		UIThreadUtils.assertOnUiThread();
+		final long startTime = SystemClock.elapsedRealtime();
+		HippyEngine engine = mReadyEngines.poll();
+		if (engine != null)
+		{
+			mHitCount++;
+			recordAcquireLatency(SystemClock.elapsedRealtime() - startTime);
+		}
+		else
+		{
+			mMissCount++;
+			if (mWarmingEngine != null)
+			{
+				engine = mWarmingEngine;
+				mWarmingEngine = null;
+			}
+			else
+			{
+				engine = mFactory.createEngine();
+			}
+			engine.initEngine(new HippyEngine.EngineListener()
+			{
+				@Override
+				public void onInitialized(int statusCode, String msg)
+				{
+					recordAcquireLatency(SystemClock.elapsedRealtime() - startTime);
+				}
+			});
+		}
+
+		mRefillSuspended = false;
+		scheduleRefill();
+		return engine;
+	}
+
+	public int getReadyCount()
+	{
+		return mReadyEngines.size();
+	}
+
+	/**
+	 * @return the number of acquires served by an initialized engine
+	 */
+	public int getHitCount()
+	{
+		return mHitCount;
+	}
+
+	public int getMissCount()
+	{
+		return mMissCount;
+	}
+
+	/**
+	 * @return the average ms from acquire until the engine is initialized
+	 */
+	public long getAverageAcquireLatency()
+	{
+		return mAcquireLatencyCount > 0 ? mTotalAcquireLatency / mAcquireLatencyCount : 0;
+	}
+
+	/**
+	 * destroys the engines which have not been handed out
+	 */
+	public void destroy()
+	{
+		UIThreadUtils.assertOnUiThread();
+		mDestroyed = true;
+		mContext.unregisterComponentCallbacks(this);
+		if (mRefillScheduled)
+		{
+			Looper.myQueue().removeIdleHandler(this);
+			mRefillScheduled = false;
+		}
+		// an engine being initialized is destroyed once it is, destroying it halfway is not supported
+		trimToSize(0);
+	}
+
+	@Override
+	public boolean queueIdle()
+	{
+		mRefillScheduled = false;
+		if (mDestroyed || mRefillSuspended || mWarmingEngine != null || mReadyEngines.size() >= mSize)
+		{
+			return false;
+		}
+
+		final HippyEngine engine;
+		try
+		{
+			engine = mFactory.createEngine();
+		}
+		catch (Throwable e)
+		{
+			LogUtils.e(TAG, "create engine error: " + e.getMessage());
+			return false;
+		}
+		mWarmingEngine = engine;
+		engine.initEngine(new HippyEngine.EngineListener()
+		{
+			@Override
+			public void onInitialized(int statusCode, String msg)
+			{
+				if (mWarmingEngine != engine)
+				{
+					// handed out before it was ready
+					return;
+				}
+				mWarmingEngine = null;
+				if (statusCode != HippyEngine.STATUS_OK || mDestroyed || mRefillSuspended)
+				{
+					LogUtils.e(TAG, "warm up engine status " + statusCode + ", " + msg);
+					engine.destroyEngine();
+					return;
+				}
+
+				for (HippyBundleLoader loader : mPreloadBundles)
+				{
+					engine.preloadModule(loader);
+				}
+				mReadyEngines.add(engine);
+				scheduleRefill();
+			}
+		});
+		return false;
+	}
+
+	@Override
+	public void onTrimMemory(int level)
+	{
+		if (level >= TRIM_MEMORY_RUNNING_LOW)
+		{
+			shrink(level >= TRIM_MEMORY_MODERATE || level == TRIM_MEMORY_RUNNING_CRITICAL ? 0 : mReadyEngines.size() / 2);
+		}
+	}
+
+	@Override
+	public void onConfigurationChanged(Configuration newConfig)
+	{
+	}
+
+	@Override
+	public void onLowMemory()
+	{
+		shrink(0);
+	}
+
+	private void shrink(final int size)
+	{
+		UIThreadUtils.runOnUiThread(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				// no refill until engines are asked for again
+				mRefillSuspended = true;
+				trimToSize(size);
+			}
+		});
+	}
+
+	private void trimToSize(int size)
+	{
+		while (mReadyEngines.size() > size)
+		{
+			mReadyEngines.poll().destroyEngine();
+		}
+	}
+
+	private void scheduleRefill()
+	{
+		if (!mRefillScheduled && !mDestroyed && !mRefillSuspended && mWarmingEngine == null && mReadyEngines.size() < mSize)
+		{
+			mRefillScheduled = true;
+			Looper.myQueue().addIdleHandler(this);
+		}
+	}
+
+	private void recordAcquireLatency(long latency)
+	{
+		mTotalAcquireLatency += latency;
+		mAcquireLatencyCount++;
+		LogUtils.d(TAG, "acquire latency " + latency + "ms, hit " + mHitCount + ", miss " + mMissCount);
+	}
+}
@@ -0,0 +1,889 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.adapter.http;
+
+import android.text.TextUtils;
+import com.tencent.mtt.hippy.utils.LogUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FileName: HippyHttpCache
+ * Description：disk cache of GET responses, used by {@link PooledHttpAdapter} for the requests with
+ * {@link HippyHttpRequest#isUseCaches()}. An entry is keyed by method and url and remembers the values of the
+ * request headers named by Vary, a request with other values is a miss and its response replaces the entry.
+ * Freshness follows Cache-Control max-age, Expires and the Last-Modified heuristic; stale entries with an
+ * ETag or Last-Modified are revalidated with a conditional request. Every entry is a meta file (.0) and a body
+ * file (.1), written to temporary files and renamed, and the least recently used entries are deleted beyond
+ * maxBytes. Use {@link #open} so that one directory is managed by one instance.
+ * History：
+ */
+public class HippyHttpCache
+{
+	public static final String							DEFAULT_DIRECTORY		= "hippy_http_cache";
+	public static final long							DEFAULT_MAX_BYTES		= 20 * 1024 * 1024;
+
+	private static final String							TAG						= "HippyHttpCache";
+	private static final int							ENTRY_VERSION			= 1;
+	private static final String							META_SUFFIX				= ".0";
+	private static final String							BODY_SUFFIX				= ".1";
+	private static final String							TMP_SUFFIX				= ".tmp";
+	// heuristic freshness of an entry with Last-Modified only, a tenth of its age but no more than a day
+	private static final long							MAX_HEURISTIC_MS		= 24 * 60 * 60 * 1000;
+
+	private static final HashMap<String, HippyHttpCache>	sCaches				= new HashMap<>();
+
+	private final File									mDirectory;
+	private final long									mMaxBytes;
+	// file name without suffix -> size of the entry, in access order
+	private final LinkedHashMap<String, Long>			mEntries				= new LinkedHashMap<>(16, 0.75f, true);
+	private long										mSize					= 0;
+	private boolean										mInitialized			= false;
+
+	private final AtomicInteger							mHitCount				= new AtomicInteger();
+	private final AtomicInteger							mMissCount				= new AtomicInteger();
+	private final AtomicInteger							mRevalidatedCount		= new AtomicInteger();
+
+	public static HippyHttpCache open(File directory, long maxBytes)
+	{
+		synchronized (sCaches)
+		{
+			String path = directory.getAbsolutePath();
+			HippyHttpCache cache = sCaches.get(path);
+			if (cache == null)
+			{
+				cache = new HippyHttpCache(directory, maxBytes);
+				sCaches.put(path, cache);
+			}
+			return cache;
+		}
+	}
+
+	private HippyHttpCache(File directory, long maxBytes)
+	{
+		mDirectory = directory;
+		mMaxBytes = maxBytes;
+	}
+
+	public int getHitCount()
+	{
+		return mHitCount.get();
+	}
+
+	public int getMissCount()
+	{
+		return mMissCount.get();
+	}
+
+	public int getRevalidatedCount()
+	{
+		return mRevalidatedCount.get();
+	}
+
+	void onHit()
+	{
+		mHitCount.incrementAndGet();
+	}
+
+	void onMiss()
+	{
+		mMissCount.incrementAndGet();
+	}
+
+	void onRevalidated()
+	{
+		mRevalidatedCount.incrementAndGet();
+	}
+
+	/**
+	 * @return true if the response of the request may come from or go to the cache
+	 */
+	static boolean isCacheable(HippyHttpRequest request)
+	{
+		if (!request.isUseCaches() || !"GET".equalsIgnoreCase(request.getMethod()) || TextUtils.isEmpty(request.getUrl()))
+		{
+			return false;
+		}
+
+		// conditional requests of the caller are left alone
+		if (getRequestHeader(request, HttpHeader.REQ.IF_NONE_MATCH) != null
+				|| getRequestHeader(request, HttpHeader.REQ.IF_MODIFIED_SINCE) != null)
+		{
+			return false;
+		}
+		String cacheControl = getRequestHeader(request, HttpHeader.REQ.CACHE_CONTROL);
+		return cacheControl == null || !cacheControl.toLowerCase(Locale.US).contains("no-store");
+	}
+
+	/**
+	 * @return the entry stored for the request, null if there is none or it was stored for other Vary values
+	 */
+	Entry get(HippyHttpRequest request)
+	{
+		String name = getFileName(request);
+		synchronized (this)
+		{
+			init();
+			if (mEntries.get(name) == null)
+			{
+				return null;
+			}
+		}
+
+		Entry entry;
+		try
+		{
+			entry = readEntry(name);
+		}
+		catch (IOException e)
+		{
+			remove(name);
+			return null;
+		}
+
+		if (entry == null || !entry.mUrl.equals(request.getUrl()) || !entry.matchVary(request))
+		{
+			return null;
+		}
+		return entry;
+	}
+
+	/**
+	 * store the response while the caller reads it, the entry is committed when the body was read to its end
+	 *
+	 * @return the stream to read the body from
+	 */
+	InputStream put(HippyHttpRequest request, HippyHttpResponse response, long requestTime, long responseTime)
+	{
+		InputStream body = response.getInputStream();
+		if (body == null || response.getStatusCode() != 200)
+		{
+			return body;
+		}
+
+		Entry entry = new Entry(getFileName(request), request.getUrl(), request.getMethod(), response.getStatusCode(),
+				response.getResponseMessage(), response.getRspHeaderMaps(), requestTime, responseTime);
+		String vary = entry.getHeader(HttpHeader.RSP.VARY);
+		if (vary != null)
+		{
+			if (vary.trim().equals("*"))
+			{
+				return body;
+			}
+			for (String varyName : vary.split(","))
+			{
+				varyName = varyName.trim();
+				if (varyName.length() > 0)
+				{
+					String value = getRequestHeader(request, varyName);
+					entry.mVaryHeaders.put(varyName, value != null ? value : "");
+				}
+			}
+		}
+
+		String cacheControl = entry.getHeader(HttpHeader.RSP.CACHE_CONTROL);
+		if (cacheControl != null && cacheControl.toLowerCase(Locale.US).contains("no-store"))
+		{
+			return body;
+		}
+		if (entry.getETag() == null && entry.getLastModified() == null && entry.getFreshnessLifetime() <= 0)
+		{
+			// could neither be served nor revalidated
+			return body;
+		}
+
+		String contentLength = entry.getHeader(HttpHeader.RSP.CONTENT_LENGTH);
+		long maxEntryBytes = mMaxBytes / 8;
+		try
+		{
+			if (contentLength != null && Long.parseLong(contentLength.trim()) > maxEntryBytes)
+			{
+				return body;
+			}
+		}
+		catch (NumberFormatException ignored)
+		{
+		}
+
+		try
+		{
+			return new CacheWriter(body, entry, maxEntryBytes);
+		}
+		catch (IOException e)
+		{
+			LogUtils.e(TAG, "put error: " + e.getMessage());
+			return body;
+		}
+	}
+
+	/**
+	 * merge the headers of a 304 response into the entry
+	 *
+	 * @return the updated entry
+	 */
+	Entry update(Entry entry, HippyHttpResponse notModified, long requestTime, long responseTime)
+	{
+		LinkedHashMap<String, List<String>> headers = new LinkedHashMap<>(entry.mHeaders);
+		Map<String, List<String>> updates = notModified.getRspHeaderMaps();
+		if (updates != null)
+		{
+			for (Map.Entry<String, List<String>> header : updates.entrySet())
+			{
+				String name = header.getKey();
+				if (name == null || name.equalsIgnoreCase(HttpHeader.RSP.CONTENT_LENGTH))
+				{
+					continue;
+				}
+				removeHeader(headers, name);
+				headers.put(name, header.getValue());
+			}
+		}
+
+		Entry updated = new Entry(entry.mFileName, entry.mUrl, entry.mMethod, entry.mStatusCode, entry.mMessage, headers,
+				requestTime, responseTime);
+		updated.mVaryHeaders.putAll(entry.mVaryHeaders);
+		try
+		{
+			File metaTmp = getTmpFile(entry.mFileName + META_SUFFIX);
+			writeMeta(metaTmp, updated);
+			File meta = new File(mDirectory, entry.mFileName + META_SUFFIX);
+			synchronized (this)
+			{
+				long oldLength = meta.length();
+				if (!metaTmp.renameTo(meta))
+				{
+					throw new IOException("rename failed");
+				}
+				Long size = mEntries.get(entry.mFileName);
+				if (size != null)
+				{
+					long newSize = size - oldLength + meta.length();
+					mEntries.put(entry.mFileName, newSize);
+					mSize += newSize - size;
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			LogUtils.e(TAG, "update error: " + e.getMessage());
+		}
+		return updated;
+	}
+
+	void remove(String name)
+	{
+		synchronized (this)
+		{
+			Long size = mEntries.remove(name);
+			if (size != null)
+			{
+				mSize -= size;
+			}
+			new File(mDirectory, name + META_SUFFIX).delete();
+			new File(mDirectory, name + BODY_SUFFIX).delete();
+		}
+	}
+
+	private void init()
+	{
+		if (mInitialized)
+		{
+			return;
+		}
+		mInitialized = true;
+
+		if (!mDirectory.exists() && !mDirectory.mkdirs())
+		{
+			LogUtils.e(TAG, "can not create " + mDirectory);
+			return;
+		}
+		File[] files = mDirectory.listFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		ArrayList<File> metas = new ArrayList<>();
+		for (File file : files)
+		{
+			String fileName = file.getName();
+			if (fileName.endsWith(TMP_SUFFIX))
+			{
+				file.delete();
+			}
+			else if (fileName.endsWith(META_SUFFIX))
+			{
+				metas.add(file);
+			}
+		}
+		// oldest first, the access order is kept in the last modified time of the meta files
+		File[] sorted = metas.toArray(new File[0]);
+		Arrays.sort(sorted, new Comparator<File>()
+		{
+			@Override
+			public int compare(File lhs, File rhs)
+			{
+				long diff = lhs.lastModified() - rhs.lastModified();
+				return diff < 0 ? -1 : (diff > 0 ? 1 : 0);
+			}
+		});
+		for (File meta : sorted)
+		{
+			String name = meta.getName().substring(0, meta.getName().length() - META_SUFFIX.length());
+			File body = new File(mDirectory, name + BODY_SUFFIX);
+			if (!body.exists())
+			{
+				meta.delete();
+				continue;
+			}
+			long size = meta.length() + body.length();
+			mEntries.put(name, size);
+			mSize += size;
+		}
+		trimToSize();
+	}
+
+	private void commit(Entry entry, File bodyTmp)
+	{
+		File metaTmp = getTmpFile(entry.mFileName + META_SUFFIX);
+		try
+		{
+			writeMeta(metaTmp, entry);
+			synchronized (this)
+			{
+				init();
+				remove(entry.mFileName);
+				File body = new File(mDirectory, entry.mFileName + BODY_SUFFIX);
+				File meta = new File(mDirectory, entry.mFileName + META_SUFFIX);
+				// the body first, a meta file without its body is dropped by init()
+				if (!bodyTmp.renameTo(body) || !metaTmp.renameTo(meta))
+				{
+					body.delete();
+					throw new IOException("rename failed");
+				}
+				long size = meta.length() + body.length();
+				mEntries.put(entry.mFileName, size);
+				mSize += size;
+				trimToSize();
+			}
+		}
+		catch (IOException e)
+		{
+			LogUtils.e(TAG, "commit error: " + e.getMessage());
+			bodyTmp.delete();
+			metaTmp.delete();
+		}
+	}
+
+	private void trimToSize()
+	{
+		Iterator<Map.Entry<String, Long>> iterator = mEntries.entrySet().iterator();
+		while (mSize > mMaxBytes && iterator.hasNext())
+		{
+			Map.Entry<String, Long> eldest = iterator.next();
+			mSize -= eldest.getValue();
+			iterator.remove();
+			new File(mDirectory, eldest.getKey() + META_SUFFIX).delete();
+			new File(mDirectory, eldest.getKey() + BODY_SUFFIX).delete();
+		}
+	}
+
+	private Entry readEntry(String name) throws IOException
+	{
+		File meta = new File(mDirectory, name + META_SUFFIX);
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(meta)));
+		try
+		{
+			if (in.readInt() != ENTRY_VERSION)
+			{
+				throw new IOException("unknown entry version");
+			}
+			String url = in.readUTF();
+			String method = in.readUTF();
+			int statusCode = in.readInt();
+			String message = in.readUTF();
+			long requestTime = in.readLong();
+			long responseTime = in.readLong();
+
+			int varyCount = in.readInt();
+			LinkedHashMap<String, String> varyHeaders = new LinkedHashMap<>();
+			for (int i = 0; i < varyCount; i++)
+			{
+				varyHeaders.put(in.readUTF(), in.readUTF());
+			}
+
+			int headerCount = in.readInt();
+			LinkedHashMap<String, List<String>> headers = new LinkedHashMap<>();
+			for (int i = 0; i < headerCount; i++)
+			{
+				String headerName = in.readUTF();
+				int valueCount = in.readInt();
+				ArrayList<String> values = new ArrayList<>(valueCount);
+				for (int j = 0; j < valueCount; j++)
+				{
+					values.add(in.readUTF());
+				}
+				headers.put(headerName, values);
+			}
+
+			Entry entry = new Entry(name, url, method, statusCode, message, headers, requestTime, responseTime);
+			entry.mVaryHeaders.putAll(varyHeaders);
+			meta.setLastModified(System.currentTimeMillis());
+			return entry;
+		}
+		finally
+		{
+			in.close();
+		}
+	}
+
+	private static void writeMeta(File file, Entry entry) throws IOException
+	{
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+		try
+		{
+			out.writeInt(ENTRY_VERSION);
+			out.writeUTF(entry.mUrl);
+			out.writeUTF(entry.mMethod);
+			out.writeInt(entry.mStatusCode);
+			out.writeUTF(entry.mMessage != null ? entry.mMessage : "");
+			out.writeLong(entry.mRequestTime);
+			out.writeLong(entry.mResponseTime);
+
+			out.writeInt(entry.mVaryHeaders.size());
+			for (Map.Entry<String, String> vary : entry.mVaryHeaders.entrySet())
+			{
+				out.writeUTF(vary.getKey());
+				out.writeUTF(vary.getValue());
+			}
+
+			int headerCount = 0;
+			for (String name : entry.mHeaders.keySet())
+			{
+				if (name != null)
+				{
+					headerCount++;
+				}
+			}
+			out.writeInt(headerCount);
+			for (Map.Entry<String, List<String>> header : entry.mHeaders.entrySet())
+			{
+				if (header.getKey() == null)
+				{
+					// the status line
+					continue;
+				}
+				List<String> values = header.getValue();
+				out.writeUTF(header.getKey());
+				out.writeInt(values != null ? values.size() : 0);
+				if (values != null)
+				{
+					for (String value : values)
+					{
+						out.writeUTF(value != null ? value : "");
+					}
+				}
+			}
+		}
+		finally
+		{
+			out.close();
+		}
+	}
+
+	private File getTmpFile(String fileName)
+	{
+		// the same url may be written by several threads at once
+		return new File(mDirectory, fileName + "." + Thread.currentThread().getId() + TMP_SUFFIX);
+	}
+
+	private static String getFileName(HippyHttpRequest request)
+	{
+		String key = request.getMethod().toUpperCase(Locale.US) + " " + request.getUrl();
+		try
+		{
+			MessageDigest digest = MessageDigest.getInstance("MD5");
+			byte[] hash = digest.digest(key.getBytes("UTF-8"));
+			StringBuilder sb = new StringBuilder(hash.length * 2);
+			for (byte b : hash)
+			{
+				sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+			}
+			return sb.toString();
+		}
+		catch (Exception e)
+		{
+			return Integer.toHexString(key.hashCode());
+		}
+	}
+
+	static String getRequestHeader(HippyHttpRequest request, String name)
+	{
+		Map<String, Object> headers = request.getHeaders();
+		if (headers == null)
+		{
+			return null;
+		}
+		for (Map.Entry<String, Object> header : headers.entrySet())
+		{
+			if (name.equalsIgnoreCase(header.getKey()))
+			{
+				Object value = header.getValue();
+				if (value instanceof List)
+				{
+					return TextUtils.join(",", (List) value);
+				}
+				return value != null ? value.toString() : null;
+			}
+		}
+		return null;
+	}
+
+	private static void removeHeader(Map<String, List<String>> headers, String name)
+	{
+		Iterator<String> iterator = headers.keySet().iterator();
+		while (iterator.hasNext())
+		{
+			String key = iterator.next();
+			if (key != null && key.equalsIgnoreCase(name))
+			{
+				iterator.remove();
+			}
+		}
+	}
+
+	private static long parseHttpDate(String value)
+	{
+		if (value == null)
+		{
+			return -1;
+		}
+		SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+		format.setTimeZone(TimeZone.getTimeZone("GMT"));
+		try
+		{
+			Date date = format.parse(value.trim());
+			return date.getTime();
+		}
+		catch (ParseException e)
+		{
+			return -1;
+		}
+	}
+
+	/**
+	 * @return the seconds of the directive in the Cache-Control value, -1 if it is absent
+	 */
+	private static long getCacheControlSeconds(String cacheControl, String directive)
+	{
+		if (cacheControl == null)
+		{
+			return -1;
+		}
+		for (String part : cacheControl.split(","))
+		{
+			part = part.trim();
+			if (part.regionMatches(true, 0, directive, 0, directive.length()) && part.length() > directive.length()
+					&& part.charAt(directive.length()) == '=')
+			{
+				try
+				{
+					return Long.parseLong(part.substring(directive.length() + 1).replace("\"", "").trim());
+				}
+				catch (NumberFormatException e)
+				{
+					return -1;
+				}
+			}
+		}
+		return -1;
+	}
+
+	class Entry
+	{
+		final String							mFileName;
+		final String							mUrl;
+		final String							mMethod;
+		final int								mStatusCode;
+		final String							mMessage;
+		final Map<String, List<String>>			mHeaders;
+		final long								mRequestTime;
+		final long								mResponseTime;
+		final LinkedHashMap<String, String>		mVaryHeaders	= new LinkedHashMap<>();
+
+		Entry(String fileName, String url, String method, int statusCode, String message, Map<String, List<String>> headers,
+				long requestTime, long responseTime)
+		{
+			mFileName = fileName;
+			mUrl = url;
+			mMethod = method;
+			mStatusCode = statusCode;
+			mMessage = message;
+			mHeaders = headers != null ? headers : new HashMap<String, List<String>>();
+			mRequestTime = requestTime;
+			mResponseTime = responseTime;
+		}
+
+		String getHeader(String name)
+		{
+			for (Map.Entry<String, List<String>> header : mHeaders.entrySet())
+			{
+				if (header.getKey() != null && header.getKey().equalsIgnoreCase(name))
+				{
+					List<String> values = header.getValue();
+					return values != null && values.size() > 0 ? values.get(0) : null;
+				}
+			}
+			return null;
+		}
+
+		String getETag()
+		{
+			return getHeader(HttpHeader.RSP.ETAG);
+		}
+
+		String getLastModified()
+		{
+			return getHeader(HttpHeader.RSP.LAST_MODIFY);
+		}
+
+		boolean matchVary(HippyHttpRequest request)
+		{
+			for (Map.Entry<String, String> vary : mVaryHeaders.entrySet())
+			{
+				String value = getRequestHeader(request, vary.getKey());
+				if (!vary.getValue().equals(value != null ? value : ""))
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+
+		long getFreshnessLifetime()
+		{
+			String cacheControl = getHeader(HttpHeader.RSP.CACHE_CONTROL);
+			if (cacheControl != null && cacheControl.toLowerCase(Locale.US).contains("no-cache"))
+			{
+				return 0;
+			}
+			long maxAge = getCacheControlSeconds(cacheControl, "max-age");
+			if (maxAge >= 0)
+			{
+				return maxAge * 1000;
+			}
+
+			long date = parseHttpDate(getHeader(HttpHeader.RSP.DATE));
+			if (date < 0)
+			{
+				date = mResponseTime;
+			}
+			long expires = parseHttpDate(getHeader(HttpHeader.RSP.EXPIRES));
+			if (expires >= 0)
+			{
+				return Math.max(0, expires - date);
+			}
+			long lastModified = parseHttpDate(getLastModified());
+			if (lastModified >= 0 && lastModified < date)
+			{
+				return Math.min((date - lastModified) / 10, MAX_HEURISTIC_MS);
+			}
+			return 0;
+		}
+
+		boolean isFresh(HippyHttpRequest request, long now)
+		{
+			String requestCacheControl = getRequestHeader(request, HttpHeader.REQ.CACHE_CONTROL);
+			if (requestCacheControl != null && requestCacheControl.toLowerCase(Locale.US).contains("no-cache"))
+			{
+				return false;
+			}
+
+			long date = parseHttpDate(getHeader(HttpHeader.RSP.DATE));
+			long apparentAge = date >= 0 ? Math.max(0, mResponseTime - date) : 0;
+			long ageSeconds = -1;
+			String age = getHeader(HttpHeader.RSP.AGE);
+			if (age != null)
+			{
+				try
+				{
+					ageSeconds = Long.parseLong(age.trim());
+				}
+				catch (NumberFormatException ignored)
+				{
+				}
+			}
+			long currentAge = Math.max(apparentAge, ageSeconds * 1000) + (mResponseTime - mRequestTime) + (now - mResponseTime);
+			return currentAge < getFreshnessLifetime();
+		}
+
+		HippyHttpResponse toResponse() throws IOException
+		{
+			HippyHttpResponse response = new HippyHttpResponse();
+			response.setStatusCode(mStatusCode);
+			response.setResponseMessage(mMessage);
+			response.setRspHeaderMap(mHeaders);
+			response.setInputStream(new FileInputStream(new File(mDirectory, mFileName + BODY_SUFFIX)));
+			return response;
+		}
+	}
+
+	private class CacheWriter extends FilterInputStream
+	{
+		private final Entry			mEntry;
+		private final long			mMaxBytes;
+		private final File			mBodyTmp;
+		private OutputStream		mOut;
+		private long				mWritten;
+
+		CacheWriter(InputStream in, Entry entry, long maxBytes) throws IOException
+		{
+			super(in);
+			mEntry = entry;
+			mMaxBytes = maxBytes;
+			synchronized (HippyHttpCache.this)
+			{
+				init();
+			}
+			mBodyTmp = getTmpFile(entry.mFileName + BODY_SUFFIX);
+			mOut = new BufferedOutputStream(new FileOutputStream(mBodyTmp));
+		}
+
+		@Override
+		public int read() throws IOException
+		{
+			int value = super.read();
+			if (value == -1)
+			{
+				finish(true);
+			}
+			else
+			{
+				write(new byte[] { (byte) value }, 0, 1);
+			}
+			return value;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException
+		{
+			int count = super.read(buffer, offset, length);
+			if (count == -1)
+			{
+				finish(true);
+			}
+			else if (count > 0)
+			{
+				write(buffer, offset, count);
+			}
+			return count;
+		}
+
+		@Override
+		public long skip(long n) throws IOException
+		{
+			// the skipped bytes are not written, the entry would be incomplete
+			finish(false);
+			return super.skip(n);
+		}
+
+		@Override
+		public boolean markSupported()
+		{
+			return false;
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			finish(false);
+			super.close();
+		}
+
+		private void write(byte[] buffer, int offset, int count)
+		{
+			if (mOut == null)
+			{
+				return;
+			}
+			mWritten += count;
+			if (mWritten > mMaxBytes)
+			{
+				finish(false);
+				return;
+			}
+			try
+			{
+				mOut.write(buffer, offset, count);
+			}
+			catch (IOException e)
+			{
+				finish(false);
+			}
+		}
+
+		private void finish(boolean complete)
+		{
+			if (mOut == null)
+			{
+				return;
+			}
+			try
+			{
+				mOut.close();
+			}
+			catch (IOException e)
+			{
+				complete = false;
+			}
+			mOut = null;
+
+			if (complete)
+			{
+				commit(mEntry, mBodyTmp);
+			}
+			else
+			{
+				mBodyTmp.delete();
+			}
+		}
+	}
+}
@@ -36,6 +36,9 @@ public class HttpHeader
 		public static final String	RANGE				= "Range";
 		public static final String	CONNECTION			= "Connection";
 		public static final String	COOKIE				= "Cookie";
+		public static final String	CACHE_CONTROL		= "Cache-Control";
+		public static final String	IF_NONE_MATCH		= "If-None-Match";
+		public static final String	IF_MODIFIED_SINCE	= "If-Modified-Since";
 		public static final String	QCOOKIE				= "QCookie";
 		public static final String	QUA					= "Q-UA";
 		public static final String	QGUID				= "Q-GUID";
@@ -72,6 +75,10 @@ public class HttpHeader
 		public static final String	CONTENT_DISPOSITION	= "Content-Disposition";
 		public static final String	ETAG				= "ETag";
 		public static final String	RETRY_AFTER			= "Retry-After";
+		public static final String	DATE				= "Date";
+		public static final String	EXPIRES				= "Expires";
+		public static final String	AGE					= "Age";
+		public static final String	VARY				= "Vary";
 
 		public static final String	QENCRYPT			= "QQ-S-Encrypt";
 		public static final String	QSZIP				= "QQ-S-ZIP";
@@ -0,0 +1,439 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.adapter.http;
+
+import com.tencent.mtt.hippy.adapter.monitor.HippyEngineMonitorAdapter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FileName: PooledHttpAdapter
+ * Description：http adapter with a bounded number of requests in flight, in total and per host. The
+ * connections are kept alive: once the callback returned, the rest of the body is drained and the stream is
+ * closed instead of disconnecting, so HttpURLConnection puts the socket back into its pool. The response body
+ * is capped at maxBodyBytes, reading past it fails with an IOException. With a {@link HippyHttpCache}, the
+ * requests with useCaches are answered from it while fresh and revalidated once stale.
+ * History：
+ */
+public class PooledHttpAdapter extends DefaultHttpAdapter
+{
+	public static final int				DEFAULT_MAX_REQUESTS			= 16;
+	public static final int				DEFAULT_MAX_REQUESTS_PER_HOST	= 5;
+	public static final long			DEFAULT_MAX_BODY_BYTES			= 32 * 1024 * 1024;
+
+	// a longer unread tail is cheaper to drop with the connection than to drain
+	private static final int			MAX_DRAIN_BYTES					= 64 * 1024;
+	private static final long			THREAD_KEEP_ALIVE_SECONDS		= 60;
+
+	private final int					mMaxRequests;
+	private final int					mMaxRequestsPerHost;
+	private final long					mMaxBodyBytes;
+	private final HippyHttpCache		mCache;
+	private final HippyEngineMonitorAdapter	mMonitor;
+
+	private final ArrayDeque<Call>		mReadyCalls						= new ArrayDeque<>();
+	private final HashMap<String, Integer>	mRunningCallsPerHost		= new HashMap<>();
+	private int							mRunningCalls					= 0;
+	private ExecutorService				mExecutorService;
+
+	public PooledHttpAdapter()
+	{
+		this(DEFAULT_MAX_REQUESTS, DEFAULT_MAX_REQUESTS_PER_HOST, DEFAULT_MAX_BODY_BYTES, null, null);
+	}
+
+	/**
+	 * @param cache may be null, the requests with useCaches go through it
+	 * @param monitor may be null, gets the results of the cache lookups
+	 */
+	public PooledHttpAdapter(HippyHttpCache cache, HippyEngineMonitorAdapter monitor)
+	{
+		this(DEFAULT_MAX_REQUESTS, DEFAULT_MAX_REQUESTS_PER_HOST, DEFAULT_MAX_BODY_BYTES, cache, monitor);
+	}
+
+	public PooledHttpAdapter(int maxRequests, int maxRequestsPerHost, long maxBodyBytes, HippyHttpCache cache,
+			HippyEngineMonitorAdapter monitor)
+	{
+		if (maxRequests < 1 || maxRequestsPerHost < 1)
+		{
+			throw new IllegalArgumentException("max requests must be positive");
+		}
+		mMaxRequests = maxRequests;
+		mMaxRequestsPerHost = maxRequestsPerHost;
+		mMaxBodyBytes = maxBodyBytes;
+		mCache = cache;
+		mMonitor = monitor;
+	}
+
+	@Override
+	public void sendRequest(HippyHttpRequest request, HttpTaskCallback callback)
+	{
+		if (callback == null)
+		{
+			return;
+		}
+
+		synchronized (this)
+		{
+			mReadyCalls.add(new Call(request, callback, getHost(request.getUrl())));
+		}
+		promoteCalls();
+	}
+
+	@Override
+	public void destroyIfNeed()
+	{
+		ArrayList<Call> canceled;
+		synchronized (this)
+		{
+			canceled = new ArrayList<>(mReadyCalls);
+			mReadyCalls.clear();
+			if (mExecutorService != null && !mExecutorService.isShutdown())
+			{
+				mExecutorService.shutdown();
+			}
+			mExecutorService = null;
+		}
+
+		for (Call call : canceled)
+		{
+			call.mCallback.onTaskFailed(call.mRequest, new IOException("http adapter destroyed"));
+		}
+	}
+
+	private void promoteCalls()
+	{
+		synchronized (this)
+		{
+			Iterator<Call> iterator = mReadyCalls.iterator();
+			while (mRunningCalls < mMaxRequests && iterator.hasNext())
+			{
+				Call call = iterator.next();
+				Integer hostCalls = mRunningCallsPerHost.get(call.mHost);
+				int running = hostCalls != null ? hostCalls : 0;
+				if (running >= mMaxRequestsPerHost)
+				{
+					continue;
+				}
+
+				iterator.remove();
+				mRunningCalls++;
+				mRunningCallsPerHost.put(call.mHost, running + 1);
+				getExecutor().execute(call);
+			}
+		}
+	}
+
+	private void finished(Call call)
+	{
+		synchronized (this)
+		{
+			mRunningCalls--;
+			Integer hostCalls = mRunningCallsPerHost.get(call.mHost);
+			if (hostCalls == null || hostCalls <= 1)
+			{
+				mRunningCallsPerHost.remove(call.mHost);
+			}
+			else
+			{
+				mRunningCallsPerHost.put(call.mHost, hostCalls - 1);
+			}
+		}
+		promoteCalls();
+	}
+
+	private ExecutorService getExecutor()
+	{
+		if (mExecutorService == null)
+		{
+			// the dispatcher bounds the concurrency, the pool only keeps the idle threads around
+			mExecutorService = new ThreadPoolExecutor(0, Integer.MAX_VALUE, THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+					new SynchronousQueue<Runnable>());
+		}
+		return mExecutorService;
+	}
+
+	/**
+	 * @param useCached false to go to the network without looking up the cache, the response is still stored
+	 */
+	private void execute(HippyHttpRequest request, HttpTaskCallback callback, boolean useCached)
+	{
+		HippyHttpCache.Entry cached = null;
+		boolean cacheable = mCache != null && HippyHttpCache.isCacheable(request);
+		if (cacheable && useCached)
+		{
+			cached = mCache.get(request);
+			if (cached != null && cached.isFresh(request, System.currentTimeMillis()))
+			{
+				mCache.onHit();
+				reportCacheResult(HippyEngineMonitorAdapter.HTTP_CACHE_RESULT_HIT, request);
+				if (deliverCached(request, cached, callback))
+				{
+					return;
+				}
+				cached = null;
+			}
+
+			if (cached != null)
+			{
+				if (cached.getETag() != null)
+				{
+					request.addHeader(HttpHeader.REQ.IF_NONE_MATCH, cached.getETag());
+				}
+				else if (cached.getLastModified() != null)
+				{
+					request.addHeader(HttpHeader.REQ.IF_MODIFIED_SINCE, cached.getLastModified());
+				}
+				else
+				{
+					cached = null;
+				}
+			}
+		}
+
+		HippyHttpResponse response = null;
+		HttpURLConnection connection = null;
+		boolean reusable = false;
+		boolean retry = false;
+		try
+		{
+			long requestTime = System.currentTimeMillis();
+			connection = createConnection(request);
+			if (mCache != null)
+			{
+				// the platform cache would answer the conditional requests of this one
+				connection.setUseCaches(false);
+			}
+			fillHeader(connection, request);
+			fillPostBody(connection, request);
+			response = createResponse(connection);
+			long responseTime = System.currentTimeMillis();
+			if (response.getInputStream() != null)
+			{
+				response.setInputStream(new BoundedInputStream(response.getInputStream(), mMaxBodyBytes));
+			}
+
+			if (cached != null && response.getStatusCode() == HttpURLConnection.HTTP_NOT_MODIFIED)
+			{
+				mCache.onRevalidated();
+				reportCacheResult(HippyEngineMonitorAdapter.HTTP_CACHE_RESULT_REVALIDATED, request);
+				cached = mCache.update(cached, response, requestTime, responseTime);
+				reusable = drain(response.getInputStream());
+				if (deliverCached(request, cached, callback))
+				{
+					return;
+				}
+				// the cached body is gone, asked again below without the conditional headers
+				mCache.remove(cached.mFileName);
+				retry = true;
+			}
+			else
+			{
+				if (cacheable)
+				{
+					mCache.onMiss();
+					reportCacheResult(HippyEngineMonitorAdapter.HTTP_CACHE_RESULT_MISS, request);
+					response.setInputStream(mCache.put(request, response, requestTime, responseTime));
+				}
+
+				callback.onTaskSuccess(request, response);
+				reusable = drain(response.getInputStream());
+			}
+		}
+		catch (Throwable e)
+		{
+			callback.onTaskFailed(request, e);
+		}
+		finally
+		{
+			if (response != null)
+			{
+				response.close();
+			}
+			if (connection != null && !reusable)
+			{
+				connection.disconnect();
+			}
+		}
+
+		if (retry)
+		{
+			request.getHeaders().remove(HttpHeader.REQ.IF_NONE_MATCH);
+			request.getHeaders().remove(HttpHeader.REQ.IF_MODIFIED_SINCE);
+			execute(request, callback, false);
+		}
+	}
+
+	/**
+	 * @return false if the cached body can not be read, the request has to go to the network then
+	 */
+	private boolean deliverCached(HippyHttpRequest request, HippyHttpCache.Entry cached, HttpTaskCallback callback)
+	{
+		HippyHttpResponse response;
+		try
+		{
+			response = cached.toResponse();
+		}
+		catch (IOException e)
+		{
+			return false;
+		}
+
+		try
+		{
+			callback.onTaskSuccess(request, response);
+		}
+		catch (Throwable e)
+		{
+			callback.onTaskFailed(request, e);
+		}
+		finally
+		{
+			response.close();
+		}
+		return true;
+	}
+
+	private void reportCacheResult(int result, HippyHttpRequest request)
+	{
+		if (mMonitor instanceof HippyEngineMonitorAdapter.HttpCacheMonitor)
+		{
+			((HippyEngineMonitorAdapter.HttpCacheMonitor) mMonitor).reportHttpCacheResult(result, request.getUrl());
+		}
+	}
+
+	private static boolean drain(InputStream inputStream)
+	{
+		if (inputStream == null)
+		{
+			return true;
+		}
+
+		try
+		{
+			byte[] buffer = new byte[4096];
+			int drained = 0;
+			int count;
+			while ((count = inputStream.read(buffer)) != -1)
+			{
+				drained += count;
+				if (drained > MAX_DRAIN_BYTES)
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+		catch (IOException e)
+		{
+			return false;
+		}
+	}
+
+	private static String getHost(String url)
+	{
+		try
+		{
+			String host = new URL(url).getHost();
+			return host != null ? host : "";
+		}
+		catch (Exception e)
+		{
+			return "";
+		}
+	}
+
+	private class Call implements Runnable
+	{
+		final HippyHttpRequest	mRequest;
+		final HttpTaskCallback	mCallback;
+		final String			mHost;
+
+		Call(HippyHttpRequest request, HttpTaskCallback callback, String host)
+		{
+			mRequest = request;
+			mCallback = callback;
+			mHost = host;
+		}
+
+		@Override
+		public void run()
+		{
+			try
+			{
+				execute(mRequest, mCallback, true);
+			}
+			finally
+			{
+				finished(this);
+			}
+		}
+	}
+
+	private static class BoundedInputStream extends FilterInputStream
+	{
+		private final long	mMaxBytes;
+		private long		mReadBytes;
+
+		BoundedInputStream(InputStream in, long maxBytes)
+		{
+			super(in);
+			mMaxBytes = maxBytes;
+		}
+
+		@Override
+		public int read() throws IOException
+		{
+			int value = super.read();
+			if (value != -1)
+			{
+				count(1);
+			}
+			return value;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException
+		{
+			int count = super.read(buffer, offset, length);
+			if (count > 0)
+			{
+				count(count);
+			}
+			return count;
+		}
+
+		private void count(int count) throws IOException
+		{
+			mReadBytes += count;
+			if (mMaxBytes > 0 && mReadBytes > mMaxBytes)
+			{
+				throw new IOException("response body exceeds " + mMaxBytes + " bytes");
+			}
+		}
+	}
+}
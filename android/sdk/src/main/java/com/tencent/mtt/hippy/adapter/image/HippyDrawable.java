@@ -1,11 +1,13 @@
 package com.tencent.mtt.hippy.adapter.image;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import com.tencent.mtt.hippy.utils.ContextHolder;
 import com.tencent.mtt.supportui.adapters.image.IDrawableTarget;
+import android.content.res.AssetManager;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import android.graphics.ImageDecoder;
@@ -197,6 +199,127 @@ public class HippyDrawable implements IDrawableTarget
 		}
 	}
 
+	/**
+	 * 设置原始数据来源，base64和assets的静态图片按目标尺寸降采样解码，GIF保持原尺寸。
+	 * 解码较慢，不要在主线程调用
+	 * @param source 原始数据的来源：base64 / assets / file
+	 * @param targetWidth 显示宽度，小于等于0时按原尺寸解码
+	 * @param targetHeight 显示高度，小于等于0时按原尺寸解码
+	 */
+	public void setData(String source, int targetWidth, int targetHeight)
+	{
+		if (targetWidth <= 0 || targetHeight <= 0 || !(source.startsWith("data:") || source.startsWith("assets://")))
+		{
+			setData(source);
+			return;
+		}
+
+		mSource = source;
+		if (source.startsWith("data:"))
+		{
+			int base64Index = source.indexOf(";base64,");
+			if (base64Index < 0)
+			{
+				return;
+			}
+			try
+			{
+				byte[] rawData = Base64.decode(source.substring(base64Index + ";base64,".length()), Base64.DEFAULT);
+				if (rawData == null)
+				{
+					return;
+				}
+				if (isGif(rawData, rawData.length))
+				{
+					setData(rawData);
+					return;
+				}
+				BitmapFactory.Options options = new BitmapFactory.Options();
+				options.inJustDecodeBounds = true;
+				BitmapFactory.decodeByteArray(rawData, 0, rawData.length, options);
+				options.inSampleSize = computeSampleSize(options.outWidth, options.outHeight, targetWidth, targetHeight);
+				options.inJustDecodeBounds = false;
+				mBitmap = BitmapFactory.decodeByteArray(rawData, 0, rawData.length, options);
+				mGifMovie = null;
+			}
+			catch (Exception e)
+			{
+				e.printStackTrace();
+			}
+			return;
+		}
+
+		// assets are streamed, not read into one array of is.available() bytes
+		String assetsFile = source.substring("assets://".length());
+		InputStream is = null;
+		try
+		{
+			AssetManager assets = ContextHolder.getAppContext().getAssets();
+			is = new BufferedInputStream(assets.open(assetsFile));
+			byte[] header = new byte[4];
+			is.mark(header.length);
+			int headerLength = is.read(header);
+			is.reset();
+			if (isGif(header, headerLength))
+			{
+				mGifMovie = Movie.decodeStream(is);
+				mBitmap = null;
+				return;
+			}
+
+			BitmapFactory.Options options = new BitmapFactory.Options();
+			options.inJustDecodeBounds = true;
+			BitmapFactory.decodeStream(is, null, options);
+			is.close();
+
+			is = assets.open(assetsFile);
+			options.inSampleSize = computeSampleSize(options.outWidth, options.outHeight, targetWidth, targetHeight);
+			options.inJustDecodeBounds = false;
+			mBitmap = BitmapFactory.decodeStream(is, null, options);
+			mGifMovie = null;
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+		}
+		finally
+		{
+			if (is != null)
+			{
+				try
+				{
+					is.close();
+				}
+				catch (Exception e)
+				{
+					e.printStackTrace();
+				}
+			}
+		}
+	}
+
+	/**
+	 * 不小于目标尺寸的最大2的幂次降采样倍数
+	 */
+	static int computeSampleSize(int width, int height, int targetWidth, int targetHeight)
+	{
+		int sampleSize = 1;
+		if (width <= 0 || height <= 0)
+		{
+			return sampleSize;
+		}
+		while (width / (sampleSize * 2) >= targetWidth && height / (sampleSize * 2) >= targetHeight)
+		{
+			sampleSize *= 2;
+		}
+		return sampleSize;
+	}
+
+	private static boolean isGif(byte[] data, int length)
+	{
+		return length >= 4 && data[0] == 'G' && data[1] == 'I' && data[2] == 'F' && data[3] == '8';
+	}
+
 	/**
 	 * 获取GIF数据
 	 */
@@ -15,11 +15,22 @@
  */
 package com.tencent.mtt.hippy.adapter.image;
 
-import android.util.SparseArray;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import com.tencent.mtt.hippy.utils.ContextHolder;
 import com.tencent.mtt.supportui.adapters.image.IImageLoaderAdapter;
 import com.tencent.mtt.supportui.adapters.image.IImageRequestListener;
 
-import java.lang.ref.WeakReference;
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Created by leonardgong on 2017/12/4 0004.
  * modified by harryguo 2019/3/27
@@ -27,37 +38,276 @@ import java.lang.ref.WeakReference;
 
 public abstract class HippyImageLoader implements IImageLoaderAdapter<HippyImageLoader.Callback>
 {
-	private SparseArray<WeakReference<HippyDrawable>> mWeakImageCache = new SparseArray<>();
+	// 解码线程数，解码是CPU密集型的，线程多了只会和UI线程抢CPU
+	private static final int		DECODE_THREADS					= 2;
+	private static final long		DECODE_THREAD_KEEP_ALIVE_SECONDS	= 30;
+	// 不超过这个长度的base64小图直接在主线程解码，解码很快，切到解码线程反而会先显示一帧空白
+	private static final int		SYNC_DECODE_MAX_LENGTH			= 8 * 1024;
+	// 本地文件的修改时间在这段时间内不再重新stat，命中缓存时不用每次在主线程读磁盘
+	private static final long		FILE_STAT_INTERVAL_MS			= 1000;
+	private static final int		FILE_STAT_MAX_ENTRIES			= 256;
+
+	private HippyImageMemoryCache	mMemoryCache;
+	private ThreadPoolExecutor		mDecodeExecutor;
+	private Handler					mMainHandler;
+	private final Map<String, FileStat>	mFileStats						= new ConcurrentHashMap<>();
+
 	// 本地图片加载，同步获取
 	@Override
 	public HippyDrawable getImage(String source, Object param)
 	{
-        //base64图片和APK内置图片增加弱引用缓存，避免每次在主线程加载和解码图片
-		boolean canCacheImage = source.startsWith("data:") || source.startsWith("assets://");
-		int imageCacheCode = source.hashCode();
-		if (canCacheImage)
+		//base64、APK内置和本地文件图片走内存缓存，避免每次在主线程加载和解码图片
+		String cacheKey = getCacheKey(source, param);
+		HippyImageMemoryCache memoryCache = cacheKey != null ? getMemoryCache() : null;
+		if (memoryCache != null)
 		{
-			WeakReference<HippyDrawable> weakReferenceHippyDrawable = mWeakImageCache.get(imageCacheCode);
-			if (weakReferenceHippyDrawable != null)
+			HippyDrawable hippyDrawable = memoryCache.get(cacheKey);
+			if (isCachedFor(hippyDrawable, source))
 			{
-				HippyDrawable hippyDrawable = weakReferenceHippyDrawable.get();
-				if (hippyDrawable == null)
-					mWeakImageCache.delete(imageCacheCode);
-				else
-					return hippyDrawable;
+				return hippyDrawable;
 			}
 		}
 		HippyDrawable drawable = new HippyDrawable();
 		drawable.setData(source);
-		if (canCacheImage)
+		if (memoryCache != null)
+		{
+			memoryCache.put(cacheKey, drawable);
+		}
+		return drawable;
+	}
+
+	/**
+	 * the key of the decoded image in the memory cache, null if it must not be cached. A loader that decodes at
+	 * a target size taken from param has to put that size into the key
+	 */
+	protected String getCacheKey(String source, Object param)
+	{
+		if (source.startsWith("data:"))
+		{
+			// a base64 source can be hundreds of KB, it is keyed on its length and hash instead of being copied into
+			// the key on the ui thread, a hit is checked against the source of the cached drawable
+			return "data:" + source.length() + "#" + source.hashCode();
+		}
+		if (source.startsWith("assets://"))
+		{
+			return source;
+		}
+		if (source.startsWith("file://"))
+		{
+			// a rewritten file is decoded again, once its cached modification time is checked again
+			return source + "#" + getLastModified(source);
+		}
+		return null;
+	}
+
+	private long getLastModified(String source)
+	{
+		long now = SystemClock.uptimeMillis();
+		FileStat fileStat = mFileStats.get(source);
+		if (fileStat == null || now - fileStat.mCheckTime > FILE_STAT_INTERVAL_MS)
+		{
+			if (fileStat == null && mFileStats.size() >= FILE_STAT_MAX_ENTRIES)
+			{
+				mFileStats.clear();
+			}
+			fileStat = new FileStat(new File(source.substring("file://".length())).lastModified(), now);
+			mFileStats.put(source, fileStat);
+		}
+		return fileStat.mLastModified;
+	}
+
+	/**
+	 * 异步加载base64和assets图片，在解码线程上按目标尺寸降采样解码，回调在主线程。命中内存缓存或者是base64小图时
+	 * 直接解码并回调
+	 *
+	 * @param targetWidth 显示宽度，小于等于0时按原尺寸解码
+	 * @param targetHeight 显示高度，小于等于0时按原尺寸解码
+	 * @return 用于取消解码的任务，已经回调时返回null
+	 */
+	public DecodeTask decodeImage(String source, int targetWidth, int targetHeight, Callback callback)
+	{
+		String cacheKey = getCacheKey(source, null);
+		if (cacheKey != null && targetWidth > 0 && targetHeight > 0)
+		{
+			cacheKey += "@" + targetWidth + "x" + targetHeight;
+		}
+		HippyImageMemoryCache memoryCache = cacheKey != null ? getMemoryCache() : null;
+		if (memoryCache != null)
+		{
+			HippyDrawable hippyDrawable = memoryCache.get(cacheKey);
+			if (isCachedFor(hippyDrawable, source))
+			{
+				callback.onRequestSuccess(hippyDrawable);
+				return null;
+			}
+		}
+
+		if (source.startsWith("data:") && source.length() <= SYNC_DECODE_MAX_LENGTH)
+		{
+			HippyDrawable drawable = decode(source, targetWidth, targetHeight, cacheKey);
+			if (drawable != null)
+			{
+				callback.onRequestSuccess(drawable);
+			}
+			else
+			{
+				callback.onRequestFail(new IOException("image decode failed"), source);
+			}
+			return null;
+		}
+
+		DecodeTask task = new DecodeTask(source, targetWidth, targetHeight, cacheKey, callback);
+		synchronized (this)
+		{
+			if (mDecodeExecutor == null)
+			{
+				mDecodeExecutor = new ThreadPoolExecutor(DECODE_THREADS, DECODE_THREADS, DECODE_THREAD_KEEP_ALIVE_SECONDS,
+						TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
+				mDecodeExecutor.allowCoreThreadTimeOut(true);
+				mMainHandler = new Handler(Looper.getMainLooper());
+			}
+			task.mFuture = mDecodeExecutor.submit(task);
+		}
+		return task;
+	}
+
+	/**
+	 * @return null if the source could not be decoded
+	 */
+	private HippyDrawable decode(String source, int targetWidth, int targetHeight, String cacheKey)
+	{
+		HippyDrawable drawable = new HippyDrawable();
+		drawable.setData(source, targetWidth, targetHeight);
+		if (drawable.getBitmap() == null && drawable.getGIF() == null)
+		{
+			return null;
+		}
+		if (cacheKey != null)
 		{
-			mWeakImageCache.put(imageCacheCode, new WeakReference<>(drawable));
+			getMemoryCache().put(cacheKey, drawable);
 		}
 		return drawable;
 	}
 
-	public void destroyIfNeed(){
-    }
+	// keys of base64 sources are hashes, two sources may share one
+	private static boolean isCachedFor(HippyDrawable drawable, String source)
+	{
+		return drawable != null && (drawable.getSource() == null || drawable.getSource().equals(source));
+	}
+
+	/**
+	 * @return the cache of the decoded local images, shared by all the image views and background images of the
+	 * engine
+	 */
+	public synchronized HippyImageMemoryCache getMemoryCache()
+	{
+		if (mMemoryCache == null)
+		{
+			mMemoryCache = new HippyImageMemoryCache(HippyImageMemoryCache.getDefaultMaxBytes());
+			if (ContextHolder.getAppContext() != null)
+			{
+				ContextHolder.getAppContext().registerComponentCallbacks(mMemoryCache);
+			}
+		}
+		return mMemoryCache;
+	}
+
+	public void destroyIfNeed()
+	{
+		synchronized (this)
+		{
+			if (mMemoryCache != null)
+			{
+				if (ContextHolder.getAppContext() != null)
+				{
+					ContextHolder.getAppContext().unregisterComponentCallbacks(mMemoryCache);
+				}
+				mMemoryCache.clear();
+				mMemoryCache = null;
+			}
+			mFileStats.clear();
+			if (mDecodeExecutor != null)
+			{
+				mDecodeExecutor.shutdownNow();
+				mDecodeExecutor = null;
+			}
+		}
+	}
+
+	private static class FileStat
+	{
+		final long	mLastModified;
+		final long	mCheckTime;
+
+		FileStat(long lastModified, long checkTime)
+		{
+			mLastModified = lastModified;
+			mCheckTime = checkTime;
+		}
+	}
+
+	/**
+	 * 一次异步解码，cancel后不再回调
+	 */
+	public class DecodeTask implements Runnable
+	{
+		private final String	mSource;
+		private final int		mTargetWidth;
+		private final int		mTargetHeight;
+		private final String	mCacheKey;
+		private final Callback	mCallback;
+		private volatile boolean	mCanceled;
+		Future<?>				mFuture;
+
+		DecodeTask(String source, int targetWidth, int targetHeight, String cacheKey, Callback callback)
+		{
+			mSource = source;
+			mTargetWidth = targetWidth;
+			mTargetHeight = targetHeight;
+			mCacheKey = cacheKey;
+			mCallback = callback;
+		}
+
+		public void cancel()
+		{
+			mCanceled = true;
+			if (mFuture != null)
+			{
+				mFuture.cancel(false);
+			}
+		}
+
+		@Override
+		public void run()
+		{
+			if (mCanceled)
+			{
+				return;
+			}
+
+			final HippyDrawable drawable = decode(mSource, mTargetWidth, mTargetHeight, mCacheKey);
+			mMainHandler.post(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					if (mCanceled)
+					{
+						return;
+					}
+					if (drawable != null)
+					{
+						mCallback.onRequestSuccess(drawable);
+					}
+					else
+					{
+						mCallback.onRequestFail(new IOException("image decode failed"), mSource);
+					}
+				}
+			});
+		}
+	}
+
 	/**
 	 * Created by leonardgong on 2017/12/4 0004.
 	 */
@@ -0,0 +1,193 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.adapter.image;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.graphics.Movie;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * FileName: HippyImageMemoryCache
+ * Description：LRU cache of decoded images, bounded by the bytes of their bitmaps. The least recently used
+ * images are dropped first, never recycled, since views may still draw them. Register it as ComponentCallbacks
+ * so that it shrinks when the system runs low on memory. Thread safe.
+ * History：
+ */
+public class HippyImageMemoryCache implements ComponentCallbacks2
+{
+	private final LinkedHashMap<String, Entry>		mEntries	= new LinkedHashMap<>(32, 0.75f, true);
+	private final long									mMaxBytes;
+	private long										mBytes;
+	private long										mHitCount;
+	private long										mMissCount;
+	private long										mEvictionCount;
+
+	public HippyImageMemoryCache(long maxBytes)
+	{
+		mMaxBytes = maxBytes;
+	}
+
+	/**
+	 * @return an eighth of the heap the app may use
+	 */
+	public static long getDefaultMaxBytes()
+	{
+		return Runtime.getRuntime().maxMemory() / 8;
+	}
+
+	public synchronized HippyDrawable get(String key)
+	{
+		Entry entry = mEntries.get(key);
+		if (entry != null)
+		{
+			mHitCount++;
+			return entry.mDrawable;
+		}
+		mMissCount++;
+		return null;
+	}
+
+	/**
+	 * drawables without any decoded image and the ones larger than the whole cache are not kept
+	 */
+	public synchronized void put(String key, HippyDrawable drawable)
+	{
+		long size = sizeOf(drawable);
+		if (size <= 0 || size > mMaxBytes)
+		{
+			remove(key);
+			return;
+		}
+
+		Entry previous = mEntries.put(key, new Entry(drawable, size));
+		if (previous != null)
+		{
+			mBytes -= previous.mSize;
+		}
+		mBytes += size;
+		trimToSize(mMaxBytes);
+	}
+
+	public synchronized void remove(String key)
+	{
+		Entry previous = mEntries.remove(key);
+		if (previous != null)
+		{
+			mBytes -= previous.mSize;
+		}
+	}
+
+	public synchronized void clear()
+	{
+		mEntries.clear();
+		mBytes = 0;
+	}
+
+	public synchronized void trimToSize(long maxBytes)
+	{
+		Iterator<Map.Entry<String, Entry>> iterator = mEntries.entrySet().iterator();
+		while (mBytes > maxBytes && iterator.hasNext())
+		{
+			mBytes -= iterator.next().getValue().mSize;
+			iterator.remove();
+			mEvictionCount++;
+		}
+	}
+
+	public synchronized long getSizeBytes()
+	{
+		return mBytes;
+	}
+
+	public long getMaxBytes()
+	{
+		return mMaxBytes;
+	}
+
+	public synchronized long getHitCount()
+	{
+		return mHitCount;
+	}
+
+	public synchronized long getMissCount()
+	{
+		return mMissCount;
+	}
+
+	public synchronized long getEvictionCount()
+	{
+		return mEvictionCount;
+	}
+
+	@Override
+	public void onTrimMemory(int level)
+	{
+		if (level >= TRIM_MEMORY_MODERATE || level == TRIM_MEMORY_RUNNING_CRITICAL)
+		{
+			clear();
+		}
+		else if (level >= TRIM_MEMORY_RUNNING_LOW)
+		{
+			// the app is in the background or short of memory, keep the most recent half
+			trimToSize(getSizeBytes() / 2);
+		}
+	}
+
+	@Override
+	public void onConfigurationChanged(Configuration newConfig)
+	{
+	}
+
+	@Override
+	public void onLowMemory()
+	{
+		clear();
+	}
+
+	private static long sizeOf(HippyDrawable drawable)
+	{
+		Bitmap bitmap = drawable.getBitmap();
+		if (bitmap != null)
+		{
+			return bitmap.getAllocationByteCount();
+		}
+		Movie movie = drawable.getGIF();
+		if (movie != null)
+		{
+			// the frames are decoded into an ARGB_8888 canvas of the movie size
+			return (long) movie.width() * movie.height() * 4;
+		}
+		return 0;
+	}
+
+	// the size is taken when the drawable is put, a drawable given new data later does not skew the accounting
+	private static class Entry
+	{
+		final HippyDrawable	mDrawable;
+		final long			mSize;
+
+		Entry(HippyDrawable drawable, long size)
+		{
+			mDrawable = drawable;
+			mSize = size;
+		}
+	}
+}
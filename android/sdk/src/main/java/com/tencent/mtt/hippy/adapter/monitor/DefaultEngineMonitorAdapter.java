@@ -25,7 +25,9 @@ import java.util.List;
  * History：
  * 1.0 xiandongluo on 2018/1/23
  */
-public class DefaultEngineMonitorAdapter implements HippyEngineMonitorAdapter
+public class DefaultEngineMonitorAdapter implements HippyEngineMonitorAdapter, HippyEngineMonitorAdapter.HttpCacheMonitor,
+		HippyEngineMonitorAdapter.CodeCacheMonitor, HippyEngineMonitorAdapter.TraceMonitor,
+		HippyEngineMonitorAdapter.ListMonitor
 {
 
 	@Override
@@ -57,4 +59,28 @@ public class DefaultEngineMonitorAdapter implements HippyEngineMonitorAdapter
 	{
 
 	}
+
+	@Override
+	public void reportHttpCacheResult(int result, String url)
+	{
+
+	}
+
+	@Override
+	public void reportCodeCacheResult(int result, String codeCacheTag, int runScriptTime)
+	{
+
+	}
+
+	@Override
+	public void reportTraceHistogram(String stage, int[] boundsMs, int[] counts)
+	{
+
+	}
+
+	@Override
+	public void reportListItemStats(int preCreateHits, int preCreateMisses, int bindCount, int bindTimeMs)
+	{
+
+	}
 }
@@ -32,6 +32,14 @@ public interface HippyEngineMonitorAdapter
 	int	ENGINE_LOAD_RESULT_ERROR	= 1;
 	int	ENGINE_LOAD_RESULE_TIMEOUT	= 2;
 
+	int	HTTP_CACHE_RESULT_HIT			= 0;
+	int	HTTP_CACHE_RESULT_MISS			= 1;
+	int	HTTP_CACHE_RESULT_REVALIDATED	= 2;
+
+	int	CODE_CACHE_RESULT_HIT			= 0;
+	int	CODE_CACHE_RESULT_MISS			= 1;
+	int	CODE_CACHE_RESULT_INVALID		= 2;
+
 	void reportEngineLoadStart();
 
 	void reportEngineLoadResult(int code, int loadTime, List<HippyEngineMonitorEvent> loadEvents, Throwable e);
@@ -42,4 +50,58 @@ public interface HippyEngineMonitorAdapter
 
 	void reportBridgeANR(String message);
 
+	/**
+	 * optional, implemented by the adapters that report the http cache. Checked with instanceof, so that adding it
+	 * does not break the adapters implementing this interface
+	 */
+	interface HttpCacheMonitor
+	{
+		/**
+		 * a cacheable http request was served from the cache, went to the network, or was answered 304
+		 * @param result one of the HTTP_CACHE_RESULT_ values
+		 */
+		void reportHttpCacheResult(int result, String url);
+	}
+
+	/**
+	 * optional, implemented by the adapters that report the code cache of bundles, see {@link HttpCacheMonitor}
+	 */
+	interface CodeCacheMonitor
+	{
+		/**
+		 * a bundle was run with its code cache, without one, or its code cache failed the checksum and was deleted.
+		 * The compile time saved by the cache is the difference of runScriptTime between misses and hits of a tag
+		 * @param result one of the CODE_CACHE_RESULT_ values
+		 * @param runScriptTime ms spent in running the bundle
+		 */
+		void reportCodeCacheResult(int result, String codeCacheTag, int runScriptTime);
+	}
+
+	/**
+	 * optional, implemented by the adapters that report the spans of HippyTracer, see {@link HttpCacheMonitor}
+	 */
+	interface TraceMonitor
+	{
+		/**
+		 * the durations of a stage of the render pipeline since the last report, see HippyTracer
+		 * @param boundsMs upper bounds of the buckets, the last bucket counts the spans above the last bound
+		 * @param counts the number of spans in each bucket, one more than boundsMs
+		 */
+		void reportTraceHistogram(String stage, int[] boundsMs, int[] counts);
+	}
+
+	/**
+	 * optional, implemented by the adapters that report the item binding of list views, see {@link HttpCacheMonitor}
+	 */
+	interface ListMonitor
+	{
+		/**
+		 * the items bound by a list view since the last report, sent when it is detached from the window
+		 * @param preCreateHits new holders whose item views had been created while the ui thread was idle
+		 * @param preCreateMisses new holders whose item views were created when bound
+		 * @param bindTimeMs ms spent in binding bindCount items
+		 */
+		void reportListItemStats(int preCreateHits, int preCreateMisses, int bindCount, int bindTimeMs);
+	}
+
 }
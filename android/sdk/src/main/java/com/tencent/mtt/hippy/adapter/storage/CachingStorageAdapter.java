@@ -0,0 +1,543 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.adapter.storage;
+
+import android.os.Handler;
+import android.os.Looper;
+import com.tencent.mtt.hippy.common.HippyArray;
+import com.tencent.mtt.hippy.utils.LogUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FileName: CachingStorageAdapter
+ * Description：write-behind cache in front of another {@link HippyStorageAdapter}. Reads are served from a
+ * size-bounded LRU of key→value and only the missing keys go to the delegate. Writes and removals are applied
+ * to memory, acknowledged at once and handed to the delegate in batches, at most one batch at a time so that
+ * a later write never reaches the database before an earlier one. A batch is applied in one transaction when the
+ * delegate implements {@link HippyStorageAdapter.MultiWrite}. A failed batch is queued again unless the keys were
+ * written since. Pending writes are flushed on {@link #flush()}, on engine pause (see StorageModule) and by
+ * {@link #destroyIfNeed()}, which does not wait for them: the delegate is destroyed once they are written.
+ * Writes acknowledged within the last {@link #FLUSH_DELAY_MS} are lost if the process dies, so the cache is opt-in,
+ * see EngineInitParams.enableStorageWriteCache.
+ * History：
+ */
+public class CachingStorageAdapter implements HippyStorageAdapter
+{
+	static final int						DEFAULT_MAX_CACHE_CHARS		= 256 * 1024;
+	static final long						FLUSH_DELAY_MS				= 300;
+	static final int						MAX_PENDING_WRITES			= 64;
+
+	private static final String				TAG							= "CachingStorageAdapter";
+
+	private final HippyStorageAdapter		mDelegate;
+	private final int						mMaxCacheChars;
+	private final Handler					mHandler					= new Handler(Looper.getMainLooper());
+
+	// flushed or read values, the removed and missing keys are cached as ""
+	private final LinkedHashMap<String, String>	mCache						= new LinkedHashMap<>(16, 0.75f, true);
+	private int								mCacheChars					= 0;
+	// not handed to the delegate yet, a null value is a removal
+	private LinkedHashMap<String, String>	mPendingWrites				= new LinkedHashMap<>();
+	// handed to the delegate and not confirmed yet
+	private Map<String, String>				mFlushingWrites				= new HashMap<>();
+	private boolean							mFlushing					= false;
+	private boolean							mFlushScheduled				= false;
+	private boolean							mDestroyed					= false;
+	private boolean							mDelegateDestroyed			= false;
+
+	private final Runnable					mFlushRunnable;
+
+	public CachingStorageAdapter(HippyStorageAdapter delegate)
+	{
+		this(delegate, DEFAULT_MAX_CACHE_CHARS);
+	}
+
+	/**
+	 * @param maxCacheChars bound of the read cache, as the total length of the cached keys and values
+	 */
+	public CachingStorageAdapter(HippyStorageAdapter delegate, int maxCacheChars)
+	{
+		mDelegate = delegate;
+		mMaxCacheChars = maxCacheChars;
+		mFlushRunnable = new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				synchronized (CachingStorageAdapter.this)
+				{
+					mFlushScheduled = false;
+				}
+				flush();
+			}
+		};
+	}
+
+	@Override
+	public void multiGet(final HippyArray keys, final Callback<List<HippyStorageKeyValue>> callback)
+	{
+		final int size = keys.size();
+		final String[] values = new String[size];
+		HippyArray missingKeys = null;
+		synchronized (this)
+		{
+			LinkedHashSet<String> missing = null;
+			for (int i = 0; i < size; i++)
+			{
+				String key = keys.getString(i);
+				values[i] = lookup(key);
+				if (values[i] == null && key != null)
+				{
+					if (missing == null)
+					{
+						missing = new LinkedHashSet<>();
+					}
+					missing.add(key);
+				}
+			}
+
+			if (missing != null)
+			{
+				missingKeys = new HippyArray();
+				for (String key : missing)
+				{
+					missingKeys.pushString(key);
+				}
+			}
+		}
+
+		if (missingKeys == null)
+		{
+			callback.onSuccess(buildKeyValues(keys, values));
+			return;
+		}
+
+		mDelegate.multiGet(missingKeys, new Callback<List<HippyStorageKeyValue>>()
+		{
+			@Override
+			public void onSuccess(List<HippyStorageKeyValue> data)
+			{
+				HashMap<String, String> loaded = new HashMap<>();
+				synchronized (CachingStorageAdapter.this)
+				{
+					if (data != null)
+					{
+						for (HippyStorageKeyValue item : data)
+						{
+							if (item == null || item.key == null)
+							{
+								continue;
+							}
+							String value = item.value != null ? item.value : "";
+							loaded.put(item.key, value);
+							// a write that arrived while the delegate was reading is newer, keep it
+							if (lookup(item.key) == null)
+							{
+								putCache(item.key, value);
+							}
+						}
+					}
+
+					for (int i = 0; i < size; i++)
+					{
+						if (values[i] != null)
+						{
+							continue;
+						}
+						String key = keys.getString(i);
+						String value = lookup(key);
+						if (value == null)
+						{
+							value = loaded.get(key);
+						}
+						values[i] = value != null ? value : "";
+					}
+				}
+				callback.onSuccess(buildKeyValues(keys, values));
+			}
+
+			@Override
+			public void onError(String mseeage)
+			{
+				callback.onError(mseeage);
+			}
+		});
+	}
+
+	@Override
+	public void multiSet(List<HippyStorageKeyValue> keyValues, Callback<Void> callback)
+	{
+		boolean flushNow;
+		synchronized (this)
+		{
+			for (HippyStorageKeyValue keyValue : keyValues)
+			{
+				mPendingWrites.remove(keyValue.key);
+				mPendingWrites.put(keyValue.key, keyValue.value);
+				putCache(keyValue.key, keyValue.value);
+			}
+			flushNow = scheduleFlush();
+		}
+		if (flushNow)
+		{
+			flush();
+		}
+		callback.onSuccess(null);
+	}
+
+	@Override
+	public void multiRemove(HippyArray keys, Callback<Void> callback)
+	{
+		boolean flushNow;
+		synchronized (this)
+		{
+			for (int i = 0; i < keys.size(); i++)
+			{
+				String key = keys.getString(i);
+				if (key == null)
+				{
+					continue;
+				}
+				mPendingWrites.remove(key);
+				mPendingWrites.put(key, null);
+				putCache(key, "");
+			}
+			flushNow = scheduleFlush();
+		}
+		if (flushNow)
+		{
+			flush();
+		}
+		callback.onSuccess(null);
+	}
+
+	@Override
+	public void getAllKeys(final Callback<HippyArray> callback)
+	{
+		// the delegate only knows the flushed keys, the rest is merged in when it answers
+		flush();
+		mDelegate.getAllKeys(new Callback<HippyArray>()
+		{
+			@Override
+			public void onSuccess(HippyArray data)
+			{
+				LinkedHashSet<String> keys = new LinkedHashSet<>();
+				if (data != null)
+				{
+					for (int i = 0; i < data.size(); i++)
+					{
+						keys.add(data.getString(i));
+					}
+				}
+
+				synchronized (CachingStorageAdapter.this)
+				{
+					mergeKeys(keys, mFlushingWrites);
+					mergeKeys(keys, mPendingWrites);
+				}
+
+				HippyArray result = new HippyArray();
+				for (String key : keys)
+				{
+					result.pushString(key);
+				}
+				callback.onSuccess(result);
+			}
+
+			@Override
+			public void onError(String mseeage)
+			{
+				callback.onError(mseeage);
+			}
+		});
+	}
+
+	/**
+	 * hand the pending writes to the delegate, does nothing while an earlier batch is still in flight (the
+	 * rest is flushed when it completes)
+	 */
+	public void flush()
+	{
+		FlushBatch batch;
+		synchronized (this)
+		{
+			batch = prepareFlush();
+		}
+		if (batch != null)
+		{
+			batch.submit();
+		}
+	}
+
+	@Override
+	public void destroyIfNeed()
+	{
+		mHandler.removeCallbacks(mFlushRunnable);
+		synchronized (this)
+		{
+			mDestroyed = true;
+			mFlushScheduled = false;
+			mCache.clear();
+			mCacheChars = 0;
+		}
+		// the writes in flight and the pending ones are written before the delegate is destroyed, see onFlushDone
+		flush();
+		destroyDelegateIfIdle();
+	}
+
+	private void destroyDelegateIfIdle()
+	{
+		synchronized (this)
+		{
+			if (!mDestroyed || mFlushing || mDelegateDestroyed)
+			{
+				return;
+			}
+			mDelegateDestroyed = true;
+		}
+		mDelegate.destroyIfNeed();
+	}
+
+	/**
+	 * @return true if the pending writes are too many to wait for the timer
+	 */
+	private boolean scheduleFlush()
+	{
+		if (mPendingWrites.size() >= MAX_PENDING_WRITES)
+		{
+			return true;
+		}
+		if (!mFlushScheduled)
+		{
+			mFlushScheduled = true;
+			mHandler.postDelayed(mFlushRunnable, FLUSH_DELAY_MS);
+		}
+		return false;
+	}
+
+	private FlushBatch prepareFlush()
+	{
+		if (mFlushing || mPendingWrites.isEmpty())
+		{
+			return null;
+		}
+
+		mFlushing = true;
+		mFlushingWrites = mPendingWrites;
+		mPendingWrites = new LinkedHashMap<>();
+		return new FlushBatch(mFlushingWrites);
+	}
+
+	private void onFlushDone(boolean success)
+	{
+		boolean reschedule;
+		boolean flushNow;
+		synchronized (this)
+		{
+			if (!success)
+			{
+				// keep the failed writes unless they were overwritten meanwhile, in front of the newer ones
+				LinkedHashMap<String, String> retry = new LinkedHashMap<>(mFlushingWrites);
+				for (Map.Entry<String, String> entry : mPendingWrites.entrySet())
+				{
+					retry.remove(entry.getKey());
+					retry.put(entry.getKey(), entry.getValue());
+				}
+				mPendingWrites = retry;
+			}
+			mFlushingWrites = new HashMap<>();
+			mFlushing = false;
+			if (mDestroyed && !success && !mPendingWrites.isEmpty())
+			{
+				// no retry once destroyed, the delegate would be kept alive by a failing database
+				LogUtils.e(TAG, "destroy with unflushed writes: " + mPendingWrites.size());
+				mPendingWrites.clear();
+			}
+			flushNow = mDestroyed && !mPendingWrites.isEmpty();
+			reschedule = !mDestroyed && !mPendingWrites.isEmpty() && !mFlushScheduled;
+			if (reschedule)
+			{
+				mFlushScheduled = true;
+			}
+		}
+
+		if (reschedule)
+		{
+			mHandler.postDelayed(mFlushRunnable, FLUSH_DELAY_MS);
+		}
+		if (flushNow)
+		{
+			flush();
+		}
+		destroyDelegateIfIdle();
+	}
+
+	private String lookup(String key)
+	{
+		if (mPendingWrites.containsKey(key))
+		{
+			String value = mPendingWrites.get(key);
+			return value != null ? value : "";
+		}
+		if (mFlushingWrites.containsKey(key))
+		{
+			String value = mFlushingWrites.get(key);
+			return value != null ? value : "";
+		}
+		return mCache.get(key);
+	}
+
+	private void putCache(String key, String value)
+	{
+		String old = mCache.remove(key);
+		if (old != null)
+		{
+			mCacheChars -= key.length() + old.length();
+		}
+
+		int chars = key.length() + value.length();
+		// a single entry taking a large part of the cache would flush everything else out
+		if (chars > mMaxCacheChars / 4)
+		{
+			return;
+		}
+
+		mCache.put(key, value);
+		mCacheChars += chars;
+		Iterator<Map.Entry<String, String>> iterator = mCache.entrySet().iterator();
+		while (mCacheChars > mMaxCacheChars && iterator.hasNext())
+		{
+			Map.Entry<String, String> eldest = iterator.next();
+			mCacheChars -= eldest.getKey().length() + eldest.getValue().length();
+			iterator.remove();
+		}
+	}
+
+	private static void mergeKeys(LinkedHashSet<String> keys, Map<String, String> writes)
+	{
+		for (Map.Entry<String, String> entry : writes.entrySet())
+		{
+			if (entry.getValue() != null)
+			{
+				keys.add(entry.getKey());
+			}
+			else
+			{
+				keys.remove(entry.getKey());
+			}
+		}
+	}
+
+	private static List<HippyStorageKeyValue> buildKeyValues(HippyArray keys, String[] values)
+	{
+		ArrayList<HippyStorageKeyValue> result = new ArrayList<>(values.length);
+		for (int i = 0; i < values.length; i++)
+		{
+			HippyStorageKeyValue item = new HippyStorageKeyValue();
+			item.key = keys.getString(i);
+			item.value = values[i] != null ? values[i] : "";
+			result.add(item);
+		}
+		return result;
+	}
+
+	private class FlushBatch implements Callback<Void>
+	{
+		final List<HippyStorageKeyValue>	mSets		= new ArrayList<>();
+		final HippyArray					mRemoves	= new HippyArray();
+		int									mRemaining;
+		boolean								mSuccess	= true;
+
+		FlushBatch(Map<String, String> writes)
+		{
+			// every key appears once, so the sets and the removals do not depend on each other's order
+			for (Map.Entry<String, String> entry : writes.entrySet())
+			{
+				if (entry.getValue() != null)
+				{
+					HippyStorageKeyValue keyValue = new HippyStorageKeyValue();
+					keyValue.key = entry.getKey();
+					keyValue.value = entry.getValue();
+					mSets.add(keyValue);
+				}
+				else
+				{
+					mRemoves.pushString(entry.getKey());
+				}
+			}
+			if (mDelegate instanceof HippyStorageAdapter.MultiWrite)
+			{
+				mRemaining = 1;
+			}
+			else
+			{
+				mRemaining = (mSets.isEmpty() ? 0 : 1) + (mRemoves.size() == 0 ? 0 : 1);
+			}
+		}
+
+		void submit()
+		{
+			if (mDelegate instanceof HippyStorageAdapter.MultiWrite)
+			{
+				((HippyStorageAdapter.MultiWrite) mDelegate).multiWrite(mSets, mRemoves, this);
+				return;
+			}
+			// not one transaction, a failure of one of the calls queues the writes of both again
+			if (!mSets.isEmpty())
+			{
+				mDelegate.multiSet(mSets, this);
+			}
+			if (mRemoves.size() > 0)
+			{
+				mDelegate.multiRemove(mRemoves, this);
+			}
+		}
+
+		@Override
+		public void onSuccess(Void data)
+		{
+			complete(true);
+		}
+
+		@Override
+		public void onError(String mseeage)
+		{
+			LogUtils.e(TAG, "flush error: " + mseeage);
+			complete(false);
+		}
+
+		private void complete(boolean success)
+		{
+			boolean done;
+			synchronized (this)
+			{
+				mSuccess &= success;
+				done = --mRemaining == 0;
+			}
+			if (done)
+			{
+				onFlushDone(mSuccess);
+			}
+		}
+	}
+}
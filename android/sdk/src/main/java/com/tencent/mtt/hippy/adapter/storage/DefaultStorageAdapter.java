@@ -32,7 +32,7 @@ import java.util.concurrent.Executors;
  * Description：
  * History：
  */
-public class DefaultStorageAdapter implements HippyStorageAdapter
+public class DefaultStorageAdapter implements HippyStorageAdapter, HippyStorageAdapter.MultiWrite
 {
 
 	static final int			MAX_SQL_KEYS	= 999;
@@ -178,18 +178,10 @@ public class DefaultStorageAdapter implements HippyStorageAdapter
 						callback.onError("Database Error");
 						return;
 					}
-					String sql = "INSERT OR REPLACE INTO " + mSQLiteHelper.getTableName() + " VALUES (?, ?);";
-					SQLiteStatement statement = database.compileStatement(sql);
 					try
 					{
 						database.beginTransaction();
-						for (HippyStorageKeyValue keyValue : keyValues)
-						{
-							statement.clearBindings();
-							statement.bindString(1, keyValue.key);
-							statement.bindString(2, keyValue.value);
-							statement.execute();
-						}
+						insert(database, keyValues);
 						database.setTransactionSuccessful();
 						callback.onSuccess(null);
 					}
@@ -229,12 +221,48 @@ public class DefaultStorageAdapter implements HippyStorageAdapter
 					try
 					{
 						database.beginTransaction();
-						for (int keyStart = 0; keyStart < keys.size(); keyStart += MAX_SQL_KEYS)
-						{
-							int keyCount = Math.min(keys.size() - keyStart, MAX_SQL_KEYS);
-							database.delete(mSQLiteHelper.getTableName(), buildKeySelection(keyCount),
-									buildKeySelectionArgs(keys, keyStart, keyCount));
-						}
+						delete(database, keys);
+						database.setTransactionSuccessful();
+						callback.onSuccess(null);
+					}
+					catch (Throwable e)
+					{
+						callback.onError(e.getMessage());
+					}
+					finally
+					{
+						database.endTransaction();
+					}
+				}
+				catch (Throwable e)
+				{
+					callback.onError(e.getMessage());
+				}
+			}
+		});
+	}
+
+	@Override
+	public void multiWrite(final List<HippyStorageKeyValue> keyValues, final HippyArray removedKeys, final Callback<Void> callback)
+	{
+		execute(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				try
+				{
+					SQLiteDatabase database = mSQLiteHelper.getDatabase();
+					if (database == null)
+					{
+						callback.onError("Database Error");
+						return;
+					}
+					try
+					{
+						database.beginTransaction();
+						insert(database, keyValues);
+						delete(database, removedKeys);
 						database.setTransactionSuccessful();
 						callback.onSuccess(null);
 					}
@@ -255,6 +283,32 @@ public class DefaultStorageAdapter implements HippyStorageAdapter
 		});
 	}
 
+	private void insert(SQLiteDatabase database, List<HippyStorageKeyValue> keyValues)
+	{
+		if (keyValues.isEmpty())
+		{
+			return;
+		}
+		String sql = "INSERT OR REPLACE INTO " + mSQLiteHelper.getTableName() + " VALUES (?, ?);";
+		SQLiteStatement statement = database.compileStatement(sql);
+		for (HippyStorageKeyValue keyValue : keyValues)
+		{
+			statement.clearBindings();
+			statement.bindString(1, keyValue.key);
+			statement.bindString(2, keyValue.value);
+			statement.execute();
+		}
+	}
+
+	private void delete(SQLiteDatabase database, HippyArray keys)
+	{
+		for (int keyStart = 0; keyStart < keys.size(); keyStart += MAX_SQL_KEYS)
+		{
+			int keyCount = Math.min(keys.size() - keyStart, MAX_SQL_KEYS);
+			database.delete(mSQLiteHelper.getTableName(), buildKeySelection(keyCount), buildKeySelectionArgs(keys, keyStart, keyCount));
+		}
+	}
+
 	@Override
 	public void getAllKeys(final Callback<HippyArray> callback)
 	{
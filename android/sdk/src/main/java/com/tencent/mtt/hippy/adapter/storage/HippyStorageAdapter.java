@@ -52,6 +52,20 @@ public interface HippyStorageAdapter
 
     void destroyIfNeed();
 
+    /**
+     * optional, implemented by the adapters that can apply sets and removals together. Checked with instanceof,
+     * see CachingStorageAdapter
+     */
+    interface MultiWrite
+    {
+        /**
+         * Insert keyValues and remove removedKeys in one transaction, either all of them are applied or none
+         * @param keyValues may be empty
+         * @param removedKeys may be empty, no key is in keyValues too
+         */
+        void multiWrite(List<HippyStorageKeyValue> keyValues, HippyArray removedKeys, Callback<Void> callback);
+    }
+
     interface Callback<T extends Object>
 	{
 		void onSuccess(T data);
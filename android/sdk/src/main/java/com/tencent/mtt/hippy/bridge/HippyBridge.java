@@ -18,6 +18,7 @@ package com.tencent.mtt.hippy.bridge;
 import android.content.res.AssetManager;
 
 import com.tencent.mtt.hippy.common.HippyArray;
+import com.tencent.mtt.hippy.utils.HippyBufferReader;
 
 public interface HippyBridge
 {
@@ -40,10 +41,19 @@ public interface HippyBridge
 
     public void callFunction(String action, byte[] bytes, int offset, int length, NativeCallback callback);
 
+	/**
+	 * call with params serialized as hippy-buffer (see HippyBuffer#build(Object, GrowByteBuffer))
+	 *
+	 * @return false if this engine can not take hippy-buffer params, the caller should fall back to json
+	 */
+	public boolean callFunctionWithBuffer(String action, byte[] bytes, int offset, int length, NativeCallback callback);
+
 	public static interface BridgeCallback
 	{
 		public void callNatives(String moduleName, String moduleFunc, String callId, HippyArray params);
 
+		public void callNatives(String moduleName, String moduleFunc, String callId, HippyBufferReader params);
+
 		public void reportException(String exception, String stackTrace);
 	}
 }
@@ -15,8 +15,13 @@
  */
 package com.tencent.mtt.hippy.bridge;
 
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.Process;
+import android.os.SystemClock;
 import android.util.Log;
 import com.tencent.mtt.hippy.HippyEngineContext;
+import com.tencent.mtt.hippy.adapter.monitor.HippyEngineMonitorAdapter;
 import com.tencent.mtt.hippy.devsupport.DevServerCallBack;
 import com.tencent.mtt.hippy.devsupport.DevServerConfig;
 import com.tencent.mtt.hippy.devsupport.DevSupportManager;
@@ -43,6 +48,9 @@ import com.tencent.mtt.hippy.utils.ArgumentUtils;
 import com.tencent.mtt.hippy.utils.FileUtils;
 import com.tencent.mtt.hippy.utils.LogUtils;
 import com.tencent.mtt.hippy.utils.HippyBuffer;
+import com.tencent.mtt.hippy.utils.HippyBufferReader;
+import com.tencent.mtt.hippy.utils.HippyTracer;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
 public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnReceiveDataListener
@@ -59,6 +67,7 @@ public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnRecei
 	}
 
 	private static volatile String				mCodeCacheRootDir;
+	private static volatile HippyCodeCacheManager	sCodeCacheManager;
 	private long								mV8RuntimeId				= 0;
 	private BridgeCallback						mBridgeCallback;
 	private boolean								mInit						= false;
@@ -66,6 +75,7 @@ public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnRecei
 	private String                              mDebugServerHost;
 	private boolean								mSingleThreadMode			= false;
 	private boolean								mBridgeParamJson;
+	private boolean								mSupportBufferParams		= true;
 	private HippyBuffer                         mHippyBuffer;
 	private DebugWebSocketClient				mDebugWebSocketClient;
 	private String                              mDebugGobalConfig;
@@ -85,13 +95,17 @@ public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnRecei
 		{
 			++sBridgeNum;
 
-			if (mCodeCacheRootDir == null)
+			// the code cache manager is shared by all the engines of the process and created only once, it is
+			// published before the root dir, which the code cache paths check before they use it
+			if (sCodeCacheManager == null)
 			{
 				Context context = mContext.getGlobalConfigs().getContext();
 				File hippyFile = FileUtils.getHippyFile(context);
 				if (hippyFile != null)
 				{
-					this.mCodeCacheRootDir = hippyFile.getAbsolutePath() + File.separator + "codecache" + File.separator;
+					String codeCacheRootDir = hippyFile.getAbsolutePath() + File.separator + "codecache" + File.separator;
+					sCodeCacheManager = new HippyCodeCacheManager(context, new File(codeCacheRootDir), HippyCodeCacheManager.DEFAULT_MAX_BYTES);
+					mCodeCacheRootDir = codeCacheRootDir;
 				}
 			}
 
@@ -173,10 +187,13 @@ public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnRecei
 		if (!TextUtils.isEmpty(codeCacheTag) && !TextUtils.isEmpty(mCodeCacheRootDir))
 		{
 			LogUtils.e("HippyEngineMonitor", "runScriptFromFile ======core====== " + codeCacheTag + ", canUseCodeCache == " + canUseCodeCache);
-			String codeCacheDir = mCodeCacheRootDir + codeCacheTag + File.separator;
-			File file = new File(codeCacheDir);
-			LogUtils.d("HippyEngineMonitor", "codeCacheDir file size : " + (file.listFiles() != null ? file.listFiles().length : 0));
-			return runScriptFromFile(filePath, scriptName, canUseCodeCache, codeCacheDir, mV8RuntimeId, callback);
+			String entryName = sCodeCacheManager.getEntryName(codeCacheTag, filePath);
+			String codeCacheDir = mCodeCacheRootDir + entryName + File.separator;
+			int cacheResult = canUseCodeCache ? sCodeCacheManager.prepare(entryName) : -1;
+			long startTime = SystemClock.elapsedRealtime();
+			boolean result = runScriptFromFile(filePath, scriptName, canUseCodeCache, codeCacheDir, mV8RuntimeId, callback);
+			reportCodeCacheResult(cacheResult, codeCacheTag, startTime);
+			return result;
 		}
 		else
 		{
@@ -196,10 +213,13 @@ public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnRecei
 		if (!TextUtils.isEmpty(codeCacheTag) && !TextUtils.isEmpty(mCodeCacheRootDir))
 		{
 			LogUtils.e("HippyEngineMonitor", "runScriptFromAssets ======core====== " + codeCacheTag + ", canUseCodeCache == " + canUseCodeCache);
-			String codeCacheDir = mCodeCacheRootDir + codeCacheTag + File.separator;
-			File file = new File(codeCacheDir);
-			LogUtils.d("HippyEngineMonitor", "codeCacheDir file size : " + (file.listFiles() != null ? file.listFiles().length : 0));
-			return runScriptFromAssets(fileName, assetManager, canUseCodeCache, codeCacheDir, mV8RuntimeId, callback);
+			String entryName = sCodeCacheManager.getEntryName(codeCacheTag, URI_SCHEME_ASSETS + fileName);
+			String codeCacheDir = mCodeCacheRootDir + entryName + File.separator;
+			int cacheResult = canUseCodeCache ? sCodeCacheManager.prepare(entryName) : -1;
+			long startTime = SystemClock.elapsedRealtime();
+			boolean result = runScriptFromAssets(fileName, assetManager, canUseCodeCache, codeCacheDir, mV8RuntimeId, callback);
+			reportCodeCacheResult(cacheResult, codeCacheTag, startTime);
+			return result;
 		}
 		else
 		{
@@ -219,10 +239,13 @@ public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnRecei
 		if (!TextUtils.isEmpty(codeCacheTag) && !TextUtils.isEmpty(mCodeCacheRootDir))
 		{
 			LogUtils.e("HippyEngineMonitor", "runScriptFromAssets ======core====== " + codeCacheTag + ", canUseCodeCache == " + canUseCodeCache);
-			String codeCacheDir = mCodeCacheRootDir + codeCacheTag + File.separator;
-			File file = new File(codeCacheDir);
-			LogUtils.d("HippyEngineMonitor", "codeCacheDir file size : " + (file.listFiles() != null ? file.listFiles().length : 0));
-			return runScriptFromUri(uri, assetManager, canUseCodeCache, codeCacheDir, mV8RuntimeId, callback);
+			String entryName = sCodeCacheManager.getEntryName(codeCacheTag, uri);
+			String codeCacheDir = mCodeCacheRootDir + entryName + File.separator;
+			int cacheResult = canUseCodeCache ? sCodeCacheManager.prepare(entryName) : -1;
+			long startTime = SystemClock.elapsedRealtime();
+			boolean result = runScriptFromUri(uri, assetManager, canUseCodeCache, codeCacheDir, mV8RuntimeId, callback);
+			reportCodeCacheResult(cacheResult, codeCacheTag, startTime);
+			return result;
 		}
 		else
 		{
@@ -231,6 +254,21 @@ public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnRecei
 		}
 	}
 
+	private void reportCodeCacheResult(int cacheResult, String codeCacheTag, long startTime)
+	{
+		if (cacheResult < 0 || mContext == null)
+		{
+			return;
+		}
+		int runScriptTime = (int) (SystemClock.elapsedRealtime() - startTime);
+		LogUtils.d("HippyEngineMonitor", "code cache " + codeCacheTag + " result " + cacheResult + ", run script " + runScriptTime + "ms");
+		HippyEngineMonitorAdapter monitorAdapter = mContext.getGlobalConfigs().getEngineMonitorAdapter();
+		if (monitorAdapter instanceof HippyEngineMonitorAdapter.CodeCacheMonitor)
+		{
+			((HippyEngineMonitorAdapter.CodeCacheMonitor) monitorAdapter).reportCodeCacheResult(cacheResult, codeCacheTag, runScriptTime);
+		}
+	}
+
 	@Override
 	public void callFunction(String action, String params, NativeCallback callback)
 	{
@@ -252,6 +290,31 @@ public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnRecei
         callFunction(action, bytes, offset, length, mV8RuntimeId, callback);
     }
 
+	@Override
+	public boolean callFunctionWithBuffer(String action, byte[] bytes, int offset, int length, NativeCallback callback)
+	{
+		if (mBridgeParamJson || !mSupportBufferParams)
+		{
+			return false;
+		}
+		if (!mInit || TextUtils.isEmpty(action) || bytes == null || length <= 0 || offset < 0 || offset + length > bytes.length)
+		{
+			return true;
+		}
+		try
+		{
+			callFunctionWithBuffer(action, bytes, offset, length, mV8RuntimeId, callback);
+		}
+		catch (UnsatisfiedLinkError e)
+		{
+			// the loaded hippybridge library predates hippy-buffer calls, stay on json for this engine
+			LogUtils.e("hippy_bridge", "callFunctionWithBuffer not supported by native library", e);
+			mSupportBufferParams = false;
+			return false;
+		}
+		return true;
+	}
+
 	@Override
     public void onDestroy() {
 		if (mDebugWebSocketClient != null) {
@@ -308,6 +371,8 @@ public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnRecei
 
 	public native void callFunction(String action, byte[] params, int offset, int length, long V8RuntimId, NativeCallback callback);
 
+	public native void callFunctionWithBuffer(String action, byte[] params, int offset, int length, long V8RuntimId, NativeCallback callback);
+
 	public native void runNativeRunnable(String codeCacheFile, long nativeRunnableId, long V8RuntimId, NativeCallback callback);
 
 	public native String getCrashMessage();
@@ -318,11 +383,38 @@ public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnRecei
 
 		if (mBridgeCallback != null)
 		{
+			long traceStart = mContext != null ? mContext.getTracer().begin() : 0;
 			HippyArray hippyParam = bytesToArgument(params);
+			if (traceStart != 0)
+			{
+				mContext.getTracer().end(HippyTracer.STAGE_BRIDGE_PARSE, traceStart, moduleName, moduleFunc, params != null ? params.length : 0, 0, 0);
+			}
 			mBridgeCallback.callNatives(moduleName, moduleFunc, callId, hippyParam);
 		}
 	}
 
+	/**
+	 * called by the native side in HippyBuffer mode. params wraps the native serialization
+	 * buffer directly and is only valid during this call, so it is copied once into a pooled
+	 * heap buffer and handed over as a lazy reader instead of being built into a HippyArray here.
+	 * The args are decoded when the method is invoked, that is where the bridge parse stage is traced
+	 */
+	public void callNatives(String moduleName, String moduleFunc, String callId, ByteBuffer params)
+	{
+		LogUtils.d("jni_callback", "callNatives [moduleName:" + moduleName + " , moduleFunc: " + moduleFunc + "]");
+
+		if (mBridgeCallback != null)
+		{
+			if (params == null || !params.hasRemaining())
+			{
+				mBridgeCallback.callNatives(moduleName, moduleFunc, callId, new HippyArray());
+				return;
+			}
+			HippyBufferReader reader = HippyBufferReader.obtain(params);
+			mBridgeCallback.callNatives(moduleName, moduleFunc, callId, reader);
+		}
+	}
+
 	public void InspectorChannel(byte[] params)
 	{
 		if (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN) {
@@ -423,13 +515,16 @@ public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnRecei
 
 	public static void deleteCodeCache(String fileName)
 	{
+		if (mCodeCacheRootDir == null)
+		{
+			return;
+		}
 		File codeCacheDir = new File(mCodeCacheRootDir);
 		String deleteFilesName[] = codeCacheDir.list(new CodeCacheFilter(fileName));
 
 		if (deleteFilesName != null && deleteFilesName.length > 0)
 		{
-			File file = new File(mCodeCacheRootDir + File.separator + deleteFilesName[0], fileName);
-			file.delete();
+			sCodeCacheManager.remove(deleteFilesName[0]);
 		}
 	}
 
@@ -447,7 +542,32 @@ public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnRecei
 		}
 	}
 
+	/**
+	 * called by the native side when a code cache can be written. It is written once the ui thread is idle, so
+	 * that it does not compete with the first frames of the page for the cpu
+	 */
 	public void postCodeCacheRunnable(String codeCacheFile, long nativeRunnableId)
+	{
+		final CodeCacheRunnable runnable = new CodeCacheRunnable(codeCacheFile, nativeRunnableId);
+		UIThreadUtils.runOnUiThread(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				Looper.myQueue().addIdleHandler(new MessageQueue.IdleHandler()
+				{
+					@Override
+					public boolean queueIdle()
+					{
+						executeCodeCacheRunnable(runnable);
+						return false;
+					}
+				});
+			}
+		});
+	}
+
+	private static void executeCodeCacheRunnable(CodeCacheRunnable runnable)
 	{
 		try
 		{
@@ -455,7 +575,7 @@ public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnRecei
 			{
 				if (mCodeCacheThreadExecutor != null)
 				{
-					mCodeCacheThreadExecutor.execute(new CodeCacheRunnable(codeCacheFile, nativeRunnableId));
+					mCodeCacheThreadExecutor.execute(runnable);
 				}
 			}
 		}
@@ -517,13 +637,25 @@ public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnRecei
 				{
 					return;
 				}
+				Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
 				File dir = new File(mPath.substring(0, mPath.lastIndexOf(File.separator)));
+				HippyCodeCacheManager manager = sCodeCacheManager;
+				boolean managed = manager != null && mCodeCacheRootDir != null
+						&& new File(mCodeCacheRootDir).getAbsoluteFile().equals(dir.getAbsoluteFile().getParentFile());
+				if (managed)
+				{
+					manager.onGenerateStart(dir.getName());
+				}
 				deleteDirWithFile(dir);
 				dir.mkdirs();
 				File file = new File(mPath);
 				file.createNewFile();
 
 				runNativeRunnable(mPath, mNativeId, mV8RuntimeId, null);
+				if (managed)
+				{
+					manager.onGenerateEnd(dir.getName(), file);
+				}
 			}
 			catch (Throwable e)
 			{
@@ -533,20 +665,7 @@ public class HippyBridgeImpl implements HippyBridge, DevRemoteDebugProxy.OnRecei
 
 		public void deleteDirWithFile(File dir)
 		{
-			if (dir == null || !dir.exists() || !dir.isDirectory())
-				return;
-			File[] childs = dir.listFiles();
-			if (childs != null)
-			{
-				for (File file : childs)
-				{
-					if (file.isFile())
-						file.delete();
-					else if (file.isDirectory())
-						deleteDirWithFile(file);
-				}
-			}
-			dir.delete();
+			HippyCodeCacheManager.deleteDir(dir);
 		}
 	}
 
@@ -23,6 +23,8 @@ import com.tencent.mtt.hippy.common.Callback;
 import com.tencent.mtt.hippy.common.HippyJsException;
 import com.tencent.mtt.hippy.common.HippyMap;
 
+import java.util.List;
+
 
 /**
  * FileName: HippyBridgeManager
@@ -47,6 +49,11 @@ public interface HippyBridgeManager
 
 	void execCallback(Object params);
 
+	/**
+	 * several callbacks that are due at the same time, delivered to js in one function call
+	 */
+	void execCallbacks(List<Object> paramsList);
+
 	void destroyBridge(Callback<Boolean> callback);
 
 	void destroy();
@@ -29,13 +29,18 @@ import com.tencent.mtt.hippy.common.Callback;
 import com.tencent.mtt.hippy.common.HippyArray;
 import com.tencent.mtt.hippy.common.HippyJsException;
 import com.tencent.mtt.hippy.common.HippyMap;
+import com.tencent.mtt.hippy.dom.HippyChoreographer;
+import com.tencent.mtt.hippy.dom.ICSChoreographer;
 import com.tencent.mtt.hippy.modules.HippyModuleManager;
 import com.tencent.mtt.hippy.utils.ArgumentUtils;
 import com.tencent.mtt.hippy.utils.DimensionsUtil;
 import com.tencent.mtt.hippy.utils.GrowByteBuffer;
+import com.tencent.mtt.hippy.utils.HippyBuffer;
+import com.tencent.mtt.hippy.utils.HippyBufferReader;
 import com.tencent.mtt.hippy.utils.UIThreadUtils;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class HippyBridgeManagerImpl implements HippyBridgeManager, HippyBridge.BridgeCallback, Handler.Callback
 {
@@ -50,12 +55,11 @@ public class HippyBridgeManagerImpl implements HippyBridgeManager, HippyBridge.B
 	static final int		FUNCTION_ACTION_DESTROY_INSTANCE	= 4;
 	static final int		FUNCTION_ACTION_CALLBACK			= 5;
 	static final int		FUNCTION_ACTION_CALL_JSMODULE		= 6;
+	static final int		FUNCTION_ACTION_CALL_BATCH			= 7;
 	public static final int	BRIDGE_TYPE_SINGLE_THREAD			= 2;
 	public static final int	BRIDGE_TYPE_NORMAL					= 1;
 	public static final int	BRIDGE_TYPE_REMOTE_DEBUG			= 0;
 
-	private static final boolean	USE_NEW_COMM_TYPE			= false;
-
 	HippyEngineContext		mContext;
 	HippyBundleLoader		mCoreBundleLoader;
 	HippyBridge				mHippyBridge;
@@ -65,15 +69,30 @@ public class HippyBridgeManagerImpl implements HippyBridgeManager, HippyBridge.B
 	boolean					mEnableHippyBuffer					= false;
 	ArrayList<String>		mLoadedBundleInfo					= null;
 	private GrowByteBuffer  mGrowByteBuffer;
+	private HippyBuffer     mHippyBuffer;
+	private boolean         mCallFunctionWithBuffer;
 	private StringBuilder   mStringBuilder;
 	private boolean         mIsDevModule                        = false;
 	private String          mDebugServerHost;
 	private int				mGroupId;
 	private HippyThirdPartyAdapter mThirdPartyAdapter;
 	HippyEngine.ModuleListener mLoadModuleListener;
+	// null unless event coalescing is enabled, js module calls and callbacks are then sent once per frame
+	private HippyJsCallQueue	mJsCallQueue;
+	// set on the js thread when the bridge is initialized, before mIsInit, and read by the threads posting calls
+	private volatile ICSChoreographer	mJsChoreographer;
+	private final HippyChoreographer.FrameCallback mFlushJsCallsCallback = new HippyChoreographer.FrameCallback()
+	{
+		@Override
+		public void doFrame(long frameTimeNanos)
+		{
+			flushJsCalls();
+		}
+	};
 
 	public HippyBridgeManagerImpl(HippyEngineContext context, HippyBundleLoader coreBundleLoader, int bridgeType,
-			boolean enableHippyBuffer, boolean isDevModule, String debugServerHost, int groupId, HippyThirdPartyAdapter thirdPartyAdapter)
+			boolean enableHippyBuffer, boolean enableEventCoalescing, boolean isDevModule, String debugServerHost, int groupId,
+			HippyThirdPartyAdapter thirdPartyAdapter)
 	{
 		this.mContext = context;
 		this.mCoreBundleLoader = coreBundleLoader;
@@ -84,13 +103,16 @@ public class HippyBridgeManagerImpl implements HippyBridgeManager, HippyBridge.B
 		this.mGroupId = groupId;
 		mThirdPartyAdapter = thirdPartyAdapter;
 
-		if (USE_NEW_COMM_TYPE)
+		mStringBuilder = new StringBuilder(1024);
+		mCallFunctionWithBuffer = enableHippyBuffer;
+		if (enableHippyBuffer)
 		{
+			mHippyBuffer = new HippyBuffer();
 			mGrowByteBuffer = new GrowByteBuffer(1024);
 		}
-		else
+		if (enableEventCoalescing)
 		{
-			mStringBuilder = new StringBuilder(1024);
+			mJsCallQueue = new HippyJsCallQueue();
 		}
 	}
 
@@ -107,6 +129,11 @@ public class HippyBridgeManagerImpl implements HippyBridgeManager, HippyBridge.B
 					final com.tencent.mtt.hippy.common.Callback<Boolean> callback = (com.tencent.mtt.hippy.common.Callback<Boolean>) msg.obj;
 					try
 					{
+						if (mJsCallQueue != null)
+						{
+							// handleMessage runs on the js thread, the flush callbacks are posted to its choreographer
+							mJsChoreographer = ICSChoreographer.getInstance();
+						}
 						mHippyBridge = new HippyBridgeImpl(mContext, HippyBridgeManagerImpl.this,
 								mBridgeType == BRIDGE_TYPE_SINGLE_THREAD, !mEnableHippyBuffer, this.mIsDevModule, this.mDebugServerHost);
 						
@@ -206,6 +233,9 @@ public class HippyBridgeManagerImpl implements HippyBridgeManager, HippyBridge.B
 						return true;
 					}
 
+					// keep the order with the calls that are still waiting for the next frame
+					flushJsCalls();
+
 					switch (msg.arg2)
 					{
 						case FUNCTION_ACTION_LOAD_INSTANCE:
@@ -235,63 +265,31 @@ public class HippyBridgeManagerImpl implements HippyBridgeManager, HippyBridge.B
 						case FUNCTION_ACTION_CALL_JSMODULE:
 							action = "callJsModule";
 							break;
+						case FUNCTION_ACTION_CALL_BATCH:
+							action = HippyJsCallQueue.ACTION_CALL_BATCH;
+							break;
 					}
 
-					if (USE_NEW_COMM_TYPE)
+					NativeCallback callback = null;
+					if (TextUtils.equals(action, "loadInstance"))
 					{
-						// 新的通信方式
-						ArgumentUtils.covertObject2JsonByte(mGrowByteBuffer, msg.obj);
-
-						if (TextUtils.equals(action, "loadInstance"))
-						{
-							mHippyBridge.callFunction(action, mGrowByteBuffer.getValue(), 0, mGrowByteBuffer.length(), new NativeCallback(mHandler, Message.obtain(msg), action) {
-								@Override
-								public void Call(long value, Message msg, String action) {
-									if (msg.obj instanceof HippyMap)
+						callback = new NativeCallback(mHandler, Message.obtain(msg), action) {
+							@Override
+							public void Call(long value, Message msg, String action) {
+								if (msg.obj instanceof HippyMap)
+								{
+									int instanceId = ((HippyMap) msg.obj).getInt("id");
+									HippyRootView rootView = mContext.getInstance(instanceId);
+									if (rootView != null && rootView.getTimeMonitor() != null)
 									{
-										int instanceId = ((HippyMap) msg.obj).getInt("id");
-										HippyRootView rootView = mContext.getInstance(instanceId);
-										if (rootView != null && rootView.getTimeMonitor() != null)
-										{
-											rootView.getTimeMonitor().startEvent(HippyEngineMonitorEvent.MODULE_LOAD_EVENT_CREATE_VIEW);
-										}
+										rootView.getTimeMonitor().startEvent(HippyEngineMonitorEvent.MODULE_LOAD_EVENT_CREATE_VIEW);
 									}
 								}
-							});
-						}
-						else
-						{
-							mHippyBridge.callFunction(action, mGrowByteBuffer.getValue(), 0, mGrowByteBuffer.length(), null);
-						}
+							}
+						};
 					}
-					else
-					{
-						// 老的通信方式
-                        mStringBuilder.setLength(0);
-						String json = ArgumentUtils.objectToJsonOpt(msg.obj, mStringBuilder);
 
-						if (TextUtils.equals(action, "loadInstance"))
-						{
-							mHippyBridge.callFunction(action, json, new NativeCallback(mHandler, Message.obtain(msg), action) {
-								@Override
-								public void Call(long value, Message msg, String action) {
-									if (msg.obj instanceof HippyMap)
-									{
-										int instanceId = ((HippyMap) msg.obj).getInt("id");
-										HippyRootView rootView = mContext.getInstance(instanceId);
-										if (rootView != null && rootView.getTimeMonitor() != null)
-										{
-											rootView.getTimeMonitor().startEvent(HippyEngineMonitorEvent.MODULE_LOAD_EVENT_CREATE_VIEW);
-										}
-									}
-								}
-							});
-						}
-						else
-						{
-							mHippyBridge.callFunction(action, json, null);
-						}
-					}
+					callFunction(action, msg.obj, callback);
 					return true;
 				}
 				case MSG_CODE_DESTROY_BRIDGE:
@@ -326,6 +324,45 @@ public class HippyBridgeManagerImpl implements HippyBridgeManager, HippyBridge.B
 		return false;
 	}
 
+	private void callFunction(String action, Object params, NativeCallback callback)
+	{
+		// hippy-buffer is negotiated per engine, json is the fallback when the engine
+		// runs in json mode or the params can not be serialized
+		boolean handled = false;
+		if (mCallFunctionWithBuffer && mHippyBuffer.build(params, mGrowByteBuffer))
+		{
+			handled = mHippyBridge.callFunctionWithBuffer(action, mGrowByteBuffer.getValue(), 0, mGrowByteBuffer.length(), callback);
+			if (!handled)
+			{
+				mCallFunctionWithBuffer = false;
+			}
+		}
+
+		if (!handled)
+		{
+			mStringBuilder.setLength(0);
+			String json = ArgumentUtils.objectToJsonOpt(params, mStringBuilder);
+			mHippyBridge.callFunction(action, json, callback);
+		}
+	}
+
+	/**
+	 * js thread only, sends everything the js call queue collected since the last frame as one function call
+	 */
+	void flushJsCalls()
+	{
+		if (mJsCallQueue == null || !mIsInit)
+		{
+			return;
+		}
+
+		HippyArray batch = mJsCallQueue.drain();
+		if (batch != null && batch.size() > 0)
+		{
+			callFunction(HippyJsCallQueue.ACTION_CALL_BATCH, batch, null);
+		}
+	}
+
 	@Override
 	public void initBridge(Callback<Boolean> callback)
 	{
@@ -449,10 +486,56 @@ public class HippyBridgeManagerImpl implements HippyBridgeManager, HippyBridge.B
 			return;
 		}
 
+		if (mJsCallQueue != null)
+		{
+			if (mJsCallQueue.offerCallback(params))
+			{
+				mJsChoreographer.postFrameCallback(mFlushJsCallsCallback);
+			}
+			return;
+		}
+
 		Message message = mHandler.obtainMessage(MSG_CODE_CALL_FUNCTION, 0, FUNCTION_ACTION_CALLBACK, params);
 		mHandler.sendMessage(message);
 	}
 
+	@Override
+	public void execCallbacks(List<Object> paramsList)
+	{
+		if (!mIsInit || paramsList == null || paramsList.isEmpty())
+		{
+			return;
+		}
+
+		if (paramsList.size() == 1)
+		{
+			execCallback(paramsList.get(0));
+			return;
+		}
+
+		if (mJsCallQueue != null)
+		{
+			boolean wasEmpty = false;
+			for (Object params : paramsList)
+			{
+				wasEmpty |= mJsCallQueue.offerCallback(params);
+			}
+			if (wasEmpty)
+			{
+				mJsChoreographer.postFrameCallback(mFlushJsCallsCallback);
+			}
+			return;
+		}
+
+		HippyArray batch = new HippyArray();
+		for (Object params : paramsList)
+		{
+			batch.pushMap(HippyJsCallQueue.newCall(HippyJsCallQueue.ACTION_CALLBACK, params));
+		}
+		Message message = mHandler.obtainMessage(MSG_CODE_CALL_FUNCTION, 0, FUNCTION_ACTION_CALL_BATCH, batch);
+		mHandler.sendMessage(message);
+	}
+
 	@Override
 	public void destroyBridge(Callback<Boolean> callback) {
 		mHandler = new Handler(mContext.getThreadExecutor().getJsThread().getLooper(), this);
@@ -469,6 +552,14 @@ public class HippyBridgeManagerImpl implements HippyBridgeManager, HippyBridge.B
 			mHandler.removeMessages(MSG_CODE_RUN_BUNDLE);
 			mHandler.removeMessages(MSG_CODE_CALL_FUNCTION);
 		}
+		if (mJsCallQueue != null)
+		{
+			mJsCallQueue.clear();
+			if (mJsChoreographer != null)
+			{
+				mJsChoreographer.removeFrameCallback(mFlushJsCallsCallback);
+			}
+		}
 	}
 
 	@Override
@@ -478,6 +569,16 @@ public class HippyBridgeManagerImpl implements HippyBridgeManager, HippyBridge.B
 		{
 			return;
 		}
+
+		if (mJsCallQueue != null)
+		{
+			if (mJsCallQueue.offerJsModuleCall(moduleName, methodName, param))
+			{
+				mJsChoreographer.postFrameCallback(mFlushJsCallsCallback);
+			}
+			return;
+		}
+
 		HippyMap map = new HippyMap();
 		map.pushString("moduleName", moduleName);
 		map.pushString("methodName", methodName);
@@ -501,6 +602,21 @@ public class HippyBridgeManagerImpl implements HippyBridgeManager, HippyBridge.B
 		}
 	}
 
+	@Override
+	public void callNatives(String moduleName, String moduleFunc, String callId, HippyBufferReader params)
+	{
+		if (mIsInit && mContext != null && mContext.getModuleManager() != null)
+		{
+			HippyModuleManager manager = mContext.getModuleManager();
+			HippyCallNativeParams callNativeParams = HippyCallNativeParams.obtain(moduleName, moduleFunc, callId, params);
+			manager.callNatives(callNativeParams);
+		}
+		else
+		{
+			params.release();
+		}
+	}
+
 	@Override
 	public void reportException(String exception, String stackTrace)
 	{
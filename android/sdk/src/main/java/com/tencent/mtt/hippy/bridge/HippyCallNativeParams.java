@@ -16,6 +16,7 @@
 package com.tencent.mtt.hippy.bridge;
 
 import com.tencent.mtt.hippy.common.HippyArray;
+import com.tencent.mtt.hippy.utils.HippyBufferReader;
 import com.tencent.mtt.supportui.utils.struct.Pools;
 
 /**
@@ -33,6 +34,10 @@ public class HippyCallNativeParams
 	public String														mModuleFunc;
 	public String														mCallId;
 	public HippyArray													mParams;
+	/**
+	 * set instead of mParams when the arguments come as a hippy-buffer, see {@link HippyBufferReader}
+	 */
+	public HippyBufferReader											mParamsReader;
 
 	public static HippyCallNativeParams obtain(String moduleName, String moduleFunc, String callId, HippyArray params)
 	{
@@ -45,6 +50,13 @@ public class HippyCallNativeParams
 		return instance;
 	}
 
+	public static HippyCallNativeParams obtain(String moduleName, String moduleFunc, String callId, HippyBufferReader params)
+	{
+		HippyCallNativeParams instance = obtain(moduleName, moduleFunc, callId, (HippyArray) null);
+		instance.mParamsReader = params;
+		return instance;
+	}
+
 	private void init(String moduleName, String moduleFunc, String callId, HippyArray params)
 	{
 		this.mModuleName = moduleName;
@@ -56,6 +68,11 @@ public class HippyCallNativeParams
 	public void onDispose()
 	{
 		mParams = null;
+		if (mParamsReader != null)
+		{
+			mParamsReader.release();
+			mParamsReader = null;
+		}
 		INSTANCE_POOL.release(this);
 	}
 }
@@ -0,0 +1,447 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.bridge;
+
+import android.content.Context;
+import android.content.pm.PackageInfo;
+import com.tencent.mtt.hippy.adapter.monitor.HippyEngineMonitorAdapter;
+import com.tencent.mtt.hippy.utils.LogUtils;
+import com.tencent.mtt.hippy.utils.MD5Utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+/**
+ * FileName: HippyCodeCacheManager
+ * Description：manages the v8 code cache directories under the code cache root. An entry is the directory of a
+ * bundle, named after its code cache tag and a hash of the bundle (path, and size and time for files) and of the
+ * app version, which changes with the engine shipped in it, so a changed bundle or engine never reads a stale
+ * cache. Next to every directory a meta file (.meta) keeps the length and CRC32 of the cache file, a cache
+ * that does not match it is deleted before the bundle runs. The least recently used entries are deleted beyond
+ * maxBytes, the access order is kept in the last modified time of the meta files. Directories without a meta
+ * file are left overs of older versions or of an interrupted generation and are deleted. Thread safe.
+ * History：
+ */
+public class HippyCodeCacheManager
+{
+	public static final long					DEFAULT_MAX_BYTES	= 32 * 1024 * 1024;
+
+	private static final String					TAG					= "HippyCodeCacheManager";
+	private static final int					META_VERSION		= 1;
+	private static final String					META_SUFFIX			= ".meta";
+	private static final String					TMP_SUFFIX			= ".tmp";
+
+	private final File							mRootDir;
+	private final long							mMaxBytes;
+	private final String						mAppVersion;
+	// entry name -> size of the directory and its meta file, in access order
+	private final LinkedHashMap<String, Long>	mEntries			= new LinkedHashMap<>(16, 0.75f, true);
+	// the entries whose cache file is being written by the engine
+	private final HashSet<String>				mGenerating			= new HashSet<>();
+	private long								mSize				= 0;
+	private boolean								mInitialized		= false;
+
+	private final AtomicInteger					mHitCount			= new AtomicInteger();
+	private final AtomicInteger					mMissCount			= new AtomicInteger();
+	private final AtomicInteger					mInvalidCount		= new AtomicInteger();
+
+	public HippyCodeCacheManager(Context context, File rootDir, long maxBytes)
+	{
+		mRootDir = rootDir;
+		mMaxBytes = maxBytes;
+		mAppVersion = getAppVersion(context);
+	}
+
+	public int getHitCount()
+	{
+		return mHitCount.get();
+	}
+
+	public int getMissCount()
+	{
+		return mMissCount.get();
+	}
+
+	/**
+	 * @return the number of caches which failed the checksum and were deleted
+	 */
+	public int getInvalidCount()
+	{
+		return mInvalidCount.get();
+	}
+
+	public synchronized long getSizeBytes()
+	{
+		init();
+		return mSize;
+	}
+
+	/**
+	 * @param uri the uri of the bundle as given to runScriptFromUri, or its path
+	 * @return the name of the directory of the code cache of the bundle, relative to the root
+	 */
+	public String getEntryName(String codeCacheTag, String uri)
+	{
+		StringBuilder identity = new StringBuilder(uri).append('|').append(mAppVersion);
+		String path = uri.startsWith(HippyBridge.URI_SCHEME_FILE) ? uri.substring(HippyBridge.URI_SCHEME_FILE.length()) : uri;
+		File file = new File(path);
+		if (file.isFile())
+		{
+			// bundles in the apk change with the app version only, the downloaded ones are replaced in place
+			identity.append('|').append(file.length()).append('|').append(file.lastModified());
+		}
+		String hash = MD5Utils.getMD5(identity.toString());
+		return hash != null ? codeCacheTag + "_" + hash.substring(0, 16) : codeCacheTag;
+	}
+
+	/**
+	 * checks the cache of the entry before a bundle is run with it, a cache that fails the checksum is deleted so
+	 * that the engine compiles the bundle and writes a new one
+	 *
+	 * @return one of HippyEngineMonitorAdapter.CODE_CACHE_RESULT_
+	 */
+	public int prepare(String entryName)
+	{
+		File dir = new File(mRootDir, entryName);
+		File cacheFile;
+		Meta meta;
+		synchronized (this)
+		{
+			init();
+			File[] files = dir.listFiles();
+			if (mGenerating.contains(entryName) || files == null || files.length == 0)
+			{
+				mMissCount.incrementAndGet();
+				return HippyEngineMonitorAdapter.CODE_CACHE_RESULT_MISS;
+			}
+			meta = readMeta(entryName);
+			cacheFile = meta != null && files.length == 1 ? new File(dir, meta.mFileName) : null;
+		}
+
+		// the checksum is computed out of the lock, the entry is not touched by other engines meanwhile but they
+		// can look up other bundles
+		boolean valid = cacheFile != null && cacheFile.length() == meta.mLength && computeCrc(cacheFile) == meta.mCrc;
+		synchronized (this)
+		{
+			if (!valid)
+			{
+				LogUtils.e(TAG, "invalid code cache " + entryName);
+				remove(entryName);
+				mInvalidCount.incrementAndGet();
+				return HippyEngineMonitorAdapter.CODE_CACHE_RESULT_INVALID;
+			}
+			mEntries.get(entryName);
+			new File(mRootDir, entryName + META_SUFFIX).setLastModified(System.currentTimeMillis());
+			mHitCount.incrementAndGet();
+			return HippyEngineMonitorAdapter.CODE_CACHE_RESULT_HIT;
+		}
+	}
+
+	/**
+	 * called before the engine writes a new cache of the entry, the old one is deleted
+	 */
+	public synchronized void onGenerateStart(String entryName)
+	{
+		init();
+		remove(entryName);
+		mGenerating.add(entryName);
+	}
+
+	/**
+	 * called once the engine has written cacheFile, its checksum is recorded and the entries beyond maxBytes are
+	 * deleted
+	 */
+	public void onGenerateEnd(String entryName, File cacheFile)
+	{
+		File metaTmp = new File(mRootDir, entryName + META_SUFFIX + TMP_SUFFIX);
+		try
+		{
+			if (!cacheFile.isFile() || cacheFile.length() == 0)
+			{
+				throw new IOException("no code cache written");
+			}
+			writeMeta(metaTmp, new Meta(cacheFile.getName(), cacheFile.length(), computeCrc(cacheFile)));
+			synchronized (this)
+			{
+				mGenerating.remove(entryName);
+				File meta = new File(mRootDir, entryName + META_SUFFIX);
+				if (!metaTmp.renameTo(meta))
+				{
+					throw new IOException("rename failed");
+				}
+				long size = getDirSize(new File(mRootDir, entryName)) + meta.length();
+				mEntries.put(entryName, size);
+				mSize += size;
+				trimToSize();
+			}
+		}
+		catch (IOException e)
+		{
+			LogUtils.e(TAG, "generate " + entryName + " error: " + e.getMessage());
+			metaTmp.delete();
+			synchronized (this)
+			{
+				mGenerating.remove(entryName);
+				remove(entryName);
+			}
+		}
+	}
+
+	public synchronized void remove(String entryName)
+	{
+		init();
+		Long size = mEntries.remove(entryName);
+		if (size != null)
+		{
+			mSize -= size;
+		}
+		new File(mRootDir, entryName + META_SUFFIX).delete();
+		deleteDir(new File(mRootDir, entryName));
+	}
+
+	private void init()
+	{
+		if (mInitialized)
+		{
+			return;
+		}
+		mInitialized = true;
+
+		File[] files = mRootDir.listFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		ArrayList<File> metas = new ArrayList<>();
+		for (File file : files)
+		{
+			String fileName = file.getName();
+			if (file.isDirectory())
+			{
+				if (!new File(mRootDir, fileName + META_SUFFIX).exists())
+				{
+					deleteDir(file);
+				}
+			}
+			else if (fileName.endsWith(META_SUFFIX))
+			{
+				metas.add(file);
+			}
+			else
+			{
+				file.delete();
+			}
+		}
+		// oldest first, the access order is kept in the last modified time of the meta files
+		File[] sorted = metas.toArray(new File[0]);
+		Arrays.sort(sorted, new Comparator<File>()
+		{
+			@Override
+			public int compare(File lhs, File rhs)
+			{
+				long diff = lhs.lastModified() - rhs.lastModified();
+				return diff < 0 ? -1 : (diff > 0 ? 1 : 0);
+			}
+		});
+		for (File meta : sorted)
+		{
+			String name = meta.getName().substring(0, meta.getName().length() - META_SUFFIX.length());
+			File dir = new File(mRootDir, name);
+			if (!dir.isDirectory())
+			{
+				meta.delete();
+				continue;
+			}
+			long size = getDirSize(dir) + meta.length();
+			mEntries.put(name, size);
+			mSize += size;
+		}
+		trimToSize();
+	}
+
+	private void trimToSize()
+	{
+		Iterator<Map.Entry<String, Long>> iterator = mEntries.entrySet().iterator();
+		while (mSize > mMaxBytes && iterator.hasNext())
+		{
+			Map.Entry<String, Long> eldest = iterator.next();
+			mSize -= eldest.getValue();
+			iterator.remove();
+			new File(mRootDir, eldest.getKey() + META_SUFFIX).delete();
+			deleteDir(new File(mRootDir, eldest.getKey()));
+		}
+	}
+
+	private Meta readMeta(String entryName)
+	{
+		File file = new File(mRootDir, entryName + META_SUFFIX);
+		if (!file.isFile())
+		{
+			return null;
+		}
+		DataInputStream in = null;
+		try
+		{
+			in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+			if (in.readInt() != META_VERSION)
+			{
+				return null;
+			}
+			return new Meta(in.readUTF(), in.readLong(), in.readLong());
+		}
+		catch (IOException e)
+		{
+			LogUtils.e(TAG, "read meta of " + entryName + " error: " + e.getMessage());
+			return null;
+		}
+		finally
+		{
+			closeQuietly(in);
+		}
+	}
+
+	private static void writeMeta(File file, Meta meta) throws IOException
+	{
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+		try
+		{
+			out.writeInt(META_VERSION);
+			out.writeUTF(meta.mFileName);
+			out.writeLong(meta.mLength);
+			out.writeLong(meta.mCrc);
+		}
+		finally
+		{
+			out.close();
+		}
+	}
+
+	private static long computeCrc(File file)
+	{
+		InputStream in = null;
+		try
+		{
+			in = new FileInputStream(file);
+			CRC32 crc = new CRC32();
+			byte[] buffer = new byte[8192];
+			int count;
+			while ((count = in.read(buffer)) > 0)
+			{
+				crc.update(buffer, 0, count);
+			}
+			return crc.getValue();
+		}
+		catch (IOException e)
+		{
+			return -1;
+		}
+		finally
+		{
+			closeQuietly(in);
+		}
+	}
+
+	private static long getDirSize(File dir)
+	{
+		long size = 0;
+		File[] files = dir.listFiles();
+		if (files != null)
+		{
+			for (File file : files)
+			{
+				size += file.isDirectory() ? getDirSize(file) : file.length();
+			}
+		}
+		return size;
+	}
+
+	static void deleteDir(File dir)
+	{
+		if (dir == null || !dir.exists() || !dir.isDirectory())
+			return;
+		File[] childs = dir.listFiles();
+		if (childs != null)
+		{
+			for (File file : childs)
+			{
+				if (file.isFile())
+					file.delete();
+				else if (file.isDirectory())
+					deleteDir(file);
+			}
+		}
+		dir.delete();
+	}
+
+	private static void closeQuietly(InputStream in)
+	{
+		if (in != null)
+		{
+			try
+			{
+				in.close();
+			}
+			catch (IOException ignored)
+			{
+			}
+		}
+	}
+
+	// the engine is built into the app, a new engine comes with a new app version
+	private static String getAppVersion(Context context)
+	{
+		try
+		{
+			PackageInfo info = context.getPackageManager().getPackageInfo(context.getPackageName(), 0);
+			return info.versionCode + "_" + info.lastUpdateTime;
+		}
+		catch (Throwable e)
+		{
+			return "0";
+		}
+	}
+
+	private static class Meta
+	{
+		final String	mFileName;
+		final long		mLength;
+		final long		mCrc;
+
+		Meta(String fileName, long length, long crc)
+		{
+			mFileName = fileName;
+			mLength = length;
+			mCrc = crc;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.bridge;
+
+import com.tencent.mtt.hippy.common.HippyArray;
+import com.tencent.mtt.hippy.common.HippyMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * FileName: HippyJsCallQueue
+ * Description：collects the js module calls and callbacks of one frame so that they reach js as a single
+ * "callBatch" function call. High frequency events (onScroll, onLayout) are coalesced per view: a newer
+ * event drops the undelivered older one with the same view id and event name. onTouchMove is already sent once
+ * per view per frame by TouchMoveBatcher with the samples of the frame, it is kept so that no sample is lost.
+ * History：
+ */
+class HippyJsCallQueue
+{
+	static final String					ACTION_CALL_BATCH			= "callBatch";
+	static final String					ACTION_CALLBACK				= "callBack";
+
+	private static final String				EVENT_MODULE_NAME			= "EventDispatcher";
+	private static final String				METHOD_UI_COMPONENT_EVENT	= "receiveUIComponentEvent";
+	private static final String				EVENT_ON_SCROLL				= "onScroll";
+	private static final String				EVENT_ON_LAYOUT				= "onLayout";
+
+	// in arrival order, entries replaced by a newer coalesced event are set to null
+	private final ArrayList<HippyMap>		mPendingCalls				= new ArrayList<>();
+	private final HashMap<String, Integer>	mCoalesceIndex				= new HashMap<>();
+
+	/**
+	 * @return true if the queue was empty, the caller should schedule a flush then
+	 */
+	synchronized boolean offerJsModuleCall(String moduleName, String methodName, Object params)
+	{
+		HippyMap callObj = new HippyMap();
+		callObj.pushString("moduleName", moduleName);
+		callObj.pushString("methodName", methodName);
+		callObj.pushObject("params", params);
+		return offer("callJsModule", callObj, getCoalesceKey(moduleName, methodName, params));
+	}
+
+	synchronized boolean offerCallback(Object params)
+	{
+		return offer(ACTION_CALLBACK, params, null);
+	}
+
+	/**
+	 * @return the pending calls in arrival order, null if there is nothing to deliver
+	 */
+	synchronized HippyArray drain()
+	{
+		if (mPendingCalls.isEmpty())
+		{
+			return null;
+		}
+
+		HippyArray batch = new HippyArray();
+		for (HippyMap call : mPendingCalls)
+		{
+			if (call != null)
+			{
+				batch.pushMap(call);
+			}
+		}
+		mPendingCalls.clear();
+		mCoalesceIndex.clear();
+		return batch;
+	}
+
+	synchronized void clear()
+	{
+		mPendingCalls.clear();
+		mCoalesceIndex.clear();
+	}
+
+	private boolean offer(String action, Object callObj, String coalesceKey)
+	{
+		boolean wasEmpty = mPendingCalls.isEmpty();
+		if (coalesceKey != null)
+		{
+			// move the event to the tail, it must not overtake the calls that arrived after the stale one
+			Integer stale = mCoalesceIndex.put(coalesceKey, mPendingCalls.size());
+			if (stale != null)
+			{
+				mPendingCalls.set(stale, null);
+			}
+		}
+
+		mPendingCalls.add(newCall(action, callObj));
+		return wasEmpty;
+	}
+
+	/**
+	 * @return one entry of a {@link #ACTION_CALL_BATCH} call
+	 */
+	static HippyMap newCall(String action, Object params)
+	{
+		HippyMap call = new HippyMap();
+		call.pushString("action", action);
+		call.pushObject("params", params);
+		return call;
+	}
+
+	private static String getCoalesceKey(String moduleName, String methodName, Object params)
+	{
+		if (!EVENT_MODULE_NAME.equals(moduleName))
+		{
+			return null;
+		}
+
+		if (METHOD_UI_COMPONENT_EVENT.equals(methodName) && params instanceof HippyArray)
+		{
+			// [id, eventName, param], see EventDispatcher.receiveUIComponentEvent
+			HippyArray args = (HippyArray) params;
+			if (args.size() >= 2)
+			{
+				String eventName = args.getString(1);
+				if (EVENT_ON_SCROLL.equals(eventName) || EVENT_ON_LAYOUT.equals(eventName))
+				{
+					return args.getInt(0) + eventName;
+				}
+			}
+		}
+		return null;
+	}
+}
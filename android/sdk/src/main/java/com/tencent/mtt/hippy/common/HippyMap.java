@@ -18,7 +18,6 @@ package com.tencent.mtt.hippy.common;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -31,7 +30,7 @@ import java.util.Set;
 public class HippyMap
 {
 
-	private final HashMap<String, Object>	mDatas;
+	private final HippyMapStorage	mDatas;
 
 	@Override
 	public String toString() 
@@ -41,7 +40,7 @@ public class HippyMap
 
 	public HippyMap()
 	{
-		mDatas = new HashMap<>();
+		mDatas = new HippyMapStorage();
 	}
 
 	public boolean containsKey(String key)
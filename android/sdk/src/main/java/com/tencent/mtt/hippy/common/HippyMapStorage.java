@@ -0,0 +1,260 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.common;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * FileName: HippyMapStorage
+ * Description：the data of a {@link HippyMap}. Up to {@link #ARRAY_CAPACITY} entries live in two arrays in
+ * insertion order and are found by a linear scan, which compares by identity first: the keys decoded by
+ * HippyBuffer are interned, so they are the very instances of the NodeProps and style name constants. A
+ * larger map moves its entries into a HashMap for good. The views are live in both modes.
+ * History：
+ */
+final class HippyMapStorage extends AbstractMap<String, Object>
+{
+	static final int				ARRAY_CAPACITY		= 8;
+	private static final int		INITIAL_CAPACITY	= 4;
+
+	private String[]				mKeys;
+	private Object[]				mValues;
+	private int						mSize;
+	private HashMap<String, Object>	mLarge;
+	private Set<Entry<String, Object>>	mEntrySet;
+
+	@Override
+	public int size()
+	{
+		return mLarge != null ? mLarge.size() : mSize;
+	}
+
+	@Override
+	public boolean containsKey(Object key)
+	{
+		return mLarge != null ? mLarge.containsKey(key) : indexOf(key) >= 0;
+	}
+
+	@Override
+	public Object get(Object key)
+	{
+		if (mLarge != null)
+		{
+			return mLarge.get(key);
+		}
+		int index = indexOf(key);
+		return index >= 0 ? mValues[index] : null;
+	}
+
+	@Override
+	public Object put(String key, Object value)
+	{
+		if (mLarge != null)
+		{
+			return mLarge.put(key, value);
+		}
+
+		int index = indexOf(key);
+		if (index >= 0)
+		{
+			Object old = mValues[index];
+			mValues[index] = value;
+			return old;
+		}
+
+		if (mSize == ARRAY_CAPACITY)
+		{
+			mLarge = new HashMap<>(ARRAY_CAPACITY * 4);
+			for (int i = 0; i < mSize; i++)
+			{
+				mLarge.put(mKeys[i], mValues[i]);
+			}
+			mKeys = null;
+			mValues = null;
+			mSize = 0;
+			return mLarge.put(key, value);
+		}
+
+		if (mKeys == null)
+		{
+			mKeys = new String[INITIAL_CAPACITY];
+			mValues = new Object[INITIAL_CAPACITY];
+		}
+		else if (mSize == mKeys.length)
+		{
+			String[] keys = new String[ARRAY_CAPACITY];
+			Object[] values = new Object[ARRAY_CAPACITY];
+			System.arraycopy(mKeys, 0, keys, 0, mSize);
+			System.arraycopy(mValues, 0, values, 0, mSize);
+			mKeys = keys;
+			mValues = values;
+		}
+		mKeys[mSize] = key;
+		mValues[mSize] = value;
+		mSize++;
+		return null;
+	}
+
+	@Override
+	public Object remove(Object key)
+	{
+		if (mLarge != null)
+		{
+			return mLarge.remove(key);
+		}
+
+		int index = indexOf(key);
+		if (index < 0)
+		{
+			return null;
+		}
+		Object old = mValues[index];
+		removeAt(index);
+		return old;
+	}
+
+	@Override
+	public void clear()
+	{
+		mLarge = null;
+		mKeys = null;
+		mValues = null;
+		mSize = 0;
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet()
+	{
+		if (mEntrySet == null)
+		{
+			mEntrySet = new EntrySet();
+		}
+		return mEntrySet;
+	}
+
+	private int indexOf(Object key)
+	{
+		for (int i = 0; i < mSize; i++)
+		{
+			if (mKeys[i] == key)
+			{
+				return i;
+			}
+		}
+		if (key != null)
+		{
+			for (int i = 0; i < mSize; i++)
+			{
+				if (key.equals(mKeys[i]))
+				{
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	private void removeAt(int index)
+	{
+		int moved = mSize - index - 1;
+		if (moved > 0)
+		{
+			System.arraycopy(mKeys, index + 1, mKeys, index, moved);
+			System.arraycopy(mValues, index + 1, mValues, index, moved);
+		}
+		mSize--;
+		mKeys[mSize] = null;
+		mValues[mSize] = null;
+	}
+
+	private class EntrySet extends AbstractSet<Entry<String, Object>>
+	{
+		@Override
+		public int size()
+		{
+			return HippyMapStorage.this.size();
+		}
+
+		@Override
+		public void clear()
+		{
+			HippyMapStorage.this.clear();
+		}
+
+		@Override
+		public Iterator<Entry<String, Object>> iterator()
+		{
+			return mLarge != null ? mLarge.entrySet().iterator() : new ArrayIterator();
+		}
+	}
+
+	private class ArrayIterator implements Iterator<Entry<String, Object>>
+	{
+		private int	mNext			= 0;
+		private int	mLastReturned	= -1;
+
+		@Override
+		public boolean hasNext()
+		{
+			return mLarge == null && mNext < mSize;
+		}
+
+		@Override
+		public Entry<String, Object> next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			mLastReturned = mNext++;
+			return new ArrayEntry(mKeys[mLastReturned], mValues[mLastReturned]);
+		}
+
+		@Override
+		public void remove()
+		{
+			if (mLastReturned < 0 || mLarge != null)
+			{
+				throw new IllegalStateException();
+			}
+			removeAt(mLastReturned);
+			mNext = mLastReturned;
+			mLastReturned = -1;
+		}
+	}
+
+	private class ArrayEntry extends SimpleEntry<String, Object>
+	{
+		ArrayEntry(String key, Object value)
+		{
+			super(key, value);
+		}
+
+		@Override
+		public Object setValue(Object value)
+		{
+			// write through, the key is still there unless the map was changed behind the iterator
+			HippyMapStorage.this.put(getKey(), value);
+			return super.setValue(value);
+		}
+	}
+}
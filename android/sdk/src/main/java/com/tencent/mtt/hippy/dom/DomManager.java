@@ -33,14 +33,18 @@ import com.tencent.mtt.hippy.modules.Promise;
 import com.tencent.mtt.hippy.modules.javascriptmodules.EventDispatcher;
 import com.tencent.mtt.hippy.uimanager.DiffUtils;
 import com.tencent.mtt.hippy.uimanager.RenderManager;
+import com.tencent.mtt.hippy.utils.HippyTracer;
 import com.tencent.mtt.hippy.utils.LogUtils;
 import com.tencent.mtt.hippy.utils.PixelUtil;
 import com.tencent.mtt.hippy.utils.UIThreadUtils;
+import com.tencent.smtt.flexbox.FlexNode;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author: edsheng
@@ -50,22 +54,33 @@ import java.util.concurrent.CopyOnWriteArrayList;
 public class DomManager implements HippyInstanceLifecycleEventListener, HippyEngineLifecycleEventListener
 {
 	private static final String							TAG						= "DomManager";
+	// ui tasks run until this much time of the frame is used, the rest is deferred to the next frame
+	private static final long							UI_FRAME_BUDGET_NANOS	= 12 * 1000 * 1000;
+	// a frame that starts late still gets this slice, so a busy ui thread always makes progress
+	private static final long							UI_MIN_SLICE_NANOS		= 4 * 1000 * 1000;
 	protected final DispatchUIFrameCallback				mDispatchUIFrameCallback;
 	private final SparseBooleanArray					mTagsWithLayoutVisited	= new SparseBooleanArray();
-	protected volatile boolean							mIsDispatchUIFrameCallbackEnqueued;
+	protected final AtomicBoolean						mIsDispatchUIFrameCallbackEnqueued	= new AtomicBoolean(false);
 	protected boolean									mRenderBatchStarted		= false;
 	DomNodeRegistry										mNodeRegistry;
+	// dom thread only, handed over to the ui thread as a whole when the batch ends
 	ArrayList<IDomExecutor>								mUITasks;
 	ArrayList<IDomExecutor>								mPaddingNulUITasks;
-	ArrayList<IDomExecutor>								mDispatchRunnable		= new ArrayList<>();
-	Object												mDispatchLock			= new Object();
+	// dom thread -> ui thread hand-off, every element is a batch of tasks that were published together
+	final ConcurrentLinkedQueue<ArrayList<IDomExecutor>>	mPublishedUITasks		= new ConcurrentLinkedQueue<>();
+	// ui thread only, tasks taken from mPublishedUITasks that did not fit into the previous frames
+	final ArrayDeque<IDomExecutor>						mDispatchRunnable		= new ArrayDeque<>();
+	volatile UIFrameDispatchListener					mUIFrameDispatchListener;
 	DomUpdateManager									mDomStyleUpdateManager	= new DomUpdateManager();
 	RenderManager										mRenderManager			= null;
 	volatile CopyOnWriteArrayList<DomActionInterceptor>	mActionInterceptors;
 	LayoutHelper										mLayoutHelper			= null;
+	final TextLayoutCache								mTextLayoutCache		= new TextLayoutCache();
 	private HippyEngineContext							mContext;
 	private volatile boolean							mIsDestroyed			= false;
 	private volatile boolean							mEnginePaused			= false;
+	// the nodes created and not freed yet, every node holds native memory until it is freed
+	private volatile int								mLiveNodeCount			= 0;
 
 	public DomManager(HippyEngineContext context)
 	{
@@ -142,6 +157,7 @@ public class DomManager implements HippyInstanceLifecycleEventListener, HippyEng
 		if (view != null)
 		{
 			DomNode node = new StyleNode();
+			mLiveNodeCount++;
 			node.setId(instanceId);
 			node.setViewClassName(NodeProps.ROOT_NODE);
 			node.setStyleWidth(view.getWidth());
@@ -198,19 +214,29 @@ public class DomManager implements HippyInstanceLifecycleEventListener, HippyEng
 		mIsDestroyed = true;
 		if (mNodeRegistry != null)
 		{
+			int count = mNodeRegistry.getNodeCount();
+			for (int i = 0; i < count; i++)
+			{
+				freeNode(mNodeRegistry.getNodeAt(i));
+			}
 			mNodeRegistry.clear();
+			LogUtils.d(TAG, "clearDestroy free " + count + " nodes, live nodes " + mLiveNodeCount + ", live native nodes of all engines "
+					+ FlexNode.getLiveNativeNodeCount());
 		}
 		mLayoutHelper.release();
+		mTextLayoutCache.clear();
 		mContext.removeInstanceLifecycleEventListener(this);
 		mUITasks.clear();
 		mPaddingNulUITasks.clear();
 
 		mContext.removeEngineLifecycleEventListener(this);
 
-		mIsDispatchUIFrameCallbackEnqueued = false;
+		mPublishedUITasks.clear();
+		mIsDispatchUIFrameCallbackEnqueued.set(false);
 		if (UIThreadUtils.isOnUiThread())
 		{
 			HippyChoreographer.getInstance().removeFrameCallback(mDispatchUIFrameCallback);
+			mDispatchRunnable.clear();
 		}
 		else
 		{
@@ -220,11 +246,25 @@ public class DomManager implements HippyInstanceLifecycleEventListener, HippyEng
 				public void run()
 				{
 					HippyChoreographer.getInstance().removeFrameCallback(mDispatchUIFrameCallback);
+					mDispatchRunnable.clear();
 				}
 			});
 		}
 	}
 
+	/**
+	 * Called on the ui thread after every frame that had ui tasks to run.
+	 */
+	public interface UIFrameDispatchListener
+	{
+		void onUIFrameDispatched(int executedTasks, int deferredTasks, long costNanos);
+	}
+
+	public void setUIFrameDispatchListener(UIFrameDispatchListener listener)
+	{
+		mUIFrameDispatchListener = listener;
+	}
+
 	public void destroy()
 	{
 		mContext.getThreadExecutor().postOnDomThread(new Runnable()
@@ -339,6 +379,7 @@ public class DomManager implements HippyInstanceLifecycleEventListener, HippyEng
 			}
 
 			DomNode node = mContext.getRenderManager().createStyleNode(className, isVirtual, id);
+			mLiveNodeCount++;
 
 			node.setLazy(parentNode.isLazy() || mContext.getRenderManager().getControllerManager().isControllerLazy(className));
 			node.setProps(map);
@@ -381,17 +422,14 @@ public class DomManager implements HippyInstanceLifecycleEventListener, HippyEng
 				//this is create view ahead  in every doframe
 				if (!node.isLazy())
 				{
-					synchronized (mDispatchLock)
+					addDispatchTask(new IDomExecutor()
 					{
-						addDispatchTask(new IDomExecutor()
+						@Override
+						public void exec()
 						{
-							@Override
-							public void exec()
-							{
-								mRenderManager.createPreView(hippyRootView, id, nativeParentNode.getId(), childIndex.mIndex, className, newProps);
-							}
-						});
-					}
+							mRenderManager.createPreView(hippyRootView, id, nativeParentNode.getId(), childIndex.mIndex, className, newProps);
+						}
+					});
 				}
 
 				addUITask(new IDomExecutor()
@@ -428,6 +466,14 @@ public class DomManager implements HippyInstanceLifecycleEventListener, HippyEng
 		return false;
 	}
 
+	/**
+	 * the text layouts shared by the text nodes of the engine
+	 */
+	public TextLayoutCache getTextLayoutCache()
+	{
+		return mTextLayoutCache;
+	}
+
 	public void postWarmLayout(Layout layout)
 	{
 		if (mLayoutHelper != null)
@@ -440,6 +486,10 @@ public class DomManager implements HippyInstanceLifecycleEventListener, HippyEng
 	public void onEngineResume()
 	{
 		mEnginePaused = false;
+		if (!mPublishedUITasks.isEmpty() || !mDispatchRunnable.isEmpty())
+		{
+			scheduleDispatchUIFrame();
+		}
 	}
 
 	@Override
@@ -645,6 +695,21 @@ public class DomManager implements HippyInstanceLifecycleEventListener, HippyEng
 		mNodeRegistry.removeNode(node.getId());
 		LogUtils.d(TAG, "dom deleteNode  remove form mNodeRegistry node.getId() " + node.getId());
 		//		mContext.getGlobalConfigs().getLogAdapter().log(TAG,"dom deleteNode  remove form mNodeRegistry node.getId() " + node.getId());
+		freeNode(node);
+	}
+
+	private void freeNode(DomNode node)
+	{
+		node.free();
+		mLiveNodeCount--;
+	}
+
+	/**
+	 * @return the number of nodes of this engine whose native memory is not freed yet, for debugging leaks
+	 */
+	public int getLiveNodeCount()
+	{
+		return mLiveNodeCount;
 	}
 
 	public void deleteNode(final int id)
@@ -731,26 +796,32 @@ public class DomManager implements HippyInstanceLifecycleEventListener, HippyEng
 		}
 		else
 		{
-			synchronized (mDispatchLock)
-			{
-				addDispatchTask(executor);
-			}
+			addDispatchTask(executor);
 		}
 	}
 
 	private void addDispatchTask(IDomExecutor executor)
 	{
+		ArrayList<IDomExecutor> tasks = new ArrayList<>(1);
+		tasks.add(executor);
+		publishUITasks(tasks);
+	}
 
-		if (mIsDestroyed)
+	private void publishUITasks(ArrayList<IDomExecutor> tasks)
+	{
+		if (mIsDestroyed || tasks.isEmpty())
 		{
 			return;
 		}
 
-		mDispatchRunnable.add(executor);
+		mPublishedUITasks.add(tasks);
+		scheduleDispatchUIFrame();
+	}
 
-		if (!mIsDispatchUIFrameCallbackEnqueued)
+	private void scheduleDispatchUIFrame()
+	{
+		if (mIsDispatchUIFrameCallbackEnqueued.compareAndSet(false, true))
 		{
-			mIsDispatchUIFrameCallbackEnqueued = true;
 			if (UIThreadUtils.isOnUiThread())
 			{
 				HippyChoreographer.getInstance().postFrameCallback(mDispatchUIFrameCallback);
@@ -930,6 +1001,7 @@ public class DomManager implements HippyInstanceLifecycleEventListener, HippyEng
 
 	public void batch()
 	{
+		long traceStart = mContext.getTracer().begin();
 		int rootNodeCount = mNodeRegistry.getRootNodeCount();
 
 		for (int i = 0; i < rootNodeCount; i++)
@@ -957,68 +1029,71 @@ public class DomManager implements HippyInstanceLifecycleEventListener, HippyEng
 		LogUtils.d(TAG, "dom batch complete");
 
 
-		synchronized (mDispatchLock)
-		{
-			for (int i = 0; i < mUITasks.size(); i++)
-			{
-				addDispatchTask(mUITasks.get(i));
-			}
-
-			for (int i = 0; i < mPaddingNulUITasks.size(); i++)
-			{
-				addDispatchTask(mPaddingNulUITasks.get(i));
-			}
-
-		}
+		// the filled list goes to the ui thread as it is, the dom thread continues with a fresh one
+		ArrayList<IDomExecutor> tasks = mUITasks;
+		tasks.addAll(mPaddingNulUITasks);
 		mPaddingNulUITasks.clear();
-		mUITasks.clear();
+		mUITasks = new ArrayList<>();
+		mContext.getTracer().end(HippyTracer.STAGE_DOM_LAYOUT, traceStart, null, null, rootNodeCount, tasks.size(), 0);
+		publishUITasks(tasks);
 	}
 
-	void flushPendingBatches()
+	void flushPendingBatches(long frameTimeNanos)
 	{
-
-		if (mEnginePaused)
+		ArrayList<IDomExecutor> published;
+		while ((published = mPublishedUITasks.poll()) != null)
 		{
-			mIsDispatchUIFrameCallbackEnqueued = false;
-		}
-		else
-		{
-			HippyChoreographer.getInstance().postFrameCallback(mDispatchUIFrameCallback);
+			mDispatchRunnable.addAll(published);
 		}
 
-		synchronized (mDispatchLock)
+		long traceStart = mContext.getTracer().begin();
+		long startTime = System.nanoTime();
+		long deadline = Math.max(frameTimeNanos + UI_FRAME_BUDGET_NANOS, startTime + UI_MIN_SLICE_NANOS);
+		int executed = 0;
+		IDomExecutor iDomExecutor;
+		while ((iDomExecutor = mDispatchRunnable.poll()) != null)
 		{
-			Iterator<IDomExecutor> iterator = mDispatchRunnable.iterator();
-			boolean shouldBatch = mDispatchRunnable.size() > 0;
-			long startTime = System.currentTimeMillis();
-			while (iterator.hasNext())
+			if (!mIsDestroyed)
 			{
-				IDomExecutor iDomExecutor = iterator.next();
-				if (iDomExecutor != null && !mIsDestroyed)
-					try
-					{
-						iDomExecutor.exec();
-					}
-					catch (RuntimeException e)
-					{
-						e.printStackTrace();
-						//					mContext.handleException(e);
-					}
-				iterator.remove();
-				if (mIsDispatchUIFrameCallbackEnqueued)
+				try
 				{
-					if (System.currentTimeMillis() - startTime > 500)
-					{
-						break;
-					}
+					iDomExecutor.exec();
+				}
+				catch (RuntimeException e)
+				{
+					e.printStackTrace();
+					//					mContext.handleException(e);
 				}
 			}
-			if (shouldBatch)
+			executed++;
+			if (System.nanoTime() > deadline)
 			{
-				mRenderManager.batch();
+				break;
 			}
 		}
+		if (executed > 0)
+		{
+			mRenderManager.batch();
+			mContext.getTracer().endUIFlush(traceStart, executed);
+		}
 
+		int deferred = mDispatchRunnable.size();
+		UIFrameDispatchListener listener = mUIFrameDispatchListener;
+		if (listener != null && executed > 0)
+		{
+			listener.onUIFrameDispatched(executed, deferred, System.nanoTime() - startTime);
+		}
+		if (deferred > 0)
+		{
+			LogUtils.d(TAG, "ui frame executed " + executed + " tasks, deferred " + deferred);
+		}
+
+		// clear the flag before looking at the queue again, a publish in between schedules the next frame itself
+		mIsDispatchUIFrameCallbackEnqueued.set(false);
+		if (!mEnginePaused && (deferred > 0 || !mPublishedUITasks.isEmpty()))
+		{
+			scheduleDispatchUIFrame();
+		}
 	}
 
 	public void dispatchUIFunction(final int id, final String functionName, final HippyArray array, final Promise promise)
@@ -1063,7 +1138,7 @@ public class DomManager implements HippyInstanceLifecycleEventListener, HippyEng
 		@Override
 		public void doFrame(long frameTimeNanos)
 		{
-			flushPendingBatches();
+			flushPendingBatches(frameTimeNanos);
 		}
 	}
 
@@ -72,6 +72,14 @@ public class DomNodeRegistry
         return mRootTags.keyAt(index);
     }
 
+    public synchronized int getNodeCount() {
+        return mNodeTags.size();
+    }
+
+    public synchronized DomNode getNodeAt(int index) {
+        return mNodeTags.valueAt(index);
+    }
+
     public synchronized void clear() {
         mNodeTags.clear();
         mRootTags.clear();
@@ -20,14 +20,19 @@ import com.tencent.mtt.hippy.annotation.HippyControllerProps;
 import com.tencent.mtt.hippy.common.HippyMap;
 import com.tencent.mtt.hippy.dom.node.NodeProps;
 import com.tencent.mtt.hippy.dom.node.StyleNode;
+import com.tencent.mtt.hippy.uimanager.HippyPropsSetter;
+import com.tencent.mtt.hippy.uimanager.PropsSetterRegistry;
 import com.tencent.mtt.hippy.utils.ArgumentUtils;
 import com.tencent.mtt.hippy.utils.LogUtils;
+import com.tencent.smtt.flexbox.FlexNode;
+import com.tencent.smtt.flexbox.FlexNodeStyle;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author: edsheng
@@ -38,7 +43,7 @@ import java.util.Set;
 public class DomUpdateManager<T>
 {
 
-	static Map<Class, Map<String, StyleMethod>>	CLASS_STYLE_METHOD	= new HashMap<>();
+	static Map<Class, Map<String, StyleMethod>>	CLASS_STYLE_METHOD	= new ConcurrentHashMap<>();
 
 	public void updateStyle(T t, HippyMap hippyMap)
 	{
@@ -46,6 +51,24 @@ public class DomUpdateManager<T>
 		{
 			return;
 		}
+		// the flex style setters of the map go to native in one call
+		FlexNodeStyle flexStyle = t instanceof FlexNode ? ((FlexNode) t).Style() : null;
+		boolean batching = flexStyle != null && flexStyle.beginBatch();
+		try
+		{
+			applyStyle(t, hippyMap);
+		}
+		finally
+		{
+			if (batching)
+			{
+				flexStyle.endBatch();
+			}
+		}
+	}
+
+	private void applyStyle(T t, HippyMap hippyMap)
+	{
 		Class cla = t.getClass();
 
 		Map<String, StyleMethod> methods = CLASS_STYLE_METHOD.get(cla);
@@ -62,7 +85,11 @@ public class DomUpdateManager<T>
 				{
 					try
 					{
-						if (hippyMap.get(style) == null)
+						if (styleMethodHolder.mSetter != null)
+						{
+							styleMethodHolder.mSetter.setProp(t, null, style, hippyMap.get(style));
+						}
+						else if (hippyMap.get(style) == null)
 						{
 							switch (styleMethodHolder.mDefaultType)
 							{
@@ -98,7 +125,7 @@ public class DomUpdateManager<T>
 			{
 				if (hippyMap.get(style) instanceof HippyMap && style.equals(NodeProps.STYLE))
 				{
-					updateStyle(t, (HippyMap) hippyMap.get(style));
+					applyStyle(t, (HippyMap) hippyMap.get(style));
 				}
 			}
 		}
@@ -114,23 +141,18 @@ public class DomUpdateManager<T>
 		Map<String, StyleMethod> methodHolder = CLASS_STYLE_METHOD.get(cls);
 		if (methodHolder == null)
 		{
-			Method methods[] = cls.getDeclaredMethods();
-			for (Method method : methods)
+			HippyPropsSetter setter = PropsSetterRegistry.get(cls);
+			if (setter != null)
 			{
-				HippyControllerProps controllerProps = method.getAnnotation(HippyControllerProps.class);
-				if (controllerProps != null)
+				StyleMethod setterHolder = new StyleMethod();
+				setterHolder.mSetter = setter;
+				for (String style : setter.getPropNames())
 				{
-					String style = controllerProps.name();
-					StyleMethod propsMethodHolder = new StyleMethod();
-					propsMethodHolder.mDefaultNumber = controllerProps.defaultNumber();
-					propsMethodHolder.mDefaultType = controllerProps.defaultType();
-					propsMethodHolder.mDefaultString = controllerProps.defaultString();
-					propsMethodHolder.mDefaultBoolean = controllerProps.defaultBoolean();
-					propsMethodHolder.mMethod = method;
-					propsMethodHolder.mParamTypes = method.getGenericParameterTypes();
-					hashMap.put(style, propsMethodHolder);
+					hashMap.put(style, setterHolder);
 				}
 			}
+			// annotated methods the setter was not generated for still go through reflection
+			findReflectiveStyles(cls, hashMap, setter);
 			// put to CLASS_PROPS_METHOD
 			CLASS_STYLE_METHOD.put(cls, new HashMap<String, StyleMethod>(hashMap));
 		}
@@ -141,6 +163,39 @@ public class DomUpdateManager<T>
 
 	}
 
+	/**
+	 * @param setter the setter of cls, its styles are already in hashMap and skipped here, may be null
+	 */
+	private void findReflectiveStyles(Class cls, Map<String, StyleMethod> hashMap, HippyPropsSetter setter)
+	{
+		Method methods[] = cls.getDeclaredMethods();
+		for (Method method : methods)
+		{
+			HippyControllerProps controllerProps = method.getAnnotation(HippyControllerProps.class);
+			if (controllerProps != null)
+			{
+				String style = controllerProps.name();
+				if (setter != null)
+				{
+					StyleMethod registered = hashMap.get(style);
+					if (registered != null && registered.mSetter == setter)
+					{
+						continue;
+					}
+					LogUtils.w("DomUpdateManager", cls.getName() + " style " + style + " is not in its setter, set through reflection");
+				}
+				StyleMethod propsMethodHolder = new StyleMethod();
+				propsMethodHolder.mDefaultNumber = controllerProps.defaultNumber();
+				propsMethodHolder.mDefaultType = controllerProps.defaultType();
+				propsMethodHolder.mDefaultString = controllerProps.defaultString();
+				propsMethodHolder.mDefaultBoolean = controllerProps.defaultBoolean();
+				propsMethodHolder.mMethod = method;
+				propsMethodHolder.mParamTypes = method.getGenericParameterTypes();
+				hashMap.put(style, propsMethodHolder);
+			}
+		}
+	}
+
 	private Map<String, StyleMethod> findStyleMethod(Class cla)
 	{
 		Map<String, StyleMethod> hashMap = new HashMap<>();
@@ -150,6 +205,8 @@ public class DomUpdateManager<T>
 
 	public static class StyleMethod
 	{
+		// set instead of mMethod when the declaring class has a generated setter
+		HippyPropsSetter	mSetter;
 		Method	mMethod;
 		String	mDefaultType;
 		String	mDefaultString;
@@ -0,0 +1,214 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.dom.node;
+
+import com.tencent.mtt.hippy.dom.flex.FlexConstants;
+import com.tencent.mtt.hippy.uimanager.HippyPropsSetter;
+
+/**
+ * FileName: StyleNodePropsSetter
+ * Description：reflection free setter for the styles declared by {@link StyleNode}, keep it in sync with
+ * the @HippyControllerProps methods there
+ * History：
+ */
+public class StyleNodePropsSetter extends HippyPropsSetter<StyleNode, Object>
+{
+	private static final String[]	PROP_NAMES	= {
+			NodeProps.WIDTH,
+			NodeProps.MIN_WIDTH,
+			NodeProps.MAX_WIDTH,
+			NodeProps.HEIGHT,
+			NodeProps.MIN_HEIGHT,
+			NodeProps.MAX_HEIGHT,
+			NodeProps.FLEX,
+			NodeProps.FLEX_GROW,
+			NodeProps.FLEX_SHRINK,
+			NodeProps.FLEX_BASIS,
+			NodeProps.FLEX_DIRECTION,
+			NodeProps.FLEX_WRAP,
+			NodeProps.ALIGN_SELF,
+			NodeProps.ALIGN_ITEMS,
+			NodeProps.JUSTIFY_CONTENT,
+			NodeProps.OVERFLOW,
+			NodeProps.DISPLAY,
+			NodeProps.MARGIN,
+			NodeProps.MARGIN_VERTICAL,
+			NodeProps.MARGIN_HORIZONTAL,
+			NodeProps.MARGIN_LEFT,
+			NodeProps.MARGIN_RIGHT,
+			NodeProps.MARGIN_TOP,
+			NodeProps.MARGIN_BOTTOM,
+			NodeProps.PADDING,
+			NodeProps.PADDING_VERTICAL,
+			NodeProps.PADDING_HORIZONTAL,
+			NodeProps.PADDING_LEFT,
+			NodeProps.PADDING_RIGHT,
+			NodeProps.PADDING_TOP,
+			NodeProps.PADDING_BOTTOM,
+			NodeProps.BORDER_WIDTH,
+			NodeProps.BORDER_LEFT_WIDTH,
+			NodeProps.BORDER_RIGHT_WIDTH,
+			NodeProps.BORDER_TOP_WIDTH,
+			NodeProps.BORDER_BOTTOM_WIDTH,
+			NodeProps.LEFT,
+			NodeProps.RIGHT,
+			NodeProps.TOP,
+			NodeProps.BOTTOM,
+			NodeProps.POSITION,
+			"onLayout" };
+
+	@Override
+	public String[] getPropNames()
+	{
+		return PROP_NAMES;
+	}
+
+	@Override
+	public void setProp(StyleNode target, Object view, String prop, Object value)
+	{
+		switch (prop)
+		{
+			case NodeProps.WIDTH:
+				target.setWidth(value == null ? FlexConstants.UNDEFINED : floatStyle(value));
+				break;
+			case NodeProps.MIN_WIDTH:
+				target.setMinWidth(value == null ? FlexConstants.UNDEFINED : floatStyle(value));
+				break;
+			case NodeProps.MAX_WIDTH:
+				target.setMaxWidth(value == null ? FlexConstants.UNDEFINED : floatStyle(value));
+				break;
+			case NodeProps.HEIGHT:
+				target.setHeight(value == null ? FlexConstants.UNDEFINED : floatStyle(value));
+				break;
+			case NodeProps.MIN_HEIGHT:
+				target.setMinHeight(value == null ? FlexConstants.UNDEFINED : floatStyle(value));
+				break;
+			case NodeProps.MAX_HEIGHT:
+				target.setMaxHeight(value == null ? FlexConstants.UNDEFINED : floatStyle(value));
+				break;
+			case NodeProps.FLEX:
+				target.setFlex(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.FLEX_GROW:
+				target.setFlexGrow(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.FLEX_SHRINK:
+				target.setFlexShrink(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.FLEX_BASIS:
+				target.setFlexBasis(value == null ? FlexConstants.UNDEFINED : floatStyle(value));
+				break;
+			case NodeProps.FLEX_DIRECTION:
+				target.setFlexDirection(stringStyle(value));
+				break;
+			case NodeProps.FLEX_WRAP:
+				target.setFlexWrap(stringStyle(value));
+				break;
+			case NodeProps.ALIGN_SELF:
+				target.setAlignSelf(stringStyle(value));
+				break;
+			case NodeProps.ALIGN_ITEMS:
+				target.setAlignItems(stringStyle(value));
+				break;
+			case NodeProps.JUSTIFY_CONTENT:
+				target.setJustifyContent(stringStyle(value));
+				break;
+			case NodeProps.OVERFLOW:
+				target.setOverflow(stringStyle(value));
+				break;
+			case NodeProps.DISPLAY:
+				target.setDisplay(stringStyle(value));
+				break;
+			case NodeProps.MARGIN:
+				target.setMargin(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.MARGIN_VERTICAL:
+				target.setMarginVertical(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.MARGIN_HORIZONTAL:
+				target.setMarginHoriziontal(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.MARGIN_LEFT:
+				target.setMarginLeft(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.MARGIN_RIGHT:
+				target.setMarginRight(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.MARGIN_TOP:
+				target.setMarginTop(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.MARGIN_BOTTOM:
+				target.setMarginBottom(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.PADDING:
+				target.setPadding(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.PADDING_VERTICAL:
+				target.setPaddingVertical(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.PADDING_HORIZONTAL:
+				target.setPaddingHorizontal(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.PADDING_LEFT:
+				target.setPaddingLeft(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.PADDING_RIGHT:
+				target.setPaddingRight(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.PADDING_TOP:
+				target.setPaddingTop(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.PADDING_BOTTOM:
+				target.setPaddingBottom(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.BORDER_WIDTH:
+				target.setBorderWidths(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.BORDER_LEFT_WIDTH:
+				target.setLeftBorderWidths(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.BORDER_RIGHT_WIDTH:
+				target.setRightBorderWidths(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.BORDER_TOP_WIDTH:
+				target.setTopBorderWidths(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.BORDER_BOTTOM_WIDTH:
+				target.setBottomBorderWidths(value == null ? 0 : floatStyle(value));
+				break;
+			case NodeProps.LEFT:
+				target.setLeftPositionValues(value == null ? FlexConstants.UNDEFINED : floatStyle(value));
+				break;
+			case NodeProps.RIGHT:
+				target.setRightPositionValues(value == null ? FlexConstants.UNDEFINED : floatStyle(value));
+				break;
+			case NodeProps.TOP:
+				target.setTopPositionValues(value == null ? FlexConstants.UNDEFINED : floatStyle(value));
+				break;
+			case NodeProps.BOTTOM:
+				target.setBottomPositionValues(value == null ? FlexConstants.UNDEFINED : floatStyle(value));
+				break;
+			case NodeProps.POSITION:
+				target.setPosition(stringStyle(value));
+				break;
+			case "onLayout":
+				target.setShouldNotifyOnLayout(value == null ? false : booleanStyle(value));
+				break;
+			default:
+				break;
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.dom.node;
+
+import android.text.Layout;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * FileName: TextLayoutCache
+ * Description：LRU cache of the text layouts of an engine, shared by its TextNodes. The key holds the text and
+ * style of every span and the width constraint, see TextNode#createLayout, so text nodes with the same content
+ * and constraints get the same layout instead of measuring it again. All layouts are dropped when the font scale
+ * changes. Thread safe.
+ * History：
+ */
+public class TextLayoutCache
+{
+	private static final int						MAX_ENTRIES		= 256;
+
+	private final LinkedHashMap<String, Layout>	mLayouts		= new LinkedHashMap<String, Layout>(32, 0.75f, true)
+																{
+																	@Override
+																	protected boolean removeEldestEntry(Map.Entry<String, Layout> eldest)
+																	{
+																		return size() > MAX_ENTRIES;
+																	}
+																};
+	private float									mFontScale		= 1.0f;
+	private int										mHitCount;
+	private int										mMissCount;
+
+	public synchronized Layout get(String key)
+	{
+		Layout layout = mLayouts.get(key);
+		if (layout != null)
+		{
+			mHitCount++;
+		}
+		else
+		{
+			mMissCount++;
+		}
+		return layout;
+	}
+
+	public synchronized void put(String key, Layout layout)
+	{
+		mLayouts.put(key, layout);
+	}
+
+	/**
+	 * drops all the layouts if fontScale is not the one they were made with
+	 */
+	public synchronized void checkFontScale(float fontScale)
+	{
+		if (fontScale != mFontScale)
+		{
+			mFontScale = fontScale;
+			mLayouts.clear();
+		}
+	}
+
+	public synchronized void clear()
+	{
+		mLayouts.clear();
+	}
+
+	public synchronized int getHitCount()
+	{
+		return mHitCount;
+	}
+
+	public synchronized int getMissCount()
+	{
+		return mMissCount;
+	}
+}
@@ -454,6 +454,14 @@ public class TextNode extends StyleNode
 	
 	protected HippyImageLoader mImageAdapter;
 
+	// texts longer than this are not worth keeping in the layout cache, they rarely repeat
+	private static final int		MAX_LAYOUT_CACHE_KEY_LENGTH	= 1024;
+	private TextLayoutCache			mLayoutCache;
+	// the text and style of the spans, null if the layout of this node must not be shared
+	private String					mLayoutCacheKey;
+	private boolean					mLayoutCacheable;
+	private boolean					mLayoutFromCache;
+
 	@Override
 	public void layoutBefore(HippyEngineContext context)
 	{
@@ -462,6 +470,10 @@ public class TextNode extends StyleNode
 		{
 			mFontScaleAdapter = context.getGlobalConfigs().getFontScaleAdapter();
 		}
+		if (mLayoutCache == null)
+		{
+			mLayoutCache = context.getDomManager().getTextLayoutCache();
+		}
     
     if (mImageAdapter == null)
     {
@@ -480,6 +492,8 @@ public class TextNode extends StyleNode
 			}
 		}
 
+		mLayoutCache.checkFontScale(mFontScaleAdapter != null ? mFontScaleAdapter.getFontScale() : 1.0f);
+		mLayoutCacheKey = null;
 		mSpanned = createSpan(mText, true);
 	}
 
@@ -494,7 +508,14 @@ public class TextNode extends StyleNode
 		{
 			SpannableStringBuilder spannable = new SpannableStringBuilder();
 			List<SpanOperation> ops = new ArrayList<>();
-			createSpanOperations(ops, spannable, this, text, useChild);
+			// a subclass may add spans of its own in createCustomSpan, which the key does not describe
+			mLayoutCacheable = useChild && getClass() == TextNode.class;
+			StringBuilder cacheKey = mLayoutCacheable ? new StringBuilder() : null;
+			createSpanOperations(ops, spannable, this, text, useChild, cacheKey);
+			if (cacheKey != null)
+			{
+				mLayoutCacheKey = mLayoutCacheable && cacheKey.length() <= MAX_LAYOUT_CACHE_KEY_LENGTH ? cacheKey.toString() : null;
+			}
 
 			for (int i = ops.size() - 1; i >= 0; i--)
 			{
@@ -511,6 +532,8 @@ public class TextNode extends StyleNode
 	}
 	
 	private void createImageSpanOperation(List<SpanOperation> ops, SpannableStringBuilder sb, ImageNode imageNode) {
+    // the image span belongs to the image node
+    mLayoutCacheable = false;
     String url = null;
     HippyMap props = imageNode.getTotalProps();
     if (props != null && props.containsKey("src")) {
@@ -541,8 +564,13 @@ public class TextNode extends StyleNode
     }
   }
   
-	private void createSpanOperations(List<SpanOperation> ops, SpannableStringBuilder sb, TextNode textNode, CharSequence text, boolean useChild)
+	private void createSpanOperations(List<SpanOperation> ops, SpannableStringBuilder sb, TextNode textNode, CharSequence text, boolean useChild,
+			StringBuilder cacheKey)
 	{
+		if (cacheKey != null)
+		{
+			appendLayoutCacheKey(cacheKey, textNode, text);
+		}
 		int start = sb.length();
 		sb.append(text);
 		int end = sb.length();
@@ -602,6 +630,8 @@ public class TextNode extends StyleNode
 
 			if (textNode.mGestureTypes != null && textNode.mGestureTypes.size() > 0)
 			{
+				// the gesture span holds the id of the node
+				mLayoutCacheable = false;
 				HippyNativeGestureSpan span = new HippyNativeGestureSpan(textNode.getId(), isVirtual());
 				span.addGestureTypes(textNode.mGestureTypes);
 				ops.add(new SpanOperation(start, end, span));
@@ -613,7 +643,7 @@ public class TextNode extends StyleNode
 			for (int i = 0; i < textNode.getChildCount(); i++) {
 				DomNode domNode = textNode.getChildAt(i);
 				if (domNode instanceof TextNode) {
-					createSpanOperations(ops, sb, (TextNode) domNode, ((TextNode) domNode).mText, useChild);
+					createSpanOperations(ops, sb, (TextNode) domNode, ((TextNode) domNode).mText, useChild, cacheKey);
 				} else if (domNode instanceof ImageNode) {
           createImageSpanOperation(ops, sb, (ImageNode)domNode);
         } else {
@@ -625,6 +655,26 @@ public class TextNode extends StyleNode
 		}
 	}
 
+	private void appendLayoutCacheKey(StringBuilder cacheKey, TextNode textNode, CharSequence text)
+	{
+		if (text instanceof Spanned && ((Spanned) text).getSpans(0, text.length(), Object.class).length > 0)
+		{
+			// e.g. emoticons from HippyFontScaleAdapter.getEmoticonText
+			mLayoutCacheable = false;
+			return;
+		}
+		float fontScale = textNode.mFontScaleAdapter != null && textNode.mEnableScale ? textNode.mFontScaleAdapter.getFontScale() : 1.0f;
+		cacheKey.append(textNode.mColor).append(',');
+		cacheKey.append(textNode.mIsBackgroundColorSet ? Integer.toString(textNode.mBackgroundColor) : "").append(',');
+		cacheKey.append(textNode.mLetterSpacing).append(',').append(textNode.mFontSize).append(',').append(fontScale).append(',');
+		cacheKey.append(textNode.mFontStyle).append(',').append(textNode.mFontWeight).append(',').append(textNode.mFontFamily).append(',');
+		cacheKey.append(textNode.mIsUnderlineTextDecorationSet).append(',').append(textNode.mIsLineThroughTextDecorationSet).append(',');
+		cacheKey.append(textNode.mTextShadowOffsetDx).append(',').append(textNode.mTextShadowOffsetDy).append(',');
+		cacheKey.append(textNode.mTextShadowRadius).append(',').append(textNode.mTextShadowColor).append(',');
+		cacheKey.append(textNode.mLineHeight).append('\u0001');
+		cacheKey.append(text).append('\u0002');
+	}
+
 	private static final FlexNodeAPI.MeasureFunction	TEXT_MEASURE_FUNCTION	= new FlexNodeAPI.MeasureFunction()
 																				{
 																					@Override
@@ -669,13 +719,42 @@ public class TextNode extends StyleNode
 		{
 			LogUtils.d("TextNode", "measure:layoutAfter" + " w: " + getLayoutWidth() + " h: " + getLayoutHeight());
 			Layout mLayout = createLayout(getLayoutWidth() - getPadding(FlexSpacing.LEFT) - getPadding(FlexSpacing.RIGHT), FlexMeasureMode.EXACTLY);
-			context.getDomManager().postWarmLayout(mLayout);
+			if (!mLayoutFromCache)
+			{
+				context.getDomManager().postWarmLayout(mLayout);
+			}
 			setData(mLayout);
 		}
 
 	}
 
 	private Layout createLayout(float width, FlexMeasureMode widthMode)
+	{
+		String cacheKey = null;
+		mLayoutFromCache = false;
+		if (mLayoutCacheKey != null && mLayoutCache != null)
+		{
+			boolean unconstrainedWidth = widthMode == FlexMeasureMode.UNDEFINED || width < 0;
+			cacheKey = mLayoutCacheKey + (unconstrainedWidth ? "u" : Integer.toString(Float.floatToIntBits(width))) + ','
+					+ mTextAlign.ordinal() + ',' + mNumberOfLines + ',' + mTruncateAt + ',' + mFontSize;
+			Layout layout = mLayoutCache.get(cacheKey);
+			if (layout != null)
+			{
+				mLayoutFromCache = true;
+				layout.getPaint().setTextSize(mFontSize);
+				return layout;
+			}
+		}
+
+		Layout layout = createLayoutInternal(width, widthMode);
+		if (cacheKey != null && layout != null)
+		{
+			mLayoutCache.put(cacheKey, layout);
+		}
+		return layout;
+	}
+
+	private Layout createLayoutInternal(float width, FlexMeasureMode widthMode)
 	{
 		TextPaint textPaint = sTextPaintInstance;
 		Layout layout;
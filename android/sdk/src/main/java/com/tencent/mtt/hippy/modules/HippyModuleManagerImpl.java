@@ -29,6 +29,8 @@ import com.tencent.mtt.hippy.modules.javascriptmodules.HippyJavaScriptModule;
 import com.tencent.mtt.hippy.modules.javascriptmodules.HippyJavaScriptModuleInvocationHandler;
 import com.tencent.mtt.hippy.modules.nativemodules.HippyNativeModuleBase;
 import com.tencent.mtt.hippy.modules.nativemodules.HippyNativeModuleInfo;
+import com.tencent.mtt.hippy.utils.HippyBufferReader;
+import com.tencent.mtt.hippy.utils.HippyTracer;
 
 import java.lang.reflect.Proxy;
 import java.util.*;
@@ -164,6 +166,7 @@ public class HippyModuleManagerImpl implements HippyModuleManager, Handler.Callb
 	{
 		if (isDestroyed)
 		{
+			params.onDispose();
 			return;
 		}
 		HippyNativeModuleInfo moduleInfo = mNativeModuleInfo.get(params.mModuleName);
@@ -171,6 +174,7 @@ public class HippyModuleManagerImpl implements HippyModuleManager, Handler.Callb
 		{
 			PromiseImpl promise = new PromiseImpl(mContext, params.mModuleName, params.mModuleFunc, params.mCallId);
 			promise.doCallback(PromiseImpl.PROMISE_CODE_NORMAN_ERROR, "module can not be found");
+			params.onDispose();
 			return;
 		}
 
@@ -230,7 +234,7 @@ public class HippyModuleManagerImpl implements HippyModuleManager, Handler.Callb
 		return null;
 	}
 
-	void doCallNatives(String moduleName, String moduleFunc, String callId, HippyArray params)
+	void doCallNatives(String moduleName, String moduleFunc, String callId, HippyArray params, HippyBufferReader paramsReader)
 	{
 		PromiseImpl promise = new PromiseImpl(mContext, moduleName, moduleFunc, callId);
 		try
@@ -249,7 +253,14 @@ public class HippyModuleManagerImpl implements HippyModuleManager, Handler.Callb
 				promise.doCallback(PromiseImpl.PROMISE_CODE_NORMAN_ERROR, "module function can not be found");
 				return;
 			}
-			method.invoke(mContext, moduleInfo.getInstance(), params, promise);
+			if (paramsReader != null)
+			{
+				method.invoke(mContext, moduleInfo.getInstance(), paramsReader, promise);
+			}
+			else
+			{
+				method.invoke(mContext, moduleInfo.getInstance(), params, promise);
+			}
 		}
 		catch (Throwable e)
 		{
@@ -329,7 +340,9 @@ public class HippyModuleManagerImpl implements HippyModuleManager, Handler.Callb
 					HippyArray array = param.mParams;
 
 					id = mANRMonitor.startMonitor(param.mModuleName, param.mModuleFunc);
-					doCallNatives(param.mModuleName, param.mModuleFunc, param.mCallId, array);
+					long traceStart = mContext.getTracer().begin();
+					doCallNatives(param.mModuleName, param.mModuleFunc, param.mCallId, array, param.mParamsReader);
+					mContext.getTracer().end(HippyTracer.STAGE_MODULE_DISPATCH, traceStart, param.mModuleName, param.mModuleFunc);
 				}
 				catch (Throwable e)
 				{
@@ -78,10 +78,23 @@ public class PromiseImpl implements Promise
 	}
 
 	public void doCallback(int code, Object obj)
+	{
+		HippyMap map = buildCallbackParams(code, obj);
+		if (map != null)
+		{
+			mContext.getBridgeManager().execCallback(map);
+		}
+	}
+
+	/**
+	 * @return the params of the js callback, for {@link com.tencent.mtt.hippy.bridge.HippyBridgeManager#execCallbacks},
+	 *         null if the promise has no callback
+	 */
+	public HippyMap buildCallbackParams(int code, Object obj)
 	{
 		if (TextUtils.equals(CALL_ID_NO_CALLBACK, mCallId))
 		{
-			return;
+			return null;
 		}
 		HippyMap map = new HippyMap();
 		map.pushInt("result", code);
@@ -89,6 +102,6 @@ public class PromiseImpl implements Promise
 		map.pushString("moduleFunc", mModuleFunc);
 		map.pushString("callId", mCallId);
 		map.pushObject("params", obj);
-		mContext.getBridgeManager().execCallback(map);
+		return map;
 	}
 }
@@ -0,0 +1,110 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.modules.nativemodules;
+
+import com.tencent.mtt.hippy.common.HippyArray;
+import com.tencent.mtt.hippy.common.HippyMap;
+import com.tencent.mtt.hippy.utils.HippyBufferReader;
+
+/**
+ * FileName: HippyNativeMethodArgs
+ * Description：sequential, typed access to the js arguments of one native call, backed either by a
+ * {@link HippyArray} or by a {@link HippyBufferReader}. The values are coerced the same way
+ * ArgumentUtils.parseArgument does it for the reflective invoke.
+ * History：
+ */
+public final class HippyNativeMethodArgs
+{
+	private final HippyArray		mArray;
+	private final HippyBufferReader	mReader;
+	private final int				mCount;
+	private int						mIndex;
+
+	HippyNativeMethodArgs(HippyArray args)
+	{
+		mArray = args;
+		mReader = null;
+		mCount = args != null ? args.size() : 0;
+	}
+
+	HippyNativeMethodArgs(HippyBufferReader args)
+	{
+		mArray = null;
+		mReader = args;
+		mCount = args != null ? args.readArrayHeader() : 0;
+	}
+
+	public int size()
+	{
+		return mCount;
+	}
+
+	public int nextInt()
+	{
+		int index = next();
+		return mReader != null ? mReader.readInt() : mArray.getInt(index);
+	}
+
+	public long nextLong()
+	{
+		int index = next();
+		return mReader != null ? mReader.readLong() : mArray.getLong(index);
+	}
+
+	public double nextDouble()
+	{
+		int index = next();
+		return mReader != null ? mReader.readDouble() : mArray.getDouble(index);
+	}
+
+	public float nextFloat()
+	{
+		return (float) nextDouble();
+	}
+
+	public boolean nextBoolean()
+	{
+		int index = next();
+		return mReader != null ? mReader.readBoolean() : mArray.getBoolean(index);
+	}
+
+	public String nextString()
+	{
+		int index = next();
+		return mReader != null ? mReader.readString() : mArray.getString(index);
+	}
+
+	public HippyArray nextArray()
+	{
+		int index = next();
+		return mReader != null ? mReader.readArray() : mArray.getArray(index);
+	}
+
+	public HippyMap nextMap()
+	{
+		int index = next();
+		return mReader != null ? mReader.readMap() : mArray.getMap(index);
+	}
+
+	private int next()
+	{
+		if (mIndex >= mCount)
+		{
+			throw new RuntimeException("method argument list not match");
+		}
+		return mIndex++;
+	}
+}
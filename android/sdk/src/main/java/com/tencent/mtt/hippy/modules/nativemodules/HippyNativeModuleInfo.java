@@ -24,6 +24,9 @@ import com.tencent.mtt.hippy.common.Provider;
 import com.tencent.mtt.hippy.modules.Promise;
 import com.tencent.mtt.hippy.modules.PromiseImpl;
 import com.tencent.mtt.hippy.utils.ArgumentUtils;
+import com.tencent.mtt.hippy.utils.HippyBufferReader;
+import com.tencent.mtt.hippy.utils.HippyTracer;
+import com.tencent.mtt.hippy.utils.LogUtils;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
@@ -38,6 +41,8 @@ import java.util.Map;
 public final class HippyNativeModuleInfo
 {
 
+	private static final String								TAG		= "HippyNativeModuleInfo";
+
 	private final String									mName;
 
 	private final HippyNativeModule.Thread					mThread;
@@ -50,6 +55,8 @@ public final class HippyNativeModuleInfo
 
 	private HippyNativeModuleBase							mInstance;
 
+	private HippyNativeModuleInvoker						mInvoker;
+
 	private boolean											mInit	= false;
 
 	public HippyNativeModuleInfo(Class cls, Provider<? extends HippyNativeModuleBase> provider)
@@ -101,6 +108,45 @@ public final class HippyNativeModuleInfo
 			return;
 		}
 		mMethods = new HashMap<>();
+		mInvoker = findInvoker(mClass);
+		if (mInvoker != null)
+		{
+			for (String methodName : mInvoker.getMethodNames())
+			{
+				mMethods.put(methodName, new HippyNativeMethod(methodName));
+			}
+		}
+		// the methods the invoker does not declare are still called through reflection
+		initReflectiveMethods();
+
+		mInstance = mProvider.get();
+		mInstance.initialize();
+		mInit = true;
+	}
+
+	private static HippyNativeModuleInvoker findInvoker(Class cls)
+	{
+		try
+		{
+			Class invokerCls = Class.forName(cls.getName() + HippyNativeModuleInvoker.CLASS_SUFFIX, true, cls.getClassLoader());
+			if (HippyNativeModuleInvoker.class.isAssignableFrom(invokerCls))
+			{
+				return (HippyNativeModuleInvoker) invokerCls.newInstance();
+			}
+		}
+		catch (ClassNotFoundException e)
+		{
+			// no invoker for this module, use reflection
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+		}
+		return null;
+	}
+
+	private void initReflectiveMethods()
+	{
 		Method[] targetMethods = mClass.getMethods();
 		for (Method targetMethod : targetMethods)
 		{
@@ -112,17 +158,23 @@ public final class HippyNativeModuleInfo
 				{
 					methodName = targetMethod.getName();
 				}
-				if (mMethods.containsKey(methodName))
+				HippyNativeMethod registered = mMethods.get(methodName);
+				if (registered != null)
 				{
+					if (registered.mJsName != null)
+					{
+						// declared by the invoker
+						continue;
+					}
 					throw new RuntimeException("Java Module " + mName + " method name already registered: " + methodName);
 				}
+				if (mInvoker != null)
+				{
+					LogUtils.w(TAG, "Java Module " + mName + " method " + methodName + " is not in its invoker, called through reflection");
+				}
 				mMethods.put(methodName, new HippyNativeMethod(targetMethod));
 			}
 		}
-
-		mInstance = mProvider.get();
-		mInstance.initialize();
-		mInit = true;
 	}
 
 	public void destroy()
@@ -150,14 +202,29 @@ public final class HippyNativeModuleInfo
 
 		private Type[]	mParamTypes;
 
+		/**
+		 * js name of the method, only set when the call goes through mInvoker
+		 */
+		private String	mJsName;
+
 		public HippyNativeMethod(Method method)
 		{
 			this.mMethod = method;
 			this.mParamTypes = method.getGenericParameterTypes();
 		}
 
+		HippyNativeMethod(String name)
+		{
+			this.mJsName = name;
+		}
+
 		public void invoke(HippyEngineContext context, Object receiver, HippyArray args, PromiseImpl promise) throws Exception
 		{
+			if (mJsName != null)
+			{
+				invokeDirect(receiver, new HippyNativeMethodArgs(args), promise);
+				return;
+			}
 			Object[] params = prepareArguments(context, mParamTypes, args, promise);
 			mMethod.invoke(receiver, params);
 			if (promise.needResolveBySelf())
@@ -166,6 +233,82 @@ public final class HippyNativeModuleInfo
 			}
 		}
 
+		/**
+		 * arguments are read straight from the hippy-buffer, only the ones the method declares
+		 * are decoded and the remaining are left untouched. The decoding is traced as the bridge parse stage,
+		 * through mInvoker it is interleaved with the call and counted in the module dispatch stage instead
+		 */
+		public void invoke(HippyEngineContext context, Object receiver, HippyBufferReader args, PromiseImpl promise) throws Exception
+		{
+			if (mJsName != null)
+			{
+				invokeDirect(receiver, new HippyNativeMethodArgs(args), promise);
+				return;
+			}
+			HippyTracer tracer = context != null ? context.getTracer() : null;
+			long traceStart = tracer != null ? tracer.begin() : 0;
+			int start = args != null ? args.position() : 0;
+			Object[] params = prepareArguments(context, mParamTypes, args, promise);
+			if (traceStart != 0)
+			{
+				tracer.end(HippyTracer.STAGE_BRIDGE_PARSE, traceStart, getName(), mMethod.getName(), args.position() - start, 0, 0);
+			}
+			mMethod.invoke(receiver, params);
+			if (promise.needResolveBySelf())
+			{
+				promise.resolve("");
+			}
+		}
+
+		private void invokeDirect(Object receiver, HippyNativeMethodArgs args, PromiseImpl promise) throws Exception
+		{
+			if (!mInvoker.invoke((HippyNativeModuleBase) receiver, mJsName, args, promise))
+			{
+				throw new RuntimeException("Java Module " + getName() + " method not handled by invoker: " + mJsName);
+			}
+			if (promise.needResolveBySelf())
+			{
+				promise.resolve("");
+			}
+		}
+
+		private Object[] prepareArguments(HippyEngineContext context, Type[] paramClss, HippyBufferReader args, PromiseImpl promise) throws Exception
+		{
+			if (paramClss == null || paramClss.length <= 0)
+			{
+				return new Object[0];
+			}
+			Object[] params = new Object[paramClss.length];
+			if (args == null)
+			{
+				throw new RuntimeException("method argument list not match");
+			}
+			int argCount = args.readArrayHeader();
+			Type paramCls;
+			int index = 0;
+
+			for (int i = 0; i < paramClss.length; i++)
+			{
+				paramCls = paramClss[i];
+				if (paramCls == Promise.class)
+				{
+					params[i] = promise;
+					promise.setNeedResolveBySelf(false);
+				}
+				else
+				{
+					if (argCount <= index)
+					{
+						throw new RuntimeException("method argument list not match");
+					}
+					params[i] = ArgumentUtils.parseArgument(paramCls, args);
+					index++;
+				}
+
+			}
+			return params;
+		}
+
 		private Object[] prepareArguments(HippyEngineContext context, Type[] paramClss, HippyArray args, PromiseImpl promise) throws Exception
 		{
 			if (paramClss == null || paramClss.length <= 0)
@@ -0,0 +1,45 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.modules.nativemodules;
+
+import com.tencent.mtt.hippy.modules.PromiseImpl;
+
+/**
+ * FileName: HippyNativeModuleInvoker
+ * Description：typed dispatcher for the {@link com.tencent.mtt.hippy.annotation.HippyMethod} methods of one
+ * native module. It is found by name, the module class name followed by {@link #CLASS_SUFFIX}, in the same
+ * package, and must have a public no-arg constructor. The methods of a module are still scanned, and the
+ * ones its invoker does not declare, or all of them if it has none, are called through reflection.
+ *
+ * An invoker should cover every @HippyMethod of its module, a missing one is logged. Methods taking a
+ * {@link com.tencent.mtt.hippy.modules.Promise} must call promise.setNeedResolveBySelf(false) before
+ * handing it to the module, as the reflective invoke does.
+ * History：
+ */
+public abstract class HippyNativeModuleInvoker<T extends HippyNativeModuleBase>
+{
+	public static final String	CLASS_SUFFIX	= "Invoker";
+
+	/**
+	 * @return the js names of the methods handled by {@link #invoke}
+	 */
+	public abstract String[] getMethodNames();
+
+	/**
+	 * @return false if methodName is not one of {@link #getMethodNames()}
+	 */
+	public abstract boolean invoke(T module, String methodName, HippyNativeMethodArgs args, PromiseImpl promise) throws Exception;
+}
@@ -28,6 +28,7 @@ import com.tencent.mtt.hippy.annotation.HippyNativeModule;
 import com.tencent.mtt.hippy.common.HippyArray;
 import com.tencent.mtt.hippy.common.HippyMap;
 import com.tencent.mtt.hippy.dom.node.DomActionInterceptor;
+import com.tencent.mtt.hippy.dom.node.DomNode;
 import com.tencent.mtt.hippy.dom.node.NodeProps;
 import com.tencent.mtt.hippy.modules.javascriptmodules.EventDispatcher;
 import com.tencent.mtt.hippy.modules.nativemodules.HippyNativeModuleBase;
@@ -59,12 +60,18 @@ public class AnimationModule extends HippyNativeModuleBase implements DomActionI
 	private static final int			ANIMATION_DELAY_TIME		= 16;
 	private static final int			MSG_CHANGE_ANIMATION_STATUS	= 100;
 	private static final int			MSG_UPDATE_ANIMATION_NODE	= 101;
+	// the props which do not take part in the layout, their animations are applied straight to the views
+	private static final Set<String>	NATIVE_ANIMATED_PROPS		= new HashSet<>(
+			Arrays.asList(NodeProps.OPACITY, NodeProps.TRANSFORM, NodeProps.BACKGROUND_COLOR));
 	private SparseArray<Animation>		mAnimations;
 	private SparseArray<AnimationNode>	mAnimationNodes;
 	private Handler						mHandler;
 	private long						mLastUpdateTime;
 	private Set<Integer>				mNeedUpdateAnimationNodes;
 	private Set<AnimationNode>			mWaitUpdateAnimationNodes;
+	private NativeAnimationDriver		mNativeDriver;
+	private volatile long				mNativeFrameCount;
+	private volatile long				mDomFallbackFrameCount;
 
 
 	public AnimationModule(HippyEngineContext context)
@@ -111,6 +118,7 @@ public class AnimationModule extends HippyNativeModuleBase implements DomActionI
 		mNeedUpdateAnimationNodes = Collections.synchronizedSet(new HashSet<Integer>());
 		mContext.addEngineLifecycleEventListener(this);
 		mHandler = new Handler(mContext.getThreadExecutor().getDomThread().getLooper(), this);
+		mNativeDriver = new NativeAnimationDriver(mContext);
 		mAnimations = new SparseArray<>();
 		mAnimationNodes = new SparseArray<>();
 		if (mContext.getDomManager() != null)
@@ -127,9 +135,30 @@ public class AnimationModule extends HippyNativeModuleBase implements DomActionI
 		{
 			mContext.getDomManager().removeActionInterceptor(this);
 		}
+		if (mNativeDriver != null)
+		{
+			mNativeDriver.destroy();
+		}
 		super.destroy();
 	}
 
+	/**
+	 * @return the number of animation frames whose values were applied straight to the views
+	 */
+	public long getNativeFrameCount()
+	{
+		return mNativeFrameCount;
+	}
+
+	/**
+	 * @return the number of animation frames which went through the dom, because a node animates a prop that
+	 * takes part in the layout
+	 */
+	public long getDomFallbackFrameCount()
+	{
+		return mDomFallbackFrameCount;
+	}
+
 	@Override
 	public void onAnimationStart(Animation animation)
 	{
@@ -146,6 +175,8 @@ public class AnimationModule extends HippyNativeModuleBase implements DomActionI
 	@Override
 	public void onAnimationCancel(Animation animation)
 	{
+		// the values applied natively are written back to the dom where the animation stopped
+		onAnimationUpdate(animation);
 		mContext.getModuleManager().getJavaScriptModule(EventDispatcher.class).receiveNativeEvent(EVENT_NAME_ANIMATION_CANCEL, animation.getId());
 	}
 
@@ -502,7 +533,77 @@ public class AnimationModule extends HippyNativeModuleBase implements DomActionI
 				}
 			}
 			node.setProps(newProps);
+			HippyMap nativeProps = new HippyMap();
+			node.setNativeProps(collectNativeProps(newProps, nativeProps) ? nativeProps : null);
+		}
+	}
+
+	/**
+	 * copies the animated props which can be applied to the view without the dom into nativeProps
+	 *
+	 * @return false if an animated prop needs the dom
+	 */
+	private boolean collectNativeProps(HippyMap props, HippyMap nativeProps)
+	{
+		if (props == null)
+		{
+			return false;
+		}
+
+		Set<String> keys = props.keySet();
+		Object value;
+		for (String key : keys)
+		{
+			value = props.get(key);
+			if (NodeProps.STYLE.equals(key) && value instanceof HippyMap)
+			{
+				if (!collectNativeProps((HippyMap) value, nativeProps))
+				{
+					return false;
+				}
+			}
+			else if (hasAnimationPropertys(value))
+			{
+				if (!NATIVE_ANIMATED_PROPS.contains(key))
+				{
+					return false;
+				}
+				nativeProps.pushObject(key, value);
+			}
+		}
+		return true;
+	}
+
+	private boolean hasAnimationPropertys(Object value)
+	{
+		if (value instanceof HippyMap)
+		{
+			HippyMap map = (HippyMap) value;
+			if (isAnimationPropertys(map))
+			{
+				return true;
+			}
+			for (String key : map.keySet())
+			{
+				if (hasAnimationPropertys(map.get(key)))
+				{
+					return true;
+				}
+			}
+		}
+		else if (value instanceof HippyArray)
+		{
+			HippyArray array = (HippyArray) value;
+			int size = array.size();
+			for (int i = 0; i < size; i++)
+			{
+				if (hasAnimationPropertys(array.get(i)))
+				{
+					return true;
+				}
+			}
 		}
+		return false;
 	}
 
 	private void copyAndDealPropertys(int tagId, HippyMap props, HippyMap newProps, ArrayList<Integer> animations)
@@ -661,18 +762,79 @@ public class AnimationModule extends HippyNativeModuleBase implements DomActionI
 			}
 		}
 
+		boolean domUpdated = false;
+		boolean nativeUpdated = false;
+		boolean fallback = false;
 		Iterator<AnimationNode> it = mWaitUpdateAnimationNodes.iterator();
 		while (it.hasNext())
 		{
-			updateAnimationNodeProps(it.next());
+			AnimationNode node = it.next();
 			it.remove();
+			if (node == null)
+			{
+				continue;
+			}
+			if (node.getNativeProps() == null)
+			{
+				updateAnimationNodeProps(node);
+				domUpdated = true;
+				fallback = true;
+			}
+			else if (isAnimating(node) && updateAnimationNodeView(node))
+			{
+				nativeUpdated = true;
+			}
+			else
+			{
+				// the animations are over, the dom takes the final values so that it is in sync with the view again
+				updateAnimationNodeView(node);
+				updateAnimationNodeProps(node);
+				domUpdated = true;
+			}
 		}
-		if (mContext != null && mContext.getDomManager() != null)
+		if (nativeUpdated)
+		{
+			mNativeFrameCount++;
+		}
+		if (fallback)
+		{
+			mDomFallbackFrameCount++;
+		}
+		if (domUpdated && mContext != null && mContext.getDomManager() != null)
 		{
 			mContext.getDomManager().batchByAnimation();
 		}
 	}
 
+	private boolean isAnimating(AnimationNode node)
+	{
+		for (Animation animation : node.getAnimations())
+		{
+			if (animation != null && animation.getAnimator() != null && animation.getAnimator().isRunning())
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return false if the values can not be applied to the view directly
+	 */
+	private boolean updateAnimationNodeView(AnimationNode node)
+	{
+		DomNode domNode = mContext.getDomManager() != null ? mContext.getDomManager().getNode(node.getId()) : null;
+		if (domNode == null)
+		{
+			return false;
+		}
+
+		HippyMap newProps = new HippyMap();
+		copyAndDealPropertys(node.getId(), node.getNativeProps(), newProps, null);
+		mNativeDriver.update(node.getId(), domNode.getViewClass(), newProps);
+		return true;
+	}
+
 	private void updateAnimationNodeProps(AnimationNode node)
 	{
 		if (node == null)
@@ -0,0 +1,71 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.modules.nativemodules.animation;
+
+import com.tencent.mtt.hippy.modules.PromiseImpl;
+import com.tencent.mtt.hippy.modules.nativemodules.HippyNativeMethodArgs;
+import com.tencent.mtt.hippy.modules.nativemodules.HippyNativeModuleInvoker;
+
+/**
+ * FileName: AnimationModuleInvoker
+ * Description：reflection free dispatcher for {@link AnimationModule}, keep it in sync with its @HippyMethod list
+ * History：
+ */
+public class AnimationModuleInvoker extends HippyNativeModuleInvoker<AnimationModule>
+{
+	private static final String[]	METHOD_NAMES	= { "createAnimation", "updateAnimation", "createAnimationSet", "startAnimation", "stopAnimation",
+			"pauseAnimation", "resumeAnimation", "destroyAnimation" };
+
+	@Override
+	public String[] getMethodNames()
+	{
+		return METHOD_NAMES;
+	}
+
+	@Override
+	public boolean invoke(AnimationModule module, String methodName, HippyNativeMethodArgs args, PromiseImpl promise)
+	{
+		switch (methodName)
+		{
+			case "createAnimation":
+				module.createAnimation(args.nextInt(), args.nextString(), args.nextMap());
+				return true;
+			case "updateAnimation":
+				module.updateAnimation(args.nextInt(), args.nextMap());
+				return true;
+			case "createAnimationSet":
+				module.createAnimationSet(args.nextInt(), args.nextMap());
+				return true;
+			case "startAnimation":
+				module.startAnimation(args.nextInt());
+				return true;
+			case "stopAnimation":
+				module.stopAnimation(args.nextInt());
+				return true;
+			case "pauseAnimation":
+				module.pauseAnimation(args.nextInt());
+				return true;
+			case "resumeAnimation":
+				module.resumeAnimation(args.nextInt());
+				return true;
+			case "destroyAnimation":
+				module.destroyAnimation(args.nextInt());
+				return true;
+			default:
+				return false;
+		}
+	}
+}
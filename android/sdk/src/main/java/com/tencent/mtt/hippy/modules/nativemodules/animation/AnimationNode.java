@@ -33,6 +33,9 @@ public class AnimationNode
 
 	private HippyMap				mProps;
 
+	// the animated props when all of them can be applied straight to the view, null otherwise
+	private HippyMap				mNativeProps;
+
 	private ArrayList<Animation>	mAnimations;
 
 	public AnimationNode(int tagId, HippyRootView rootView)
@@ -62,6 +65,16 @@ public class AnimationNode
 		this.mProps = props;
 	}
 
+	public HippyMap getNativeProps()
+	{
+		return mNativeProps;
+	}
+
+	public void setNativeProps(HippyMap nativeProps)
+	{
+		this.mNativeProps = nativeProps;
+	}
+
 	public void addAnimation(Animation animation)
 	{
 		if (!mAnimations.contains(animation))
@@ -0,0 +1,161 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.modules.nativemodules.animation;
+
+import android.util.SparseArray;
+import com.tencent.mtt.hippy.HippyEngineContext;
+import com.tencent.mtt.hippy.common.HippyMap;
+import com.tencent.mtt.hippy.dom.HippyChoreographer;
+import com.tencent.mtt.hippy.uimanager.ControllerManager;
+import com.tencent.mtt.hippy.utils.LogUtils;
+import com.tencent.mtt.hippy.utils.UIThreadUtils;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * FileName: NativeAnimationDriver
+ * Description：applies the animated values of the nodes which only animate view level props straight to their
+ * views, on the next HippyChoreographer frame of the ui thread. The dom tree is not touched, so no diff, layout
+ * or render batch is run for such a frame. Only the latest props of a node are kept if several updates come
+ * within a frame.
+ * History：
+ */
+class NativeAnimationDriver implements HippyChoreographer.FrameCallback
+{
+	private static final String			TAG					= "NativeAnimationDriver";
+
+	private final HippyEngineContext	mContext;
+	private final Object				mLock				= new Object();
+	private SparseArray<PendingUpdate>	mPendingUpdates		= new SparseArray<>();
+	private SparseArray<PendingUpdate>	mApplyingUpdates	= new SparseArray<>();
+	private final AtomicBoolean			mFrameEnqueued		= new AtomicBoolean(false);
+	private volatile boolean			mDestroyed			= false;
+
+	NativeAnimationDriver(HippyEngineContext context)
+	{
+		mContext = context;
+	}
+
+	/**
+	 * called on the dom thread
+	 */
+	void update(int id, String className, HippyMap props)
+	{
+		if (mDestroyed)
+		{
+			return;
+		}
+
+		synchronized (mLock)
+		{
+			PendingUpdate update = mPendingUpdates.get(id);
+			if (update == null)
+			{
+				mPendingUpdates.put(id, new PendingUpdate(className, props));
+			}
+			else
+			{
+				update.mClassName = className;
+				update.mProps = props;
+			}
+		}
+		scheduleFrame();
+	}
+
+	void destroy()
+	{
+		mDestroyed = true;
+		synchronized (mLock)
+		{
+			mPendingUpdates.clear();
+		}
+		UIThreadUtils.runOnUiThread(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				HippyChoreographer.getInstance().removeFrameCallback(NativeAnimationDriver.this);
+				mFrameEnqueued.set(false);
+			}
+		});
+	}
+
+	private void scheduleFrame()
+	{
+		if (mFrameEnqueued.compareAndSet(false, true))
+		{
+			if (UIThreadUtils.isOnUiThread())
+			{
+				HippyChoreographer.getInstance().postFrameCallback(this);
+			}
+			else
+			{
+				UIThreadUtils.runOnUiThread(new Runnable()
+				{
+					@Override
+					public void run()
+					{
+						HippyChoreographer.getInstance().postFrameCallback(NativeAnimationDriver.this);
+					}
+				});
+			}
+		}
+	}
+
+	@Override
+	public void doFrame(long frameTimeNanos)
+	{
+		mFrameEnqueued.set(false);
+		SparseArray<PendingUpdate> updates;
+		synchronized (mLock)
+		{
+			updates = mPendingUpdates;
+			mPendingUpdates = mApplyingUpdates;
+			mApplyingUpdates = updates;
+		}
+
+		if (!mDestroyed && mContext.getRenderManager() != null)
+		{
+			ControllerManager controllerManager = mContext.getRenderManager().getControllerManager();
+			int size = updates.size();
+			for (int i = 0; i < size; i++)
+			{
+				PendingUpdate update = updates.valueAt(i);
+				try
+				{
+					controllerManager.updateView(updates.keyAt(i), update.mClassName, update.mProps);
+				}
+				catch (Throwable e)
+				{
+					LogUtils.e(TAG, "doFrame: update view " + updates.keyAt(i) + " " + update.mClassName + " error", e);
+				}
+			}
+		}
+		updates.clear();
+	}
+
+	private static class PendingUpdate
+	{
+		String		mClassName;
+		HippyMap	mProps;
+
+		PendingUpdate(String className, HippyMap props)
+		{
+			mClassName = className;
+			mProps = props;
+		}
+	}
+}
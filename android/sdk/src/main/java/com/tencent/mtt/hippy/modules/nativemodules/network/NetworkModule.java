@@ -34,9 +34,10 @@ import com.tencent.mtt.hippy.modules.nativemodules.HippyNativeModuleBase;
 import com.tencent.mtt.hippy.utils.ContextHolder;
 import com.tencent.mtt.hippy.utils.LogUtils;
 
-import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +53,9 @@ public class NetworkModule extends HippyNativeModuleBase
 	// 使用CookieManager之前，需要初始化CookieSyncManager，单例的
 	static CookieSyncManager mCookieSyncManager;
 
+	static final int			BODY_CHUNK_CHARS		= 32 * 1024;
+	private static final int	MAX_INITIAL_BODY_CHARS	= 4 * 1024 * 1024;
+
 	public NetworkModule(HippyEngineContext context)
 	{
 		super(context);
@@ -134,7 +138,9 @@ public class NetworkModule extends HippyNativeModuleBase
 		{
 			httpRequest.setInstanceFollowRedirects(false);
 		}
-		httpRequest.setUseCaches(false);
+		// caches are off unless fetch is given a cache mode, except the modes which must not be answered from a stored response
+		String cache = request.getString("cache");
+		httpRequest.setUseCaches(!TextUtils.isEmpty(cache) && !"no-store".equals(cache) && !"reload".equals(cache) && !"no-cache".equals(cache));
 		httpRequest.setMethod(method);
 		httpRequest.setUrl(url);
 		HippyMap headers = request.getMap("headers");
@@ -158,7 +164,7 @@ public class NetworkModule extends HippyNativeModuleBase
 		}
 		if (adapter != null)
 		{
-			adapter.sendRequest(httpRequest, new HttpTaskCallbackImpl(promise));
+			adapter.sendRequest(httpRequest, new HttpTaskCallbackImpl(promise, request.getBoolean("respBodyChunked")));
 		}
 	}
 
@@ -239,29 +245,33 @@ public class NetworkModule extends HippyNativeModuleBase
 	{
 
 		private Promise	mPromise;
+		private boolean	mChunkedBody;
 
-		public HttpTaskCallbackImpl(Promise promise)
+		public HttpTaskCallbackImpl(Promise promise, boolean chunkedBody)
 		{
 			mPromise = promise;
+			mChunkedBody = chunkedBody;
 		}
 
 		@Override
 		public void onTaskSuccess(HippyHttpRequest request, HippyHttpResponse response) throws Exception
 		{
+			HippyArray respBodyChunks = null;
 			String respBody = null;
 			if (response.getInputStream() != null)
 			{
 				InputStream inputStream = response.getInputStream();
 				if (isGzipRequest(request))
 					inputStream = new GZIPInputStream(inputStream); // gzip解压
-				StringBuilder sb = new StringBuilder();
-				String readLine;
-				BufferedReader bfReader = new BufferedReader(new InputStreamReader(inputStream, "UTF-8"));
-				while ((readLine = bfReader.readLine()) != null)
+				Reader reader = new InputStreamReader(inputStream, "UTF-8");
+				if (mChunkedBody)
+				{
+					respBodyChunks = readBodyChunks(reader);
+				}
+				else
 				{
-					sb.append(readLine).append("\r\n");
+					respBody = readBody(reader, getContentLength(response));
 				}
-				respBody = sb.toString();
 			}
 
 			HippyMap respMap = new HippyMap();
@@ -298,12 +308,14 @@ public class NetworkModule extends HippyNativeModuleBase
 			}
 
 			respMap.pushMap("respHeaders", headerMap);
-			if (respBody == null)
+			if (respBodyChunks != null)
 			{
-				respBody = "";
+				respMap.pushArray("respBodyChunks", respBodyChunks);
+			}
+			else
+			{
+				respMap.pushString("respBody", respBody != null ? respBody : "");
 			}
-
-			respMap.pushString("respBody", respBody);
 
 			mPromise.resolve(respMap);
 		}
@@ -318,6 +330,66 @@ public class NetworkModule extends HippyNativeModuleBase
 		}
 	}
 
+	private static String readBody(Reader reader, int contentLength) throws IOException
+	{
+		// the content length counts bytes, enough chars for an ascii body and a fair guess for the rest
+		int capacity = contentLength > 0 ? Math.min(contentLength, MAX_INITIAL_BODY_CHARS) : BODY_CHUNK_CHARS;
+		StringBuilder sb = new StringBuilder(capacity);
+		char[] buffer = new char[BODY_CHUNK_CHARS];
+		int count;
+		while ((count = reader.read(buffer)) != -1)
+		{
+			sb.append(buffer, 0, count);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * the body as strings of at most BODY_CHUNK_CHARS chars, a surrogate pair is never split between two chunks
+	 */
+	static HippyArray readBodyChunks(Reader reader) throws IOException
+	{
+		HippyArray chunks = new HippyArray();
+		char[] buffer = new char[BODY_CHUNK_CHARS];
+		int length = 0;
+		int count;
+		while ((count = reader.read(buffer, length, buffer.length - length)) != -1)
+		{
+			length += count;
+			if (length < buffer.length)
+			{
+				continue;
+			}
+
+			int chunkLength = Character.isHighSurrogate(buffer[length - 1]) ? length - 1 : length;
+			chunks.pushString(new String(buffer, 0, chunkLength));
+			System.arraycopy(buffer, chunkLength, buffer, 0, length - chunkLength);
+			length -= chunkLength;
+		}
+		if (length > 0)
+		{
+			chunks.pushString(new String(buffer, 0, length));
+		}
+		return chunks;
+	}
+
+	private static int getContentLength(HippyHttpResponse response)
+	{
+		String contentLength = response.getHeaderField(HttpHeader.REQ.CONTENT_LENGTH);
+		if (TextUtils.isEmpty(contentLength))
+		{
+			return -1;
+		}
+		try
+		{
+			return Integer.parseInt(contentLength.trim());
+		}
+		catch (NumberFormatException e)
+		{
+			return -1;
+		}
+	}
+
 	// 检查是否是gzip/deflate压缩的请求
 	private static boolean isGzipRequest(HippyHttpRequest request)
 	{
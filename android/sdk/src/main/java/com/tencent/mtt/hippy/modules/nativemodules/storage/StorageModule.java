@@ -16,6 +16,8 @@
 package com.tencent.mtt.hippy.modules.nativemodules.storage;
 
 import com.tencent.mtt.hippy.HippyEngineContext;
+import com.tencent.mtt.hippy.HippyEngineLifecycleEventListener;
+import com.tencent.mtt.hippy.adapter.storage.CachingStorageAdapter;
 import com.tencent.mtt.hippy.adapter.storage.HippyStorageAdapter;
 import com.tencent.mtt.hippy.adapter.storage.HippyStorageKeyValue;
 import com.tencent.mtt.hippy.annotation.HippyMethod;
@@ -33,7 +35,7 @@ import java.util.List;
  * History：
  */
 @HippyNativeModule(name = "StorageModule")
-public class StorageModule extends HippyNativeModuleBase
+public class StorageModule extends HippyNativeModuleBase implements HippyEngineLifecycleEventListener
 {
 
 	private HippyStorageAdapter	mStorageAdapter;
@@ -42,6 +44,30 @@ public class StorageModule extends HippyNativeModuleBase
 	{
 		super(context);
 		mStorageAdapter = context.getGlobalConfigs().getStorageAdapter();
+		context.addEngineLifecycleEventListener(this);
+	}
+
+	@Override
+	public void destroy()
+	{
+		mContext.removeEngineLifecycleEventListener(this);
+		super.destroy();
+	}
+
+	@Override
+	public void onEngineResume()
+	{
+
+	}
+
+	@Override
+	public void onEnginePause()
+	{
+		// the page may not come back, write the cached values through now
+		if (mStorageAdapter instanceof CachingStorageAdapter)
+		{
+			((CachingStorageAdapter) mStorageAdapter).flush();
+		}
 	}
 
 	@HippyMethod(name = "multiGet")
@@ -22,12 +22,13 @@ import com.tencent.mtt.hippy.HippyEngineContext;
 import com.tencent.mtt.hippy.HippyEngineLifecycleEventListener;
 import com.tencent.mtt.hippy.annotation.HippyMethod;
 import com.tencent.mtt.hippy.annotation.HippyNativeModule;
+import com.tencent.mtt.hippy.common.HippyMap;
 import com.tencent.mtt.hippy.modules.Promise;
+import com.tencent.mtt.hippy.modules.PromiseImpl;
 import com.tencent.mtt.hippy.modules.nativemodules.HippyNativeModuleBase;
+import com.tencent.mtt.hippy.utils.LogUtils;
 
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.ArrayList;
 
 /**
  * FileName: HippyTimerModule
@@ -40,9 +41,11 @@ public class TimerModule extends HippyNativeModuleBase implements Handler.Callba
 
 	private static final int		MSG_TIME_CALLBACK	= 100;
 	private boolean					mEnginePaused		= false;
-	private HashMap<String, Timer>	mTimerInfo			= new HashMap<>();
+	private final TimerQueue		mTimers				= new TimerQueue();
 	private Handler					mHandler;
+	// deadline of the pending MSG_TIME_CALLBACK, 0 if none
 	private long					mNextTime			= 0;
+	private final ArrayList<Object>	mDueCallbacks		= new ArrayList<>();
 
 	public TimerModule(HippyEngineContext context)
 	{
@@ -59,7 +62,7 @@ public class TimerModule extends HippyNativeModuleBase implements Handler.Callba
 	@Override
 	public void destroy()
 	{
-		mTimerInfo.clear();
+		mTimers.clear();
 		removeHandlerCallback();
 		mContext.removeEngineLifecycleEventListener(this);
 		super.destroy();
@@ -68,112 +71,137 @@ public class TimerModule extends HippyNativeModuleBase implements Handler.Callba
 	@HippyMethod(name = "setTimeout")
 	public void setTimeout(int timeOut, String callId, Promise promise)
 	{
-		Timer timer = new Timer(callId, SystemClock.elapsedRealtime(), timeOut, false, promise);
-		mTimerInfo.put(callId, timer);
-		checkHandlerCallback(timer);
+		addTimer(timeOut, callId, false, promise);
 	}
 
 	@HippyMethod(name = "clearTimeout")
 	public void clearTimeout(String callId)
 	{
-		mTimerInfo.remove(callId);
-		checkHandlerCallback(null);
+		removeTimer(callId);
 	}
 
 	@HippyMethod(name = "setInterval")
 	public void setInterval(int interval, String callId, Promise promise)
 	{
-		Timer timer = new Timer(callId, SystemClock.elapsedRealtime(), interval, true, promise);
-		mTimerInfo.put(callId, timer);
-		checkHandlerCallback(timer);
+		addTimer(interval, callId, true, promise);
 	}
 
 	@HippyMethod(name = "clearInterval")
 	public void clearInterval(String callId)
 	{
-		mTimerInfo.remove(callId);
-		checkHandlerCallback(null);
+		removeTimer(callId);
 	}
 
-	private void checkHandlerCallback(Timer timer)
+	private void addTimer(int interval, String callId, boolean repeat, Promise promise)
 	{
-		if ((mEnginePaused || mTimerInfo.isEmpty()))
+		int id = parseCallId(callId);
+		if (id < 0)
+		{
+			return;
+		}
+		interval = Math.max(interval, 0);
+		mTimers.add(new TimerQueue.Timer(id, SystemClock.elapsedRealtime() + interval, interval, repeat, promise));
+		checkHandlerCallback();
+	}
+
+	private void removeTimer(String callId)
+	{
+		int id = parseCallId(callId);
+		if (id >= 0)
+		{
+			mTimers.remove(id);
+		}
+		// an earlier wake up than needed is harmless, only drop it when there is nothing left
+		if (mTimers.isEmpty())
 		{
 			removeHandlerCallback();
 		}
-		else if (timer != null)
+	}
+
+	/**
+	 * the call ids are the js module call ids, non negative integers sent as strings
+	 */
+	private static int parseCallId(String callId)
+	{
+		try
 		{
-			if (mNextTime == 0 || (timer.mTargetTime + timer.mInterval < mNextTime))
-			{
-				mNextTime = timer.mTargetTime + timer.mInterval;
-				long delay = 0;
-				if (mNextTime < 0)
-				{
-					mNextTime = SystemClock.elapsedRealtime();
-				}
-				else
-				{
-					delay = mNextTime - SystemClock.elapsedRealtime();
-				}
-				mHandler.removeMessages(MSG_TIME_CALLBACK);
-				mHandler.sendEmptyMessageDelayed(MSG_TIME_CALLBACK, delay <= 0 ? 0 : delay);
-			}
+			return callId != null ? Integer.parseInt(callId) : -1;
+		}
+		catch (NumberFormatException e)
+		{
+			LogUtils.e("TimerModule", "invalid timer call id " + callId);
+			return -1;
+		}
+	}
+
+	private void checkHandlerCallback()
+	{
+		TimerQueue.Timer next = mTimers.peek();
+		if (mEnginePaused || next == null)
+		{
+			removeHandlerCallback();
+			return;
+		}
+
+		if (mNextTime == 0 || next.mDeadline < mNextTime)
+		{
+			mNextTime = next.mDeadline;
+			long delay = mNextTime - SystemClock.elapsedRealtime();
+			mHandler.removeMessages(MSG_TIME_CALLBACK);
+			mHandler.sendEmptyMessageDelayed(MSG_TIME_CALLBACK, delay <= 0 ? 0 : delay);
 		}
 	}
 
 	private void removeHandlerCallback()
 	{
 		mNextTime = 0;
-		mHandler.removeMessages(MSG_TIME_CALLBACK);
+		if (mHandler != null)
+		{
+			mHandler.removeMessages(MSG_TIME_CALLBACK);
+		}
 	}
 
 	public void doFrame()
 	{
-		mNextTime = 0;
-		mHandler.removeMessages(MSG_TIME_CALLBACK);
+		removeHandlerCallback();
 		long time = SystemClock.elapsedRealtime();
-		Iterator<Map.Entry<String, Timer>> it = mTimerInfo.entrySet().iterator();
-		Map.Entry<String, Timer> entry;
-		Timer timer;
-		Timer nextTimer = null;
-		while (it.hasNext())
+		TimerQueue.Timer timer;
+		// every timer that is due fires once, an interval that missed several periods (e.g. while the engine was
+		// paused) is not replayed, and all their callbacks cross the bridge together
+		while ((timer = mTimers.peek()) != null && timer.mDeadline <= time)
 		{
-			entry = it.next();
-			if (entry == null)
-			{
-				continue;
-			}
-			timer = entry.getValue();
-			if (timer == null)
+			mTimers.poll();
+			if (timer.mRepeat)
 			{
-				continue;
+				// at least a millisecond on, a zero interval would keep this loop going
+				timer.mDeadline = time + Math.max(timer.mInterval, 1);
+				mTimers.add(timer);
 			}
+			collectCallback(timer.mPromise);
+		}
 
-			if (timer.mTargetTime + timer.mInterval <= time)
-			{
-				if (timer.mPromise != null)
-				{
-					timer.mPromise.resolve(null);
-				}
-				if (!timer.mRepeat)
-				{
-					it.remove();
-				}
-				else
-				{
-					timer.mTargetTime = time;
-					if (nextTimer == null || (timer.mTargetTime + timer.mInterval < nextTimer.mTargetTime + nextTimer.mInterval))
-					{
-						nextTimer = timer;
-					}
-				}
-			}
-			else if (nextTimer == null || (timer.mTargetTime + timer.mInterval < nextTimer.mTargetTime + nextTimer.mInterval))
+		if (mDueCallbacks.size() > 0)
+		{
+			mContext.getBridgeManager().execCallbacks(new ArrayList<>(mDueCallbacks));
+			mDueCallbacks.clear();
+		}
+		checkHandlerCallback();
+	}
+
+	private void collectCallback(Promise promise)
+	{
+		if (promise instanceof PromiseImpl)
+		{
+			HippyMap params = ((PromiseImpl) promise).buildCallbackParams(PromiseImpl.PROMISE_CODE_SUCCESS, null);
+			if (params != null)
 			{
-				nextTimer = timer;
+				mDueCallbacks.add(params);
 			}
 		}
-		checkHandlerCallback(nextTimer);
+		else if (promise != null)
+		{
+			promise.resolve(null);
+		}
 	}
 
 	@Override
@@ -221,23 +249,4 @@ public class TimerModule extends HippyNativeModuleBase implements Handler.Callba
 		}
 		return false;
 	}
-
-	private static class Timer
-	{
-
-		final String	mCallbackID;
-		final boolean	mRepeat;
-		final int		mInterval;
-		long			mTargetTime;
-		Promise			mPromise;
-
-		Timer(String callbackID, long initialTargetTime, int duration, boolean repeat, Promise promise)
-		{
-			mCallbackID = callbackID;
-			mTargetTime = initialTargetTime;
-			mInterval = duration;
-			mRepeat = repeat;
-			mPromise = promise;
-		}
-	}
 }
@@ -0,0 +1,60 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.modules.nativemodules.timer;
+
+import com.tencent.mtt.hippy.modules.PromiseImpl;
+import com.tencent.mtt.hippy.modules.nativemodules.HippyNativeMethodArgs;
+import com.tencent.mtt.hippy.modules.nativemodules.HippyNativeModuleInvoker;
+
+/**
+ * FileName: TimerModuleInvoker
+ * Description：reflection free dispatcher for {@link TimerModule}, keep it in sync with its @HippyMethod list
+ * History：
+ */
+public class TimerModuleInvoker extends HippyNativeModuleInvoker<TimerModule>
+{
+	private static final String[]	METHOD_NAMES	= { "setTimeout", "clearTimeout", "setInterval", "clearInterval" };
+
+	@Override
+	public String[] getMethodNames()
+	{
+		return METHOD_NAMES;
+	}
+
+	@Override
+	public boolean invoke(TimerModule module, String methodName, HippyNativeMethodArgs args, PromiseImpl promise)
+	{
+		switch (methodName)
+		{
+			case "setTimeout":
+				promise.setNeedResolveBySelf(false);
+				module.setTimeout(args.nextInt(), args.nextString(), promise);
+				return true;
+			case "clearTimeout":
+				module.clearTimeout(args.nextString());
+				return true;
+			case "setInterval":
+				promise.setNeedResolveBySelf(false);
+				module.setInterval(args.nextInt(), args.nextString(), promise);
+				return true;
+			case "clearInterval":
+				module.clearInterval(args.nextString());
+				return true;
+			default:
+				return false;
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.modules.nativemodules.timer;
+
+import android.util.SparseArray;
+import com.tencent.mtt.hippy.modules.Promise;
+
+import java.util.Arrays;
+
+/**
+ * FileName: TimerQueue
+ * Description：binary min-heap of timers ordered by deadline, with an id index so that a timer can be found
+ * and cancelled in O(log n). Timers with the same deadline come out in insertion order. Not thread safe.
+ * History：
+ */
+class TimerQueue
+{
+	private static final int		INITIAL_CAPACITY	= 16;
+
+	private Timer[]					mHeap				= new Timer[INITIAL_CAPACITY];
+	private int						mSize				= 0;
+	private long					mSequence			= 0;
+	private final SparseArray<Timer>	mTimers			= new SparseArray<>();
+
+	int size()
+	{
+		return mSize;
+	}
+
+	boolean isEmpty()
+	{
+		return mSize == 0;
+	}
+
+	/**
+	 * @return the timer with the earliest deadline, null if empty
+	 */
+	Timer peek()
+	{
+		return mSize > 0 ? mHeap[0] : null;
+	}
+
+	Timer get(int id)
+	{
+		return mTimers.get(id);
+	}
+
+	/**
+	 * add the timer, a timer with the same id is replaced
+	 */
+	void add(Timer timer)
+	{
+		remove(timer.mId);
+		if (mSize == mHeap.length)
+		{
+			mHeap = Arrays.copyOf(mHeap, mSize * 2);
+		}
+		timer.mSequence = mSequence++;
+		timer.mHeapIndex = mSize;
+		mHeap[mSize++] = timer;
+		siftUp(timer.mHeapIndex);
+		mTimers.put(timer.mId, timer);
+	}
+
+	Timer poll()
+	{
+		if (mSize == 0)
+		{
+			return null;
+		}
+		Timer timer = mHeap[0];
+		removeAt(0);
+		return timer;
+	}
+
+	Timer remove(int id)
+	{
+		Timer timer = mTimers.get(id);
+		if (timer != null)
+		{
+			removeAt(timer.mHeapIndex);
+		}
+		return timer;
+	}
+
+	void clear()
+	{
+		Arrays.fill(mHeap, 0, mSize, null);
+		mSize = 0;
+		mTimers.clear();
+	}
+
+	private void removeAt(int index)
+	{
+		Timer timer = mHeap[index];
+		mTimers.remove(timer.mId);
+		timer.mHeapIndex = -1;
+
+		mSize--;
+		if (index != mSize)
+		{
+			Timer last = mHeap[mSize];
+			mHeap[index] = last;
+			last.mHeapIndex = index;
+			mHeap[mSize] = null;
+			siftDown(index);
+			if (mHeap[index] == last)
+			{
+				siftUp(index);
+			}
+		}
+		else
+		{
+			mHeap[mSize] = null;
+		}
+	}
+
+	private void siftUp(int index)
+	{
+		Timer timer = mHeap[index];
+		while (index > 0)
+		{
+			int parent = (index - 1) >>> 1;
+			if (!before(timer, mHeap[parent]))
+			{
+				break;
+			}
+			place(mHeap[parent], index);
+			index = parent;
+		}
+		place(timer, index);
+	}
+
+	private void siftDown(int index)
+	{
+		Timer timer = mHeap[index];
+		int half = mSize >>> 1;
+		while (index < half)
+		{
+			int child = 2 * index + 1;
+			int right = child + 1;
+			if (right < mSize && before(mHeap[right], mHeap[child]))
+			{
+				child = right;
+			}
+			if (!before(mHeap[child], timer))
+			{
+				break;
+			}
+			place(mHeap[child], index);
+			index = child;
+		}
+		place(timer, index);
+	}
+
+	private void place(Timer timer, int index)
+	{
+		mHeap[index] = timer;
+		timer.mHeapIndex = index;
+	}
+
+	private static boolean before(Timer lhs, Timer rhs)
+	{
+		return lhs.mDeadline < rhs.mDeadline || (lhs.mDeadline == rhs.mDeadline && lhs.mSequence < rhs.mSequence);
+	}
+
+	static class Timer
+	{
+		final int		mId;
+		final boolean	mRepeat;
+		final int		mInterval;
+		final Promise	mPromise;
+		long			mDeadline;
+		long			mSequence;
+		int				mHeapIndex	= -1;
+
+		Timer(int id, long deadline, int interval, boolean repeat, Promise promise)
+		{
+			mId = id;
+			mDeadline = deadline;
+			mInterval = interval;
+			mRepeat = repeat;
+			mPromise = promise;
+		}
+	}
+}
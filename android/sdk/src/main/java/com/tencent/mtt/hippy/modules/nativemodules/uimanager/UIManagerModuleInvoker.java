@@ -0,0 +1,73 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.modules.nativemodules.uimanager;
+
+import com.tencent.mtt.hippy.modules.PromiseImpl;
+import com.tencent.mtt.hippy.modules.nativemodules.HippyNativeMethodArgs;
+import com.tencent.mtt.hippy.modules.nativemodules.HippyNativeModuleInvoker;
+
+/**
+ * FileName: UIManagerModuleInvoker
+ * Description：reflection free dispatcher for {@link UIManagerModule}, keep it in sync with its @HippyMethod list
+ * History：
+ */
+public class UIManagerModuleInvoker extends HippyNativeModuleInvoker<UIManagerModule>
+{
+	private static final String[]	METHOD_NAMES	= { "createNode", "updateNode", "deleteNode", "flushBatch", "callUIFunction", "measureInWindow",
+			"startBatch", "endBatch" };
+
+	@Override
+	public String[] getMethodNames()
+	{
+		return METHOD_NAMES;
+	}
+
+	@Override
+	public boolean invoke(UIManagerModule module, String methodName, HippyNativeMethodArgs args, PromiseImpl promise)
+	{
+		switch (methodName)
+		{
+			case "createNode":
+				module.createNode(args.nextInt(), args.nextArray());
+				return true;
+			case "updateNode":
+				module.updateNode(args.nextInt(), args.nextArray());
+				return true;
+			case "deleteNode":
+				module.deleteNode(args.nextInt(), args.nextArray());
+				return true;
+			case "flushBatch":
+				module.flushBatch(args.nextInt(), args.nextArray());
+				return true;
+			case "callUIFunction":
+				promise.setNeedResolveBySelf(false);
+				module.callUIFunction(args.nextArray(), promise);
+				return true;
+			case "measureInWindow":
+				promise.setNeedResolveBySelf(false);
+				module.measureInWindow(args.nextInt(), promise);
+				return true;
+			case "startBatch":
+				module.startBatch(args.nextString());
+				return true;
+			case "endBatch":
+				module.endBatch(args.nextString());
+				return true;
+			default:
+				return false;
+		}
+	}
+}
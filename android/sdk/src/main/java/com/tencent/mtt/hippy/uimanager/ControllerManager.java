@@ -141,6 +141,16 @@ public class ControllerManager implements HippyInstanceLifecycleEventListener
 
 	}
 
+	public boolean hasPreView(int id)
+	{
+		return mPreCacheView.get(id) != null;
+	}
+
+	public void removePreView(int id)
+	{
+		mPreCacheView.remove(id);
+	}
+
 	public View createView(HippyRootView rootView, int id, String className, HippyMap initialProps)
 	{
 		View view = mControllerRegistry.getView(id);
@@ -162,6 +172,7 @@ public class ControllerManager implements HippyInstanceLifecycleEventListener
 				mControllerRegistry.addView(view);
 				mControllerUpdateManger.updateProps(controller, view, initialProps);
 				controller.onAfterUpdateProps(view);
+				mContext.getTracer().countViewCreated();
 			}
 		}
 		//		mContext.getGlobalConfigs().getLogAdapter().log(TAG, " createView id:" + id + " className:" + className + " view is null" + (view == null));
@@ -181,6 +192,7 @@ public class ControllerManager implements HippyInstanceLifecycleEventListener
 		{
 			mControllerUpdateManger.updateProps(viewComponent, view, newProps);
 			viewComponent.onAfterUpdateProps(view);
+			mContext.getTracer().countPropsSet();
 		}
 	}
 
@@ -24,10 +24,12 @@ import com.tencent.mtt.hippy.utils.ArgumentUtils;
 import com.tencent.mtt.hippy.utils.LogUtils;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author: edsheng
@@ -37,10 +39,12 @@ import java.util.Set;
 
 public class ControllerUpdateManger<T, G>
 {
-	static Map<Class, Map<String, PropsMethodHolder>>	CLASS_PROPS_METHOD	= new HashMap<>();
+	static Map<Class, Map<String, PropsMethodHolder>>	CLASS_PROPS_METHOD	= new ConcurrentHashMap<>();
 
 	public static class PropsMethodHolder
 	{
+		// set instead of mMethod when the declaring class has a generated setter
+		HippyPropsSetter	mSetter;
 		Method	mMethod;
 		String	mDefaultType;
 		String	mDefaultString;
@@ -60,23 +64,18 @@ public class ControllerUpdateManger<T, G>
 		Map<String, PropsMethodHolder> methodHolder = CLASS_PROPS_METHOD.get(cls);
 		if (methodHolder == null)
 		{
-
-			Method methods[] = cls.getMethods();
-			for (Method method : methods)
+			HippyPropsSetter setter = PropsSetterRegistry.get(cls);
+			if (setter != null)
 			{
-				HippyControllerProps controllerProps = method.getAnnotation(HippyControllerProps.class);
-				if (controllerProps != null)
+				PropsMethodHolder setterHolder = new PropsMethodHolder();
+				setterHolder.mSetter = setter;
+				for (String prop : setter.getPropNames())
 				{
-					String style = controllerProps.name();
-					PropsMethodHolder propsMethodHolder = new PropsMethodHolder();
-					propsMethodHolder.mDefaultNumber = controllerProps.defaultNumber();
-					propsMethodHolder.mDefaultType = controllerProps.defaultType();
-					propsMethodHolder.mDefaultString = controllerProps.defaultString();
-					propsMethodHolder.mDefaultBoolean = controllerProps.defaultBoolean();
-					propsMethodHolder.mMethod = method;
-					hashMap.put(style, propsMethodHolder);
+					hashMap.put(prop, setterHolder);
 				}
 			}
+			// annotated methods the setter was not generated for still go through reflection
+			findReflectiveProps(cls, hashMap, setter);
 			// put to CLASS_PROPS_METHOD
 			CLASS_PROPS_METHOD.put(cls, new HashMap<String, PropsMethodHolder>(hashMap));
 		}
@@ -87,6 +86,40 @@ public class ControllerUpdateManger<T, G>
 
 	}
 
+	/**
+	 * only the methods declared by cls, the inherited ones are already in hashMap and may be served by a setter
+	 *
+	 * @param setter the setter of cls, its props are already in hashMap and skipped here, may be null
+	 */
+	private void findReflectiveProps(Class cls, Map<String, PropsMethodHolder> hashMap, HippyPropsSetter setter)
+	{
+		Method methods[] = cls.getDeclaredMethods();
+		for (Method method : methods)
+		{
+			HippyControllerProps controllerProps = method.getAnnotation(HippyControllerProps.class);
+			if (controllerProps != null && Modifier.isPublic(method.getModifiers()))
+			{
+				String style = controllerProps.name();
+				if (setter != null)
+				{
+					PropsMethodHolder registered = hashMap.get(style);
+					if (registered != null && registered.mSetter == setter)
+					{
+						continue;
+					}
+					LogUtils.w("ControllerUpdateManager", cls.getName() + " prop " + style + " is not in its setter, set through reflection");
+				}
+				PropsMethodHolder propsMethodHolder = new PropsMethodHolder();
+				propsMethodHolder.mDefaultNumber = controllerProps.defaultNumber();
+				propsMethodHolder.mDefaultType = controllerProps.defaultType();
+				propsMethodHolder.mDefaultString = controllerProps.defaultString();
+				propsMethodHolder.mDefaultBoolean = controllerProps.defaultBoolean();
+				propsMethodHolder.mMethod = method;
+				hashMap.put(style, propsMethodHolder);
+			}
+		}
+	}
+
 	private Map<String, PropsMethodHolder> findPropsMethod(Class cla)
 	{
 		Map<String, PropsMethodHolder> hashMap = new HashMap<>();
@@ -117,7 +150,11 @@ public class ControllerUpdateManger<T, G>
 			{
 				try
 				{
-					if (hippyMap.get(prop) == null)
+					if (propsMethodHolder.mSetter != null)
+					{
+						propsMethodHolder.mSetter.setProp(t, g, prop, hippyMap.get(prop));
+					}
+					else if (hippyMap.get(prop) == null)
 					{
 						switch (propsMethodHolder.mDefaultType)
 						{
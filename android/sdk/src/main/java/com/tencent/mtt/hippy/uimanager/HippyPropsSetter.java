@@ -0,0 +1,106 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.uimanager;
+
+import com.tencent.mtt.hippy.common.HippyArray;
+import com.tencent.mtt.hippy.common.HippyMap;
+
+/**
+ * FileName: HippyPropsSetter
+ * Description：typed setter for the {@link com.tencent.mtt.hippy.annotation.HippyControllerProps} methods declared
+ * by one class, a {@link HippyViewController} or a {@link com.tencent.mtt.hippy.dom.node.StyleNode}. Props of super
+ * classes are not handled here, the update managers merge the setters and reflective methods of the whole class
+ * hierarchy. Annotated methods of the class missing from {@link #getPropNames} are still set through reflection.
+ * See {@link PropsSetterRegistry} for how a setter is found.
+ * History：
+ */
+public abstract class HippyPropsSetter<T, G>
+{
+	/**
+	 * @return names of the props handled by {@link #setProp}
+	 */
+	public abstract String[] getPropNames();
+
+	/**
+	 * @param view null for style nodes
+	 * @param value raw value of the props map, null when the default of the annotation has to be applied
+	 */
+	public abstract void setProp(T target, G view, String prop, Object value);
+
+	/*
+	 * coercion of ControllerUpdateManger: numbers are converted to the parameter type, other values must already
+	 * have the parameter type
+	 */
+
+	protected static int intProp(Object value)
+	{
+		return ((Number) value).intValue();
+	}
+
+	protected static float floatProp(Object value)
+	{
+		return (float) ((Number) value).doubleValue();
+	}
+
+	protected static boolean booleanProp(Object value)
+	{
+		return (Boolean) value;
+	}
+
+	protected static String stringProp(Object value)
+	{
+		return value instanceof Number ? String.valueOf(value) : (String) value;
+	}
+
+	protected static HippyArray arrayProp(Object value)
+	{
+		return value instanceof Number ? null : (HippyArray) value;
+	}
+
+	protected static HippyMap mapProp(Object value)
+	{
+		return value instanceof Number ? null : (HippyMap) value;
+	}
+
+	/*
+	 * coercion of DomUpdateManager, the same as the HippyMap getters
+	 */
+
+	protected static int intStyle(Object value)
+	{
+		return value instanceof Number ? ((Number) value).intValue() : 0;
+	}
+
+	protected static float floatStyle(Object value)
+	{
+		return value instanceof Number ? (float) ((Number) value).doubleValue() : 0;
+	}
+
+	protected static boolean booleanStyle(Object value)
+	{
+		return value != null && (boolean) value;
+	}
+
+	protected static String stringStyle(Object value)
+	{
+		return value == null ? null : String.valueOf(value);
+	}
+
+	protected static HippyMap mapStyle(Object value)
+	{
+		return value instanceof HippyMap ? (HippyMap) value : null;
+	}
+}
@@ -0,0 +1,241 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.uimanager;
+
+import android.graphics.Color;
+import android.view.View;
+
+import com.tencent.mtt.hippy.dom.node.NodeProps;
+
+/**
+ * FileName: HippyViewControllerPropsSetter
+ * Description：reflection free setter for the props declared by {@link HippyViewController}, keep it in sync with
+ * the @HippyControllerProps methods there
+ * History：
+ */
+@SuppressWarnings("unchecked")
+public class HippyViewControllerPropsSetter extends HippyPropsSetter<HippyViewController, View>
+{
+	private static final String[]	PROP_NAMES	= {
+			NodeProps.TRANSFORM,
+			NodeProps.PROP_ACCESSIBILITY_LABEL,
+			NodeProps.Z_INDEX,
+			NodeProps.BACKGROUND_COLOR,
+			NodeProps.OPACITY,
+			NodeProps.BORDER_RADIUS,
+			NodeProps.BORDER_TOP_LEFT_RADIUS,
+			NodeProps.BORDER_TOP_RIGHT_RADIUS,
+			NodeProps.BORDER_BOTTOM_RIGHT_RADIUS,
+			NodeProps.BORDER_BOTTOM_LEFT_RADIUS,
+			NodeProps.BORDER_WIDTH,
+			NodeProps.NEXT_FOCUS_DOWN_ID,
+			NodeProps.NEXT_FOCUS_UP_ID,
+			NodeProps.NEXT_FOCUS_LEFT_ID,
+			NodeProps.NEXT_FOCUS_RIGHT_ID,
+			NodeProps.FOCUSABLE,
+			NodeProps.REQUEST_FOCUS,
+			NodeProps.SHADOW_OFFSET,
+			NodeProps.SHADOW_OFFSET_X,
+			NodeProps.SHADOW_OFFSET_Y,
+			NodeProps.SHADOW_OPACITY,
+			NodeProps.SHADOW_RADIUS,
+			NodeProps.SHADOW_SPREAD,
+			NodeProps.SHADOW_COLOR,
+			NodeProps.BORDER_LEFT_WIDTH,
+			NodeProps.BORDER_TOP_WIDTH,
+			NodeProps.BORDER_RIGHT_WIDTH,
+			NodeProps.BORDER_BOTTOM_WIDTH,
+			NodeProps.BORDER_COLOR,
+			NodeProps.BORDER_LEFT_COLOR,
+			NodeProps.BORDER_TOP_COLOR,
+			NodeProps.BORDER_RIGHT_COLOR,
+			NodeProps.BORDER_BOTTOM_COLOR,
+			NodeProps.ON_CLICK,
+			NodeProps.ON_LONG_CLICK,
+			NodeProps.ON_PRESS_IN,
+			NodeProps.ON_PRESS_OUT,
+			NodeProps.ON_TOUCH_DOWN,
+			NodeProps.ON_TOUCH_MOVE,
+			NodeProps.ON_TOUCH_END,
+			NodeProps.ON_TOUCH_CANCEL,
+			NodeProps.ON_ATTACHED_TO_WINDOW,
+			NodeProps.ON_DETACHED_FROM_WINDOW,
+			NodeProps.CUSTOM_PROP };
+
+	@Override
+	public String[] getPropNames()
+	{
+		return PROP_NAMES;
+	}
+
+	@Override
+	public void setProp(HippyViewController target, View view, String prop, Object value)
+	{
+		switch (prop)
+		{
+			case NodeProps.TRANSFORM:
+				target.setTransform(view, value == null ? null : arrayProp(value));
+				break;
+			case NodeProps.PROP_ACCESSIBILITY_LABEL:
+				target.setAccessibilityLabel(view, value == null ? null : stringProp(value));
+				break;
+			case NodeProps.Z_INDEX:
+				target.setZIndex(view, value == null ? 0 : intProp(value));
+				break;
+			case NodeProps.BACKGROUND_COLOR:
+				target.setBackground(view, value == null ? Color.TRANSPARENT : intProp(value));
+				break;
+			case NodeProps.OPACITY:
+				target.setOpacity(view, value == null ? 1.f : floatProp(value));
+				break;
+			case NodeProps.BORDER_RADIUS:
+				target.setBorderRadius(view, value == null ? 0 : floatProp(value));
+				break;
+			case NodeProps.BORDER_TOP_LEFT_RADIUS:
+				target.setTopLeftBorderRadius(view, value == null ? 0 : floatProp(value));
+				break;
+			case NodeProps.BORDER_TOP_RIGHT_RADIUS:
+				target.setTopRightBorderRadius(view, value == null ? 0 : floatProp(value));
+				break;
+			case NodeProps.BORDER_BOTTOM_RIGHT_RADIUS:
+				target.setBottomRightBorderRadius(view, value == null ? 0 : floatProp(value));
+				break;
+			case NodeProps.BORDER_BOTTOM_LEFT_RADIUS:
+				target.setBottomLeftBorderRadius(view, value == null ? 0 : floatProp(value));
+				break;
+			case NodeProps.BORDER_WIDTH:
+				target.setBorderWidth(view, value == null ? 0 : floatProp(value));
+				break;
+			case NodeProps.NEXT_FOCUS_DOWN_ID:
+				// the annotation has a boolean default that does not fit the int parameter, null is ignored
+				if (value != null)
+				{
+					target.setNextFocusDownId(view, intProp(value));
+				}
+				break;
+			case NodeProps.NEXT_FOCUS_UP_ID:
+				// the annotation has a boolean default that does not fit the int parameter, null is ignored
+				if (value != null)
+				{
+					target.setNextFocusUpId(view, intProp(value));
+				}
+				break;
+			case NodeProps.NEXT_FOCUS_LEFT_ID:
+				// the annotation has a boolean default that does not fit the int parameter, null is ignored
+				if (value != null)
+				{
+					target.setNextFocusLeftId(view, intProp(value));
+				}
+				break;
+			case NodeProps.NEXT_FOCUS_RIGHT_ID:
+				// the annotation has a boolean default that does not fit the int parameter, null is ignored
+				if (value != null)
+				{
+					target.setNextFocusRightId(view, intProp(value));
+				}
+				break;
+			case NodeProps.FOCUSABLE:
+				target.setFocusable(view, value == null ? false : booleanProp(value));
+				break;
+			case NodeProps.REQUEST_FOCUS:
+				target.requestFocus(view, value == null ? false : booleanProp(value));
+				break;
+			case NodeProps.SHADOW_OFFSET:
+				target.setShadowOffset(view, value == null ? null : mapProp(value));
+				break;
+			case NodeProps.SHADOW_OFFSET_X:
+				target.setShadowOffsetX(view, value == null ? 0 : floatProp(value));
+				break;
+			case NodeProps.SHADOW_OFFSET_Y:
+				target.setShadowOffsetY(view, value == null ? 0 : floatProp(value));
+				break;
+			case NodeProps.SHADOW_OPACITY:
+				target.setShadowOpacity(view, value == null ? 0 : floatProp(value));
+				break;
+			case NodeProps.SHADOW_RADIUS:
+				target.setShadowRadius(view, value == null ? 0 : floatProp(value));
+				break;
+			case NodeProps.SHADOW_SPREAD:
+				target.setShadowSpread(view, value == null ? 0 : floatProp(value));
+				break;
+			case NodeProps.SHADOW_COLOR:
+				target.setShadowColor(view, value == null ? 0 : intProp(value));
+				break;
+			case NodeProps.BORDER_LEFT_WIDTH:
+				target.setLeftBorderWidth(view, value == null ? 0 : floatProp(value));
+				break;
+			case NodeProps.BORDER_TOP_WIDTH:
+				target.setTopBorderWidth(view, value == null ? 0 : floatProp(value));
+				break;
+			case NodeProps.BORDER_RIGHT_WIDTH:
+				target.setRightBorderWidth(view, value == null ? 0 : floatProp(value));
+				break;
+			case NodeProps.BORDER_BOTTOM_WIDTH:
+				target.setBottomBorderWidth(view, value == null ? 0 : floatProp(value));
+				break;
+			case NodeProps.BORDER_COLOR:
+				target.setBorderColor(view, value == null ? Color.TRANSPARENT : intProp(value));
+				break;
+			case NodeProps.BORDER_LEFT_COLOR:
+				target.setBorderLeftColor(view, value == null ? Color.TRANSPARENT : intProp(value));
+				break;
+			case NodeProps.BORDER_TOP_COLOR:
+				target.setBorderTopWidth(view, value == null ? Color.TRANSPARENT : intProp(value));
+				break;
+			case NodeProps.BORDER_RIGHT_COLOR:
+				target.setBorderRightWidth(view, value == null ? Color.TRANSPARENT : intProp(value));
+				break;
+			case NodeProps.BORDER_BOTTOM_COLOR:
+				target.setBorderBottomWidth(view, value == null ? Color.TRANSPARENT : intProp(value));
+				break;
+			case NodeProps.ON_CLICK:
+				target.setClickable(view, value == null ? false : booleanProp(value));
+				break;
+			case NodeProps.ON_LONG_CLICK:
+				target.setLongClickable(view, value == null ? false : booleanProp(value));
+				break;
+			case NodeProps.ON_PRESS_IN:
+				target.setPressInable(view, value == null ? false : booleanProp(value));
+				break;
+			case NodeProps.ON_PRESS_OUT:
+				target.setPressOutable(view, value == null ? false : booleanProp(value));
+				break;
+			case NodeProps.ON_TOUCH_DOWN:
+				target.setTouchDownHandle(view, value == null ? false : booleanProp(value));
+				break;
+			case NodeProps.ON_TOUCH_MOVE:
+				target.setTouchMoveHandle(view, value == null ? false : booleanProp(value));
+				break;
+			case NodeProps.ON_TOUCH_END:
+				target.setTouchEndHandle(view, value == null ? false : booleanProp(value));
+				break;
+			case NodeProps.ON_TOUCH_CANCEL:
+				target.setTouchCancelHandle(view, value == null ? false : booleanProp(value));
+				break;
+			case NodeProps.ON_ATTACHED_TO_WINDOW:
+				target.setAttachedToWindowHandle(view, value == null ? false : booleanProp(value));
+				break;
+			case NodeProps.ON_DETACHED_FROM_WINDOW:
+				target.setDetachedFromWindowHandle(view, value == null ? false : booleanProp(value));
+				break;
+			case NodeProps.CUSTOM_PROP:
+				// declared with three parameters, the reflective invoke never matched it either
+				break;
+			default:
+				break;
+		}
+	}
+}
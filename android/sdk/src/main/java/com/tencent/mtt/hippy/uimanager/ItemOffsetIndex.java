@@ -0,0 +1,141 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.uimanager;
+
+import java.util.Arrays;
+
+/**
+ * FileName: ItemOffsetIndex
+ * Description：prefix sums of the item sizes of a list, kept in a Fenwick tree. The size of an item is changed,
+ * the offset of an item and the item at an offset are found in O(log n), building it is O(n). The sizes must
+ * not be negative. Not thread safe.
+ * History：
+ */
+final class ItemOffsetIndex
+{
+	private int[]	mSizes	= new int[0];
+	// 1-based, mTree[i] holds the sum of the sizes in (i - lowbit(i), i]
+	private int[]	mTree	= new int[1];
+	private int		mCount	= 0;
+	private int		mTotal	= 0;
+
+	void reset(int count)
+	{
+		if (mSizes.length < count)
+		{
+			mSizes = new int[count];
+			mTree = new int[count + 1];
+		}
+		else
+		{
+			Arrays.fill(mSizes, 0, count, 0);
+			Arrays.fill(mTree, 0, count + 1, 0);
+		}
+		mCount = count;
+		mTotal = 0;
+	}
+
+	/**
+	 * sets the sizes of a freshly reset index, call {@link #build()} once all of them are set
+	 */
+	void setInitialSize(int index, int size)
+	{
+		mSizes[index] = Math.max(size, 0);
+	}
+
+	void build()
+	{
+		mTotal = 0;
+		for (int i = 1; i <= mCount; i++)
+		{
+			mTree[i] += mSizes[i - 1];
+			mTotal += mSizes[i - 1];
+			int parent = i + (i & -i);
+			if (parent <= mCount)
+			{
+				mTree[parent] += mTree[i];
+			}
+		}
+	}
+
+	int size()
+	{
+		return mCount;
+	}
+
+	int getSize(int index)
+	{
+		return mSizes[index];
+	}
+
+	void setSize(int index, int size)
+	{
+		size = Math.max(size, 0);
+		int delta = size - mSizes[index];
+		if (delta == 0)
+		{
+			return;
+		}
+		mSizes[index] = size;
+		mTotal += delta;
+		for (int i = index + 1; i <= mCount; i += i & -i)
+		{
+			mTree[i] += delta;
+		}
+	}
+
+	int getTotal()
+	{
+		return mTotal;
+	}
+
+	/**
+	 * @return the sum of the sizes of the items before index
+	 */
+	int getOffset(int index)
+	{
+		int sum = 0;
+		for (int i = Math.min(index, mCount); i > 0; i -= i & -i)
+		{
+			sum += mTree[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * @return the index of the item that covers offset, the empty items are skipped. size() if offset is past
+	 * the last item
+	 */
+	int indexAt(int offset)
+	{
+		if (offset < 0)
+		{
+			return 0;
+		}
+		int index = 0;
+		int remaining = offset;
+		for (int step = Integer.highestOneBit(mCount); step > 0; step >>= 1)
+		{
+			int next = index + step;
+			if (next <= mCount && mTree[next] <= remaining)
+			{
+				index = next;
+				remaining -= mTree[next];
+			}
+		}
+		return index;
+	}
+}
@@ -15,6 +15,7 @@
  */
 package com.tencent.mtt.hippy.uimanager;
 
+import android.util.SparseIntArray;
 import com.tencent.mtt.hippy.HippyRootView;
 import com.tencent.mtt.hippy.common.HippyMap;
 
@@ -27,6 +28,12 @@ import com.tencent.mtt.hippy.common.HippyMap;
 
 public class ListViewRenderNode extends RenderNode
 {
+	// item offsets along the scroll axis, rebuilt after the children changed and updated in place on a relayout
+	private final ItemOffsetIndex	mOffsetIndex			= new ItemOffsetIndex();
+	private final SparseIntArray	mChildIndexes			= new SparseIntArray();
+	private boolean					mOffsetIndexDirty		= true;
+	private boolean					mOffsetIndexHorizontal	= false;
+
 	public ListViewRenderNode(int mId, HippyMap mPropsToUpdate, String className, HippyRootView mRootView, ControllerManager componentManager,
 			boolean isLazyLoad)
 	{
@@ -48,6 +55,87 @@ public class ListViewRenderNode extends RenderNode
 			ListItemRenderNode listItemRenderNode = (ListItemRenderNode) uiNode;
 			listItemRenderNode.setRecycleItemTypeChangeListener(null);
 		}
+		mOffsetIndexDirty = true;
 		return super.removeChild(uiNode);
 	}
+
+	@Override
+	void addChild(RenderNode uiNode, int index)
+	{
+		super.addChild(uiNode, index);
+		mOffsetIndexDirty = true;
+	}
+
+	@Override
+	public void remove(int index)
+	{
+		super.remove(index);
+		mOffsetIndexDirty = true;
+	}
+
+	@Override
+	protected void onChildLayoutUpdated(RenderNode child)
+	{
+		if (mOffsetIndexDirty)
+		{
+			return;
+		}
+		int index = mChildIndexes.get(child.getId(), -1);
+		if (index < 0 || index >= mOffsetIndex.size() || getChildAt(index) != child)
+		{
+			mOffsetIndexDirty = true;
+			return;
+		}
+		mOffsetIndex.setSize(index, getItemSize(child, mOffsetIndexHorizontal));
+	}
+
+	/**
+	 * @return the sum of the sizes of the items before index
+	 */
+	public int getItemOffset(int index, boolean horizontal)
+	{
+		ensureOffsetIndex(horizontal);
+		return mOffsetIndex.getOffset(index);
+	}
+
+	public int getTotalItemSize(boolean horizontal)
+	{
+		ensureOffsetIndex(horizontal);
+		return mOffsetIndex.getTotal();
+	}
+
+	/**
+	 * @return the index of the item that covers offset, getChildCount() if offset is past the last item
+	 */
+	public int getItemIndexAtOffset(int offset, boolean horizontal)
+	{
+		ensureOffsetIndex(horizontal);
+		return mOffsetIndex.indexAt(offset);
+	}
+
+	private void ensureOffsetIndex(boolean horizontal)
+	{
+		if (!mOffsetIndexDirty && mOffsetIndexHorizontal == horizontal)
+		{
+			return;
+		}
+
+		int count = getChildCount();
+		mOffsetIndex.reset(count);
+		mChildIndexes.clear();
+		for (int i = 0; i < count; i++)
+		{
+			RenderNode child = getChildAt(i);
+			mOffsetIndex.setInitialSize(i, getItemSize(child, horizontal));
+			mChildIndexes.put(child.getId(), i);
+		}
+		mOffsetIndex.build();
+		mOffsetIndexHorizontal = horizontal;
+		mOffsetIndexDirty = false;
+	}
+
+	private static int getItemSize(RenderNode child, boolean horizontal)
+	{
+		return horizontal ? child.getWidth() : child.getHeight();
+	}
 }
@@ -38,11 +38,13 @@ import java.util.HashSet;
 public class NativeGestureDispatcher implements NativeGestureProcessor.Callback
 {
 	private static final String				TAG						= "NativeGestureDispatcher";
-	private static final String				KEY_EVENT_NAME			= "name";
-	private static final String				KEY_TAG_ID				= "id";
-	private static final String				KEY_PAGE_X				= "page_x";
-	private static final String				KEY_PAGE_Y				= "page_y";
+	static final String						KEY_EVENT_NAME			= "name";
+	static final String						KEY_TAG_ID				= "id";
+	static final String						KEY_PAGE_X				= "page_x";
+	static final String						KEY_PAGE_Y				= "page_y";
 	private static final int				TAP_TIMEOUT				= ViewConfiguration.getTapTimeout();
+	// the touch events are handled on the ui thread only
+	private static final int[]				sViewCoords				= new int[2];
 
 	private static View.OnClickListener		mOnClickListener		= new View.OnClickListener()
 																	{
@@ -237,49 +239,39 @@ public class NativeGestureDispatcher implements NativeGestureProcessor.Callback
 
 	public static void handleTouchDown(HippyEngineContext context, int mTagId, float x, float y, int viewId)
 	{
-		int[] viewCoords = new int[2];
-		getLocationInWindow(context, viewId, viewCoords);
-		HippyMap params = new HippyMap();
-		params.pushString(KEY_EVENT_NAME, NodeProps.ON_TOUCH_DOWN);
-		params.pushInt(KEY_TAG_ID, mTagId);
-		params.pushDouble(KEY_PAGE_X, PixelUtil.px2dp(viewCoords[0] + x));
-		params.pushDouble(KEY_PAGE_Y, PixelUtil.px2dp(viewCoords[1] + y));
-		context.getModuleManager().getJavaScriptModule(EventDispatcher.class).receiveNativeGesture(params);
+		sendTouchEvent(context, NodeProps.ON_TOUCH_DOWN, mTagId, x, y, viewId);
 	}
 
+	/**
+	 * the move is sent with the other moves of the view in this frame, see {@link TouchMoveBatcher}
+	 */
 	public static void handleTouchMove(HippyEngineContext context, int mTagId, float x, float y, int viewId)
 	{
-		int[] viewCoords = new int[2];
-		getLocationInWindow(context, viewId, viewCoords);
-		HippyMap params = new HippyMap();
-		params.pushString(KEY_EVENT_NAME, NodeProps.ON_TOUCH_MOVE);
-		params.pushInt(KEY_TAG_ID, mTagId);
-		params.pushDouble(KEY_PAGE_X, PixelUtil.px2dp(viewCoords[0] + x));
-		params.pushDouble(KEY_PAGE_Y, PixelUtil.px2dp(viewCoords[1] + y));
-		context.getModuleManager().getJavaScriptModule(EventDispatcher.class).receiveNativeGesture(params);
+		getLocationInWindow(context, viewId, sViewCoords);
+		context.getRenderManager().getTouchMoveBatcher().addMove(mTagId, PixelUtil.px2dp(sViewCoords[0] + x),
+				PixelUtil.px2dp(sViewCoords[1] + y));
 	}
 
 	public static void handleTouchEnd(HippyEngineContext context, int mTagId, float x, float y, int viewId)
 	{
-		int[] viewCoords = new int[2];
-		getLocationInWindow(context, viewId, viewCoords);
-		HippyMap params = new HippyMap();
-		params.pushString(KEY_EVENT_NAME, NodeProps.ON_TOUCH_END);
-		params.pushInt(KEY_TAG_ID, mTagId);
-		params.pushDouble(KEY_PAGE_X, PixelUtil.px2dp(viewCoords[0] + x));
-		params.pushDouble(KEY_PAGE_Y, PixelUtil.px2dp(viewCoords[1] + y));
-		context.getModuleManager().getJavaScriptModule(EventDispatcher.class).receiveNativeGesture(params);
+		sendTouchEvent(context, NodeProps.ON_TOUCH_END, mTagId, x, y, viewId);
 	}
 
 	public static void handleTouchCancel(HippyEngineContext context, int mTagId, float x, float y, int viewId)
 	{
-		int[] viewCoords = new int[2];
-		getLocationInWindow(context, viewId, viewCoords);
+		sendTouchEvent(context, NodeProps.ON_TOUCH_CANCEL, mTagId, x, y, viewId);
+	}
+
+	private static void sendTouchEvent(HippyEngineContext context, String eventName, int tagId, float x, float y, int viewId)
+	{
+		// the moves waiting for the frame must reach js before this event
+		context.getRenderManager().getTouchMoveBatcher().flush();
+		getLocationInWindow(context, viewId, sViewCoords);
 		HippyMap params = new HippyMap();
-		params.pushString(KEY_EVENT_NAME, NodeProps.ON_TOUCH_CANCEL);
-		params.pushInt(KEY_TAG_ID, mTagId);
-		params.pushDouble(KEY_PAGE_X, PixelUtil.px2dp(viewCoords[0] + x));
-		params.pushDouble(KEY_PAGE_Y, PixelUtil.px2dp(viewCoords[1] + y));
+		params.pushString(KEY_EVENT_NAME, eventName);
+		params.pushInt(KEY_TAG_ID, tagId);
+		params.pushDouble(KEY_PAGE_X, PixelUtil.px2dp(sViewCoords[0] + x));
+		params.pushDouble(KEY_PAGE_Y, PixelUtil.px2dp(sViewCoords[1] + y));
 		context.getModuleManager().getJavaScriptModule(EventDispatcher.class).receiveNativeGesture(params);
 	}
 
@@ -295,6 +287,8 @@ public class NativeGestureDispatcher implements NativeGestureProcessor.Callback
 
 	private static void getLocationInWindow(HippyEngineContext context, int id, int[] viewCoords)
 	{
+		viewCoords[0] = 0;
+		viewCoords[1] = 0;
 		if (id >= 0)
 		{
 			View view = context.getRenderManager().getControllerManager().findView(id);
@@ -0,0 +1,97 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.uimanager;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FileName: PropsSetterRegistry
+ * Description：class -> {@link HippyPropsSetter}, filled by {@link #register} or on first use by loading the class
+ * named like the target class followed by {@link #CLASS_SUFFIX}. Safe to use from the dom and the ui thread.
+ * History：
+ */
+public final class PropsSetterRegistry
+{
+	public static final String										CLASS_SUFFIX	= "PropsSetter";
+
+	// remembers the classes without a setter, so the class loader is asked only once
+	private static final HippyPropsSetter							NONE			= new HippyPropsSetter()
+																					{
+																						@Override
+																						public String[] getPropNames()
+																						{
+																							return new String[0];
+																						}
+
+																						@Override
+																						public void setProp(Object target, Object view, String prop, Object value)
+																						{
+																						}
+																					};
+
+	private static final ConcurrentHashMap<Class, HippyPropsSetter>	SETTERS			= new ConcurrentHashMap<>();
+
+	private PropsSetterRegistry()
+	{
+	}
+
+	/**
+	 * only affects the classes whose props are not looked up yet
+	 */
+	public static void register(Class cls, HippyPropsSetter setter)
+	{
+		SETTERS.put(cls, setter);
+	}
+
+	/**
+	 * @return null if cls has no setter and its props go through reflection
+	 */
+	public static HippyPropsSetter get(Class cls)
+	{
+		HippyPropsSetter setter = SETTERS.get(cls);
+		if (setter == null)
+		{
+			setter = load(cls);
+			HippyPropsSetter old = SETTERS.putIfAbsent(cls, setter);
+			if (old != null)
+			{
+				setter = old;
+			}
+		}
+		return setter == NONE ? null : setter;
+	}
+
+	private static HippyPropsSetter load(Class cls)
+	{
+		try
+		{
+			Class setterCls = Class.forName(cls.getName() + CLASS_SUFFIX, true, cls.getClassLoader());
+			if (HippyPropsSetter.class.isAssignableFrom(setterCls))
+			{
+				return (HippyPropsSetter) setterCls.newInstance();
+			}
+		}
+		catch (ClassNotFoundException e)
+		{
+			// no setter for this class
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+		}
+		return NONE;
+	}
+}
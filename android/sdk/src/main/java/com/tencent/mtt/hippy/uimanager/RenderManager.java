@@ -53,10 +53,13 @@ public class RenderManager
 
 	ControllerManager			mControllerManager;
 
+	final TouchMoveBatcher		mTouchMoveBatcher;
+
 	public RenderManager(HippyEngineContext hippyContext, List<HippyAPIProvider> packages)
 	{
 		mContext = hippyContext;
 		mControllerManager = new ControllerManager(hippyContext, packages);
+		mTouchMoveBatcher = new TouchMoveBatcher(hippyContext);
 	}
 
 	public ControllerManager getControllerManager()
@@ -64,6 +67,11 @@ public class RenderManager
 		return mControllerManager;
 	}
 
+	TouchMoveBatcher getTouchMoveBatcher()
+	{
+		return mTouchMoveBatcher;
+	}
+
 	public void createRootNode(int id)
 	{
 		RenderNode uiNode = new RenderNode(id, NodeProps.ROOT_NODE, mControllerManager);
@@ -72,6 +80,7 @@ public class RenderManager
 
 	public void destroy()
 	{
+		mTouchMoveBatcher.destroy();
 		getControllerManager().destroy();
 	}
 
@@ -140,6 +140,39 @@ public class RenderNode
 		return view;
 	}
 
+	/**
+	 * creates the views of this subtree ahead of its createViewRecursive, which picks them up. The views are
+	 * neither attached nor given their props yet. The subtrees of lazy controllers, the items of a nested list and
+	 * the refresh headers and footers, are skipped: their own list creates them when it binds them
+	 */
+	public void createPreViewRecursive()
+	{
+		if (!mIsDelete && !TextUtils.equals(NodeProps.ROOT_NODE, mClassName) && !mComponentManager.hasView(mId)
+				&& !mComponentManager.hasPreView(mId))
+		{
+			mComponentManager.createPreView(mRootView, mId, mClassName, mProps);
+		}
+		for (RenderNode renderNode : mChildren)
+		{
+			if (!mComponentManager.isControllerLazy(renderNode.mClassName))
+			{
+				renderNode.createPreViewRecursive();
+			}
+		}
+	}
+
+	/**
+	 * drops the views created by createPreViewRecursive that were not picked up
+	 */
+	public void removePreViewRecursive()
+	{
+		mComponentManager.removePreView(mId);
+		for (RenderNode renderNode : mChildren)
+		{
+			renderNode.removePreViewRecursive();
+		}
+	}
+
 	public void updateViewRecursive()
 	{
 		update();
@@ -430,6 +463,18 @@ public class RenderNode
 		this.mWidth = w;
 		this.mHeight = h;
 		mHasUpdateLayout = true;
+		if (mParent != null)
+		{
+			mParent.onChildLayoutUpdated(this);
+		}
+	}
+
+	/**
+	 * called after the layout of a child was updated
+	 */
+	protected void onChildLayoutUpdated(RenderNode child)
+	{
+
 	}
 
 	public void measureInWindow(Promise promise)
@@ -0,0 +1,173 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.uimanager;
+
+import android.os.SystemClock;
+import android.util.SparseArray;
+
+import com.tencent.mtt.hippy.HippyEngineContext;
+import com.tencent.mtt.hippy.common.HippyMap;
+import com.tencent.mtt.hippy.dom.HippyChoreographer;
+import com.tencent.mtt.hippy.dom.node.NodeProps;
+import com.tencent.mtt.hippy.modules.javascriptmodules.EventDispatcher;
+import com.tencent.mtt.hippy.utils.UIThreadUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * FileName: TouchMoveBatcher
+ * Description：coalesces the onTouchMove events of an engine into one event per view per frame. The samples are
+ * kept in pooled float arrays, the event of a frame carries the last sample as page_x and page_y, and all the
+ * samples as history: page x, page y and the ms since the first sample, 3 numbers per sample, when there is more
+ * than one. The pending moves are sent before a touch down, end or cancel, so js gets the events in order. Used on
+ * the ui thread.
+ * History：
+ */
+class TouchMoveBatcher implements HippyChoreographer.FrameCallback
+{
+	static final String					KEY_HISTORY			= "history";
+	static final int					SAMPLE_SIZE			= 3;
+
+	private static final int			MAX_POOLED_MOVES	= 8;
+
+	private static final class PendingMove
+	{
+		int		mTagId;
+		long	mFirstTime;
+		float[]	mSamples	= new float[SAMPLE_SIZE * 8];
+		int		mSize;
+	}
+
+	private final HippyEngineContext		mContext;
+	private final SparseArray<PendingMove>	mPendingMoves		= new SparseArray<>();
+	private final ArrayList<PendingMove>	mPool				= new ArrayList<>();
+	private boolean							mFrameScheduled		= false;
+	private boolean							mDestroyed			= false;
+
+	TouchMoveBatcher(HippyEngineContext context)
+	{
+		mContext = context;
+	}
+
+	/**
+	 * @param pageX in dp
+	 * @param pageY in dp
+	 */
+	void addMove(int tagId, float pageX, float pageY)
+	{
+		if (mDestroyed)
+		{
+			return;
+		}
+
+		long now = SystemClock.uptimeMillis();
+		PendingMove move = mPendingMoves.get(tagId);
+		if (move == null)
+		{
+			move = mPool.isEmpty() ? new PendingMove() : mPool.remove(mPool.size() - 1);
+			move.mTagId = tagId;
+			move.mFirstTime = now;
+			move.mSize = 0;
+			mPendingMoves.put(tagId, move);
+		}
+		if (move.mSize + SAMPLE_SIZE > move.mSamples.length)
+		{
+			move.mSamples = Arrays.copyOf(move.mSamples, move.mSamples.length * 2);
+		}
+		move.mSamples[move.mSize++] = pageX;
+		move.mSamples[move.mSize++] = pageY;
+		move.mSamples[move.mSize++] = now - move.mFirstTime;
+
+		if (!mFrameScheduled)
+		{
+			mFrameScheduled = true;
+			HippyChoreographer.getInstance().postFrameCallback(this);
+		}
+	}
+
+	/**
+	 * sends the pending moves of all views, called before the other touch events are sent
+	 */
+	void flush()
+	{
+		int size = mPendingMoves.size();
+		if (size == 0)
+		{
+			return;
+		}
+
+		EventDispatcher dispatcher = mContext.getModuleManager().getJavaScriptModule(EventDispatcher.class);
+		for (int i = 0; i < size; i++)
+		{
+			PendingMove move = mPendingMoves.valueAt(i);
+			HippyMap params = new HippyMap();
+			params.pushString(NativeGestureDispatcher.KEY_EVENT_NAME, NodeProps.ON_TOUCH_MOVE);
+			params.pushInt(NativeGestureDispatcher.KEY_TAG_ID, move.mTagId);
+			params.pushDouble(NativeGestureDispatcher.KEY_PAGE_X, move.mSamples[move.mSize - SAMPLE_SIZE]);
+			params.pushDouble(NativeGestureDispatcher.KEY_PAGE_Y, move.mSamples[move.mSize - SAMPLE_SIZE + 1]);
+			if (move.mSize > SAMPLE_SIZE)
+			{
+				// the bridge serializes the params later on its own thread, the samples of the view are reused
+				params.pushObject(KEY_HISTORY, Arrays.copyOf(move.mSamples, move.mSize));
+			}
+			dispatcher.receiveNativeGesture(params);
+			recycle(move);
+		}
+		mPendingMoves.clear();
+	}
+
+	@Override
+	public void doFrame(long frameTimeNanos)
+	{
+		mFrameScheduled = false;
+		if (!mDestroyed)
+		{
+			flush();
+		}
+	}
+
+	void destroy()
+	{
+		UIThreadUtils.runOnUiThread(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				mDestroyed = true;
+				if (mFrameScheduled)
+				{
+					HippyChoreographer.getInstance().removeFrameCallback(TouchMoveBatcher.this);
+					mFrameScheduled = false;
+				}
+				for (int i = 0; i < mPendingMoves.size(); i++)
+				{
+					recycle(mPendingMoves.valueAt(i));
+				}
+				mPendingMoves.clear();
+			}
+		});
+	}
+
+	private void recycle(PendingMove move)
+	{
+		if (mPool.size() < MAX_POOLED_MOVES)
+		{
+			move.mSize = 0;
+			mPool.add(move);
+		}
+	}
+}
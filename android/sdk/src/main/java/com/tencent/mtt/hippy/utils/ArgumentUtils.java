@@ -307,6 +307,20 @@ public class ArgumentUtils
 		{
 			byteBuffer.putByteArray((byte[]) obj);
 		}
+		else if (obj instanceof float[])
+		{
+			byteBuffer.putByte((byte) '[');
+			float[] array = (float[]) obj;
+			for (int i = 0; i < array.length; i++)
+			{
+				byteBuffer.putFloat(Float.isNaN(array[i]) ? 0 : array[i]);
+				if (i != array.length - 1)
+				{
+					byteBuffer.putByte((byte) ',');
+				}
+			}
+			byteBuffer.putByte((byte) ']');
+		}
 
 		else if (obj instanceof HippyArray)
 		{
@@ -399,6 +413,20 @@ public class ArgumentUtils
 		{
 			builder.append(Float.isNaN((float) obj) ? 0 : obj);
 		}
+		else if (obj instanceof float[])
+		{
+			builder.append("[");
+			float[] array = (float[]) obj;
+			for (int i = 0; i < array.length; i++)
+			{
+				builder.append(Float.isNaN(array[i]) ? 0 : array[i]);
+				if (i != array.length - 1)
+				{
+					builder.append(",");
+				}
+			}
+			builder.append("]");
+		}
 		else if (obj instanceof HippyArray)
 		{
 			builder.append("[");
@@ -475,6 +503,46 @@ public class ArgumentUtils
 		throw new RuntimeException("parseArgument exception");
 	}
 
+	/**
+	 * decode the value at the reader's cursor as paramCls, the cursor is moved past the value
+	 */
+	public static Object parseArgument(Type paramCls, HippyBufferReader reader)
+	{
+		if (paramCls == String.class)
+		{
+			return reader.readString();
+		}
+		else if (paramCls == int.class || paramCls == Integer.class)
+		{
+			return reader.readInt();
+		}
+		else if (paramCls == long.class || paramCls == Long.class)
+		{
+			return reader.readLong();
+		}
+		else if (paramCls == double.class || paramCls == Double.class)
+		{
+			return reader.readDouble();
+		}
+		else if (paramCls == boolean.class || paramCls == Boolean.class)
+		{
+			return reader.readBoolean();
+		}
+		else if (paramCls == float.class || paramCls == Float.class)
+		{
+			return (float) reader.readDouble();
+		}
+		else if (paramCls == HippyArray.class)
+		{
+			return reader.readArray();
+		}
+		else if (paramCls == HippyMap.class)
+		{
+			return reader.readMap();
+		}
+		throw new RuntimeException("parseArgument exception");
+	}
+
 	public static Object parseArgument(Type paramCls, HippyMap map, String key)
 	{
 		if (paramCls == String.class)
@@ -137,6 +137,14 @@ public class GrowByteBuffer
 		return this;
 	}
 
+	public GrowByteBuffer putByteArray(byte[] bytes, int offset, int len)
+	{
+		ensureCapacityInternal(count + len);
+		System.arraycopy(bytes, offset, value, count, len);
+		count += len;
+		return this;
+	}
+
 	public GrowByteBuffer putByte(byte onebyte)
 	{
 		ensureCapacityInternal(count + 1);
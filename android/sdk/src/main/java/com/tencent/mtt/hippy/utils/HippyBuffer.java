@@ -17,6 +17,7 @@ package com.tencent.mtt.hippy.utils;
 
 import android.util.Log;
 import android.util.LruCache;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,33 +34,33 @@ public class HippyBuffer
 {
 	private static final String		TAG							= "HippyBuffer";
 
-	private static final byte		TYPE_NULL					= 0x00;
+	static final byte				TYPE_NULL					= 0x00;
 
-	private static final byte		TYPE_STRING					= 0x01;
+	static final byte				TYPE_STRING					= 0x01;
 
-	private static final byte		TYPE_BOOLEAN_TRUE			= 0x02;
+	static final byte				TYPE_BOOLEAN_TRUE			= 0x02;
 
-	private static final byte		TYPE_BOOLEAN_FALSE			= 0x03;
+	static final byte				TYPE_BOOLEAN_FALSE			= 0x03;
 
-	private static final byte		TYPE_INTEGER				= 0x04;
+	static final byte				TYPE_INTEGER				= 0x04;
 
-	private static final byte		TYPE_DOUBLE					= 0x05;
+	static final byte				TYPE_DOUBLE					= 0x05;
 
-	private static final byte		TYPE_ARRAY					= 0x06;
+	static final byte				TYPE_ARRAY					= 0x06;
 
-	private static final byte		TYPE_MAP					= 0x07;
+	static final byte				TYPE_MAP					= 0x07;
 
-	private static final byte		TYPE_ONE_BYTE_STRING		= 0x08;
+	static final byte				TYPE_ONE_BYTE_STRING		= 0x08;
 
-	private static final byte		TYPE_UNDEFINED				= (byte) 0xFF;
+	static final byte				TYPE_UNDEFINED				= (byte) 0xFF;
 
 	private static final Object		VALUE_UNDEFINED				= new Object();
 
-	private static final Charset	CHARSET_FOR_ONE_BYTE_STR	= loadOneByteStrCharset();
+	static final Charset			CHARSET_FOR_ONE_BYTE_STR	= loadOneByteStrCharset();
     private static final ThreadLocal<char[]>	        sThreadCharBuffer		    = new ThreadLocal<char[]>();
 
-    private static final int					        MAP_PROPERTY_POOL_SZIE	    = 2 * 1024;
-    private static final String[]				        sPropertyCachePool		    = new String[MAP_PROPERTY_POOL_SZIE];
+    static final int					                MAP_PROPERTY_POOL_SZIE	    = 2 * 1024;
+    static final String[]				                sPropertyCachePool		    = new String[MAP_PROPERTY_POOL_SZIE];
 
 	private static final byte[]							BASE64_IMG_HEADER			= new byte[] { 'd', 'a', 't', 'a', ':', 'i', 'm', 'a', 'g', 'e',
 			'/' };
@@ -126,6 +127,34 @@ public class HippyBuffer
 		}
 	}
 
+	/**
+	 * construct a specific hippy structure straight from a (direct or heap)
+	 * byte buffer, without copying its content into a java byte array first.
+	 * the buffer is read between its position and limit, and is not modified
+	 *
+	 * @param data byte buffer from brigde
+	 */
+	public final Object parse(ByteBuffer data)
+	{
+		if (data == null || !data.hasRemaining())
+		{
+			return new HippyArray();
+		}
+		try
+		{
+			HippyBufferReader reader = new HippyBufferReader(data);
+			Object object = reader.readValue();
+			reader.release();
+
+			return object;
+		}
+		catch (Throwable e)
+		{
+			LogUtils.e(TAG, "Error Parsing Buffer", e);
+			return new HippyArray();
+		}
+	}
+
 
 	/**
 	 * serialize an object to hippy buffer data
@@ -156,6 +185,35 @@ public class HippyBuffer
 		return hippyBuffer;
 	}
 
+	/**
+	 * serialize an object to hippy buffer data into a reusable output buffer. values are
+	 * written the way {@link ArgumentUtils#objectToJson(Object)} writes them (null as an
+	 * empty string, NaN as 0), so js sees the same arguments whichever encoding is used
+	 *
+	 * @param object the object which is used to build a hippy-buffer
+	 * @param output reset and filled with the serialized data, valid in [0, output.length())
+	 * @return false if the object can not be serialized, e.g. contains an unsupported type,
+	 *         the content of output is undefined in this case
+	 */
+	public final boolean build(Object object, GrowByteBuffer output)
+	{
+		output.reset();
+		try
+		{
+			Builder builder = new Builder();
+			builder.mJsonCompatible = true;
+			builder.writeObject(object);
+			builder.writeTo(output);
+			builder.release();
+			return true;
+		}
+		catch (Throwable e)
+		{
+			LogUtils.e(TAG, "Error Building Buffer", e);
+			return false;
+		}
+	}
+
 	public final void release()
     {
         mImgStringCache.evictAll();
@@ -323,7 +381,8 @@ public class HippyBuffer
 
 				if (cache == null)
 				{
-					cache = new String(mBuffer, mPosition, length);
+					// interned so that the maps can match it against the NodeProps constants by identity
+					cache = new String(mBuffer, mPosition, length).intern();
 					sPropertyCachePool[propCacheIndex] = cache;
 				}
 			}
@@ -478,6 +537,7 @@ public class HippyBuffer
 		private byte[]										mBuffer;
 		private int											mPosition;
 		private ArrayList<Object>							mReferenceStack;
+		private boolean										mJsonCompatible;
 
 		private Builder()
 		{
@@ -510,6 +570,11 @@ public class HippyBuffer
 			return hippyBuffer;
 		}
 
+		private final void writeTo(GrowByteBuffer output)
+		{
+			output.putByteArray(mBuffer, 0, mPosition);
+		}
+
 		private final void release()
 		{
 			if (mBuffer.length <= 1024 * 16)
@@ -573,6 +638,28 @@ public class HippyBuffer
 				Number number = (Number) object;
 				writeNumber(number);
 			}
+			else if (object instanceof float[])
+			{
+				// a js array of numbers, written without boxing the elements
+				float[] array = (float[]) object;
+				ensureBufferSize(8);
+				writeDataType(TYPE_ARRAY);
+				writeUnsignedInt(array.length);
+				for (float value : array)
+				{
+					ensureBufferSize(12);
+					if (mJsonCompatible && Float.isNaN(value))
+					{
+						writeDataType(TYPE_INTEGER);
+						writeInteger(0);
+					}
+					else
+					{
+						writeDataType(TYPE_DOUBLE);
+						writeDouble(value);
+					}
+				}
+			}
 			else if (object instanceof Boolean)
 			{
 				ensureBufferSize(2);
@@ -589,7 +676,19 @@ public class HippyBuffer
 			else if (object == null)
 			{
 				ensureBufferSize(2);
-				writeDataType(TYPE_NULL);
+				if (mJsonCompatible)
+				{
+					writeDataType(TYPE_STRING);
+					writeUnsignedInt(0);
+				}
+				else
+				{
+					writeDataType(TYPE_NULL);
+				}
+			}
+			else
+			{
+				throw new RuntimeException("Unsupported Type " + object.getClass().getName());
 			}
 		}
 
@@ -601,10 +700,19 @@ public class HippyBuffer
 				writeDataType(TYPE_INTEGER);
 				writeInteger(number.intValue());
 			}
-			else if (number instanceof Float || number instanceof Double || number instanceof Long)
+			else
 			{
-				writeDataType(TYPE_DOUBLE);
-				writeDouble(number.doubleValue());
+				double value = number.doubleValue();
+				if (mJsonCompatible && Double.isNaN(value))
+				{
+					writeDataType(TYPE_INTEGER);
+					writeInteger(0);
+				}
+				else
+				{
+					writeDataType(TYPE_DOUBLE);
+					writeDouble(value);
+				}
 			}
 		}
 
@@ -629,10 +737,6 @@ public class HippyBuffer
 
 		private final void writeProperty(String value)
 		{
-			ensureBufferSize(2);
-			mBuffer[mPosition] = (byte) 0xF0;
-			mBuffer[mPosition + 1] = (byte) 0x00;
-			mPosition += 2;
 			writeString(value);
 		}
 
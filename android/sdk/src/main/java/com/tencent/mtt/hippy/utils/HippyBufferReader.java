@@ -0,0 +1,545 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.utils;
+
+import com.tencent.mtt.hippy.common.HippyArray;
+import com.tencent.mtt.hippy.common.HippyMap;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * FileName: HippyBufferReader
+ * Description：cursor-style reader of hippy-buffer data. Values are decoded in place from
+ * the backing {@link ByteBuffer} (heap or direct), and a {@link HippyArray}/{@link HippyMap}
+ * is only built for the values that are asked for with {@link #readValue()}, {@link #readArray()}
+ * or {@link #readMap()}. Everything else is skipped without allocation.
+ * History：
+ */
+public final class HippyBufferReader
+{
+	private static final int					PROPERTY_HASH_VALUE		= 5381;
+
+	private static final int					MAX_PROPERTY_LENGTH		= 32;
+
+	private static final int					MAX_SCRATCH_SIZE		= 16 * 1024;
+
+	private static final int					POOLED_BUFFER_SIZE		= 4 * 1024;
+
+	private static final int					MAX_POOLED_BUFFER_SIZE	= 64 * 1024;
+
+	private static final int					BUFFER_POOL_SIZE		= 8;
+
+	private static final ThreadLocal<byte[]>	sScratchBuffer			= new ThreadLocal<byte[]>();
+
+	private static final byte[][]				sBufferPool				= new byte[BUFFER_POOL_SIZE][];
+
+	private static int							sBufferPoolSize			= 0;
+
+	private ByteBuffer							mBuffer;
+
+	private byte[]								mPooledArray;
+
+	private int									mPosition;
+
+	private int									mLimit;
+
+	public HippyBufferReader(ByteBuffer buffer)
+	{
+		mBuffer = buffer;
+		mPosition = buffer.position();
+		mLimit = buffer.limit();
+	}
+
+	/**
+	 * copy the content of a buffer which is only valid during the current call (e.g. a direct
+	 * buffer wrapping native memory owned by the bridge) into a pooled heap buffer, so that
+	 * the returned reader can be consumed later on another thread. {@link #release()} must be
+	 * called once the reader is no longer used to give the pooled buffer back.
+	 */
+	public static HippyBufferReader obtain(ByteBuffer source)
+	{
+		int length = source.remaining();
+		byte[] array = acquirePooledArray(length);
+		int position = source.position();
+		source.get(array, 0, length);
+		source.position(position);
+
+		HippyBufferReader reader = new HippyBufferReader(ByteBuffer.wrap(array, 0, length));
+		reader.mPooledArray = array;
+		return reader;
+	}
+
+	public void release()
+	{
+		if (mPooledArray != null)
+		{
+			releasePooledArray(mPooledArray);
+			mPooledArray = null;
+		}
+		mBuffer = null;
+		mPosition = 0;
+		mLimit = 0;
+	}
+
+	public int position()
+	{
+		return mPosition;
+	}
+
+	public void position(int position)
+	{
+		if (position < 0 || position > mLimit)
+		{
+			throw new IllegalArgumentException("position out of range " + position + ", limit = " + mLimit);
+		}
+		mPosition = position;
+	}
+
+	public boolean hasNext()
+	{
+		return mBuffer != null && mPosition < mLimit;
+	}
+
+	/**
+	 * @return the type of the next value, without moving the cursor
+	 */
+	public byte peekType()
+	{
+		return mBuffer.get(mPosition);
+	}
+
+	/**
+	 * read the header of an array
+	 *
+	 * @return element count of the array, elements follow the header
+	 */
+	public int readArrayHeader()
+	{
+		byte type = readDataType();
+		if (type != HippyBuffer.TYPE_ARRAY)
+		{
+			throw new IllegalStateException("expect hippy-buffer array but got type " + type + " at " + (mPosition - 1));
+		}
+		return readUnsignedInt();
+	}
+
+	/**
+	 * read the header of a map
+	 *
+	 * @return entry count of the map, each entry is a {@link #readKey()} followed by a value
+	 */
+	public int readMapHeader()
+	{
+		byte type = readDataType();
+		if (type != HippyBuffer.TYPE_MAP)
+		{
+			throw new IllegalStateException("expect hippy-buffer map but got type " + type + " at " + (mPosition - 1));
+		}
+		return readUnsignedInt();
+	}
+
+	/**
+	 * read a map key, short keys are interned in the same pool that {@link HippyBuffer} uses
+	 */
+	public String readKey()
+	{
+		final int length = readUnsignedInt();
+		String key;
+		if (length > MAX_PROPERTY_LENGTH)
+		{
+			key = decodeString(length, Charset.defaultCharset());
+		}
+		else
+		{
+			int hash = PROPERTY_HASH_VALUE;
+			for (int i = 0; i < length; i++)
+			{
+				hash = ((hash << 5) + hash) + (char) mBuffer.get(mPosition + i);
+			}
+			int index = (HippyBuffer.sPropertyCachePool.length - 1) & hash;
+			key = HippyBuffer.sPropertyCachePool[index];
+			if (key != null && !matchString(key, length))
+			{
+				key = null;
+			}
+			if (key == null)
+			{
+				key = decodeString(length, Charset.defaultCharset()).intern();
+				HippyBuffer.sPropertyCachePool[index] = key;
+			}
+		}
+		mPosition += length;
+		return key;
+	}
+
+	public int readInt()
+	{
+		byte type = peekType();
+		if (type == HippyBuffer.TYPE_INTEGER)
+		{
+			mPosition++;
+			return readInteger();
+		}
+		else if (type == HippyBuffer.TYPE_DOUBLE)
+		{
+			mPosition++;
+			return (int) readDoubleBits();
+		}
+		skip();
+		return 0;
+	}
+
+	public long readLong()
+	{
+		byte type = peekType();
+		if (type == HippyBuffer.TYPE_INTEGER)
+		{
+			mPosition++;
+			return readInteger();
+		}
+		else if (type == HippyBuffer.TYPE_DOUBLE)
+		{
+			mPosition++;
+			return (long) readDoubleBits();
+		}
+		skip();
+		return 0;
+	}
+
+	public double readDouble()
+	{
+		byte type = peekType();
+		if (type == HippyBuffer.TYPE_INTEGER)
+		{
+			mPosition++;
+			return readInteger();
+		}
+		else if (type == HippyBuffer.TYPE_DOUBLE)
+		{
+			mPosition++;
+			return readDoubleBits();
+		}
+		skip();
+		return 0;
+	}
+
+	public boolean readBoolean()
+	{
+		byte type = readDataType();
+		if (type == HippyBuffer.TYPE_BOOLEAN_TRUE)
+		{
+			return true;
+		}
+		else if (type == HippyBuffer.TYPE_BOOLEAN_FALSE)
+		{
+			return false;
+		}
+		mPosition--;
+		skip();
+		return false;
+	}
+
+	/**
+	 * same conversion as {@link HippyArray#getString(int)}: non-string values are turned into
+	 * their string representation
+	 */
+	public String readString()
+	{
+		byte type = peekType();
+		if (type == HippyBuffer.TYPE_STRING || type == HippyBuffer.TYPE_ONE_BYTE_STRING)
+		{
+			mPosition++;
+			final int length = readUnsignedInt();
+			String value = decodeString(length, type == HippyBuffer.TYPE_STRING ? Charset.defaultCharset() : HippyBuffer.CHARSET_FOR_ONE_BYTE_STR);
+			mPosition += length;
+			return value;
+		}
+		return String.valueOf(readValue());
+	}
+
+	public HippyArray readArray()
+	{
+		if (peekType() == HippyBuffer.TYPE_ARRAY)
+		{
+			return (HippyArray) readValue();
+		}
+		skip();
+		return null;
+	}
+
+	public HippyMap readMap()
+	{
+		if (peekType() == HippyBuffer.TYPE_MAP)
+		{
+			return (HippyMap) readValue();
+		}
+		skip();
+		return null;
+	}
+
+	/**
+	 * materialize the next value
+	 *
+	 * @return {@link HippyArray}, {@link HippyMap}, String, Integer, Double, Long, Boolean or null
+	 */
+	public Object readValue()
+	{
+		byte type = readDataType();
+		switch (type)
+		{
+			case HippyBuffer.TYPE_STRING:
+			case HippyBuffer.TYPE_ONE_BYTE_STRING:
+			{
+				mPosition--;
+				return readString();
+			}
+			case HippyBuffer.TYPE_INTEGER:
+				return readInteger();
+			case HippyBuffer.TYPE_DOUBLE:
+			{
+				double number = readDoubleBits();
+				if (number > Integer.MAX_VALUE)
+				{
+					long numberLong = (long) number;
+					if (number - numberLong < Double.MIN_NORMAL)
+					{
+						return numberLong;
+					}
+				}
+				return number;
+			}
+			case HippyBuffer.TYPE_MAP:
+			{
+				int size = readUnsignedInt();
+				HippyMap map = new HippyMap();
+				for (int i = 0; i < size; i++)
+				{
+					String key = readKey();
+					if (peekType() == HippyBuffer.TYPE_UNDEFINED)
+					{
+						mPosition++;
+						continue;
+					}
+					map.pushObject(key, readValue());
+				}
+				return map;
+			}
+			case HippyBuffer.TYPE_ARRAY:
+			{
+				int length = readUnsignedInt();
+				HippyArray array = new HippyArray();
+				for (int i = 0; i < length; i++)
+				{
+					array.pushObject(readValue());
+				}
+				return array;
+			}
+			case HippyBuffer.TYPE_BOOLEAN_TRUE:
+				return Boolean.TRUE;
+			case HippyBuffer.TYPE_BOOLEAN_FALSE:
+				return Boolean.FALSE;
+			case HippyBuffer.TYPE_NULL:
+			case HippyBuffer.TYPE_UNDEFINED:
+				return null;
+			default:
+				throw new IllegalStateException("unknown hippy-buffer type " + type + " at " + (mPosition - 1) + ", limit = " + mLimit);
+		}
+	}
+
+	/**
+	 * move the cursor over the next value without materializing it
+	 */
+	public void skip()
+	{
+		byte type = readDataType();
+		switch (type)
+		{
+			case HippyBuffer.TYPE_STRING:
+			case HippyBuffer.TYPE_ONE_BYTE_STRING:
+			{
+				int length = readUnsignedInt();
+				mPosition += length;
+				break;
+			}
+			case HippyBuffer.TYPE_INTEGER:
+				readUnsignedInt();
+				break;
+			case HippyBuffer.TYPE_DOUBLE:
+				mPosition += 8;
+				break;
+			case HippyBuffer.TYPE_MAP:
+			{
+				int size = readUnsignedInt();
+				for (int i = 0; i < size; i++)
+				{
+					int keyLength = readUnsignedInt();
+					mPosition += keyLength;
+					skip();
+				}
+				break;
+			}
+			case HippyBuffer.TYPE_ARRAY:
+			{
+				int length = readUnsignedInt();
+				for (int i = 0; i < length; i++)
+				{
+					skip();
+				}
+				break;
+			}
+			case HippyBuffer.TYPE_BOOLEAN_TRUE:
+			case HippyBuffer.TYPE_BOOLEAN_FALSE:
+			case HippyBuffer.TYPE_NULL:
+			case HippyBuffer.TYPE_UNDEFINED:
+				break;
+			default:
+				throw new IllegalStateException("unknown hippy-buffer type " + type + " at " + (mPosition - 1) + ", limit = " + mLimit);
+		}
+	}
+
+	private byte readDataType()
+	{
+		if (mPosition >= mLimit)
+		{
+			throw new IndexOutOfBoundsException("hippy-buffer underflow at " + mPosition + ", limit = " + mLimit);
+		}
+		return mBuffer.get(mPosition++);
+	}
+
+	private int readInteger()
+	{
+		int raw = readUnsignedInt();
+		int num = (((raw << 31) >> 31) ^ raw) >> 1;
+		return num ^ (raw & (1 << 31));
+	}
+
+	private int readUnsignedInt()
+	{
+		int value = 0;
+		int i = 0;
+		int b;
+		while (((b = mBuffer.get(mPosition)) & 0x80) != 0)
+		{
+			value |= (b & 0x7F) << i;
+			i += 7;
+			mPosition += 1;
+
+			if (i > 35)
+			{
+				throw new IllegalArgumentException("Data length quantity is too long");
+			}
+		}
+		mPosition += 1;
+		return value | (b << i);
+	}
+
+	private double readDoubleBits()
+	{
+		long bits = 0;
+		for (int i = 0; i < 8; i++)
+		{
+			bits = (bits << 8) | (mBuffer.get(mPosition + i) & 0xFFL);
+		}
+		mPosition += 8;
+		return Double.longBitsToDouble(bits);
+	}
+
+	private boolean matchString(String value, int length)
+	{
+		if (value.length() != length)
+		{
+			return false;
+		}
+		for (int i = 0; i < length; i++)
+		{
+			char ch = value.charAt(i);
+			if (ch >= 0x80 || mBuffer.get(mPosition + i) != (byte) ch)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * decode length bytes at the cursor without moving it. heap buffers are decoded from their
+	 * backing array, direct buffers go through a per-thread scratch array
+	 */
+	private String decodeString(int length, Charset charset)
+	{
+		if (length == 0)
+		{
+			return "";
+		}
+		if (mBuffer.hasArray())
+		{
+			return new String(mBuffer.array(), mBuffer.arrayOffset() + mPosition, length, charset);
+		}
+
+		byte[] scratch = sScratchBuffer.get();
+		if (scratch == null || scratch.length < length)
+		{
+			scratch = new byte[Math.max(length, 256)];
+			if (scratch.length <= MAX_SCRATCH_SIZE)
+			{
+				sScratchBuffer.set(scratch);
+			}
+		}
+		for (int i = 0; i < length; i++)
+		{
+			scratch[i] = mBuffer.get(mPosition + i);
+		}
+		return new String(scratch, 0, length, charset);
+	}
+
+	private static byte[] acquirePooledArray(int length)
+	{
+		if (length <= MAX_POOLED_BUFFER_SIZE)
+		{
+			synchronized (sBufferPool)
+			{
+				for (int i = sBufferPoolSize - 1; i >= 0; i--)
+				{
+					byte[] array = sBufferPool[i];
+					if (array.length >= length)
+					{
+						sBufferPoolSize--;
+						sBufferPool[i] = sBufferPool[sBufferPoolSize];
+						sBufferPool[sBufferPoolSize] = null;
+						return array;
+					}
+				}
+			}
+		}
+		return new byte[Math.max(length, POOLED_BUFFER_SIZE)];
+	}
+
+	private static void releasePooledArray(byte[] array)
+	{
+		if (array.length > MAX_POOLED_BUFFER_SIZE)
+		{
+			return;
+		}
+		synchronized (sBufferPool)
+		{
+			if (sBufferPoolSize < BUFFER_POOL_SIZE)
+			{
+				sBufferPool[sBufferPoolSize++] = array;
+			}
+		}
+	}
+}
@@ -0,0 +1,356 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.utils;
+
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.SparseArray;
+import com.tencent.mtt.hippy.adapter.monitor.HippyEngineMonitorAdapter;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * FileName: HippyTracer
+ * Description：spans of the stages of the render pipeline of an engine: parsing the params of callNatives on the
+ * bridge thread, running a native module method, the layout of a dom batch and running the ui tasks of a frame,
+ * with the views created and props set in it. The spans go into a preallocated ring buffer that keeps the last
+ * CAPACITY of them, which can be written to a file in the Chrome trace format, and their durations are counted
+ * in a histogram per stage that is reported every REPORT_INTERVAL_MS to the monitor adapter, if it implements
+ * {@link HippyEngineMonitorAdapter.TraceMonitor}. Disabled by default, then begin() is a volatile read. Thread safe.
+ * History：
+ */
+public class HippyTracer
+{
+	public static final int				STAGE_BRIDGE_PARSE		= 0;
+	public static final int				STAGE_MODULE_DISPATCH	= 1;
+	public static final int				STAGE_DOM_LAYOUT		= 2;
+	public static final int				STAGE_UI_FLUSH			= 3;
+	public static final String[]		STAGE_NAMES				= { "bridgeParse", "moduleDispatch", "domLayout", "uiFlush" };
+
+	// upper bounds of the histogram buckets, the last bucket counts the spans above the last bound
+	public static final int[]			HISTOGRAM_BOUNDS_MS		= { 1, 2, 4, 8, 16, 33, 66 };
+
+	private static final String			TAG						= "HippyTracer";
+	private static final int			CAPACITY				= 4096;
+	private static final long			REPORT_INTERVAL_MS		= 10 * 1000;
+
+	// null if the monitor adapter does not implement TraceMonitor
+	private final HippyEngineMonitorAdapter.TraceMonitor	mMonitorAdapter;
+	private volatile boolean			mEnabled				= false;
+
+	private final Object				mLock					= new Object();
+	private final byte[]				mStages					= new byte[CAPACITY];
+	private final long[]				mStartNanos				= new long[CAPACITY];
+	private final long[]				mDurationNanos			= new long[CAPACITY];
+	private final int[]					mThreadIds				= new int[CAPACITY];
+	private final String[]				mNames					= new String[CAPACITY];
+	private final String[]				mDetails				= new String[CAPACITY];
+	private final int[][]				mArgs					= new int[CAPACITY][3];
+	private int							mNext					= 0;
+	private int							mCount					= 0;
+	private final SparseArray<String>	mThreadNames			= new SparseArray<>();
+	private final int[][]				mHistograms				= new int[STAGE_NAMES.length][HISTOGRAM_BOUNDS_MS.length + 1];
+	private long						mLastReportTime			= SystemClock.elapsedRealtime();
+
+	// ui thread only, counted between two ui flush spans
+	private int							mViewsCreated			= 0;
+	private int							mPropsSet				= 0;
+
+	public HippyTracer(HippyEngineMonitorAdapter monitorAdapter)
+	{
+		mMonitorAdapter = monitorAdapter instanceof HippyEngineMonitorAdapter.TraceMonitor ? (HippyEngineMonitorAdapter.TraceMonitor) monitorAdapter : null;
+	}
+
+	public void setEnabled(boolean enabled)
+	{
+		if (!enabled && mEnabled)
+		{
+			reportHistograms();
+		}
+		mEnabled = enabled;
+	}
+
+	public boolean isEnabled()
+	{
+		return mEnabled;
+	}
+
+	/**
+	 * @return the start of a span to pass to end(), 0 if tracing is disabled
+	 */
+	public long begin()
+	{
+		return mEnabled ? System.nanoTime() : 0;
+	}
+
+	public void end(int stage, long startNanos, String name, String detail)
+	{
+		end(stage, startNanos, name, detail, 0, 0, 0);
+	}
+
+	/**
+	 * @param startNanos the value returned by begin(), the span is dropped if it is 0
+	 */
+	public void end(int stage, long startNanos, String name, String detail, int arg0, int arg1, int arg2)
+	{
+		if (startNanos == 0)
+		{
+			return;
+		}
+		long duration = System.nanoTime() - startNanos;
+		int threadId = Process.myTid();
+		boolean report = false;
+		synchronized (mLock)
+		{
+			int index = mNext;
+			mStages[index] = (byte) stage;
+			mStartNanos[index] = startNanos;
+			mDurationNanos[index] = duration;
+			mThreadIds[index] = threadId;
+			mNames[index] = name;
+			mDetails[index] = detail;
+			mArgs[index][0] = arg0;
+			mArgs[index][1] = arg1;
+			mArgs[index][2] = arg2;
+			mNext = (index + 1) % CAPACITY;
+			mCount = Math.min(mCount + 1, CAPACITY);
+			if (mThreadNames.indexOfKey(threadId) < 0)
+			{
+				mThreadNames.put(threadId, Thread.currentThread().getName());
+			}
+
+			mHistograms[stage][getBucket(duration / 1000000)]++;
+			long now = SystemClock.elapsedRealtime();
+			if (now - mLastReportTime >= REPORT_INTERVAL_MS)
+			{
+				mLastReportTime = now;
+				report = true;
+			}
+		}
+		if (report)
+		{
+			reportHistograms();
+		}
+	}
+
+	/**
+	 * called on the ui thread when a view is created
+	 */
+	public void countViewCreated()
+	{
+		if (mEnabled)
+		{
+			mViewsCreated++;
+		}
+	}
+
+	/**
+	 * called on the ui thread when props are set on a view
+	 */
+	public void countPropsSet()
+	{
+		if (mEnabled)
+		{
+			mPropsSet++;
+		}
+	}
+
+	/**
+	 * ends a ui flush span with the views created and props set since the previous one, on the ui thread
+	 */
+	public void endUIFlush(long startNanos, int executedTasks)
+	{
+		int viewsCreated = mViewsCreated;
+		int propsSet = mPropsSet;
+		mViewsCreated = 0;
+		mPropsSet = 0;
+		end(STAGE_UI_FLUSH, startNanos, null, null, executedTasks, viewsCreated, propsSet);
+	}
+
+	/**
+	 * reports the histograms counted since the last report and clears them
+	 */
+	public void reportHistograms()
+	{
+		int[][] histograms = new int[STAGE_NAMES.length][];
+		synchronized (mLock)
+		{
+			for (int stage = 0; stage < STAGE_NAMES.length; stage++)
+			{
+				histograms[stage] = mHistograms[stage].clone();
+				Arrays.fill(mHistograms[stage], 0);
+			}
+		}
+		if (mMonitorAdapter == null)
+		{
+			return;
+		}
+		for (int stage = 0; stage < STAGE_NAMES.length; stage++)
+		{
+			int total = 0;
+			for (int count : histograms[stage])
+			{
+				total += count;
+			}
+			if (total > 0)
+			{
+				mMonitorAdapter.reportTraceHistogram(STAGE_NAMES[stage], HISTOGRAM_BOUNDS_MS, histograms[stage]);
+			}
+		}
+	}
+
+	/**
+	 * writes the spans in the ring buffer to file in the Chrome trace event format, it can be opened in
+	 * chrome://tracing or Perfetto
+	 */
+	public void exportChromeTrace(File file) throws IOException
+	{
+		int count;
+		byte[] stages = new byte[CAPACITY];
+		long[] startNanos = new long[CAPACITY];
+		long[] durationNanos = new long[CAPACITY];
+		int[] threadIds = new int[CAPACITY];
+		String[] names = new String[CAPACITY];
+		String[] details = new String[CAPACITY];
+		int[][] args = new int[CAPACITY][];
+		SparseArray<String> threadNames;
+		synchronized (mLock)
+		{
+			count = mCount;
+			int first = (mNext - count + CAPACITY) % CAPACITY;
+			for (int i = 0; i < count; i++)
+			{
+				int index = (first + i) % CAPACITY;
+				stages[i] = mStages[index];
+				startNanos[i] = mStartNanos[index];
+				durationNanos[i] = mDurationNanos[index];
+				threadIds[i] = mThreadIds[index];
+				names[i] = mNames[index];
+				details[i] = mDetails[index];
+				args[i] = mArgs[index].clone();
+			}
+			threadNames = mThreadNames.clone();
+		}
+
+		int pid = Process.myPid();
+		Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+		try
+		{
+			writer.write("{\"traceEvents\":[");
+			boolean first = true;
+			for (int i = 0; i < threadNames.size(); i++)
+			{
+				if (!first)
+				{
+					writer.write(',');
+				}
+				first = false;
+				writer.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":" + pid + ",\"tid\":" + threadNames.keyAt(i)
+						+ ",\"args\":{\"name\":\"" + escape(threadNames.valueAt(i)) + "\"}}");
+			}
+			for (int i = 0; i < count; i++)
+			{
+				if (!first)
+				{
+					writer.write(',');
+				}
+				first = false;
+				String stageName = STAGE_NAMES[stages[i]];
+				StringBuilder event = new StringBuilder(160);
+				event.append("{\"name\":\"").append(names[i] != null ? escape(names[i]) : stageName).append('"');
+				event.append(",\"cat\":\"").append(stageName).append('"');
+				event.append(",\"ph\":\"X\",\"ts\":").append(startNanos[i] / 1000).append(",\"dur\":").append(durationNanos[i] / 1000);
+				event.append(",\"pid\":").append(pid).append(",\"tid\":").append(threadIds[i]);
+				event.append(",\"args\":{");
+				appendArgs(event, stages[i], details[i], args[i]);
+				event.append("}}");
+				writer.write(event.toString());
+			}
+			writer.write("]}");
+		}
+		finally
+		{
+			writer.close();
+		}
+		LogUtils.d(TAG, "exported " + count + " spans to " + file);
+	}
+
+	private static void appendArgs(StringBuilder event, int stage, String detail, int[] args)
+	{
+		switch (stage)
+		{
+			case STAGE_MODULE_DISPATCH:
+				event.append("\"method\":\"").append(detail != null ? escape(detail) : "").append('"');
+				break;
+			case STAGE_DOM_LAYOUT:
+				event.append("\"roots\":").append(args[0]).append(",\"uiTasks\":").append(args[1]);
+				break;
+			case STAGE_UI_FLUSH:
+				event.append("\"tasks\":").append(args[0]).append(",\"viewsCreated\":").append(args[1]).append(",\"propsSet\":").append(args[2]);
+				break;
+			default:
+				event.append("\"bytes\":").append(args[0]);
+				break;
+		}
+	}
+
+	private static int getBucket(long durationMs)
+	{
+		for (int i = 0; i < HISTOGRAM_BOUNDS_MS.length; i++)
+		{
+			if (durationMs < HISTOGRAM_BOUNDS_MS[i])
+			{
+				return i;
+			}
+		}
+		return HISTOGRAM_BOUNDS_MS.length;
+	}
+
+	private static String escape(String value)
+	{
+		StringBuilder builder = null;
+		for (int i = 0; i < value.length(); i++)
+		{
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\' || c < 0x20)
+			{
+				if (builder == null)
+				{
+					builder = new StringBuilder(value.length() + 8).append(value, 0, i);
+				}
+				if (c < 0x20)
+				{
+					builder.append(String.format("\\u%04x", (int) c));
+				}
+				else
+				{
+					builder.append('\\').append(c);
+				}
+			}
+			else if (builder != null)
+			{
+				builder.append(c);
+			}
+		}
+		return builder != null ? builder.toString() : value;
+	}
+}
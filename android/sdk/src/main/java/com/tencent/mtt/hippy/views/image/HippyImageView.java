@@ -37,6 +37,7 @@ import com.tencent.mtt.hippy.uimanager.HippyViewBase;
 import com.tencent.mtt.hippy.uimanager.HippyViewController;
 import com.tencent.mtt.hippy.uimanager.HippyViewEvent;
 import com.tencent.mtt.hippy.uimanager.NativeGestureDispatcher;
+import com.tencent.mtt.hippy.uimanager.RenderNode;
 import com.tencent.mtt.hippy.utils.PixelUtil;
 import com.tencent.mtt.hippy.utils.UrlUtils;
 import com.tencent.mtt.hippy.views.common.CommonBackgroundDrawable;
@@ -129,6 +130,12 @@ public class HippyImageView extends AsyncImageView implements CommonBorder, Hipp
 	private OnLoadStartEvent			mOnLoadStartEvent;
 	private boolean[]					mShouldSendImageEvent;
 	private Rect						mNinePatchRect;
+	private HippyImageLoader.DecodeTask	mDecodeTask;
+	private HippyImageLoader.DecodeTask	mDefaultSourceDecodeTask;
+	private boolean						mDefaultSourcePending;
+	// 还没有尺寸时不解码，等onSizeChanged再按尺寸解码
+	private boolean						mDecodeWaitingForSize;
+	private boolean						mDefaultSourceDecodeWaitingForSize;
 
 	public HippyImageView(Context context)
 	{
@@ -219,7 +226,96 @@ public class HippyImageView extends AsyncImageView implements CommonBorder, Hipp
 	@Override
 	protected boolean shouldUseFetchImageMode(String url)
 	{
-		return UrlUtils.isWebUrl(url) || UrlUtils.isFileUrl(url);
+		return UrlUtils.isWebUrl(url) || UrlUtils.isFileUrl(url) || isDecodeInBackground(url);
+	}
+
+	// base64和assets图片交给HippyImageLoader在解码线程上按view尺寸解码，不再在主线程同步解码
+	private boolean isDecodeInBackground(String url)
+	{
+		return mImageAdapter instanceof HippyImageLoader && url != null
+				&& (url.startsWith("data:") || url.startsWith("assets://"));
+	}
+
+	private void cancelDecodeTask(int sourceType)
+	{
+		if (sourceType == SOURCE_TYPE_SRC)
+		{
+			mDecodeWaitingForSize = false;
+			if (mDecodeTask != null)
+			{
+				mDecodeTask.cancel();
+				mDecodeTask = null;
+			}
+		}
+		else
+		{
+			mDefaultSourceDecodeWaitingForSize = false;
+			if (mDefaultSourceDecodeTask != null)
+			{
+				mDefaultSourceDecodeTask.cancel();
+				mDefaultSourceDecodeTask = null;
+			}
+		}
+	}
+
+	@Override
+	protected void onSizeChanged(int w, int h, int oldw, int oldh)
+	{
+		super.onSizeChanged(w, h, oldw, oldh);
+		if (w > 0 && h > 0)
+		{
+			if (mDefaultSourceDecodeWaitingForSize)
+			{
+				mDefaultSourceDecodeWaitingForSize = false;
+				doFetchImage(null, SOURCE_TYPE_DEFAULT_SRC);
+			}
+			if (mDecodeWaitingForSize)
+			{
+				mDecodeWaitingForSize = false;
+				doFetchImage(null, SOURCE_TYPE_SRC);
+			}
+		}
+	}
+
+	@Override
+	protected void onDrawableDetached()
+	{
+		// 换了url或者从窗口上移除(被回收)时，不再需要还没解码完的图片，重新attach时会再次加载
+		if (mDecodeTask != null || mDecodeWaitingForSize)
+		{
+			cancelDecodeTask(SOURCE_TYPE_SRC);
+			if (mUrlFetchState == IMAGE_LOADING)
+			{
+				mUrlFetchState = IMAGE_UNLOAD;
+			}
+		}
+		super.onDrawableDetached();
+	}
+
+	@Override
+	protected void onDetachedFromWindow()
+	{
+		// 默认图只在设置时加载一次，被回收时取消的解码要在重新attach时补上。换url时不取消，默认图还要显示
+		if (mDefaultSourceDecodeTask != null || mDefaultSourceDecodeWaitingForSize)
+		{
+			cancelDecodeTask(SOURCE_TYPE_DEFAULT_SRC);
+			mDefaultSourcePending = true;
+		}
+		super.onDetachedFromWindow();
+	}
+
+	@Override
+	protected void onAttachedToWindow()
+	{
+		super.onAttachedToWindow();
+		if (mDefaultSourcePending)
+		{
+			mDefaultSourcePending = false;
+			if (isDecodeInBackground(mDefaultSourceUrl))
+			{
+				doFetchImage(null, SOURCE_TYPE_DEFAULT_SRC);
+			}
+		}
 	}
 
 	public void setHippyViewDefaultSource(String defaultSourceUrl) {
@@ -247,7 +343,7 @@ public class HippyImageView extends AsyncImageView implements CommonBorder, Hipp
 
 			// 这里不判断下是取背景图片还是取当前图片怎么行？
 			final String url = sourceType == SOURCE_TYPE_SRC ? mUrl : mDefaultSourceUrl;
-			mImageAdapter.fetchImage(url, new HippyImageLoader.Callback()
+			HippyImageLoader.Callback callback = new HippyImageLoader.Callback()
 			{
 				@Override
 				public void onRequestStart(HippyDrawable drawableTarget)
@@ -264,8 +360,12 @@ public class HippyImageView extends AsyncImageView implements CommonBorder, Hipp
 						mUrlFetchState = IMAGE_LOADED;
 					}
 
-					if (sourceType == SOURCE_TYPE_DEFAULT_SRC && !TextUtils.equals(url, mDefaultSourceUrl)) {
-						return;
+					if (sourceType == SOURCE_TYPE_DEFAULT_SRC) {
+						if (!TextUtils.equals(url, mDefaultSourceUrl)) {
+							return;
+						}
+						// 已经解码完，detach时不用取消
+						mDefaultSourceDecodeTask = null;
 					}
 
 					handleImageRequest(drawableTarget, sourceType, null);
@@ -280,15 +380,72 @@ public class HippyImageView extends AsyncImageView implements CommonBorder, Hipp
 						mUrlFetchState = IMAGE_UNLOAD;
 					}
 
-					if (sourceType == SOURCE_TYPE_DEFAULT_SRC && !TextUtils.equals(url, mDefaultSourceUrl)) {
-						return;
+					if (sourceType == SOURCE_TYPE_DEFAULT_SRC) {
+						if (!TextUtils.equals(url, mDefaultSourceUrl)) {
+							return;
+						}
+						// 已经解码完，detach时不用取消
+						mDefaultSourceDecodeTask = null;
 					}
 
 					handleImageRequest(null, sourceType, throwable);
 				}
-			}, param);
+			};
+
+			if (isDecodeInBackground(url))
+			{
+				cancelDecodeTask(sourceType);
+				int width = getWidth();
+				int height = getHeight();
+				if (width <= 0 || height <= 0)
+				{
+					// setUrl在布局前调用，view还没有尺寸，用dom已经算好的布局尺寸
+					RenderNode renderNode = getRenderNode();
+					if (renderNode != null)
+					{
+						width = renderNode.getWidth();
+						height = renderNode.getHeight();
+					}
+				}
+				if (width <= 0 || height <= 0)
+				{
+					// 不按原尺寸解码，等有了尺寸再解码
+					if (sourceType == SOURCE_TYPE_SRC)
+					{
+						mDecodeWaitingForSize = true;
+					}
+					else
+					{
+						mDefaultSourceDecodeWaitingForSize = true;
+					}
+					return;
+				}
+				HippyImageLoader.DecodeTask task = ((HippyImageLoader) mImageAdapter).decodeImage(url, width, height, callback);
+				if (sourceType == SOURCE_TYPE_SRC)
+				{
+					mDecodeTask = task;
+				}
+				else
+				{
+					mDefaultSourceDecodeTask = task;
+				}
+			}
+			else
+			{
+				mImageAdapter.fetchImage(url, callback, param);
+			}
 		}
 	}
+	private RenderNode getRenderNode()
+	{
+		if (!(getContext() instanceof HippyInstanceContext))
+		{
+			return null;
+		}
+		HippyEngineContext engineContext = ((HippyInstanceContext) getContext()).getEngineContext();
+		return engineContext != null ? engineContext.getRenderManager().getRenderNode(getId()) : null;
+	}
+
 	//用户设置了,Js属性设置背景色
 	public void setBackgroundColor(int backgroundColor)
 	{
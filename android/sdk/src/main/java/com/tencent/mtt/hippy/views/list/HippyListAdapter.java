@@ -18,10 +18,12 @@ package com.tencent.mtt.hippy.views.list;
 import android.view.View;
 import android.view.ViewGroup;
 import com.tencent.mtt.hippy.HippyEngineContext;
+import com.tencent.mtt.hippy.adapter.monitor.HippyEngineMonitorAdapter;
 import com.tencent.mtt.hippy.common.HippyMap;
 import com.tencent.mtt.hippy.uimanager.DiffUtils;
 import com.tencent.mtt.hippy.uimanager.HippyViewEvent;
 import com.tencent.mtt.hippy.uimanager.ListItemRenderNode;
+import com.tencent.mtt.hippy.uimanager.ListViewRenderNode;
 import com.tencent.mtt.hippy.uimanager.PullFooterRenderNode;
 import com.tencent.mtt.hippy.uimanager.PullHeaderRenderNode;
 import com.tencent.mtt.hippy.uimanager.RenderNode;
@@ -45,11 +47,15 @@ public class HippyListAdapter extends RecyclerAdapter implements IRecycleItemTyp
 	private static final String			TAG	= "HippyListAdapter";
 	// harryguo: 给hippy sdk提供API：设置提前预加载的条目数量，默认为0
 	private int						mPreloadItemNum = 0;
+	private final ListItemPreCreator	mPreCreator;
+	private long						mBindCount;
+	private long						mBindTimeNanos;
 
 	public HippyListAdapter(RecyclerView recyclerView, HippyEngineContext HippyContext)
 	{
 		super(recyclerView);
 		mHippyContext = HippyContext;
+		mPreCreator = new ListItemPreCreator(this);
 	}
 
   @Override
@@ -94,7 +100,13 @@ public class HippyListAdapter extends RecyclerAdapter implements IRecycleItemTyp
 		//LogUtils.d("HippyListView", "onCreateContentViewWithPos start position " + position);
 		RenderNode contentViewRenderNode = mHippyContext.getRenderManager().getRenderNode(mParentRecyclerView.getId()).getChildAt(position);
 		contentViewRenderNode.setLazy(false);
+		boolean preCreated = mPreCreator.onCreateItem(contentViewRenderNode);
 		View view = contentViewRenderNode.createViewRecursive();
+		if (preCreated)
+		{
+			// the pre-created views of the nodes createViewRecursive has not created a view for
+			contentViewRenderNode.removePreViewRecursive();
+		}
     contentHolder.mContentView = view;
     if (view != null && view instanceof HippyPullHeaderView) {
       ((HippyPullHeaderView)view).setParentView(mParentRecyclerView);
@@ -138,6 +150,7 @@ public class HippyListAdapter extends RecyclerAdapter implements IRecycleItemTyp
 	@Override
 	public void onBindContentView(ContentHolder holder, int position, int layoutType)
 	{
+		long startTime = System.nanoTime();
 		NodeHolder contentHolder = (NodeHolder) holder;
 		//LogUtils.d("HippyListView", "onBindContentView : " + position);
 		if (contentHolder.isCreated)
@@ -196,11 +209,74 @@ public class HippyListAdapter extends RecyclerAdapter implements IRecycleItemTyp
 //			mHippyContext.getGlobalConfigs().getLogAdapter().log(TAG, " doPatch  position: " + position);
 
 			contentHolder.mBindNode = toNode;
+			mPreCreator.onReuseItem(toNode);
 		}
 		if (contentHolder.mBindNode instanceof ListItemRenderNode)
 		{
 			((ListItemRenderNode) contentHolder.mBindNode).setRecycleItemTypeChangeListener(this);
 		}
+		mBindCount++;
+		mBindTimeNanos += System.nanoTime() - startTime;
+		mPreCreator.onItemBound(position);
+	}
+
+	/**
+	 * @return the number of new holders whose item views had been created ahead, while the ui thread was idle,
+	 * since the last {@link #reportItemStats}
+	 */
+	public long getPreCreateHitCount()
+	{
+		return mPreCreator.getHitCount();
+	}
+
+	/**
+	 * @return the number of new holders whose item views were created from scratch, since the last report
+	 */
+	public long getPreCreateMissCount()
+	{
+		return mPreCreator.getMissCount();
+	}
+
+	public long getBindCount()
+	{
+		return mBindCount;
+	}
+
+	/**
+	 * @return the time spent in onBindContentView since the last report, in nanoseconds
+	 */
+	public long getBindTimeNanos()
+	{
+		return mBindTimeNanos;
+	}
+
+	/**
+	 * reports the pre-creation hit rate and the bind time since the last report to the engine monitor adapter, if
+	 * it implements ListMonitor, then starts counting again
+	 */
+	void reportItemStats()
+	{
+		long hitCount = mPreCreator.getHitCount();
+		long missCount = mPreCreator.getMissCount();
+		if (hitCount + missCount == 0 && mBindCount == 0)
+		{
+			return;
+		}
+		int bindTimeMs = (int) (mBindTimeNanos / 1000000);
+		LogUtils.d(TAG, "item stats, pre-create hit " + hitCount + ", miss " + missCount + ", bind " + mBindCount + " in " + bindTimeMs + "ms");
+		HippyEngineMonitorAdapter monitorAdapter = mHippyContext.getGlobalConfigs().getEngineMonitorAdapter();
+		if (monitorAdapter instanceof HippyEngineMonitorAdapter.ListMonitor)
+		{
+			((HippyEngineMonitorAdapter.ListMonitor) monitorAdapter).reportListItemStats((int) hitCount, (int) missCount, (int) mBindCount, bindTimeMs);
+		}
+		mPreCreator.resetCounts();
+		mBindCount = 0;
+		mBindTimeNanos = 0;
+	}
+
+	void dropPreCreatedItems()
+	{
+		mPreCreator.destroy();
 	}
 
 
@@ -214,6 +290,10 @@ public class HippyListAdapter extends RecyclerAdapter implements IRecycleItemTyp
 	{
 		RecyclerViewBase.ViewHolder matchHolder = getScrapViewForPositionInner(position, targetType, recycler);
 		if (matchHolder == null)
+		{
+			matchHolder = getSharedBoundViewForPosition(position, targetType);
+		}
+		if (matchHolder == null)
 		{
 			matchHolder = recycler.getViewHolderForPosition(position);
 		}
@@ -223,9 +303,39 @@ public class HippyListAdapter extends RecyclerAdapter implements IRecycleItemTyp
 			matchHolder = findBestHolderRecursive(position, targetType, recycler);
 		}
 
+		if (matchHolder == null)
+		{
+			matchHolder = getSharedViewForPosition(position, targetType);
+		}
+
 		return matchHolder;
 	}
 
+	// a holder of another list of the engine, its views are created already, onBindContentView diffs them
+	private RecyclerViewBase.ViewHolder getSharedViewForPosition(int position, int type)
+	{
+		HippySharedViewPool sharedPool = mParentRecyclerView instanceof HippyListView ? ((HippyListView) mParentRecyclerView).getSharedViewPool() : null;
+		RenderNode listNode = getListNode();
+		if (sharedPool == null || listNode == null || listNode.getChildCount() <= position)
+		{
+			return null;
+		}
+		return sharedPool.acquire(mParentRecyclerView, type, listNode.getChildAt(position));
+	}
+
+	// a holder this list has put in the shared pool still bound to the item, it must be taken back before another
+	// holder is bound to the item, their views would be registered under the same ids
+	private RecyclerViewBase.ViewHolder getSharedBoundViewForPosition(int position, int type)
+	{
+		HippySharedViewPool sharedPool = mParentRecyclerView instanceof HippyListView ? ((HippyListView) mParentRecyclerView).getSharedViewPool() : null;
+		RenderNode listNode = getListNode();
+		if (sharedPool == null || listNode == null || listNode.getChildCount() <= position)
+		{
+			return null;
+		}
+		return sharedPool.acquireBound(mParentRecyclerView, type, listNode.getChildAt(position));
+	}
+
 	ArrayList<RecyclerViewBase.ViewHolder>	mListViewHolder;
 
 	public int getRecyclerItemCount()
@@ -528,23 +638,13 @@ public class HippyListAdapter extends RecyclerAdapter implements IRecycleItemTyp
     }
     if (mContentHeight == -1)
     {
-      int itemCount = getItemCount();
       mContentHeight = 0;
 
-      if (mParentRecyclerView.mLayoutType == RecyclerViewBase.LAYOUT_TYPE_LIST)
+      // the items are render nodes without DataHolders, so they have no margins
+      ListViewRenderNode listNode = getListNode();
+      if (listNode != null && mParentRecyclerView.mLayoutType == RecyclerViewBase.LAYOUT_TYPE_LIST)
       {
-        for (int i = 0; i < itemCount; i++)
-        {
-          if (mParentRecyclerView.mLayout.canScrollHorizontally()) {
-            mContentHeight += getItemWidth(i);
-            mContentHeight += getItemMaigin(LOCATION_LEFT, i);
-            mContentHeight += getItemMaigin(LOCATION_RIGHT, i);
-          } else {
-            mContentHeight += getItemHeight(i);
-            mContentHeight += getItemMaigin(LOCATION_TOP, i);
-            mContentHeight += getItemMaigin(LOCATION_BOTTOM, i);
-          }
-        }
+        mContentHeight = listNode.getTotalItemSize(mParentRecyclerView.mLayout.canScrollHorizontally());
       }
     }
 
@@ -553,6 +653,51 @@ public class HippyListAdapter extends RecyclerAdapter implements IRecycleItemTyp
     return mContentHeight - footerViewSize;
   }
 
+  @Override
+  public int getHeightBefore(int pos)
+  {
+    ListViewRenderNode listNode = getListNode();
+    if (listNode == null || pos < 0 || pos >= listNode.getChildCount()
+        || mParentRecyclerView.mLayoutType != RecyclerViewBase.LAYOUT_TYPE_LIST)
+    {
+      return super.getHeightBefore(pos);
+    }
+
+    int headerHeight = 0;
+    int headerCount = getHeaderViewCount();
+    for (int i = 1; i <= headerCount; i++)
+    {
+      headerHeight += getHeaderViewHeight(i);
+    }
+    return headerHeight + listNode.getItemOffset(pos, mParentRecyclerView.mLayout.canScrollHorizontally());
+  }
+
+  @Override
+  public int[] getBeginPositionWithOffset(int targetOffset)
+  {
+    ListViewRenderNode listNode = getListNode();
+    if (listNode == null || targetOffset < 0 || targetOffset >= mParentRecyclerView.getCachedTotalHeight()
+        || getHeaderViewCount() > 0 || getFooterViewCount() > 0
+        || mParentRecyclerView.mLayoutType != RecyclerViewBase.LAYOUT_TYPE_LIST)
+    {
+      return super.getBeginPositionWithOffset(targetOffset);
+    }
+
+    boolean horizontal = mParentRecyclerView.mLayout.canScrollHorizontally();
+    int position = targetOffset == 0 ? 0 : listNode.getItemIndexAtOffset(targetOffset, horizontal);
+    if (position >= listNode.getChildCount())
+    {
+      return super.getBeginPositionWithOffset(targetOffset);
+    }
+    return new int[] { position, listNode.getItemOffset(position, horizontal) - targetOffset };
+  }
+
+  ListViewRenderNode getListNode()
+  {
+    RenderNode listNode = mHippyContext.getRenderManager().getRenderNode(mParentRecyclerView.getId());
+    return listNode instanceof ListViewRenderNode ? (ListViewRenderNode) listNode : null;
+  }
+
 	@Override
 	public int getItemCount()
 	{
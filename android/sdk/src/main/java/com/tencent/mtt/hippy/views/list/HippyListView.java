@@ -33,6 +33,7 @@ import com.tencent.mtt.hippy.views.scroll.HippyScrollViewEventHelper;
 import com.tencent.mtt.supportui.views.recyclerview.BaseLayoutManager;
 import com.tencent.mtt.supportui.views.recyclerview.LinearLayoutManager;
 import com.tencent.mtt.supportui.views.recyclerview.RecyclerView;
+import com.tencent.mtt.supportui.views.recyclerview.RecyclerViewBase;
 import com.tencent.mtt.supportui.views.recyclerview.RecyclerViewItem;
 import com.tencent.mtt.supportui.views.recyclerview.Scroller;
 
@@ -42,6 +43,8 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.view.ViewTreeObserver;
 
+import java.util.ArrayList;
+
 public class HippyListView extends RecyclerView implements HippyViewBase
 {
     public final static int	REFRESH_STATE_IDLE                  = 0;
@@ -89,6 +92,10 @@ public class HippyListView extends RecyclerView implements HippyViewBase
     private ViewTreeObserver					mViewTreeObserver				= null;
     private OnInitialListReadyEvent				mOnInitialListReadyEvent;
 
+    private HippySharedViewPool					mSharedViewPool					= null;
+    // the view is deleted, the holders it has given to the shared pool are back in its own pool
+    private boolean								mSharedHoldersReclaimed			= false;
+
     private OnScrollDragStartedEvent			mOnScrollDragStartedEvent;
     private OnScrollDragEndedEvent				mOnScrollDragEndedEvent;
     private OnScrollFlingStartedEvent			mOnScrollFlingStartedEvent;
@@ -102,6 +109,7 @@ public class HippyListView extends RecyclerView implements HippyViewBase
         setRepeatableSuspensionMode(false);
         mListAdapter = createAdapter(this, mHippyContext);
         setAdapter(mListAdapter);
+        setRecycledViewPool(new SharingRecycledViewPool());
     }
 
     public HippyListView(Context context, int orientation)
@@ -588,9 +596,85 @@ public class HippyListView extends RecyclerView implements HippyViewBase
         {
             mViewTreeObserver.removeOnPreDrawListener(mPreDrawListener);
         }
+        mListAdapter.reportItemStats();
+        mListAdapter.dropPreCreatedItems();
+        giveHoldersToSharedPool();
         super.onDetachedFromWindow();
     }
 
+    /**
+     * @param pool the holders this view has no room for are put in the pool, and this view takes holders from it
+     */
+    public void setSharedViewPool(HippySharedViewPool pool)
+    {
+        mSharedViewPool = pool;
+    }
+
+    public HippySharedViewPool getSharedViewPool()
+    {
+        return mSharedHoldersReclaimed ? null : mSharedViewPool;
+    }
+
+    // a detached view, in a hidden tab or an inactive page, lends all its holders to the lists still shown
+    private void giveHoldersToSharedPool()
+    {
+        if (getSharedViewPool() == null)
+        {
+            return;
+        }
+        RecycledViewPool pool = getRecycledViewPool();
+        for (int i = 0; i < pool.mScrap.size(); i++)
+        {
+            ArrayList<RecyclerViewBase.ViewHolder> scrapHeap = pool.mScrap.valueAt(i);
+            for (int j = scrapHeap.size() - 1; j >= 0; j--)
+            {
+                if (mSharedViewPool.put(scrapHeap.get(j)))
+                {
+                    scrapHeap.remove(j);
+                }
+            }
+        }
+    }
+
+    /**
+     * takes back the holders this view has put in the shared pool, so that their views are deleted with this view.
+     * Called when the view is deleted, it does not use the shared pool after.
+     */
+    void reclaimSharedHolders()
+    {
+        if (getSharedViewPool() == null)
+        {
+            return;
+        }
+        mSharedHoldersReclaimed = true;
+        ArrayList<RecyclerViewBase.ViewHolder> holders = new ArrayList<>();
+        mSharedViewPool.reclaim(this, holders);
+        RecycledViewPool pool = getRecycledViewPool();
+        for (RecyclerViewBase.ViewHolder holder : holders)
+        {
+            // past the max scrap of the type, the pool is only read to delete the views
+            pool.getScrapHeapForType(holder.getItemViewType()).add(holder);
+        }
+    }
+
+    /**
+     * puts the holders of a type it has no room for in the shared pool instead of abandoning them
+     */
+    private class SharingRecycledViewPool extends RecycledViewPool
+    {
+        @Override
+        public void putRecycledView(RecyclerViewBase.ViewHolder scrap, RecyclerViewBase.Adapter adapter)
+        {
+            int viewType = scrap.getItemViewType();
+            if (getSharedViewPool() != null && mMaxScrap.get(viewType) <= getScrapHeapForType(viewType).size()
+                    && mSharedViewPool.put(scrap))
+            {
+                return;
+            }
+            super.putRecycledView(scrap, adapter);
+        }
+    }
+
     public void scrollToIndex(int xIndex, int yIndex, boolean animated,int duration)
     {
         if (animated)
@@ -15,6 +15,7 @@
  */
 package com.tencent.mtt.hippy.views.list;
 
+import com.tencent.mtt.hippy.HippyEngineContext;
 import com.tencent.mtt.hippy.HippyRootView;
 import com.tencent.mtt.hippy.annotation.HippyController;
 import com.tencent.mtt.hippy.annotation.HippyControllerProps;
@@ -43,6 +44,37 @@ public class HippyListViewController extends HippyViewController<HippyListView>
 
 	public static final String CLASS_NAME = "ListView";
 
+	// the controllers are created per engine, so are the holders shared by its lists
+	private HippySharedViewPool	mSharedViewPool;
+
+	@Override
+	public View createView(HippyRootView rootView, int id, HippyEngineContext hippyContext, String className, HippyMap initialProps)
+	{
+		View view = super.createView(rootView, id, hippyContext, className, initialProps);
+		if (view instanceof HippyListView)
+		{
+			((HippyListView) view).setSharedViewPool(getSharedViewPool(view.getContext()));
+		}
+		return view;
+	}
+
+	public HippySharedViewPool getSharedViewPool(Context context)
+	{
+		if (mSharedViewPool == null)
+		{
+			mSharedViewPool = new HippySharedViewPool(context);
+		}
+		return mSharedViewPool;
+	}
+
+	@Override
+	public void onViewDestroy(HippyListView listView)
+	{
+		super.onViewDestroy(listView);
+		// before its children are enumerated to be deleted
+		listView.reclaimSharedHolders();
+	}
+
 	@Override
 	protected void addView(ViewGroup parentView, View view, int index)
 	{
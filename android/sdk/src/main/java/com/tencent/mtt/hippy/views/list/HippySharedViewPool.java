@@ -0,0 +1,361 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.views.list;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.util.SparseIntArray;
+
+import com.tencent.mtt.hippy.uimanager.ListItemRenderNode;
+import com.tencent.mtt.hippy.uimanager.RenderNode;
+import com.tencent.mtt.hippy.utils.LogUtils;
+import com.tencent.mtt.supportui.views.recyclerview.RecyclerView;
+import com.tencent.mtt.supportui.views.recyclerview.RecyclerViewBase;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FileName: HippySharedViewPool
+ * Description：item view holders shared by the list views of an engine, so that sibling lists, the tabs of a view
+ * pager and the pages of an engine reuse the item view trees of each other instead of creating them again. A list
+ * puts the holders its own pool has no room for, and all the holders of its pool once it is detached from the
+ * window, and takes holders from here when its own pool has none of the item type. Holders are keyed by item type
+ * and the class name of the root view of the item, and stay owned by the list they come from, which deletes their
+ * views: a list takes its holders back before it is destroyed, see {@link #reclaim}. A holder stays bound to its
+ * item, whose views keep its ids, until another list diffs it, so the list takes it back for that item first, see
+ * {@link #acquireBound}. Capacity is limited per item
+ * type and in total, the holders put the longest ago are evicted first, and all of them under memory pressure.
+ * Used on the ui thread.
+ * History：
+ */
+public class HippySharedViewPool implements ComponentCallbacks2
+{
+	private static final String													TAG						= "HippySharedViewPool";
+	private static final int													DEFAULT_MAX_PER_TYPE	= 8;
+	private static final int													MAX_TOTAL				= 48;
+
+	private final Context														mContext;
+	// access ordered, the key used the longest ago is evicted first
+	private final LinkedHashMap<String, ArrayList<RecyclerViewBase.ViewHolder>>	mHolders				= new LinkedHashMap<>(16, 0.75f, true);
+	private final SparseIntArray												mMaxPerType				= new SparseIntArray();
+	private int																	mSize					= 0;
+	private boolean																mCallbacksRegistered	= false;
+
+	private int																	mHitCount;
+	private int																	mMissCount;
+	private int																	mEvictionCount;
+
+	public HippySharedViewPool(Context context)
+	{
+		mContext = context.getApplicationContext() != null ? context.getApplicationContext() : context;
+	}
+
+	/**
+	 * @return the key of the holders that can be bound to itemNode, null if its holders are not shared
+	 */
+	static String getKey(int viewType, RenderNode itemNode)
+	{
+		if (!(itemNode instanceof ListItemRenderNode) || itemNode.isDelete())
+		{
+			return null;
+		}
+		RenderNode rootNode = itemNode.getChildCount() > 0 ? itemNode.getChildAt(0) : itemNode;
+		return viewType + "|" + rootNode.getClassName();
+	}
+
+	static String getKey(RecyclerViewBase.ViewHolder holder)
+	{
+		if (holder.mViewType != RecyclerViewBase.ViewHolder.TYPE_NORMAL || !(holder.mContentHolder instanceof NodeHolder))
+		{
+			return null;
+		}
+		return getKey(holder.getItemViewType(), ((NodeHolder) holder.mContentHolder).mBindNode);
+	}
+
+	/**
+	 * @param max the number of holders of viewType kept, for all the lists
+	 */
+	public void setMaxSharedViews(int viewType, int max)
+	{
+		mMaxPerType.put(viewType, max);
+		for (Map.Entry<String, ArrayList<RecyclerViewBase.ViewHolder>> entry : mHolders.entrySet())
+		{
+			ArrayList<RecyclerViewBase.ViewHolder> holders = entry.getValue();
+			while (holders.size() > max && holders.get(0).getItemViewType() == viewType)
+			{
+				evict(holders.remove(0));
+			}
+		}
+		removeEmptyKeys();
+	}
+
+	/**
+	 * @return false if the holder is not kept, the caller abandons it then
+	 */
+	boolean put(RecyclerViewBase.ViewHolder holder)
+	{
+		String key = getKey(holder);
+		if (key == null || holder.getParentRecyclerView() == null)
+		{
+			return false;
+		}
+
+		ArrayList<RecyclerViewBase.ViewHolder> holders = mHolders.get(key);
+		if (holders == null)
+		{
+			holders = new ArrayList<>();
+			mHolders.put(key, holders);
+		}
+		if (holders.size() >= mMaxPerType.get(holder.getItemViewType(), DEFAULT_MAX_PER_TYPE))
+		{
+			if (holders.isEmpty())
+			{
+				mHolders.remove(key);
+			}
+			return false;
+		}
+
+		holder.clearFlagsForSharedPool();
+		holders.add(holder);
+		mSize++;
+		trimToSize(MAX_TOTAL);
+		registerCallbacks();
+		return true;
+	}
+
+	/**
+	 * @return a holder put with the key of itemNode, adopted by recyclerView, null if there is none
+	 */
+	RecyclerViewBase.ViewHolder acquire(RecyclerViewBase recyclerView, int viewType, RenderNode itemNode)
+	{
+		String key = getKey(viewType, itemNode);
+		ArrayList<RecyclerViewBase.ViewHolder> holders = key != null ? mHolders.get(key) : null;
+		RecyclerViewBase.ViewHolder holder = null;
+		while (holders != null && !holders.isEmpty() && holder == null)
+		{
+			holder = holders.remove(holders.size() - 1);
+			mSize--;
+			RenderNode bindNode = ((NodeHolder) holder.mContentHolder).mBindNode;
+			if (bindNode == null || bindNode.isDelete())
+			{
+				// its item has been removed from the list it comes from, the views are deleted with the item
+				holder = null;
+			}
+		}
+		if (holders != null && holders.isEmpty())
+		{
+			mHolders.remove(key);
+		}
+		unregisterCallbacksIfEmpty();
+
+		if (holder == null)
+		{
+			mMissCount++;
+			return null;
+		}
+		mHitCount++;
+		holder.adoptFromSharedPool(recyclerView);
+		holder.setItemViewType(viewType);
+		return holder;
+	}
+
+	/**
+	 * @return the holder of recyclerView still bound to itemNode, adopted back by recyclerView, null if there is none.
+	 * The views of such a holder stay registered under the ids of itemNode, so the list takes it back before it
+	 * binds another holder to itemNode: two holders bound to one node would share its ids
+	 */
+	RecyclerViewBase.ViewHolder acquireBound(RecyclerViewBase recyclerView, int viewType, RenderNode itemNode)
+	{
+		String key = getKey(viewType, itemNode);
+		ArrayList<RecyclerViewBase.ViewHolder> holders = key != null ? mHolders.get(key) : null;
+		if (holders == null)
+		{
+			return null;
+		}
+		for (int i = holders.size() - 1; i >= 0; i--)
+		{
+			RecyclerViewBase.ViewHolder holder = holders.get(i);
+			if (holder.getParentRecyclerView() == recyclerView && ((NodeHolder) holder.mContentHolder).mBindNode == itemNode)
+			{
+				holders.remove(i);
+				mSize--;
+				if (holders.isEmpty())
+				{
+					mHolders.remove(key);
+				}
+				unregisterCallbacksIfEmpty();
+				mHitCount++;
+				holder.adoptFromSharedPool(recyclerView);
+				holder.setItemViewType(viewType);
+				return holder;
+			}
+		}
+		return null;
+	}
+
+	boolean hasHolder(int viewType, RenderNode itemNode)
+	{
+		String key = getKey(viewType, itemNode);
+		return key != null && mHolders.containsKey(key);
+	}
+
+	/**
+	 * removes the holders owned by recyclerView, it deletes their views with its own
+	 */
+	void reclaim(RecyclerViewBase recyclerView, List<RecyclerViewBase.ViewHolder> out)
+	{
+		Iterator<ArrayList<RecyclerViewBase.ViewHolder>> iterator = mHolders.values().iterator();
+		while (iterator.hasNext())
+		{
+			ArrayList<RecyclerViewBase.ViewHolder> holders = iterator.next();
+			for (int i = holders.size() - 1; i >= 0; i--)
+			{
+				if (holders.get(i).getParentRecyclerView() == recyclerView)
+				{
+					out.add(holders.remove(i));
+					mSize--;
+				}
+			}
+			if (holders.isEmpty())
+			{
+				iterator.remove();
+			}
+		}
+		unregisterCallbacksIfEmpty();
+	}
+
+	public int getSize()
+	{
+		return mSize;
+	}
+
+	/**
+	 * @return the number of holders taken from the pool
+	 */
+	public int getHitCount()
+	{
+		return mHitCount;
+	}
+
+	/**
+	 * @return the number of times a list found no holder for an item in the pool
+	 */
+	public int getMissCount()
+	{
+		return mMissCount;
+	}
+
+	/**
+	 * @return the number of holders evicted for capacity or under memory pressure
+	 */
+	public int getEvictionCount()
+	{
+		return mEvictionCount;
+	}
+
+	public void clear()
+	{
+		trimToSize(0);
+	}
+
+	@Override
+	public void onTrimMemory(int level)
+	{
+		if (level >= TRIM_MEMORY_RUNNING_LOW)
+		{
+			trimToSize(level >= TRIM_MEMORY_MODERATE || level == TRIM_MEMORY_RUNNING_CRITICAL ? 0 : mSize / 2);
+		}
+	}
+
+	@Override
+	public void onConfigurationChanged(Configuration newConfig)
+	{
+	}
+
+	@Override
+	public void onLowMemory()
+	{
+		trimToSize(0);
+	}
+
+	private void trimToSize(int size)
+	{
+		Iterator<ArrayList<RecyclerViewBase.ViewHolder>> iterator = mHolders.values().iterator();
+		while (mSize > size && iterator.hasNext())
+		{
+			ArrayList<RecyclerViewBase.ViewHolder> holders = iterator.next();
+			while (mSize > size && !holders.isEmpty())
+			{
+				evict(holders.remove(0));
+			}
+			if (holders.isEmpty())
+			{
+				iterator.remove();
+			}
+		}
+		unregisterCallbacksIfEmpty();
+	}
+
+	private void evict(RecyclerViewBase.ViewHolder holder)
+	{
+		mSize--;
+		mEvictionCount++;
+		// the list the holder comes from deletes its views
+		RecyclerViewBase owner = holder.getParentRecyclerView();
+		if (owner != null && owner.getAdapter() instanceof HippyListAdapter && holder instanceof RecyclerView.ViewHolderWrapper)
+		{
+			((HippyListAdapter) owner.getAdapter()).onViewAbandon((RecyclerView.ViewHolderWrapper) holder);
+		}
+		LogUtils.d(TAG, "evict, size " + mSize + ", hit " + mHitCount + ", miss " + mMissCount + ", eviction " + mEvictionCount);
+	}
+
+	private void removeEmptyKeys()
+	{
+		Iterator<ArrayList<RecyclerViewBase.ViewHolder>> iterator = mHolders.values().iterator();
+		while (iterator.hasNext())
+		{
+			if (iterator.next().isEmpty())
+			{
+				iterator.remove();
+			}
+		}
+		unregisterCallbacksIfEmpty();
+	}
+
+	// registered only while there are holders, so that the callbacks do not keep the views of a destroyed engine
+	private void registerCallbacks()
+	{
+		if (!mCallbacksRegistered)
+		{
+			mCallbacksRegistered = true;
+			mContext.registerComponentCallbacks(this);
+		}
+	}
+
+	private void unregisterCallbacksIfEmpty()
+	{
+		if (mCallbacksRegistered && mSize == 0)
+		{
+			mCallbacksRegistered = false;
+			mContext.unregisterComponentCallbacks(this);
+		}
+	}
+}
@@ -0,0 +1,244 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.views.list;
+
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
+import com.tencent.mtt.hippy.uimanager.RenderNode;
+import com.tencent.mtt.hippy.utils.LogUtils;
+import com.tencent.mtt.supportui.views.recyclerview.RecyclerViewBase;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+
+/**
+ * FileName: ListItemPreCreator
+ * Description：creates the views of the items ahead of the bound one while the ui thread is idle, for the item
+ * types that have no holder to reuse. onCreateContentViewWithPos then only attaches them and applies the props.
+ * At most MAX_ITEMS_PER_TYPE items of a type wait with pre-created views, the views of an item that was bound
+ * to a reused holder instead are dropped. Runs on the ui thread.
+ * History：
+ */
+class ListItemPreCreator implements MessageQueue.IdleHandler
+{
+	private static final String			TAG					= "ListItemPreCreator";
+	private static final int			PRE_CREATE_DISTANCE	= 3;
+	private static final int			MAX_ITEMS_PER_TYPE	= 2;
+
+	private final HippyListAdapter		mAdapter;
+	private final ArrayDeque<Integer>	mCandidates			= new ArrayDeque<>();
+	private final SparseArray<RenderNode>	mPreCreatedNodes	= new SparseArray<>();
+	private final SparseIntArray		mPreCreatedNodeTypes	= new SparseIntArray();
+	// the number of items waiting with pre-created views, by type
+	private final SparseIntArray		mPreCreatedTypes	= new SparseIntArray();
+	private boolean						mIdleScheduled		= false;
+	private int							mLastBoundPosition	= -1;
+
+	private long						mHitCount;
+	private long						mMissCount;
+
+	ListItemPreCreator(HippyListAdapter adapter)
+	{
+		mAdapter = adapter;
+	}
+
+	/**
+	 * queues the positions past the bound one, in the direction of the scroll
+	 */
+	void onItemBound(int position)
+	{
+		int direction = position >= mLastBoundPosition ? 1 : -1;
+		mLastBoundPosition = position;
+
+		mCandidates.clear();
+		int count = mAdapter.getItemCount();
+		for (int i = 1; i <= PRE_CREATE_DISTANCE; i++)
+		{
+			int candidate = position + direction * i;
+			if (candidate < 0 || candidate >= count)
+			{
+				break;
+			}
+			mCandidates.add(candidate);
+		}
+
+		if (!mCandidates.isEmpty() && !mIdleScheduled)
+		{
+			mIdleScheduled = true;
+			Looper.myQueue().addIdleHandler(this);
+		}
+	}
+
+	/**
+	 * called before the views of node are created for a new holder
+	 * @return true if the views of node were pre-created, the caller drops the ones createViewRecursive has not
+	 * picked up, see {@link RenderNode#removePreViewRecursive}
+	 */
+	boolean onCreateItem(RenderNode node)
+	{
+		if (untrack(node))
+		{
+			mHitCount++;
+			return true;
+		}
+		mMissCount++;
+		return false;
+	}
+
+	/**
+	 * called after node was bound to a reused holder, its pre-created views are not needed any more
+	 */
+	void onReuseItem(RenderNode node)
+	{
+		if (untrack(node))
+		{
+			node.removePreViewRecursive();
+		}
+	}
+
+	long getHitCount()
+	{
+		return mHitCount;
+	}
+
+	long getMissCount()
+	{
+		return mMissCount;
+	}
+
+	void resetCounts()
+	{
+		mHitCount = 0;
+		mMissCount = 0;
+	}
+
+	void destroy()
+	{
+		mCandidates.clear();
+		if (mIdleScheduled)
+		{
+			Looper.myQueue().removeIdleHandler(this);
+			mIdleScheduled = false;
+		}
+		for (int i = 0; i < mPreCreatedNodes.size(); i++)
+		{
+			mPreCreatedNodes.valueAt(i).removePreViewRecursive();
+		}
+		mPreCreatedNodes.clear();
+		mPreCreatedNodeTypes.clear();
+		mPreCreatedTypes.clear();
+	}
+
+	@Override
+	public boolean queueIdle()
+	{
+		Integer position = mCandidates.poll();
+		if (position != null)
+		{
+			try
+			{
+				preCreate(position);
+			}
+			catch (Throwable e)
+			{
+				LogUtils.e(TAG, "preCreate error", e);
+			}
+		}
+
+		mIdleScheduled = !mCandidates.isEmpty();
+		return mIdleScheduled;
+	}
+
+	private void preCreate(int position)
+	{
+		dropDeletedItems();
+
+		RenderNode listNode = mAdapter.getListNode();
+		RenderNode node = listNode != null ? listNode.getChildAt(position) : null;
+		if (node == null || node.isDelete() || mPreCreatedNodes.get(node.getId()) != null
+				|| mAdapter.mHippyContext.getRenderManager().getControllerManager().hasView(node.getId()))
+		{
+			return;
+		}
+
+		int type = mAdapter.getItemViewType(position);
+		if (mPreCreatedTypes.get(type) >= MAX_ITEMS_PER_TYPE || hasRecycledHolder(type) || hasSharedHolder(type, node))
+		{
+			return;
+		}
+
+		node.createPreViewRecursive();
+		mPreCreatedNodes.put(node.getId(), node);
+		mPreCreatedNodeTypes.put(node.getId(), type);
+		mPreCreatedTypes.put(type, mPreCreatedTypes.get(type) + 1);
+	}
+
+	private boolean hasRecycledHolder(int type)
+	{
+		RecyclerViewBase.RecycledViewPool pool = mAdapter.mParentRecyclerView.getRecycler().getRecycledViewPool();
+		if (pool == null)
+		{
+			return false;
+		}
+		ArrayList<RecyclerViewBase.ViewHolder> scrapHeap = pool.mScrap.get(type);
+		return scrapHeap != null && !scrapHeap.isEmpty();
+	}
+
+	private boolean hasSharedHolder(int type, RenderNode node)
+	{
+		RecyclerViewBase parent = mAdapter.mParentRecyclerView;
+		HippySharedViewPool sharedPool = parent instanceof HippyListView ? ((HippyListView) parent).getSharedViewPool() : null;
+		return sharedPool != null && sharedPool.hasHolder(type, node);
+	}
+
+	private void dropDeletedItems()
+	{
+		for (int i = mPreCreatedNodes.size() - 1; i >= 0; i--)
+		{
+			RenderNode node = mPreCreatedNodes.valueAt(i);
+			if (node.isDelete() || node.getParent() == null)
+			{
+				untrack(node);
+				node.removePreViewRecursive();
+			}
+		}
+	}
+
+	private boolean untrack(RenderNode node)
+	{
+		int index = mPreCreatedNodes.indexOfKey(node.getId());
+		if (index < 0 || mPreCreatedNodes.valueAt(index) != node)
+		{
+			return false;
+		}
+		mPreCreatedNodes.removeAt(index);
+
+		int type = mPreCreatedNodeTypes.get(node.getId());
+		mPreCreatedNodeTypes.delete(node.getId());
+		int count = mPreCreatedTypes.get(type);
+		if (count > 1)
+		{
+			mPreCreatedTypes.put(type, count - 1);
+		}
+		else
+		{
+			mPreCreatedTypes.delete(type);
+		}
+		return true;
+	}
+}
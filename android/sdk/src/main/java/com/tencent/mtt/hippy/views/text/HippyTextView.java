@@ -247,7 +247,10 @@ public class HippyTextView extends View implements CommonBorder, HippyViewBase,
 	{
 		if (mLayout != null && mLayout.getText() instanceof SpannableStringBuilder)
 		{
-			SpannableStringBuilder textSpan = (SpannableStringBuilder) mLayout.getText();
+			// the layout may be shared with other text views through the TextLayoutCache, recolor a copy of it
+			SpannableStringBuilder textSpan = new SpannableStringBuilder(mLayout.getText());
+			mLayout = new StaticLayout(textSpan, mLayout.getPaint(), mLayout.getWidth(), mLayout.getAlignment(), mLayout.getSpacingMultiplier(),
+					mLayout.getSpacingAdd(), true);
 			ForegroundColorSpan[] spans = textSpan.getSpans(0, mLayout.getText().length(), ForegroundColorSpan.class);
 			boolean hasSpans = false;
 			if (spans != null)
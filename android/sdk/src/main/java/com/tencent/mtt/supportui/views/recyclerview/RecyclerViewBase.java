@@ -7037,7 +7037,37 @@ public abstract class RecyclerViewBase extends ViewGroup
 
 		public void clearFlagsForSharedPool()
 		{
-			mFlags = 0;
+			// FLAG_NOT_RECYCLABLE follows mIsRecyclableCount, see setIsRecyclable, clearing it alone would let the
+			// holder be recycled while setIsRecyclable(false) is still pending
+			mFlags &= FLAG_NOT_RECYCLABLE;
+		}
+
+		/**
+		 * called when the holder is taken from a pool shared with other recycler views by rv, which becomes its
+		 * parent. The state left by the recycler view it comes from is cleared, the holder must be bound again
+		 */
+		public void adoptFromSharedPool(RecyclerViewBase rv)
+		{
+			clearFlagsForSharedPool();
+			mParent = rv;
+			mScrapContainer = null;
+			mPosition = NO_POSITION;
+			mOldPosition = NO_POSITION;
+			mItemId = NO_ID;
+			mForceBind = false;
+			mBindNextTime = false;
+			mPosDirty = false;
+			// the reuse key is a position of the previous recycler view
+			mHolderReuseKey = null;
+			if (itemView instanceof RecyclerViewItem)
+			{
+				((RecyclerViewItem) itemView).setParentRecyclerView(rv);
+			}
+		}
+
+		public RecyclerViewBase getParentRecyclerView()
+		{
+			return mParent;
 		}
 
 		@Override
@@ -33,12 +33,19 @@ import com.tencent.smtt.flexbox.FlexNodeStyle.Edge;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class FlexNode implements FlexNodeAPI<FlexNode> {
     static {
         LibraryLoader.loadLibraryIfNeed("flexbox");
     }
 
+    // the nodes of all the engines which are not freed yet
+    private static final AtomicInteger sLiveNativeNodeCount = new AtomicInteger();
+
+    // false once the loaded libflexbox.so is found to be built before nativeFlexNodeCalculateLayoutIncremental
+    private static volatile boolean sIncrementalLayoutSupported = true;
+
     private FlexNode mParent;
     private List<FlexNode> mChildren;
     private long mNativeFlexNode;
@@ -70,6 +77,19 @@ public class FlexNode implements FlexNodeAPI<FlexNode> {
     private float mBorderBottom = 0;
     private boolean mHasNewLayout = true;
 
+    // a layout result in the packed array filled by nativeFlexNodeCalculateLayoutIncremental: the index of the node
+    // in mLayoutNodes, left, top, width, height, then margin, padding and border as left, top, right, bottom
+    private final static int LAYOUT_RESULT_STRIDE = 17;
+
+    // the index of the nodes of the tree, kept by its root and built again only when nodes are added or removed
+    private boolean mLayoutIndexChanged = true;
+    private FlexNode[] mLayoutNodes;
+    private long[] mLayoutNativeNodes;
+    private float[] mLayoutResults;
+    private float mLastLayoutWidth = Float.NaN;
+    private float mLastLayoutHeight = Float.NaN;
+    private int mLastLayoutDirection = -1;
+
     public FlexNodeStyle Style() {
         return mFlexNodeStyle;
     }
@@ -128,19 +148,34 @@ public class FlexNode implements FlexNodeAPI<FlexNode> {
         if (mNativeFlexNode == 0) {
             throw new IllegalStateException("Failed to allocate native memory");
         }
+        sLiveNativeNodeCount.incrementAndGet();
         mFlexNodeStyle = new FlexNodeStyle(mNativeFlexNode);
         reset();
     }
 
     private native void nativeFlexNodeFree(long nativeFlexNode);
 
-    protected void finalize() throws Throwable {
-        try {
-            nativeFlexNodeFree(mNativeFlexNode);
-            mFlexNodeStyle = null;
-        } finally {
-            super.finalize();
+    /**
+     * frees the native node and its style at once. Nodes are not freed by the garbage collector, whoever drops
+     * a node frees it. A freed node never calls native again, so a stale reference to it does nothing instead of
+     * reaching freed native memory, with any libflexbox.so.
+     */
+    public void free() {
+        if (mNativeFlexNode == 0) {
+            return;
         }
+        nativeFlexNodeFree(mNativeFlexNode);
+        mNativeFlexNode = 0;
+        mFlexNodeStyle.free();
+        releaseLayoutIndex();
+        sLiveNativeNodeCount.decrementAndGet();
+    }
+
+    /**
+     * @return the number of nodes, of all the engines, which are not freed yet
+     */
+    public static int getLiveNativeNodeCount() {
+        return sLiveNativeNodeCount.get();
     }
 
     private int TotalChildCount() {
@@ -198,7 +233,11 @@ public class FlexNode implements FlexNodeAPI<FlexNode> {
         }
         mChildren.add(i, child);
         child.mParent = this;
-        nativeFlexNodeInsertChild(mNativeFlexNode, child.mNativeFlexNode, i);
+        if (mNativeFlexNode != 0 && child.mNativeFlexNode != 0) {
+            nativeFlexNodeInsertChild(mNativeFlexNode, child.mNativeFlexNode, i);
+        }
+        child.releaseLayoutIndex();
+        markLayoutIndexChanged();
     }
 
     private native void nativeFlexNodeRemoveChild(long nativeFlexNode, long childPointer);
@@ -207,10 +246,28 @@ public class FlexNode implements FlexNodeAPI<FlexNode> {
 
         final FlexNode child = mChildren.remove(i);
         child.mParent = null;
-        nativeFlexNodeRemoveChild(mNativeFlexNode, child.mNativeFlexNode);
+        if (mNativeFlexNode != 0 && child.mNativeFlexNode != 0) {
+            nativeFlexNodeRemoveChild(mNativeFlexNode, child.mNativeFlexNode);
+        }
+        markLayoutIndexChanged();
         return child;
     }
 
+    private void markLayoutIndexChanged() {
+        FlexNode root = this;
+        while (root.mParent != null) {
+            root = root.mParent;
+        }
+        root.mLayoutIndexChanged = true;
+    }
+
+    private void releaseLayoutIndex() {
+        mLayoutIndexChanged = true;
+        mLayoutNodes = null;
+        mLayoutNativeNodes = null;
+        mLayoutResults = null;
+    }
+
     public FlexNode getParent() {
         return mParent;
     }
@@ -219,14 +276,58 @@ public class FlexNode implements FlexNodeAPI<FlexNode> {
         return mChildren == null ? -1 : mChildren.indexOf(child);
     }
 
+    // the entry point of the libraries built before the incremental layout, it writes the results into the fields
+    // of the nodes with a new layout. Kept so that those libraries, which register it, still load
     private native void nativeFlexNodeCalculateLayout(long nativeFlexNode, float width, float height,
-                                                      long[] nativeNodes, FlexNode[] nodes, int direction);
-
+                                                     long[] nativeNodes, FlexNode[] nodes, int direction);
+
+    private native int nativeFlexNodeCalculateLayoutIncremental(long nativeFlexNode, float width, float height,
+                                                     long[] nativeNodes, FlexNode[] nodes, boolean indexChanged,
+                                                     float[] results, int direction);
+
+    /**
+     * lays out the tree of this root node. The engine only lays out again the subtrees which are dirty, and the
+     * results of the nodes which have a new layout come back in one packed array. Nothing is done if the tree
+     * is clean and the constraints are the ones of the last layout. A libflexbox.so built before the packed
+     * results is laid out through its own entry point, which sets the fields of the nodes itself.
+     */
     public void calculateLayout(float width, float height, FlexDirection direction) {
-        //long startTime = System.currentTimeMillis();
-        //Log.e("layout", "3calculateLayout time start");
-        long[] nativeNodes;
-        FlexNode[] nodes;
+        if (mNativeFlexNode == 0) {
+            return;
+        }
+        int directionValue = direction.ordinal();
+        boolean indexChanged = mLayoutIndexChanged || mLayoutNodes == null;
+        if (!indexChanged && directionValue == mLastLayoutDirection && FloatUtil.floatsEqual(width, mLastLayoutWidth)
+                && FloatUtil.floatsEqual(height, mLastLayoutHeight) && !isDirty()) {
+            return;
+        }
+
+        if (indexChanged) {
+            buildLayoutIndex();
+        }
+        mLastLayoutWidth = width;
+        mLastLayoutHeight = height;
+        mLastLayoutDirection = directionValue;
+
+        if (sIncrementalLayoutSupported) {
+            try {
+                int count = nativeFlexNodeCalculateLayoutIncremental(mNativeFlexNode, width, height,
+                        mLayoutNativeNodes, mLayoutNodes, indexChanged, mLayoutResults, directionValue);
+                float[] results = mLayoutResults;
+                for (int i = 0; i < count; i++) {
+                    int offset = i * LAYOUT_RESULT_STRIDE;
+                    mLayoutNodes[(int) results[offset]].setLayoutResult(results, offset + 1);
+                }
+                return;
+            } catch (UnsatisfiedLinkError e) {
+                sIncrementalLayoutSupported = false;
+            }
+        }
+        nativeFlexNodeCalculateLayout(mNativeFlexNode, width, height, mLayoutNativeNodes, mLayoutNodes,
+                directionValue);
+    }
+
+    private void buildLayoutIndex() {
         ArrayList<FlexNode> n = new ArrayList<>();
         n.add(this);
         for (int i = 0; i < n.size(); ++i) {
@@ -235,15 +336,41 @@ public class FlexNode implements FlexNodeAPI<FlexNode> {
                 n.addAll(children);
             }
         }
-        nodes = n.toArray(new FlexNode[n.size()]);
-        nativeNodes = new long[nodes.length];
-        for (int i = 0; i < nodes.length; ++i) {
-            nativeNodes[i] = nodes[i].mNativeFlexNode;
+        mLayoutNodes = n.toArray(new FlexNode[n.size()]);
+        mLayoutNativeNodes = new long[mLayoutNodes.length];
+        for (int i = 0; i < mLayoutNodes.length; ++i) {
+            mLayoutNativeNodes[i] = mLayoutNodes[i].mNativeFlexNode;
         }
-
-        //Log.e("layout", "calculateLayout time:"+ (System.currentTimeMillis() - startTime));
-        nativeFlexNodeCalculateLayout(mNativeFlexNode, width, height,
-                nativeNodes, nodes, direction.ordinal());
+        if (mLayoutResults == null || mLayoutResults.length < mLayoutNodes.length * LAYOUT_RESULT_STRIDE) {
+            mLayoutResults = new float[mLayoutNodes.length * LAYOUT_RESULT_STRIDE];
+        }
+        mLayoutIndexChanged = false;
+    }
+
+    private void setLayoutResult(float[] results, int offset) {
+        mLeft = results[offset];
+        mTop = results[offset + 1];
+        mWidth = results[offset + 2];
+        mHeight = results[offset + 3];
+        if ((mEdgeSetFlag & MARGIN) == MARGIN) {
+            mMarginLeft = results[offset + 4];
+            mMarginTop = results[offset + 5];
+            mMarginRight = results[offset + 6];
+            mMarginBottom = results[offset + 7];
+        }
+        if ((mEdgeSetFlag & PADDING) == PADDING) {
+            mPaddingLeft = results[offset + 8];
+            mPaddingTop = results[offset + 9];
+            mPaddingRight = results[offset + 10];
+            mPaddingBottom = results[offset + 11];
+        }
+        if ((mEdgeSetFlag & BORDER) == BORDER) {
+            mBorderLeft = results[offset + 12];
+            mBorderTop = results[offset + 13];
+            mBorderRight = results[offset + 14];
+            mBorderBottom = results[offset + 15];
+        }
+        mHasNewLayout = true;
     }
 
     private native float nativeFlexNodeGetWidth(long nativeFlexNode);
@@ -345,13 +472,15 @@ public class FlexNode implements FlexNodeAPI<FlexNode> {
     private native void nativeFlexNodeNodeMarkDirty(long nativePointer);
 
     public void dirty() {
-        nativeFlexNodeNodeMarkDirty(mNativeFlexNode);
+        if (mNativeFlexNode != 0) {
+            nativeFlexNodeNodeMarkDirty(mNativeFlexNode);
+        }
     }
 
     private native boolean nativeFlexNodeNodeIsDirty(long nativePointer);
 
     public boolean isDirty() {
-        return nativeFlexNodeNodeIsDirty(mNativeFlexNode);
+        return mNativeFlexNode != 0 && nativeFlexNodeNodeIsDirty(mNativeFlexNode);
     }
 
     private native void nativeFlexNodeNodeSetHasMeasureFunc(long nativePointer, boolean hasMeasureFunc);
@@ -396,7 +525,9 @@ public class FlexNode implements FlexNodeAPI<FlexNode> {
             MeasureFunction measureFunction) {
         // TODO Auto-generated method stub
         mMeasureFunction = measureFunction;
-        nativeFlexNodeNodeSetHasMeasureFunc(mNativeFlexNode, measureFunction != null);
+        if (mNativeFlexNode != 0) {
+            nativeFlexNodeNodeSetHasMeasureFunc(mNativeFlexNode, measureFunction != null);
+        }
     }
 
     @Override
@@ -423,7 +554,9 @@ public class FlexNode implements FlexNodeAPI<FlexNode> {
     public void markLayoutSeen() {
         // TODO Auto-generated method stub
         mHasNewLayout = false;
-        nativeFlexNodemarkLayoutSeen(mNativeFlexNode);
+        if (mNativeFlexNode != 0) {
+            nativeFlexNodemarkLayoutSeen(mNativeFlexNode);
+        }
     }
 
     @Override
@@ -765,22 +898,29 @@ public class FlexNode implements FlexNodeAPI<FlexNode> {
     @Override
     public void reset() {
         // TODO Auto-generated method stub
-        if (mParent != null || (mChildren != null && mChildren.size() > 0)) {
+        if (mNativeFlexNode == 0 || mParent != null || (mChildren != null && mChildren.size() > 0)) {
             return;
         }
         nativeFlexNodereset(mNativeFlexNode);
-        this.setDirection(FlexDirection.LTR);
-        this.setFlexDirection(FlexCSSDirection.COLUMN);
-        this.setJustifyContent(FlexJustify.FLEX_START);
-        this.setAlignContent(FlexAlign.FLEX_START);
-        this.setAlignItems(FlexAlign.STRETCH);
-        this.setAlignSelf(FlexAlign.AUTO);
-        this.setPositionType(FlexPositionType.RELATIVE);
-        this.setWrap(FlexWrap.NOWRAP);
-        this.setOverflow(FlexOverflow.VISIBLE);
-        this.setFlexGrow(0);
-        this.setFlexShrink(0);
-        this.setFlexBasis(FlexConstants.UNDEFINED);
+        boolean batching = mFlexNodeStyle.beginBatch();
+        try {
+            this.setDirection(FlexDirection.LTR);
+            this.setFlexDirection(FlexCSSDirection.COLUMN);
+            this.setJustifyContent(FlexJustify.FLEX_START);
+            this.setAlignContent(FlexAlign.FLEX_START);
+            this.setAlignItems(FlexAlign.STRETCH);
+            this.setAlignSelf(FlexAlign.AUTO);
+            this.setPositionType(FlexPositionType.RELATIVE);
+            this.setWrap(FlexWrap.NOWRAP);
+            this.setOverflow(FlexOverflow.VISIBLE);
+            this.setFlexGrow(0);
+            this.setFlexShrink(0);
+            this.setFlexBasis(FlexConstants.UNDEFINED);
+        } finally {
+            if (batching) {
+                mFlexNodeStyle.endBatch();
+            }
+        }
         mMeasureFunction = null;
 
         mEdgeSetFlag = 0;
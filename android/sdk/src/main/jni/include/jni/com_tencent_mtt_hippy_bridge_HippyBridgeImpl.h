@@ -112,6 +112,22 @@ Java_com_tencent_mtt_hippy_bridge_HippyBridgeImpl_callFunction(JNIEnv *,
                                                                jlong,
                                                                jobject);
 
+/*
+ * Class:     com_tencent_mtt_hippy_bridge_HippyBridgeImpl
+ * Method:    callFunctionWithBuffer
+ * Signature: (Ljava/lang/String;[BIIJLcom/tencent/mtt/hippy/bridge/NativeCallback;)V
+ */
+JNIEXPORT void JNICALL
+Java_com_tencent_mtt_hippy_bridge_HippyBridgeImpl_callFunctionWithBuffer(
+    JNIEnv *,
+    jobject,
+    jstring,
+    jbyteArray,
+    jint,
+    jint,
+    jlong,
+    jobject);
+
 /*
  * Class:     com_tencent_mtt_hippy_bridge_HippyBridgeImpl
  * Method:    runNativeRunnable
@@ -43,6 +43,13 @@ void BuildBuffer(v8::Isolate* v8_isolate,
                  v8::Local<v8::Object> object,
                  HippyBuffer* buffer);
 
+// Builds a v8 value from hippy-buffer data serialized by the java side
+// (HippyBuffer.build), returns an empty handle if the data is malformed.
+v8::Local<v8::Value> ParseBuffer(v8::Isolate* v8_isolate,
+                                 v8::Local<v8::Context> context,
+                                 const void* data,
+                                 uint32_t length);
+
 #ifdef __cplusplus
 }
 #endif
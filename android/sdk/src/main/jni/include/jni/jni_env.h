@@ -32,12 +32,14 @@ class JNIEnvironment {
   struct JemthodID_Wrapper {
     explicit JemthodID_Wrapper() {
       call_natives_method_id = nullptr;
+      call_natives_direct_method_id = nullptr;
       report_exception_method_id = nullptr;
       inspector_channel_method_id = nullptr;
       get_uri_content_method_id = nullptr;
     }
 
     jmethodID call_natives_method_id;
+    jmethodID call_natives_direct_method_id;
     jmethodID report_exception_method_id;
     jmethodID inspector_channel_method_id;
     jmethodID get_uri_content_method_id;
@@ -319,17 +319,18 @@ static void CallNative(void* data) {
   }
 
   jbyteArray j_params_str = nullptr;
+  jobject j_params_buffer = nullptr;
   HippyBuffer* hippy_buffer = nullptr;
   if (info.Length() >= 4 && !info[3].IsEmpty() && info[3]->IsObject()) {
     if (!runtime->IsParamJson()) {
       hippy_buffer = JniUtils::WriteToBuffer(
           isolate, v8::Local<v8::Object>::Cast(info[3]));
       if (hippy_buffer != nullptr && hippy_buffer->data != nullptr) {
-        j_params_str = JNIEnvironment::AttachCurrentThread()->NewByteArray(
-            hippy_buffer->position);
-        JNIEnvironment::AttachCurrentThread()->SetByteArrayRegion(
-            j_params_str, 0, hippy_buffer->position,
-            reinterpret_cast<const jbyte*>(hippy_buffer->data));
+        // hand the serialized buffer to java without copying it into a
+        // byte[], it stays valid until callNatives returns
+        j_params_buffer =
+            JNIEnvironment::AttachCurrentThread()->NewDirectByteBuffer(
+                hippy_buffer->data, hippy_buffer->position);
       }
     } else {
       v8::Handle<v8::Object> global = context->Global();
@@ -356,10 +357,17 @@ static void CallNative(void* data) {
     }
   }
 
-  JNIEnvironment::AttachCurrentThread()->CallVoidMethod(
-      runtime->GetBridge()->GetObj(),
-      JNIEnvironment::GetInstance()->wrapper_.call_natives_method_id,
-      j_module_name, j_module_func, j_cb_id, j_params_str);
+  if (j_params_buffer != nullptr) {
+    JNIEnvironment::AttachCurrentThread()->CallVoidMethod(
+        runtime->GetBridge()->GetObj(),
+        JNIEnvironment::GetInstance()->wrapper_.call_natives_direct_method_id,
+        j_module_name, j_module_func, j_cb_id, j_params_buffer);
+  } else {
+    JNIEnvironment::AttachCurrentThread()->CallVoidMethod(
+        runtime->GetBridge()->GetObj(),
+        JNIEnvironment::GetInstance()->wrapper_.call_natives_method_id,
+        j_module_name, j_module_func, j_cb_id, j_params_str);
+  }
 
   JNIEnvironment::ClearJEnvException(JNIEnvironment::AttachCurrentThread());
 
@@ -368,6 +376,7 @@ static void CallNative(void* data) {
   JNIEnvironment::AttachCurrentThread()->DeleteLocalRef(j_module_func);
   JNIEnvironment::AttachCurrentThread()->DeleteLocalRef(j_cb_id);
   JNIEnvironment::AttachCurrentThread()->DeleteLocalRef(j_params_str);
+  JNIEnvironment::AttachCurrentThread()->DeleteLocalRef(j_params_buffer);
   if (hippy_buffer != nullptr) {
     ReleaseBuffer(hippy_buffer);
   }
@@ -694,6 +703,91 @@ Java_com_tencent_mtt_hippy_bridge_HippyBridgeImpl_callFunction(
   runner->PostTask(task);
 }
 
+JNIEXPORT void JNICALL
+Java_com_tencent_mtt_hippy_bridge_HippyBridgeImpl_callFunctionWithBuffer(
+    JNIEnv* env,
+    jobject obj,
+    jstring action,
+    jbyteArray params,
+    jint offset,
+    jint length,
+    jlong v8RuntimePtr,
+    jobject jcallback) {
+  HIPPY_DLOG(hippy::Debug, "HippyBridgeImpl callFunctionWithBuffer");
+  std::shared_ptr<Runtime> runtime = Runtime::Find(v8RuntimePtr);
+  if (!runtime) {
+    HIPPY_LOG(hippy::Warning,
+              "HippyBridgeImpl callFunctionWithBuffer, v8RuntimePtr invalid");
+    return;
+  }
+
+  std::shared_ptr<JavaScriptTaskRunner> runner =
+      runtime->GetEngine()->GetJSRunner();
+  if (!runner) {
+    HIPPY_LOG(hippy::Warning,
+              "HippyBridgeImpl callFunctionWithBuffer, runner invalid");
+    return;
+  }
+  std::string action_name = JniUtils::CovertJavaStringToString(env, action);
+
+  std::string hippy_params;
+  if (params != nullptr && length > 0) {
+    hippy_params.resize(length);
+    env->GetByteArrayRegion(params, offset, length,
+                            reinterpret_cast<int8_t*>(&hippy_params[0]));
+  }
+  std::shared_ptr<JavaRef> save_object =
+      std::make_shared<JavaRef>(env, jcallback);
+  std::shared_ptr<JavaScriptTask> task = std::make_shared<JavaScriptTask>();
+  task->callback = [runtime, save_object_ = std::move(save_object), action_name,
+                    hippy_params] {
+    HIPPY_DLOG(hippy::Debug,
+               "js callFunctionWithBuffer action_name = %s, length = %d",
+               action_name.c_str(), hippy_params.length());
+    std::shared_ptr<V8Ctx> context =
+        std::static_pointer_cast<V8Ctx>(runtime->GetScope()->GetContext());
+    if (!runtime->GetBridgeFunc()) {
+      HIPPY_DLOG(hippy::Debug, "bridge_func_ init");
+      std::string name("hippyBridge");
+      std::shared_ptr<CtxValue> fn = context->GetJsFn(name);
+      bool is_fn = context->IsFunction(fn);
+      HIPPY_DLOG(hippy::Debug, "is_fn = %d", is_fn);
+      if (!is_fn) {
+        CallJavaMethod(save_object_->GetObj(), 0);
+        return;
+      } else {
+        runtime->SetBridgeFunc(fn);
+      }
+    }
+
+    v8::Isolate* isolate = context->isolate_;
+    v8::HandleScope handle_scope(isolate);
+    v8::Local<v8::Context> v8_context =
+        context->context_persistent_.Get(isolate);
+    v8::Context::Scope context_scope(v8_context);
+    v8::Local<v8::Value> value = ParseBuffer(
+        isolate, v8_context, hippy_params.data(), hippy_params.length());
+    if (value.IsEmpty()) {
+      HIPPY_LOG(hippy::Error,
+                "callFunctionWithBuffer parse buffer error, action_name = %s",
+                action_name.c_str());
+      CallJavaMethod(save_object_->GetObj(), 0);
+      return;
+    }
+
+    std::shared_ptr<CtxValue> action =
+        context->CreateString(action_name.c_str());
+    std::shared_ptr<CtxValue> params =
+        std::make_shared<V8CtxValue>(isolate, value);
+    std::shared_ptr<CtxValue> argv[] = {action, params};
+    context->CallFunction(runtime->GetBridgeFunc(), 2, argv);
+
+    CallJavaMethod(save_object_->GetObj(), 1);
+  };
+
+  runner->PostTask(task);
+}
+
 JNIEXPORT void JNICALL
 Java_com_tencent_mtt_hippy_bridge_HippyBridgeImpl_runNativeRunnable(
     JNIEnv* env,
@@ -291,6 +291,157 @@ double readDouble(HippyBuffer* buffer) {
   return ld.d;
 }
 
+#define MAX_PARSE_DEPTH 128
+
+inline bool hasRemaining(HippyBuffer* buffer, uint32_t size) {
+  return buffer->position <= buffer->length &&
+         size <= buffer->length - buffer->position;
+}
+
+inline bool readSafeUnsignedInt(HippyBuffer* buffer, uint32_t* value) {
+  uint32_t num = 0;
+  for (int shift = 0; shift < 35; shift += 7) {
+    if (!hasRemaining(buffer, 1)) {
+      return false;
+    }
+    uint8_t chunk = *((uint8_t*)buffer->data + buffer->position);
+    buffer->position += 1;
+    num |= ((uint32_t)(chunk & 0x7F)) << shift;
+    if ((chunk & 0x80) == 0) {
+      *value = num;
+      return true;
+    }
+  }
+  return false;
+}
+
+static bool parseV8String(v8::Isolate* isolate,
+                          HippyBuffer* buffer,
+                          bool is_one_byte,
+                          v8::Local<v8::Value>* result) {
+  uint32_t length = 0;
+  if (!readSafeUnsignedInt(buffer, &length) || !hasRemaining(buffer, length)) {
+    return false;
+  }
+  const uint8_t* str = (const uint8_t*)buffer->data + buffer->position;
+  buffer->position += length;
+  v8::MaybeLocal<v8::String> maybe_str =
+      is_one_byte
+          ? v8::String::NewFromOneByte(isolate, str, v8::NewStringType::kNormal,
+                                       length)
+          : v8::String::NewFromUtf8(isolate, (const char*)str,
+                                    v8::NewStringType::kNormal, length);
+  v8::Local<v8::String> local_str;
+  if (!maybe_str.ToLocal(&local_str)) {
+    return false;
+  }
+  *result = local_str;
+  return true;
+}
+
+static bool parseV8Value(v8::Isolate* isolate,
+                         v8::Local<v8::Context> context,
+                         HippyBuffer* buffer,
+                         uint32_t depth,
+                         v8::Local<v8::Value>* result) {
+  if (depth > MAX_PARSE_DEPTH || !hasRemaining(buffer, 1)) {
+    return false;
+  }
+
+  uint8_t type = (uint8_t)readType(buffer);
+  switch (type) {
+    case TYPE_NULL:
+      *result = v8::Null(isolate);
+      return true;
+    case TYPE_UNDEFINED:
+      *result = v8::Undefined(isolate);
+      return true;
+    case TYPE_BOOLEAN_TRUE:
+      *result = v8::Boolean::New(isolate, true);
+      return true;
+    case TYPE_BOOLEAN_FALSE:
+      *result = v8::Boolean::New(isolate, false);
+      return true;
+    case TYPE_INTEGER: {
+      uint32_t raw = 0;
+      if (!readSafeUnsignedInt(buffer, &raw)) {
+        return false;
+      }
+      int32_t value = (int32_t)raw;
+      *result = v8::Integer::New(
+          isolate, (-(value & 0x01)) ^ ((value >> 1) & ~(1 << 31)));
+      return true;
+    }
+    case TYPE_DOUBLE: {
+      if (!hasRemaining(buffer, sizeof(uint64_t))) {
+        return false;
+      }
+      *result = v8::Number::New(isolate, readDouble(buffer));
+      return true;
+    }
+    case TYPE_STRING:
+      return parseV8String(isolate, buffer, false, result);
+    case TYPE_ONE_BYTE_STRING:
+      return parseV8String(isolate, buffer, true, result);
+    case TYPE_ARRAY: {
+      uint32_t length = 0;
+      if (!readSafeUnsignedInt(buffer, &length) ||
+          !hasRemaining(buffer, length)) {
+        return false;
+      }
+      v8::Local<v8::Array> array = v8::Array::New(isolate, length);
+      for (uint32_t i = 0; i < length; i++) {
+        v8::Local<v8::Value> element;
+        if (!parseV8Value(isolate, context, buffer, depth + 1, &element) ||
+            array->Set(context, i, element).IsNothing()) {
+          return false;
+        }
+      }
+      *result = array;
+      return true;
+    }
+    case TYPE_MAP: {
+      uint32_t size = 0;
+      if (!readSafeUnsignedInt(buffer, &size) || !hasRemaining(buffer, size)) {
+        return false;
+      }
+      v8::Local<v8::Object> object = v8::Object::New(isolate);
+      for (uint32_t i = 0; i < size; i++) {
+        v8::Local<v8::Value> key;
+        v8::Local<v8::Value> value;
+        if (!parseV8String(isolate, buffer, false, &key) ||
+            !parseV8Value(isolate, context, buffer, depth + 1, &value) ||
+            object->Set(context, key, value).IsNothing()) {
+          return false;
+        }
+      }
+      *result = object;
+      return true;
+    }
+    default:
+      return false;
+  }
+}
+
+v8::Local<v8::Value> ParseBuffer(v8::Isolate* v8_isolate,
+                                 v8::Local<v8::Context> context,
+                                 const void* data,
+                                 uint32_t length) {
+  v8::EscapableHandleScope handle_scope(v8_isolate);
+  HippyBuffer buffer;
+  buffer.data = const_cast<void*>(data);
+  buffer.position = 0;
+  buffer.length = length;
+
+  v8::Local<v8::Value> result;
+  if (data == nullptr || length == 0 ||
+      !parseV8Value(v8_isolate, context, &buffer, 0, &result) ||
+      buffer.position != length) {
+    return v8::Local<v8::Value>();
+  }
+  return handle_scope.Escape(result);
+}
+
 void ReleaseBuffer(HippyBuffer* buffer) {
   if (buffer == NULL) {
     return;
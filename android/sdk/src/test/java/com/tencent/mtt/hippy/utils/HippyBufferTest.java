@@ -0,0 +1,246 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.mtt.hippy.utils;
+
+import com.tencent.mtt.hippy.common.HippyArray;
+import com.tencent.mtt.hippy.common.HippyMap;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * FileName: HippyBufferTest
+ * Description：conformance of the hippy-buffer the Java->JS calls are sent in: the bytes of each type, which the
+ * native ParseBuffer reads, and the round trip of HippyBuffer.build(Object, GrowByteBuffer) through both java
+ * parsers. Values come back the way ArgumentUtils.objectToJson would send them (null as "", NaN as 0).
+ * History：
+ */
+public class HippyBufferTest
+{
+	@Test
+	public void integersAreZigZagVarints()
+	{
+		assertArrayEquals(bytes(HippyBuffer.TYPE_INTEGER, 0), encode(0));
+		assertArrayEquals(bytes(HippyBuffer.TYPE_INTEGER, 2), encode(1));
+		assertArrayEquals(bytes(HippyBuffer.TYPE_INTEGER, 1), encode(-1));
+		// 300 zigzags to 600, 0x258
+		assertArrayEquals(bytes(HippyBuffer.TYPE_INTEGER, 0xD8, 0x04), encode(300));
+	}
+
+	@Test
+	public void stringsAreLengthPrefixedUtf8()
+	{
+		assertArrayEquals(bytes(HippyBuffer.TYPE_STRING, 2, 'a', 'b'), encode("ab"));
+		assertArrayEquals(bytes(HippyBuffer.TYPE_STRING, 3, 0xE4, 0xB8, 0xAD), encode("\u4E2D"));
+	}
+
+	@Test
+	public void doublesAreBigEndianBits()
+	{
+		// 1.5 is 0x3FF8000000000000
+		assertArrayEquals(bytes(HippyBuffer.TYPE_DOUBLE, 0x3F, 0xF8, 0, 0, 0, 0, 0, 0), encode(1.5));
+	}
+
+	@Test
+	public void mapKeysArePlainStrings()
+	{
+		HippyMap map = new HippyMap();
+		map.pushObject("k", Boolean.TRUE);
+		assertArrayEquals(bytes(HippyBuffer.TYPE_MAP, 1, 1, 'k', HippyBuffer.TYPE_BOOLEAN_TRUE), encode(map));
+
+		HippyArray array = new HippyArray();
+		array.pushObject(Boolean.FALSE);
+		assertArrayEquals(bytes(HippyBuffer.TYPE_ARRAY, 1, HippyBuffer.TYPE_BOOLEAN_FALSE), encode(array));
+	}
+
+	@Test
+	public void nullIsSentAsEmptyString()
+	{
+		assertArrayEquals(bytes(HippyBuffer.TYPE_STRING, 0), encode(null));
+		assertEquals("", roundTrip(null));
+
+		HippyMap map = new HippyMap();
+		map.pushObject("value", null);
+		assertEquals(mapOf("value", ""), roundTrip(map));
+	}
+
+	@Test
+	public void nanIsSentAsZero()
+	{
+		assertEquals(0, roundTrip(Double.NaN));
+		assertEquals(0, roundTrip(Float.NaN));
+		assertEquals(Arrays.asList(1.5, 0), roundTrip(new float[] { 1.5f, Float.NaN }));
+	}
+
+	@Test
+	public void numbersRoundTrip()
+	{
+		assertEquals(0, roundTrip(0));
+		assertEquals(Integer.MAX_VALUE, roundTrip(Integer.MAX_VALUE));
+		assertEquals(Integer.MIN_VALUE, roundTrip(Integer.MIN_VALUE));
+		assertEquals(7, roundTrip((short) 7));
+		assertEquals(-7, roundTrip((byte) -7));
+		assertEquals(-0.25, roundTrip(-0.25));
+		assertEquals(1e300, roundTrip(1e300));
+		assertEquals(0.5, roundTrip(0.5f));
+		// longs are js numbers, an integral one past the int range comes back as a long
+		assertEquals(3.0, roundTrip(3L));
+		assertEquals(1L << 40, roundTrip(1L << 40));
+	}
+
+	@Test
+	public void stringsRoundTrip()
+	{
+		assertEquals("", roundTrip(""));
+		assertEquals("hippy", roundTrip("hippy"));
+		assertEquals("\u4E2D\u6587", roundTrip("\u4E2D\u6587"));
+		assertEquals("\uD83D\uDE00", roundTrip("\uD83D\uDE00"));
+
+		// past the 2KB initial buffer of the builder
+		StringBuilder longString = new StringBuilder();
+		while (longString.length() < 5000)
+		{
+			longString.append("hippy buffer ");
+		}
+		assertEquals(longString.toString(), roundTrip(longString.toString()));
+	}
+
+	@Test
+	public void nestedValuesRoundTrip()
+	{
+		HippyArray children = new HippyArray();
+		children.pushObject(1);
+		children.pushObject("two");
+		children.pushObject(Boolean.FALSE);
+		HippyMap style = new HippyMap();
+		style.pushObject("width", 100.5);
+		style.pushObject("flex", 1);
+		HippyMap root = new HippyMap();
+		root.pushObject("id", 10);
+		root.pushObject("name", "View");
+		root.pushObject("style", style);
+		root.pushObject("children", children);
+		root.pushObject("empty", new HippyMap());
+
+		Map<String, Object> expected = new HashMap<>();
+		expected.put("id", 10);
+		expected.put("name", "View");
+		Map<String, Object> expectedStyle = new HashMap<>();
+		expectedStyle.put("width", 100.5);
+		expectedStyle.put("flex", 1);
+		expected.put("style", expectedStyle);
+		expected.put("children", Arrays.<Object> asList(1, "two", false));
+		expected.put("empty", new HashMap<String, Object>());
+		assertEquals(expected, roundTrip(root));
+	}
+
+	@Test
+	public void unsupportedValuesFallBack()
+	{
+		GrowByteBuffer output = new GrowByteBuffer(64);
+		assertFalse(new HippyBuffer().build(new Object(), output));
+
+		HippyArray circular = new HippyArray();
+		circular.pushObject(circular);
+		assertFalse(new HippyBuffer().build(circular, output));
+
+		// a failed build leaves nothing behind for the next one
+		assertEquals("after", roundTrip("after"));
+	}
+
+	@Test
+	public void outputIsReset()
+	{
+		GrowByteBuffer output = new GrowByteBuffer(64);
+		HippyBuffer hippyBuffer = new HippyBuffer();
+		assertTrue(hippyBuffer.build("a longer first value", output));
+		assertTrue(hippyBuffer.build(1, output));
+		assertArrayEquals(bytes(HippyBuffer.TYPE_INTEGER, 2), Arrays.copyOf(output.getValue(), output.length()));
+	}
+
+	private static byte[] encode(Object value)
+	{
+		GrowByteBuffer output = new GrowByteBuffer(64);
+		assertTrue(new HippyBuffer().build(value, output));
+		return Arrays.copyOf(output.getValue(), output.length());
+	}
+
+	/**
+	 * @return the value decoded by the eager parser, checked to be what the lazy reader decodes as well, with
+	 * HippyMap and HippyArray turned into Map and List so that values compare with equals
+	 */
+	private static Object roundTrip(Object value)
+	{
+		byte[] data = encode(value);
+		HippyBuffer hippyBuffer = new HippyBuffer();
+		Object parsed = toPlain(hippyBuffer.parse(data));
+		Object read = toPlain(hippyBuffer.parse(ByteBuffer.wrap(data)));
+		assertEquals(parsed, read);
+		return parsed;
+	}
+
+	private static Object toPlain(Object value)
+	{
+		if (value instanceof HippyMap)
+		{
+			Map<String, Object> map = new HashMap<>();
+			for (Map.Entry<String, Object> entry : ((HippyMap) value).entrySet())
+			{
+				map.put(entry.getKey(), toPlain(entry.getValue()));
+			}
+			return map;
+		}
+		if (value instanceof HippyArray)
+		{
+			HippyArray array = (HippyArray) value;
+			List<Object> list = new ArrayList<>();
+			for (int i = 0; i < array.size(); i++)
+			{
+				list.add(toPlain(array.get(i)));
+			}
+			return list;
+		}
+		return value;
+	}
+
+	private static Map<String, Object> mapOf(String key, Object value)
+	{
+		Map<String, Object> map = new HashMap<>();
+		map.put(key, value);
+		return map;
+	}
+
+	private static byte[] bytes(int... values)
+	{
+		byte[] bytes = new byte[values.length];
+		for (int i = 0; i < values.length; i++)
+		{
+			bytes[i] = (byte) values[i];
+		}
+		return bytes;
+	}
+}
@@ -91,6 +91,31 @@ global.hippyBridge = (_action, _callObj) => {
       }
       break;
     }
+    case 'callBatch': {
+      // Calls collected by native within one frame, replay them in order and
+      // report the first failure after all of them are delivered.
+      if (!Array.isArray(callObj)) {
+        resp = 'error: callBatch param invalid';
+      } else {
+        let batchError = null;
+        callObj.forEach((call) => {
+          if (!call || !call.action) {
+            return;
+          }
+          try {
+            global.hippyBridge(call.action, call.params);
+          } catch (e) {
+            if (!batchError) {
+              batchError = e;
+            }
+          }
+        });
+        if (batchError) {
+          throw batchError;
+        }
+      }
+      break;
+    }
     case 'destroyInstance': {
       global.Hippy.emit('destroyInstance', callObj);
       const renderId = Date.now().toString();
@@ -78,7 +78,12 @@ global.Response = class Response {
     this.status = resp.statusCode || 404;
     this.statusText = resp.statusLine || 'Not Found';
     this.headers = resp.respHeaders || {};
-    this.body = resp.respBody || '';
+    // Android sends the body in chunks, so that it never holds the whole body in one string.
+    if (Array.isArray(resp.respBodyChunks)) {
+      this.body = resp.respBodyChunks.join('');
+    } else {
+      this.body = resp.respBody || '';
+    }
     this.ok = this.status >= 200 && this.status <= 299;
   }
 
@@ -123,7 +128,12 @@ global.fetch = (url, options) => {
     url,
     headers: reqHeads || {},
     body: opts.body || '',
+    respBodyChunked: true,
   };
+  // native side answers from the http cache only when a cache mode is given
+  if (typeof opts.cache === 'string') {
+    reqOptions.cache = opts.cache;
+  }
 
   return new Promise((resolve, reject) => {
     const result = Hippy.bridge.callNativeWithPromise('network', 'fetch', reqOptions);
@@ -25,13 +25,13 @@ namespace {
   const uint8_t k_TimerModule[] = { 40,102,117,110,99,116,105,111,110,40,101,120,112,111,114,116,115,44,32,114,101,113,117,105,114,101,44,32,105,110,116,101,114,110,97,108,66,105,110,100,105,110,103,41,32,123,99,111,110,115,116,32,116,105,109,101,114,32,61,32,105,110,116,101,114,110,97,108,66,105,110,100,105,110,103,40,39,84,105,109,101,114,77,111,100,117,108,101,39,41,59,10,10,103,108,111,98,97,108,46,115,101,116,84,105,109,101,111,117,116,32,61,32,40,99,98,44,32,115,108,101,101,112,84,105,109,101,41,32,61,62,32,116,105,109,101,114,46,83,101,116,84,105,109,101,111,117,116,40,99,98,44,32,115,108,101,101,112,84,105,109,101,41,59,10,10,103,108,111,98,97,108,46,99,108,101,97,114,84,105,109,101,111,117,116,32,61,32,40,116,105,109,101,114,73,100,41,32,61,62,32,123,10,32,32,105,102,32,40,78,117,109,98,101,114,46,105,115,73,110,116,101,103,101,114,40,116,105,109,101,114,73,100,41,32,38,38,32,116,105,109,101,114,73,100,32,62,32,48,41,32,123,10,32,32,32,32,116,105,109,101,114,46,67,108,101,97,114,84,105,109,101,111,117,116,40,116,105,109,101,114,73,100,41,59,10,32,32,125,10,125,59,10,10,103,108,111,98,97,108,46,115,101,116,73,110,116,101,114,118,97,108,32,61,32,40,99,98,44,32,105,110,116,101,114,118,97,108,84,105,109,101,41,32,61,62,32,116,105,109,101,114,46,83,101,116,73,110,116,101,114,118,97,108,40,99,98,44,32,105,110,116,101,114,118,97,108,84,105,109,101,41,59,10,10,103,108,111,98,97,108,46,99,108,101,97,114,73,110,116,101,114,118,97,108,32,61,32,40,116,105,109,101,114,73,100,41,32,61,62,32,123,10,32,32,105,102,32,40,78,117,109,98,101,114,46,105,115,73,110,116,101,103,101,114,40,116,105,109,101,114,73,100,41,32,38,38,32,116,105,109,101,114,73,100,32,62,32,48,41,32,123,10,32,32,32,32,116,105,109,101,114,46,67,108,101,97,114,73,110,116,101,114,118,97,108,40,116,105,109,101,114,73,100,41,59,10,32,32,125,10,125,59,10,125,41,59,0 };  // NOLINT
   const uint8_t k_ConsoleModule[] = { 40,102,117,110,99,116,105,111,110,40,101,120,112,111,114,116,115,44,32,114,101,113,117,105,114,101,44,32,105,110,116,101,114,110,97,108,66,105,110,100,105,110,103,41,32,123,99,111,110,115,116,32,99,111,110,115,111,108,101,77,111,100,117,108,101,32,61,32,105,110,116,101,114,110,97,108,66,105,110,100,105,110,103,40,39,67,111,110,115,111,108,101,77,111,100,117,108,101,39,41,59,10,10,99,111,110,115,116,32,105,110,100,101,110,116,32,61,32,40,108,101,118,101,108,41,32,61,62,32,123,10,32,32,108,101,116,32,116,97,98,32,61,32,39,39,59,10,32,32,119,104,105,108,101,32,40,116,97,98,46,108,101,110,103,116,104,32,60,32,108,101,118,101,108,32,42,32,50,41,32,123,10,32,32,32,32,116,97,98,32,43,61,32,39,32,32,39,59,10,32,32,125,10,32,32,114,101,116,117,114,110,32,116,97,98,59,10,125,59,10,10,108,101,116,32,105,110,115,112,101,99,116,79,98,106,101,99,116,32,61,32,110,117,108,108,59,10,108,101,116,32,105,110,115,112,101,99,116,32,61,32,110,117,108,108,59,10,10,105,110,115,112,101,99,116,79,98,106,101,99,116,32,61,32,40,118,97,108,117,101,44,32,108,101,118,101,108,32,61,32,48,44,32,114,101,99,117,114,115,101,84,105,109,101,115,32,61,32,50,44,32,108,105,110,101,98,114,101,97,107,32,61,32,39,92,110,39,41,32,61,62,32,123,10,32,32,105,102,32,40,118,97,108,117,101,32,61,61,61,32,110,117,108,108,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,39,110,117,108,108,39,59,10,32,32,125,10,32,32,105,102,32,40,65,114,114,97,121,46,105,115,65,114,114,97,121,40,118,97,108,117,101,41,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,96,91,32,36,123,118,97,108,117,101,46,109,97,112,40,105,116,101,109,32,61,62,32,105,110,115,112,101,99,116,40,105,116,101,109,44,32,108,101,118,101,108,32,43,32,49,44,32,114,101,99,117,114,115,101,84,105,109,101,115,32,45,32,49,41,41,46,106,111,105,110,40,39,44,32,39,41,125,32,93,96,59,10,32,32,125,10,10,32,32,115,119,105,116,99,104,32,40,79,98,106,101,99,116,46,112,114,111,116,111,116,121,112,101,46,116,111,83,116,114,105,110,103,46,99,97,108,108,40,118,97,108,117,101,41,41,32,123,10,32,32,32,32,99,97,115,101,32,39,91,111,98,106,101,99,116,32,68,97,116,101,93,39,58,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,32,68,97,116,101,46,112,114,111,116,111,116,121,112,101,46,116,111,73,83,79,83,116,114,105,110,103,46,99,97,108,108,40,118,97,108,117,101,41,59,10,32,32,32,32,125,10,32,32,32,32,99,97,115,101,32,39,91,111,98,106,101,99,116,32,82,101,103,69,120,112,93,39,58,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,32,82,101,103,69,120,112,46,112,114,111,116,111,116,121,112,101,46,116,111,83,116,114,105,110,103,46,99,97,108,108,40,118,97,108,117,101,41,59,10,32,32,32,32,125,10,32,32,32,32,99,97,115,101,32,39,91,111,98,106,101,99,116,32,69,114,114,111,114,93,39,58,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,32,96,36,123,118,97,108,117,101,46,115,116,97,99,107,32,124,124,32,69,114,114,111,114,46,112,114,111,116,111,116,121,112,101,46,116,111,83,116,114,105,110,103,46,99,97,108,108,40,118,97,108,117,101,41,125,96,59,10,32,32,32,32,125,10,32,32,32,32,99,97,115,101,32,39,91,111,98,106,101,99,116,32,83,101,116,93,39,58,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,32,96,83,101,116,32,123,32,36,123,91,46,46,46,118,97,108,117,101,93,46,109,97,112,40,105,116,101,109,32,61,62,32,105,110,115,112,101,99,116,40,105,116,101,109,44,32,108,101,118,101,108,32,43,32,49,44,32,114,101,99,117,114,115,101,84,105,109,101,115,32,45,32,49,44,32,108,105,110,101,98,114,101,97,107,41,41,46,106,111,105,110,40,39,44,32,39,41,125,32,125,96,59,10,32,32,32,32,125,10,32,32,32,32,99,97,115,101,32,39,91,111,98,106,101,99,116,32,87,101,97,107,83,101,116,93,39,58,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,32,39,87,101,97,107,83,101,116,32,123,32,91,105,116,101,109,115,32,117,110,107,110,111,119,110,93,32,125,39,59,10,32,32,32,32,125,10,32,32,32,32,99,97,115,101,32,39,91,111,98,106,101,99,116,32,77,97,112,93,39,58,32,123,10,32,32,32,32,32,32,99,111,110,115,116,32,101,110,116,114,105,101,115,32,61,32,91,93,59,10,32,32,32,32,32,32,118,97,108,117,101,46,102,111,114,69,97,99,104,40,40,118,97,108,44,32,107,101,121,41,32,61,62,32,123,10,32,32,32,32,32,32,32,32,101,110,116,114,105,101,115,46,112,117,115,104,40,96,36,123,105,110,115,112,101,99,116,40,107,101,121,44,32,114,101,99,117,114,115,101,84,105,109,101,115,32,42,32,45,49,44,32,114,101,99,117,114,115,101,84,105,109,101,115,32,45,32,49,44,32,39,39,41,125,32,61,62,32,36,123,105,110,115,112,101,99,116,40,118,97,108,44,32,114,101,99,117,114,115,101,84,105,109,101,115,32,42,32,45,49,44,32,114,101,99,117,114,115,101,84,105,109,101,115,32,45,32,49,44,32,39,39,41,125,96,41,59,10,32,32,32,32,32,32,125,41,59,10,32,32,32,32,32,32,114,101,116,117,114,110,32,96,77,97,112,32,123,32,36,123,101,110,116,114,105,101,115,46,106,111,105,110,40,39,44,32,39,41,125,32,125,96,59,10,32,32,32,32,125,10,32,32,32,32,99,97,115,101,32,39,91,111,98,106,101,99,116,32,87,101,97,107,77,97,112,93,39,58,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,32,39,87,101,97,107,77,97,112,32,123,32,91,105,116,101,109,115,32,117,110,107,110,111,119,110,93,32,125,39,59,10,32,32,32,32,125,10,32,32,32,32,100,101,102,97,117,108,116,58,32,123,10,32,32,32,32,32,32,98,114,101,97,107,59,10,32,32,32,32,125,10,32,32,125,10,10,32,32,105,102,32,40,118,97,108,117,101,32,105,110,115,116,97,110,99,101,111,102,32,69,114,114,111,114,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,96,36,123,118,97,108,117,101,46,115,116,97,99,107,32,124,124,32,69,114,114,111,114,46,112,114,111,116,111,116,121,112,101,46,116,111,83,116,114,105,110,103,46,99,97,108,108,40,118,97,108,117,101,41,125,96,59,10,32,32,125,10,10,32,32,99,111,110,115,116,32,100,101,115,99,115,32,61,32,79,98,106,101,99,116,46,103,101,116,79,119,110,80,114,111,112,101,114,116,121,68,101,115,99,114,105,112,116,111,114,115,40,118,97,108,117,101,41,59,10,32,32,99,111,110,115,116,32,107,101,121,115,32,61,32,79,98,106,101,99,116,46,107,101,121,115,40,100,101,115,99,115,41,59,10,32,32,99,111,110,115,116,32,112,97,105,114,115,32,61,32,91,93,59,10,32,32,107,101,121,115,46,102,111,114,69,97,99,104,40,40,107,101,121,41,32,61,62,32,123,10,32,32,32,32,99,111,110,115,116,32,100,101,115,99,32,61,32,100,101,115,99,115,91,107,101,121,93,59,10,32,32,32,32,99,111,110,115,116,32,105,116,101,109,80,114,101,102,105,120,32,61,32,96,36,123,105,110,100,101,110,116,40,108,101,118,101,108,32,43,32,49,41,125,36,123,107,101,121,125,32,58,32,96,59,10,32,32,32,32,105,102,32,40,100,101,115,99,46,103,101,116,41,32,123,10,32,32,32,32,32,32,105,102,32,40,100,101,115,99,46,115,101,116,41,32,123,10,32,32,32,32,32,32,32,32,112,97,105,114,115,46,112,117,115,104,40,96,36,123,105,116,101,109,80,114,101,102,105,120,125,91,71,101,116,116,101,114,47,83,101,116,116,101,114,93,96,41,59,10,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,112,97,105,114,115,46,112,117,115,104,40,96,36,123,105,116,101,109,80,114,101,102,105,120,125,91,71,101,116,116,101,114,93,96,41,59,10,32,32,32,32,32,32,125,10,32,32,32,32,125,32,101,108,115,101,32,105,102,32,40,100,101,115,99,46,115,101,116,41,32,123,10,32,32,32,32,32,32,112,97,105,114,115,46,112,117,115,104,40,96,36,123,105,116,101,109,80,114,101,102,105,120,125,91,83,101,116,116,101,114,93,96,41,59,10,32,32,32,32,125,32,101,108,115,101,32,105,102,32,40,100,101,115,99,46,118,97,108,117,101,41,32,123,10,32,32,32,32,32,32,112,97,105,114,115,46,112,117,115,104,40,96,36,123,105,116,101,109,80,114,101,102,105,120,125,36,123,105,110,115,112,101,99,116,40,100,101,115,99,46,118,97,108,117,101,44,32,108,101,118,101,108,32,43,32,49,44,32,114,101,99,117,114,115,101,84,105,109,101,115,32,45,32,49,44,32,108,105,110,101,98,114,101,97,107,41,125,96,41,59,10,32,32,32,32,125,10,32,32,125,41,59,10,32,32,114,101,116,117,114,110,32,96,123,36,123,108,105,110,101,98,114,101,97,107,125,36,123,112,97,105,114,115,46,106,111,105,110,40,96,44,32,36,123,108,105,110,101,98,114,101,97,107,125,96,41,125,36,123,108,105,110,101,98,114,101,97,107,125,36,123,105,110,100,101,110,116,40,108,101,118,101,108,41,125,125,96,59,10,125,59,10,10,105,110,115,112,101,99,116,32,61,32,40,118,97,108,117,101,44,32,108,101,118,101,108,32,61,32,48,44,32,114,101,99,117,114,115,101,84,105,109,101,115,32,61,32,50,44,32,108,105,110,101,98,114,101,97,107,32,61,32,39,92,110,39,41,32,61,62,32,123,10,32,32,115,119,105,116,99,104,32,40,116,121,112,101,111,102,32,118,97,108,117,101,41,32,123,10,32,32,32,32,99,97,115,101,32,39,115,116,114,105,110,103,39,58,10,32,32,32,32,32,32,114,101,116,117,114,110,32,96,39,36,123,118,97,108,117,101,125,39,96,59,10,32,32,32,32,99,97,115,101,32,39,115,121,109,98,111,108,39,58,10,32,32,32,32,32,32,114,101,116,117,114,110,32,118,97,108,117,101,46,116,111,83,116,114,105,110,103,40,41,59,10,32,32,32,32,99,97,115,101,32,39,102,117,110,99,116,105,111,110,39,58,10,32,32,32,32,32,32,114,101,116,117,114,110,32,96,91,70,117,110,99,116,105,111,110,36,123,118,97,108,117,101,46,110,97,109,101,32,63,32,96,58,32,36,123,118,97,108,117,101,46,110,97,109,101,125,96,32,58,32,39,39,125,93,96,59,10,32,32,32,32,99,97,115,101,32,39,111,98,106,101,99,116,39,58,10,32,32,32,32,32,32,105,102,32,40,114,101,99,117,114,115,101,84,105,109,101,115,32,60,32,48,41,32,123,10,32,32,32,32,32,32,32,32,114,101,116,117,114,110,32,39,91,79,98,106,101,99,116,93,39,59,10,32,32,32,32,32,32,125,10,32,32,32,32,32,32,114,101,116,117,114,110,32,105,110,115,112,101,99,116,79,98,106,101,99,116,40,118,97,108,117,101,44,32,108,101,118,101,108,44,32,114,101,99,117,114,115,101,84,105,109,101,115,44,32,108,105,110,101,98,114,101,97,107,41,59,10,32,32,32,32,99,97,115,101,32,39,98,105,103,105,110,116,39,58,10,32,32,32,32,32,32,114,101,116,117,114,110,32,96,110,36,123,118,97,108,117,101,125,96,59,10,32,32,32,32,99,97,115,101,32,39,117,110,100,101,102,105,110,101,100,39,58,10,32,32,32,32,99,97,115,101,32,39,110,117,109,98,101,114,39,58,10,32,32,32,32,99,97,115,101,32,39,98,111,111,108,101,97,110,39,58,10,32,32,32,32,100,101,102,97,117,108,116,58,10,32,32,32,32,32,32,114,101,116,117,114,110,32,96,36,123,118,97,108,117,101,125,96,59,10,32,32,125,10,125,59,10,10,108,101,116,32,118,109,67,111,110,115,111,108,101,59,10,105,102,32,40,116,121,112,101,111,102,32,99,111,110,115,111,108,101,32,33,61,61,32,39,117,110,100,101,102,105,110,101,100,39,41,32,123,10,32,32,118,109,67,111,110,115,111,108,101,32,61,32,99,111,110,115,111,108,101,59,10,125,10,10,103,108,111,98,97,108,46,99,111,110,115,111,108,101,32,61,32,123,10,32,32,114,101,112,111,114,116,85,110,99,97,117,103,104,116,69,120,99,101,112,116,105,111,110,40,101,114,114,111,114,41,32,123,10,32,32,32,32,105,102,32,40,101,114,114,111,114,32,38,38,32,101,114,114,111,114,32,105,110,115,116,97,110,99,101,111,102,32,69,114,114,111,114,41,32,123,10,32,32,32,32,32,32,116,104,114,111,119,32,101,114,114,111,114,59,10,32,32,32,32,125,10,32,32,125,44,10,125,59,10,10,91,39,108,111,103,39,44,32,39,105,110,102,111,39,44,32,39,119,97,114,110,39,44,32,39,101,114,114,111,114,39,44,32,39,100,101,98,117,103,39,93,46,102,111,114,69,97,99,104,40,40,97,112,105,41,32,61,62,32,123,10,32,32,103,108,111,98,97,108,46,99,111,110,115,111,108,101,91,97,112,105,93,32,61,32,40,46,46,46,97,114,103,115,41,32,61,62,32,123,10,32,32,32,32,99,111,110,115,116,32,108,111,103,32,61,32,97,114,103,115,46,109,97,112,40,97,114,103,32,61,62,32,105,110,115,112,101,99,116,40,97,114,103,41,41,46,106,111,105,110,40,39,32,39,41,59,10,32,32,32,32,99,111,110,115,111,108,101,77,111,100,117,108,101,46,76,111,103,40,108,111,103,41,59,10,32,32,32,32,105,102,32,40,118,109,67,111,110,115,111,108,101,41,32,123,10,32,32,32,32,32,32,118,109,67,111,110,115,111,108,101,91,97,112,105,93,40,46,46,46,97,114,103,115,41,59,10,32,32,32,32,125,10,32,32,125,59,10,125,41,59,10,125,41,59,0 };  // NOLINT
   const uint8_t k_UIManagerModule[] = { 40,102,117,110,99,116,105,111,110,40,101,120,112,111,114,116,115,44,32,114,101,113,117,105,114,101,44,32,105,110,116,101,114,110,97,108,66,105,110,100,105,110,103,41,32,123,72,105,112,112,121,46,100,111,99,117,109,101,110,116,32,61,32,123,10,32,32,99,114,101,97,116,101,78,111,100,101,40,114,111,111,116,86,105,101,119,73,100,44,32,113,117,101,117,101,41,32,123,10,32,32,32,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,40,39,85,73,77,97,110,97,103,101,114,77,111,100,117,108,101,39,44,32,39,99,114,101,97,116,101,78,111,100,101,39,44,32,114,111,111,116,86,105,101,119,73,100,44,32,113,117,101,117,101,41,59,10,32,32,125,44,10,32,32,117,112,100,97,116,101,78,111,100,101,40,114,111,111,116,86,105,101,119,73,100,44,32,113,117,101,117,101,41,32,123,10,32,32,32,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,40,39,85,73,77,97,110,97,103,101,114,77,111,100,117,108,101,39,44,32,39,117,112,100,97,116,101,78,111,100,101,39,44,32,114,111,111,116,86,105,101,119,73,100,44,32,113,117,101,117,101,41,59,10,32,32,125,44,10,32,32,100,101,108,101,116,101,78,111,100,101,40,114,111,111,116,86,105,101,119,73,100,44,32,113,117,101,117,101,41,32,123,10,32,32,32,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,40,39,85,73,77,97,110,97,103,101,114,77,111,100,117,108,101,39,44,32,39,100,101,108,101,116,101,78,111,100,101,39,44,32,114,111,111,116,86,105,101,119,73,100,44,32,113,117,101,117,101,41,59,10,32,32,125,44,10,32,32,102,108,117,115,104,66,97,116,99,104,40,114,111,111,116,86,105,101,119,73,100,44,32,113,117,101,117,101,41,32,123,10,32,32,32,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,40,39,85,73,77,97,110,97,103,101,114,77,111,100,117,108,101,39,44,32,39,102,108,117,115,104,66,97,116,99,104,39,44,32,114,111,111,116,86,105,101,119,73,100,44,32,113,117,101,117,101,41,59,10,32,32,125,44,10,32,32,115,116,97,114,116,66,97,116,99,104,40,114,101,110,100,101,114,73,100,41,32,123,10,32,32,32,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,40,39,85,73,77,97,110,97,103,101,114,77,111,100,117,108,101,39,44,32,39,115,116,97,114,116,66,97,116,99,104,39,44,32,40,96,36,123,114,101,110,100,101,114,73,100,125,96,41,41,59,10,32,32,125,44,10,32,32,101,110,100,66,97,116,99,104,40,114,101,110,100,101,114,73,100,41,32,123,10,32,32,32,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,40,39,85,73,77,97,110,97,103,101,114,77,111,100,117,108,101,39,44,32,39,101,110,100,66,97,116,99,104,39,44,32,40,96,36,123,114,101,110,100,101,114,73,100,125,96,41,41,59,10,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,102,108,117,115,104,81,117,101,117,101,73,109,109,101,100,105,97,116,101,32,61,61,61,32,39,102,117,110,99,116,105,111,110,39,41,32,123,10,32,32,32,32,32,32,102,108,117,115,104,81,117,101,117,101,73,109,109,101,100,105,97,116,101,40,41,59,10,32,32,32,32,125,10,32,32,125,44,10,32,32,115,101,110,100,82,101,110,100,101,114,69,114,114,111,114,40,101,114,114,111,114,41,32,123,10,32,32,32,32,105,102,32,40,101,114,114,111,114,41,32,123,10,32,32,32,32,32,32,116,104,114,111,119,32,101,114,114,111,114,59,10,32,32,32,32,125,10,32,32,125,44,10,125,59,10,125,41,59,0 };  // NOLINT
-  const uint8_t k_Network[] = { 40,102,117,110,99,116,105,111,110,40,101,120,112,111,114,116,115,44,32,114,101,113,117,105,114,101,44,32,105,110,116,101,114,110,97,108,66,105,110,100,105,110,103,41,32,123,103,108,111,98,97,108,46,72,101,97,100,101,114,115,32,61,32,99,108,97,115,115,32,72,101,97,100,101,114,115,32,123,10,32,32,99,111,110,115,116,114,117,99,116,111,114,40,105,110,105,116,86,97,108,117,101,115,41,32,123,10,32,32,32,32,116,104,105,115,46,95,104,101,97,100,101,114,115,32,61,32,123,125,59,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,105,110,105,116,86,97,108,117,101,115,32,61,61,61,32,39,111,98,106,101,99,116,39,41,32,123,10,32,32,32,32,32,32,79,98,106,101,99,116,46,107,101,121,115,40,105,110,105,116,86,97,108,117,101,115,41,46,102,111,114,69,97,99,104,40,40,107,101,121,41,32,61,62,32,123,10,32,32,32,32,32,32,32,32,99,111,110,115,116,32,118,97,108,117,101,32,61,32,105,110,105,116,86,97,108,117,101,115,91,107,101,121,93,59,10,32,32,32,32,32,32,32,32,105,102,32,40,118,97,108,117,101,32,105,110,115,116,97,110,99,101,111,102,32,65,114,114,97,121,41,32,123,10,32,32,32,32,32,32,32,32,32,32,118,97,108,117,101,46,102,111,114,69,97,99,104,40,40,111,110,101,68,97,116,97,41,32,61,62,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,116,104,105,115,46,97,112,112,101,110,100,40,107,101,121,44,32,111,110,101,68,97,116,97,41,59,10,32,32,32,32,32,32,32,32,32,32,125,41,59,10,32,32,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,32,32,116,104,105,115,46,115,101,116,40,107,101,121,44,32,118,97,108,117,101,41,59,10,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,125,41,59,10,32,32,32,32,125,10,32,32,125,10,10,32,32,97,112,112,101,110,100,40,110,97,109,101,44,32,118,97,108,117,101,41,32,123,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,110,97,109,101,32,33,61,61,32,39,115,116,114,105,110,103,39,32,124,124,32,116,121,112,101,111,102,32,118,97,108,117,101,32,33,61,61,32,39,115,116,114,105,110,103,39,41,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,59,10,32,32,32,32,125,10,10,32,32,32,32,105,102,32,40,116,104,105,115,46,104,97,115,40,110,97,109,101,41,41,32,123,10,32,32,32,32,32,32,99,111,110,115,116,32,99,117,114,114,32,61,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,110,97,109,101,93,59,10,32,32,32,32,32,32,99,117,114,114,46,112,117,115,104,40,118,97,108,117,101,41,59,10,32,32,32,32,32,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,110,97,109,101,93,32,61,32,99,117,114,114,59,10,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,110,97,109,101,93,32,61,32,91,118,97,108,117,101,93,59,10,32,32,32,32,125,10,32,32,125,10,10,32,32,115,101,116,40,110,97,109,101,44,32,118,97,108,117,101,41,32,123,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,110,97,109,101,32,33,61,61,32,39,115,116,114,105,110,103,39,32,124,124,32,116,121,112,101,111,102,32,118,97,108,117,101,32,33,61,61,32,39,115,116,114,105,110,103,39,41,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,59,10,32,32,32,32,125,10,10,32,32,32,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,110,97,109,101,93,32,61,32,91,118,97,108,117,101,93,59,10,32,32,125,10,10,32,32,103,101,116,65,108,108,40,41,32,123,10,32,32,32,32,105,102,32,40,33,116,104,105,115,46,95,104,101,97,100,101,114,115,91,39,67,111,110,116,101,110,116,45,84,121,112,101,39,93,32,38,38,32,33,116,104,105,115,46,95,104,101,97,100,101,114,115,91,39,99,111,110,116,101,110,116,45,116,121,112,101,39,93,41,32,123,10,32,32,32,32,32,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,39,99,111,110,116,101,110,116,45,116,121,112,101,39,93,32,61,32,91,39,116,101,120,116,47,112,108,97,105,110,59,99,104,97,114,115,101,116,61,85,84,70,45,56,39,93,59,10,32,32,32,32,125,10,32,32,32,32,99,111,110,115,116,32,114,101,116,32,61,32,79,98,106,101,99,116,46,97,115,115,105,103,110,40,123,125,44,32,116,104,105,115,46,95,104,101,97,100,101,114,115,41,59,10,32,32,32,32,114,101,116,117,114,110,32,114,101,116,59,10,32,32,125,10,10,32,32,100,101,108,101,116,101,40,110,97,109,101,41,32,123,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,110,97,109,101,32,33,61,61,32,39,115,116,114,105,110,103,39,41,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,59,10,32,32,32,32,125,10,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,110,97,109,101,93,32,33,61,61,32,39,117,110,100,101,102,105,110,101,100,39,41,32,123,10,32,32,32,32,32,32,100,101,108,101,116,101,32,116,104,105,115,46,95,104,101,97,100,101,114,115,46,110,97,109,101,59,10,32,32,32,32,125,10,32,32,125,10,10,32,32,103,101,116,40,110,97,109,101,41,32,123,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,110,97,109,101,32,33,61,61,32,39,115,116,114,105,110,103,39,41,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,32,117,110,100,101,102,105,110,101,100,59,10,32,32,32,32,125,10,10,32,32,32,32,114,101,116,117,114,110,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,110,97,109,101,93,59,10,32,32,125,10,10,32,32,104,97,115,40,110,97,109,101,41,32,123,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,110,97,109,101,32,33,61,61,32,39,115,116,114,105,110,103,39,41,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,32,102,97,108,115,101,59,10,32,32,32,32,125,10,10,32,32,32,32,114,101,116,117,114,110,32,40,116,121,112,101,111,102,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,110,97,109,101,93,32,33,61,61,32,39,117,110,100,101,102,105,110,101,100,39,41,59,10,32,32,125,10,125,59,10,10,103,108,111,98,97,108,46,82,101,115,112,111,110,115,101,32,61,32,99,108,97,115,115,32,82,101,115,112,111,110,115,101,32,123,10,32,32,99,111,110,115,116,114,117,99,116,111,114,40,114,101,115,112,111,110,115,101,41,32,123,10,32,32,32,32,99,111,110,115,116,32,114,101,115,112,32,61,32,114,101,115,112,111,110,115,101,32,124,124,32,123,125,59,10,32,32,32,32,116,104,105,115,46,115,116,97,116,117,115,32,61,32,114,101,115,112,46,115,116,97,116,117,115,67,111,100,101,32,124,124,32,52,48,52,59,10,32,32,32,32,116,104,105,115,46,115,116,97,116,117,115,84,101,120,116,32,61,32,114,101,115,112,46,115,116,97,116,117,115,76,105,110,101,32,124,124,32,39,78,111,116,32,70,111,117,110,100,39,59,10,32,32,32,32,116,104,105,115,46,104,101,97,100,101,114,115,32,61,32,114,101,115,112,46,114,101,115,112,72,101,97,100,101,114,115,32,124,124,32,123,125,59,10,32,32,32,32,116,104,105,115,46,98,111,100,121,32,61,32,114,101,115,112,46,114,101,115,112,66,111,100,121,32,124,124,32,39,39,59,10,32,32,32,32,116,104,105,115,46,111,107,32,61,32,116,104,105,115,46,115,116,97,116,117,115,32,62,61,32,50,48,48,32,38,38,32,116,104,105,115,46,115,116,97,116,117,115,32,60,61,32,50,57,57,59,10,32,32,125,10,10,32,32,106,115,111,110,40,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,110,101,119,32,80,114,111,109,105,115,101,40,40,114,101,115,111,108,118,101,44,32,114,101,106,101,99,116,41,32,61,62,32,123,10,32,32,32,32,32,32,108,101,116,32,106,115,111,110,105,102,121,32,61,32,110,117,108,108,59,10,32,32,32,32,32,32,116,114,121,32,123,10,32,32,32,32,32,32,32,32,106,115,111,110,105,102,121,32,61,32,74,83,79,78,46,112,97,114,115,101,40,116,104,105,115,46,98,111,100,121,41,59,10,32,32,32,32,32,32,32,32,114,101,115,111,108,118,101,40,106,115,111,110,105,102,121,41,59,10,32,32,32,32,32,32,125,32,99,97,116,99,104,32,40,101,41,32,123,10,32,32,32,32,32,32,32,32,114,101,106,101,99,116,40,110,101,119,32,69,114,114,111,114,40,39,101,114,114,111,114,32,112,97,114,115,105,110,103,32,111,98,106,101,99,116,39,41,41,59,10,32,32,32,32,32,32,125,10,32,32,32,32,125,41,59,10,32,32,125,10,10,32,32,116,101,120,116,40,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,80,114,111,109,105,115,101,46,114,101,115,111,108,118,101,40,116,104,105,115,46,98,111,100,121,41,59,10,32,32,125,10,125,59,10,10,103,108,111,98,97,108,46,102,101,116,99,104,32,61,32,40,117,114,108,44,32,111,112,116,105,111,110,115,41,32,61,62,32,123,10,32,32,105,102,32,40,116,121,112,101,111,102,32,117,114,108,32,33,61,61,32,39,115,116,114,105,110,103,39,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,80,114,111,109,105,115,101,46,114,101,106,101,99,116,40,110,101,119,32,69,114,114,111,114,40,39,111,110,108,121,32,83,116,114,105,110,103,32,117,114,108,32,115,117,112,112,111,114,116,101,100,39,41,41,59,10,32,32,125,10,10,32,32,99,111,110,115,116,32,111,112,116,115,32,61,32,111,112,116,105,111,110,115,32,124,124,32,123,125,59,10,10,32,32,108,101,116,32,114,101,113,72,101,97,100,115,32,61,32,123,125,59,10,32,32,105,102,32,40,111,112,116,115,46,104,101,97,100,101,114,115,41,32,123,10,32,32,32,32,105,102,32,40,111,112,116,115,46,104,101,97,100,101,114,115,32,105,110,115,116,97,110,99,101,111,102,32,72,101,97,100,101,114,115,41,32,123,10,32,32,32,32,32,32,114,101,113,72,101,97,100,115,32,61,32,111,112,116,115,46,104,101,97,100,101,114,115,46,103,101,116,65,108,108,40,41,59,10,32,32,32,32,125,32,101,108,115,101,32,105,102,32,40,111,112,116,115,46,104,101,97,100,101,114,115,46,99,111,110,115,116,114,117,99,116,111,114,32,61,61,61,32,79,98,106,101,99,116,41,32,123,10,32,32,32,32,32,32,99,111,110,115,116,32,104,101,97,100,101,114,115,32,61,32,110,101,119,32,72,101,97,100,101,114,115,40,111,112,116,115,46,104,101,97,100,101,114,115,41,59,10,32,32,32,32,32,32,114,101,113,72,101,97,100,115,32,61,32,104,101,97,100,101,114,115,46,103,101,116,65,108,108,40,41,59,10,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,32,80,114,111,109,105,115,101,46,114,101,106,101,99,116,40,110,101,119,32,69,114,114,111,114,40,39,79,110,108,121,32,72,101,97,100,101,114,115,32,105,110,115,116,97,110,99,101,32,111,114,32,97,32,112,117,114,101,32,111,98,106,101,99,116,32,105,115,32,97,99,99,101,112,116,97,98,108,101,32,102,111,114,32,104,101,97,100,101,114,115,32,111,112,116,105,111,110,39,41,41,59,10,32,32,32,32,125,10,32,32,125,10,10,32,32,99,111,110,115,116,32,114,101,113,79,112,116,105,111,110,115,32,61,32,123,10,32,32,32,32,109,101,116,104,111,100,58,32,111,112,116,115,46,109,101,116,104,111,100,32,124,124,32,39,71,69,84,39,44,10,32,32,32,32,117,114,108,44,10,32,32,32,32,104,101,97,100,101,114,115,58,32,114,101,113,72,101,97,100,115,32,124,124,32,123,125,44,10,32,32,32,32,98,111,100,121,58,32,111,112,116,115,46,98,111,100,121,32,124,124,32,39,39,44,10,32,32,125,59,10,10,32,32,114,101,116,117,114,110,32,110,101,119,32,80,114,111,109,105,115,101,40,40,114,101,115,111,108,118,101,44,32,114,101,106,101,99,116,41,32,61,62,32,123,10,32,32,32,32,99,111,110,115,116,32,114,101,115,117,108,116,32,61,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,87,105,116,104,80,114,111,109,105,115,101,40,39,110,101,116,119,111,114,107,39,44,32,39,102,101,116,99,104,39,44,32,114,101,113,79,112,116,105,111,110,115,41,59,10,32,32,32,32,114,101,115,117,108,116,46,116,104,101,110,40,40,114,101,115,112,41,32,61,62,32,123,10,32,32,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,114,101,115,112,32,61,61,61,32,39,111,98,106,101,99,116,39,41,32,123,10,32,32,32,32,32,32,32,32,99,111,110,115,116,32,114,101,115,112,111,110,115,101,68,97,116,97,32,61,32,110,101,119,32,82,101,115,112,111,110,115,101,40,114,101,115,112,41,59,10,32,32,32,32,32,32,32,32,114,101,115,111,108,118,101,40,114,101,115,112,111,110,115,101,68,97,116,97,41,59,10,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,114,101,106,101,99,116,40,114,101,115,112,41,59,10,32,32,32,32,32,32,125,10,32,32,32,32,125,41,46,99,97,116,99,104,40,40,101,41,32,61,62,32,123,10,32,32,32,32,32,32,114,101,106,101,99,116,40,101,41,59,10,32,32,32,32,125,41,59,10,32,32,125,41,59,10,125,59,10,125,41,59,0 };  // NOLINT
+  const uint8_t k_Network[] = { 40,102,117,110,99,116,105,111,110,40,101,120,112,111,114,116,115,44,32,114,101,113,117,105,114,101,44,32,105,110,116,101,114,110,97,108,66,105,110,100,105,110,103,41,32,123,103,108,111,98,97,108,46,72,101,97,100,101,114,115,32,61,32,99,108,97,115,115,32,72,101,97,100,101,114,115,32,123,10,32,32,99,111,110,115,116,114,117,99,116,111,114,40,105,110,105,116,86,97,108,117,101,115,41,32,123,10,32,32,32,32,116,104,105,115,46,95,104,101,97,100,101,114,115,32,61,32,123,125,59,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,105,110,105,116,86,97,108,117,101,115,32,61,61,61,32,39,111,98,106,101,99,116,39,41,32,123,10,32,32,32,32,32,32,79,98,106,101,99,116,46,107,101,121,115,40,105,110,105,116,86,97,108,117,101,115,41,46,102,111,114,69,97,99,104,40,40,107,101,121,41,32,61,62,32,123,10,32,32,32,32,32,32,32,32,99,111,110,115,116,32,118,97,108,117,101,32,61,32,105,110,105,116,86,97,108,117,101,115,91,107,101,121,93,59,10,32,32,32,32,32,32,32,32,105,102,32,40,118,97,108,117,101,32,105,110,115,116,97,110,99,101,111,102,32,65,114,114,97,121,41,32,123,10,32,32,32,32,32,32,32,32,32,32,118,97,108,117,101,46,102,111,114,69,97,99,104,40,40,111,110,101,68,97,116,97,41,32,61,62,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,116,104,105,115,46,97,112,112,101,110,100,40,107,101,121,44,32,111,110,101,68,97,116,97,41,59,10,32,32,32,32,32,32,32,32,32,32,125,41,59,10,32,32,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,32,32,116,104,105,115,46,115,101,116,40,107,101,121,44,32,118,97,108,117,101,41,59,10,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,125,41,59,10,32,32,32,32,125,10,32,32,125,10,10,32,32,97,112,112,101,110,100,40,110,97,109,101,44,32,118,97,108,117,101,41,32,123,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,110,97,109,101,32,33,61,61,32,39,115,116,114,105,110,103,39,32,124,124,32,116,121,112,101,111,102,32,118,97,108,117,101,32,33,61,61,32,39,115,116,114,105,110,103,39,41,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,59,10,32,32,32,32,125,10,10,32,32,32,32,105,102,32,40,116,104,105,115,46,104,97,115,40,110,97,109,101,41,41,32,123,10,32,32,32,32,32,32,99,111,110,115,116,32,99,117,114,114,32,61,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,110,97,109,101,93,59,10,32,32,32,32,32,32,99,117,114,114,46,112,117,115,104,40,118,97,108,117,101,41,59,10,32,32,32,32,32,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,110,97,109,101,93,32,61,32,99,117,114,114,59,10,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,110,97,109,101,93,32,61,32,91,118,97,108,117,101,93,59,10,32,32,32,32,125,10,32,32,125,10,10,32,32,115,101,116,40,110,97,109,101,44,32,118,97,108,117,101,41,32,123,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,110,97,109,101,32,33,61,61,32,39,115,116,114,105,110,103,39,32,124,124,32,116,121,112,101,111,102,32,118,97,108,117,101,32,33,61,61,32,39,115,116,114,105,110,103,39,41,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,59,10,32,32,32,32,125,10,10,32,32,32,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,110,97,109,101,93,32,61,32,91,118,97,108,117,101,93,59,10,32,32,125,10,10,32,32,103,101,116,65,108,108,40,41,32,123,10,32,32,32,32,105,102,32,40,33,116,104,105,115,46,95,104,101,97,100,101,114,115,91,39,67,111,110,116,101,110,116,45,84,121,112,101,39,93,32,38,38,32,33,116,104,105,115,46,95,104,101,97,100,101,114,115,91,39,99,111,110,116,101,110,116,45,116,121,112,101,39,93,41,32,123,10,32,32,32,32,32,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,39,99,111,110,116,101,110,116,45,116,121,112,101,39,93,32,61,32,91,39,116,101,120,116,47,112,108,97,105,110,59,99,104,97,114,115,101,116,61,85,84,70,45,56,39,93,59,10,32,32,32,32,125,10,32,32,32,32,99,111,110,115,116,32,114,101,116,32,61,32,79,98,106,101,99,116,46,97,115,115,105,103,110,40,123,125,44,32,116,104,105,115,46,95,104,101,97,100,101,114,115,41,59,10,32,32,32,32,114,101,116,117,114,110,32,114,101,116,59,10,32,32,125,10,10,32,32,100,101,108,101,116,101,40,110,97,109,101,41,32,123,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,110,97,109,101,32,33,61,61,32,39,115,116,114,105,110,103,39,41,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,59,10,32,32,32,32,125,10,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,110,97,109,101,93,32,33,61,61,32,39,117,110,100,101,102,105,110,101,100,39,41,32,123,10,32,32,32,32,32,32,100,101,108,101,116,101,32,116,104,105,115,46,95,104,101,97,100,101,114,115,46,110,97,109,101,59,10,32,32,32,32,125,10,32,32,125,10,10,32,32,103,101,116,40,110,97,109,101,41,32,123,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,110,97,109,101,32,33,61,61,32,39,115,116,114,105,110,103,39,41,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,32,117,110,100,101,102,105,110,101,100,59,10,32,32,32,32,125,10,10,32,32,32,32,114,101,116,117,114,110,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,110,97,109,101,93,59,10,32,32,125,10,10,32,32,104,97,115,40,110,97,109,101,41,32,123,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,110,97,109,101,32,33,61,61,32,39,115,116,114,105,110,103,39,41,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,32,102,97,108,115,101,59,10,32,32,32,32,125,10,10,32,32,32,32,114,101,116,117,114,110,32,40,116,121,112,101,111,102,32,116,104,105,115,46,95,104,101,97,100,101,114,115,91,110,97,109,101,93,32,33,61,61,32,39,117,110,100,101,102,105,110,101,100,39,41,59,10,32,32,125,10,125,59,10,10,103,108,111,98,97,108,46,82,101,115,112,111,110,115,101,32,61,32,99,108,97,115,115,32,82,101,115,112,111,110,115,101,32,123,10,32,32,99,111,110,115,116,114,117,99,116,111,114,40,114,101,115,112,111,110,115,101,41,32,123,10,32,32,32,32,99,111,110,115,116,32,114,101,115,112,32,61,32,114,101,115,112,111,110,115,101,32,124,124,32,123,125,59,10,32,32,32,32,116,104,105,115,46,115,116,97,116,117,115,32,61,32,114,101,115,112,46,115,116,97,116,117,115,67,111,100,101,32,124,124,32,52,48,52,59,10,32,32,32,32,116,104,105,115,46,115,116,97,116,117,115,84,101,120,116,32,61,32,114,101,115,112,46,115,116,97,116,117,115,76,105,110,101,32,124,124,32,39,78,111,116,32,70,111,117,110,100,39,59,10,32,32,32,32,116,104,105,115,46,104,101,97,100,101,114,115,32,61,32,114,101,115,112,46,114,101,115,112,72,101,97,100,101,114,115,32,124,124,32,123,125,59,10,32,32,32,32,47,47,32,65,110,100,114,111,105,100,32,115,101,110,100,115,32,116,104,101,32,98,111,100,121,32,105,110,32,99,104,117,110,107,115,44,32,115,111,32,116,104,97,116,32,105,116,32,110,101,118,101,114,32,104,111,108,100,115,32,116,104,101,32,119,104,111,108,101,32,98,111,100,121,32,105,110,32,111,110,101,32,115,116,114,105,110,103,46,10,32,32,32,32,105,102,32,40,65,114,114,97,121,46,105,115,65,114,114,97,121,40,114,101,115,112,46,114,101,115,112,66,111,100,121,67,104,117,110,107,115,41,41,32,123,10,32,32,32,32,32,32,116,104,105,115,46,98,111,100,121,32,61,32,114,101,115,112,46,114,101,115,112,66,111,100,121,67,104,117,110,107,115,46,106,111,105,110,40,39,39,41,59,10,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,116,104,105,115,46,98,111,100,121,32,61,32,114,101,115,112,46,114,101,115,112,66,111,100,121,32,124,124,32,39,39,59,10,32,32,32,32,125,10,32,32,32,32,116,104,105,115,46,111,107,32,61,32,116,104,105,115,46,115,116,97,116,117,115,32,62,61,32,50,48,48,32,38,38,32,116,104,105,115,46,115,116,97,116,117,115,32,60,61,32,50,57,57,59,10,32,32,125,10,10,32,32,106,115,111,110,40,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,110,101,119,32,80,114,111,109,105,115,101,40,40,114,101,115,111,108,118,101,44,32,114,101,106,101,99,116,41,32,61,62,32,123,10,32,32,32,32,32,32,108,101,116,32,106,115,111,110,105,102,121,32,61,32,110,117,108,108,59,10,32,32,32,32,32,32,116,114,121,32,123,10,32,32,32,32,32,32,32,32,106,115,111,110,105,102,121,32,61,32,74,83,79,78,46,112,97,114,115,101,40,116,104,105,115,46,98,111,100,121,41,59,10,32,32,32,32,32,32,32,32,114,101,115,111,108,118,101,40,106,115,111,110,105,102,121,41,59,10,32,32,32,32,32,32,125,32,99,97,116,99,104,32,40,101,41,32,123,10,32,32,32,32,32,32,32,32,114,101,106,101,99,116,40,110,101,119,32,69,114,114,111,114,40,39,101,114,114,111,114,32,112,97,114,115,105,110,103,32,111,98,106,101,99,116,39,41,41,59,10,32,32,32,32,32,32,125,10,32,32,32,32,125,41,59,10,32,32,125,10,10,32,32,116,101,120,116,40,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,80,114,111,109,105,115,101,46,114,101,115,111,108,118,101,40,116,104,105,115,46,98,111,100,121,41,59,10,32,32,125,10,125,59,10,10,103,108,111,98,97,108,46,102,101,116,99,104,32,61,32,40,117,114,108,44,32,111,112,116,105,111,110,115,41,32,61,62,32,123,10,32,32,105,102,32,40,116,121,112,101,111,102,32,117,114,108,32,33,61,61,32,39,115,116,114,105,110,103,39,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,80,114,111,109,105,115,101,46,114,101,106,101,99,116,40,110,101,119,32,69,114,114,111,114,40,39,111,110,108,121,32,83,116,114,105,110,103,32,117,114,108,32,115,117,112,112,111,114,116,101,100,39,41,41,59,10,32,32,125,10,10,32,32,99,111,110,115,116,32,111,112,116,115,32,61,32,111,112,116,105,111,110,115,32,124,124,32,123,125,59,10,10,32,32,108,101,116,32,114,101,113,72,101,97,100,115,32,61,32,123,125,59,10,32,32,105,102,32,40,111,112,116,115,46,104,101,97,100,101,114,115,41,32,123,10,32,32,32,32,105,102,32,40,111,112,116,115,46,104,101,97,100,101,114,115,32,105,110,115,116,97,110,99,101,111,102,32,72,101,97,100,101,114,115,41,32,123,10,32,32,32,32,32,32,114,101,113,72,101,97,100,115,32,61,32,111,112,116,115,46,104,101,97,100,101,114,115,46,103,101,116,65,108,108,40,41,59,10,32,32,32,32,125,32,101,108,115,101,32,105,102,32,40,111,112,116,115,46,104,101,97,100,101,114,115,46,99,111,110,115,116,114,117,99,116,111,114,32,61,61,61,32,79,98,106,101,99,116,41,32,123,10,32,32,32,32,32,32,99,111,110,115,116,32,104,101,97,100,101,114,115,32,61,32,110,101,119,32,72,101,97,100,101,114,115,40,111,112,116,115,46,104,101,97,100,101,114,115,41,59,10,32,32,32,32,32,32,114,101,113,72,101,97,100,115,32,61,32,104,101,97,100,101,114,115,46,103,101,116,65,108,108,40,41,59,10,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,32,80,114,111,109,105,115,101,46,114,101,106,101,99,116,40,110,101,119,32,69,114,114,111,114,40,39,79,110,108,121,32,72,101,97,100,101,114,115,32,105,110,115,116,97,110,99,101,32,111,114,32,97,32,112,117,114,101,32,111,98,106,101,99,116,32,105,115,32,97,99,99,101,112,116,97,98,108,101,32,102,111,114,32,104,101,97,100,101,114,115,32,111,112,116,105,111,110,39,41,41,59,10,32,32,32,32,125,10,32,32,125,10,10,32,32,99,111,110,115,116,32,114,101,113,79,112,116,105,111,110,115,32,61,32,123,10,32,32,32,32,109,101,116,104,111,100,58,32,111,112,116,115,46,109,101,116,104,111,100,32,124,124,32,39,71,69,84,39,44,10,32,32,32,32,117,114,108,44,10,32,32,32,32,104,101,97,100,101,114,115,58,32,114,101,113,72,101,97,100,115,32,124,124,32,123,125,44,10,32,32,32,32,98,111,100,121,58,32,111,112,116,115,46,98,111,100,121,32,124,124,32,39,39,44,10,32,32,32,32,114,101,115,112,66,111,100,121,67,104,117,110,107,101,100,58,32,116,114,117,101,44,10,32,32,125,59,10,32,32,47,47,32,110,97,116,105,118,101,32,115,105,100,101,32,97,110,115,119,101,114,115,32,102,114,111,109,32,116,104,101,32,104,116,116,112,32,99,97,99,104,101,32,111,110,108,121,32,119,104,101,110,32,97,32,99,97,99,104,101,32,109,111,100,101,32,105,115,32,103,105,118,101,110,10,32,32,105,102,32,40,116,121,112,101,111,102,32,111,112,116,115,46,99,97,99,104,101,32,61,61,61,32,39,115,116,114,105,110,103,39,41,32,123,10,32,32,32,32,114,101,113,79,112,116,105,111,110,115,46,99,97,99,104,101,32,61,32,111,112,116,115,46,99,97,99,104,101,59,10,32,32,125,10,10,32,32,114,101,116,117,114,110,32,110,101,119,32,80,114,111,109,105,115,101,40,40,114,101,115,111,108,118,101,44,32,114,101,106,101,99,116,41,32,61,62,32,123,10,32,32,32,32,99,111,110,115,116,32,114,101,115,117,108,116,32,61,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,87,105,116,104,80,114,111,109,105,115,101,40,39,110,101,116,119,111,114,107,39,44,32,39,102,101,116,99,104,39,44,32,114,101,113,79,112,116,105,111,110,115,41,59,10,32,32,32,32,114,101,115,117,108,116,46,116,104,101,110,40,40,114,101,115,112,41,32,61,62,32,123,10,32,32,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,114,101,115,112,32,61,61,61,32,39,111,98,106,101,99,116,39,41,32,123,10,32,32,32,32,32,32,32,32,99,111,110,115,116,32,114,101,115,112,111,110,115,101,68,97,116,97,32,61,32,110,101,119,32,82,101,115,112,111,110,115,101,40,114,101,115,112,41,59,10,32,32,32,32,32,32,32,32,114,101,115,111,108,118,101,40,114,101,115,112,111,110,115,101,68,97,116,97,41,59,10,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,114,101,106,101,99,116,40,114,101,115,112,41,59,10,32,32,32,32,32,32,125,10,32,32,32,32,125,41,46,99,97,116,99,104,40,40,101,41,32,61,62,32,123,10,32,32,32,32,32,32,114,101,106,101,99,116,40,101,41,59,10,32,32,32,32,125,41,59,10,32,32,125,41,59,10,125,59,10,125,41,59,0 };  // NOLINT
   const uint8_t k_Storage[] = { 40,102,117,110,99,116,105,111,110,40,101,120,112,111,114,116,115,44,32,114,101,113,117,105,114,101,44,32,105,110,116,101,114,110,97,108,66,105,110,100,105,110,103,41,32,123,99,111,110,115,116,32,99,111,110,118,101,114,116,69,114,114,111,114,32,61,32,40,101,114,114,111,114,41,32,61,62,32,123,10,32,32,105,102,32,40,33,101,114,114,111,114,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,110,117,108,108,59,10,32,32,125,10,10,32,32,99,111,110,115,116,32,111,117,116,32,61,32,110,101,119,32,69,114,114,111,114,40,101,114,114,111,114,46,109,101,115,115,97,103,101,41,59,10,32,32,111,117,116,46,107,101,121,32,61,32,101,114,114,111,114,46,107,101,121,59,10,10,32,32,114,101,116,117,114,110,32,111,117,116,59,10,125,59,10,10,99,111,110,115,116,32,99,111,110,118,101,114,116,69,114,114,111,114,115,32,61,32,40,101,114,114,115,41,32,61,62,32,123,10,32,32,105,102,32,40,33,101,114,114,115,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,110,117,108,108,59,10,32,32,125,10,10,32,32,108,101,116,32,116,97,114,103,101,116,69,114,114,111,114,59,10,10,32,32,105,102,32,40,65,114,114,97,121,46,105,115,65,114,114,97,121,40,101,114,114,115,41,41,32,123,10,32,32,32,32,116,97,114,103,101,116,69,114,114,111,114,32,61,32,101,114,114,115,59,10,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,116,97,114,103,101,116,69,114,114,111,114,32,61,32,91,101,114,114,115,93,59,10,32,32,125,10,10,32,32,105,102,32,40,116,97,114,103,101,116,69,114,114,111,114,41,32,123,10,32,32,32,32,116,97,114,103,101,116,69,114,114,111,114,46,109,97,112,40,101,32,61,62,32,99,111,110,118,101,114,116,69,114,114,111,114,40,101,41,41,59,10,32,32,125,10,10,32,32,114,101,116,117,114,110,32,116,97,114,103,101,116,69,114,114,111,114,59,10,125,59,10,10,72,105,112,112,121,46,97,115,121,110,99,83,116,111,114,97,103,101,32,61,32,123,10,32,32,103,101,116,65,108,108,75,101,121,115,40,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,87,105,116,104,80,114,111,109,105,115,101,40,39,83,116,111,114,97,103,101,77,111,100,117,108,101,39,44,32,39,103,101,116,65,108,108,75,101,121,115,39,41,59,10,32,32,125,44,10,32,32,115,101,116,73,116,101,109,40,107,101,121,44,32,118,97,108,117,101,65,114,103,41,32,123,10,32,32,32,32,108,101,116,32,118,97,108,117,101,32,61,32,118,97,108,117,101,65,114,103,59,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,118,97,108,117,101,32,33,61,61,32,39,115,116,114,105,110,103,39,41,32,123,10,32,32,32,32,32,32,116,114,121,32,123,10,32,32,32,32,32,32,32,32,118,97,108,117,101,32,61,32,118,97,108,117,101,46,116,111,83,116,114,105,110,103,40,41,59,10,32,32,32,32,32,32,125,32,99,97,116,99,104,32,40,101,114,114,41,32,123,10,32,32,32,32,32,32,32,32,116,104,114,111,119,32,101,114,114,59,10,32,32,32,32,32,32,125,10,32,32,32,32,125,10,32,32,32,32,114,101,116,117,114,110,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,87,105,116,104,80,114,111,109,105,115,101,40,39,83,116,111,114,97,103,101,77,111,100,117,108,101,39,44,32,39,109,117,108,116,105,83,101,116,39,44,32,91,91,107,101,121,44,32,118,97,108,117,101,93,93,41,59,10,32,32,125,44,10,32,32,103,101,116,73,116,101,109,40,107,101,121,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,87,105,116,104,80,114,111,109,105,115,101,40,39,83,116,111,114,97,103,101,77,111,100,117,108,101,39,44,32,39,109,117,108,116,105,71,101,116,39,44,32,91,107,101,121,93,41,10,32,32,32,32,32,32,46,116,104,101,110,40,40,114,41,32,61,62,32,123,10,32,32,32,32,32,32,32,32,105,102,32,40,33,114,32,124,124,32,33,114,91,48,93,32,124,124,32,33,114,91,48,93,91,49,93,41,32,123,10,32,32,32,32,32,32,32,32,32,32,114,101,116,117,114,110,32,110,117,108,108,59,10,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,114,101,116,117,114,110,32,114,91,48,93,91,49,93,59,10,32,32,32,32,32,32,125,41,46,99,97,116,99,104,40,101,114,114,32,61,62,32,99,111,110,118,101,114,116,69,114,114,111,114,115,40,101,114,114,41,41,59,10,32,32,125,44,10,32,32,114,101,109,111,118,101,73,116,101,109,40,107,101,121,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,87,105,116,104,80,114,111,109,105,115,101,40,39,83,116,111,114,97,103,101,77,111,100,117,108,101,39,44,32,39,109,117,108,116,105,82,101,109,111,118,101,39,44,32,91,107,101,121,93,41,59,10,32,32,125,44,10,32,32,109,117,108,116,105,71,101,116,40,107,101,121,115,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,87,105,116,104,80,114,111,109,105,115,101,40,39,83,116,111,114,97,103,101,77,111,100,117,108,101,39,44,32,39,109,117,108,116,105,71,101,116,39,44,32,107,101,121,115,41,59,10,32,32,125,44,10,32,32,109,117,108,116,105,83,101,116,40,107,101,121,86,97,108,117,101,80,97,105,114,115,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,87,105,116,104,80,114,111,109,105,115,101,40,39,83,116,111,114,97,103,101,77,111,100,117,108,101,39,44,32,39,109,117,108,116,105,83,101,116,39,44,32,107,101,121,86,97,108,117,101,80,97,105,114,115,41,59,10,32,32,125,44,10,32,32,109,117,108,116,105,82,101,109,111,118,101,40,107,101,121,115,41,32,123,10,32,32,32,32,114,101,116,117,114,110,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,87,105,116,104,80,114,111,109,105,115,101,40,39,83,116,111,114,97,103,101,77,111,100,117,108,101,39,44,32,39,109,117,108,116,105,82,101,109,111,118,101,39,44,32,107,101,121,115,41,59,10,32,32,125,44,10,125,59,10,125,41,59,0 };  // NOLINT
   const uint8_t k_Event[] = { 40,102,117,110,99,116,105,111,110,40,101,120,112,111,114,116,115,44,32,114,101,113,117,105,114,101,44,32,105,110,116,101,114,110,97,108,66,105,110,100,105,110,103,41,32,123,103,108,111,98,97,108,46,72,105,112,112,121,68,101,97,108,108,111,99,32,61,32,40,41,32,61,62,32,123,10,32,32,105,102,32,40,103,108,111,98,97,108,46,72,105,112,112,121,41,32,123,10,32,32,32,32,103,108,111,98,97,108,46,72,105,112,112,121,46,101,109,105,116,40,39,100,101,97,108,108,111,99,39,41,59,10,32,32,125,10,125,59,10,125,41,59,0 };  // NOLINT
   const uint8_t k_Dimensions[] = { 40,102,117,110,99,116,105,111,110,40,101,120,112,111,114,116,115,44,32,114,101,113,117,105,114,101,44,32,105,110,116,101,114,110,97,108,66,105,110,100,105,110,103,41,32,123,99,111,110,115,116,32,68,105,109,101,110,115,105,111,110,115,32,61,32,123,10,32,32,103,101,116,40,107,101,121,41,32,123,10,32,32,32,32,99,111,110,115,116,32,100,101,118,105,99,101,32,61,32,72,105,112,112,121,46,100,101,118,105,99,101,32,124,124,32,123,125,59,10,32,32,32,32,114,101,116,117,114,110,32,100,101,118,105,99,101,91,107,101,121,93,59,10,32,32,125,44,10,32,32,115,101,116,40,110,97,116,105,118,101,68,105,109,101,110,115,105,111,110,115,41,32,123,10,32,32,32,32,105,102,32,40,33,110,97,116,105,118,101,68,105,109,101,110,115,105,111,110,115,41,32,123,10,32,32,32,32,32,32,114,101,116,117,114,110,59,10,32,32,32,32,125,10,32,32,32,32,99,111,110,115,116,32,123,32,119,105,110,100,111,119,80,104,121,115,105,99,97,108,80,105,120,101,108,115,32,61,32,110,117,108,108,44,32,115,99,114,101,101,110,80,104,121,115,105,99,97,108,80,105,120,101,108,115,32,61,32,110,117,108,108,32,125,32,61,32,110,97,116,105,118,101,68,105,109,101,110,115,105,111,110,115,59,10,32,32,32,32,105,102,32,40,119,105,110,100,111,119,80,104,121,115,105,99,97,108,80,105,120,101,108,115,41,32,123,10,32,32,32,32,32,32,72,105,112,112,121,46,100,101,118,105,99,101,46,119,105,110,100,111,119,32,61,32,123,10,32,32,32,32,32,32,32,32,119,105,100,116,104,58,32,119,105,110,100,111,119,80,104,121,115,105,99,97,108,80,105,120,101,108,115,46,119,105,100,116,104,32,47,32,119,105,110,100,111,119,80,104,121,115,105,99,97,108,80,105,120,101,108,115,46,115,99,97,108,101,44,10,32,32,32,32,32,32,32,32,104,101,105,103,104,116,58,32,119,105,110,100,111,119,80,104,121,115,105,99,97,108,80,105,120,101,108,115,46,104,101,105,103,104,116,32,47,32,119,105,110,100,111,119,80,104,121,115,105,99,97,108,80,105,120,101,108,115,46,115,99,97,108,101,44,10,32,32,32,32,32,32,32,32,115,99,97,108,101,58,32,119,105,110,100,111,119,80,104,121,115,105,99,97,108,80,105,120,101,108,115,46,115,99,97,108,101,44,10,32,32,32,32,32,32,32,32,102,111,110,116,83,99,97,108,101,58,32,119,105,110,100,111,119,80,104,121,115,105,99,97,108,80,105,120,101,108,115,46,102,111,110,116,83,99,97,108,101,44,10,32,32,32,32,32,32,32,32,115,116,97,116,117,115,66,97,114,72,101,105,103,104,116,58,32,119,105,110,100,111,119,80,104,121,115,105,99,97,108,80,105,120,101,108,115,46,115,116,97,116,117,115,66,97,114,72,101,105,103,104,116,32,47,32,119,105,110,100,111,119,80,104,121,115,105,99,97,108,80,105,120,101,108,115,46,115,99,97,108,101,44,10,32,32,32,32,32,32,125,59,10,32,32,32,32,125,10,10,32,32,32,32,105,102,32,40,115,99,114,101,101,110,80,104,121,115,105,99,97,108,80,105,120,101,108,115,41,32,123,10,32,32,32,32,32,32,72,105,112,112,121,46,100,101,118,105,99,101,46,115,99,114,101,101,110,32,61,32,123,10,32,32,32,32,32,32,32,32,119,105,100,116,104,58,32,115,99,114,101,101,110,80,104,121,115,105,99,97,108,80,105,120,101,108,115,46,119,105,100,116,104,32,47,32,115,99,114,101,101,110,80,104,121,115,105,99,97,108,80,105,120,101,108,115,46,115,99,97,108,101,44,10,32,32,32,32,32,32,32,32,104,101,105,103,104,116,58,32,115,99,114,101,101,110,80,104,121,115,105,99,97,108,80,105,120,101,108,115,46,104,101,105,103,104,116,32,47,32,115,99,114,101,101,110,80,104,121,115,105,99,97,108,80,105,120,101,108,115,46,115,99,97,108,101,44,10,32,32,32,32,32,32,32,32,115,99,97,108,101,58,32,115,99,114,101,101,110,80,104,121,115,105,99,97,108,80,105,120,101,108,115,46,115,99,97,108,101,44,10,32,32,32,32,32,32,32,32,102,111,110,116,83,99,97,108,101,58,32,115,99,114,101,101,110,80,104,121,115,105,99,97,108,80,105,120,101,108,115,46,102,111,110,116,83,99,97,108,101,44,10,32,32,32,32,32,32,32,32,115,116,97,116,117,115,66,97,114,72,101,105,103,104,116,58,32,115,99,114,101,101,110,80,104,121,115,105,99,97,108,80,105,120,101,108,115,46,115,116,97,116,117,115,66,97,114,72,101,105,103,104,116,44,32,47,47,32,112,120,32,117,110,105,116,10,32,32,32,32,32,32,125,59,10,32,32,32,32,125,10,10,32,32,32,32,72,105,112,112,121,46,100,101,118,105,99,101,46,112,105,120,101,108,82,97,116,105,111,32,61,32,72,105,112,112,121,46,100,101,118,105,99,101,46,119,105,110,100,111,119,46,115,99,97,108,101,59,10,32,32,125,44,10,32,32,105,110,105,116,40,41,32,123,10,32,32,32,32,99,111,110,115,116,32,123,32,119,105,110,100,111,119,80,104,121,115,105,99,97,108,80,105,120,101,108,115,44,32,115,99,114,101,101,110,80,104,121,115,105,99,97,108,80,105,120,101,108,115,32,125,32,61,32,95,95,72,73,80,80,89,78,65,84,73,86,69,71,76,79,66,65,76,95,95,46,68,105,109,101,110,115,105,111,110,115,59,10,32,32,32,32,116,104,105,115,46,115,101,116,40,123,10,32,32,32,32,32,32,119,105,110,100,111,119,80,104,121,115,105,99,97,108,80,105,120,101,108,115,44,32,115,99,114,101,101,110,80,104,121,115,105,99,97,108,80,105,120,101,108,115,44,10,32,32,32,32,125,41,59,10,32,32,125,44,10,125,59,10,10,68,105,109,101,110,115,105,111,110,115,46,105,110,105,116,40,41,59,10,10,95,95,71,76,79,66,65,76,95,95,46,106,115,77,111,100,117,108,101,76,105,115,116,32,61,32,123,10,32,32,68,105,109,101,110,115,105,111,110,115,44,10,125,59,10,125,41,59,0 };  // NOLINT
   const uint8_t k_UtilsModule[] = { 40,102,117,110,99,116,105,111,110,40,101,120,112,111,114,116,115,44,32,114,101,113,117,105,114,101,44,32,105,110,116,101,114,110,97,108,66,105,110,100,105,110,103,41,32,123,105,102,32,40,72,105,112,112,121,46,100,101,118,105,99,101,46,112,108,97,116,102,111,114,109,46,79,83,32,61,61,61,32,39,97,110,100,114,111,105,100,39,41,32,123,10,32,32,72,105,112,112,121,46,100,101,118,105,99,101,46,118,105,98,114,97,116,101,32,61,32,40,112,97,116,116,101,114,110,44,32,114,101,112,101,97,116,41,32,61,62,32,123,10,32,32,32,32,108,101,116,32,95,112,97,116,116,101,114,110,32,61,32,112,97,116,116,101,114,110,59,10,32,32,32,32,108,101,116,32,95,114,101,112,101,97,116,32,61,32,114,101,112,101,97,116,59,10,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,112,97,116,116,101,114,110,32,61,61,61,32,39,110,117,109,98,101,114,39,41,32,123,10,32,32,32,32,32,32,95,112,97,116,116,101,114,110,32,61,32,91,48,44,32,112,97,116,116,101,114,110,93,59,10,32,32,32,32,125,10,10,32,32,32,32,105,102,32,40,114,101,112,101,97,116,32,61,61,61,32,117,110,100,101,102,105,110,101,100,41,32,123,10,32,32,32,32,32,32,95,114,101,112,101,97,116,32,61,32,45,49,59,10,32,32,32,32,125,10,10,32,32,32,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,87,105,116,104,67,97,108,108,98,97,99,107,73,100,40,39,85,116,105,108,115,77,111,100,117,108,101,39,44,32,39,118,105,98,114,97,116,101,39,44,32,116,114,117,101,44,32,95,112,97,116,116,101,114,110,44,32,95,114,101,112,101,97,116,41,59,10,32,32,125,59,10,10,32,32,72,105,112,112,121,46,100,101,118,105,99,101,46,99,97,110,99,101,108,86,105,98,114,97,116,101,32,61,32,40,41,32,61,62,32,123,10,32,32,32,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,87,105,116,104,67,97,108,108,98,97,99,107,73,100,40,39,85,116,105,108,115,77,111,100,117,108,101,39,44,32,39,99,97,110,99,101,108,39,44,32,116,114,117,101,41,59,10,32,32,125,59,10,125,32,101,108,115,101,32,105,102,32,40,72,105,112,112,121,46,100,101,118,105,99,101,46,112,108,97,116,102,111,114,109,46,79,83,32,61,61,61,32,39,105,111,115,39,41,32,123,32,47,47,32,116,111,95,100,111,10,32,32,72,105,112,112,121,46,100,101,118,105,99,101,46,118,105,98,114,97,116,101,32,61,32,40,41,32,61,62,32,123,125,59,10,32,32,72,105,112,112,121,46,100,101,118,105,99,101,46,99,97,110,99,101,108,86,105,98,114,97,116,101,32,61,32,40,41,32,61,62,32,123,125,59,10,125,10,125,41,59,0 };  // NOLINT
   const uint8_t k_global[] = { 40,102,117,110,99,116,105,111,110,40,101,120,112,111,114,116,115,44,32,114,101,113,117,105,114,101,44,32,105,110,116,101,114,110,97,108,66,105,110,100,105,110,103,41,32,123,95,95,71,76,79,66,65,76,95,95,46,97,112,112,82,101,103,105,115,116,101,114,32,61,32,123,125,59,10,95,95,71,76,79,66,65,76,95,95,46,110,111,100,101,73,100,67,97,99,104,101,32,61,32,123,125,59,10,95,95,71,76,79,66,65,76,95,95,46,110,111,100,101,84,114,101,101,67,97,99,104,101,32,61,32,123,125,59,10,95,95,71,76,79,66,65,76,95,95,46,110,111,100,101,80,97,114,97,109,67,97,99,104,101,32,61,32,123,125,59,32,47,47,32,78,111,116,32,110,101,99,101,115,115,97,114,121,32,102,111,114,32,65,110,100,114,111,105,100,44,32,98,117,116,32,110,101,101,100,32,102,111,114,32,99,108,101,97,110,46,10,95,95,71,76,79,66,65,76,95,95,46,109,111,100,117,108,101,67,97,108,108,73,100,32,61,32,48,59,10,95,95,71,76,79,66,65,76,95,95,46,109,111,100,117,108,101,67,97,108,108,76,105,115,116,32,61,32,123,125,59,10,95,95,71,76,79,66,65,76,95,95,46,68,105,109,101,110,115,105,111,110,115,83,116,111,114,101,32,61,32,123,125,59,32,47,47,32,84,79,68,79,58,32,65,98,108,101,32,116,111,32,100,101,108,101,116,101,10,95,95,71,76,79,66,65,76,95,95,46,99,97,110,82,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,32,61,32,116,114,117,101,59,10,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,73,100,32,61,32,48,59,10,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,81,117,101,117,101,32,61,32,123,125,59,10,95,95,71,76,79,66,65,76,95,95,46,99,111,110,115,116,32,61,32,123,125,59,32,47,47,32,84,79,68,79,58,32,65,98,108,101,32,116,111,32,100,101,108,101,116,101,10,95,95,71,76,79,66,65,76,95,95,46,100,101,115,116,114,111,121,73,110,115,116,97,110,99,101,76,105,115,116,32,61,32,123,125,59,10,125,41,59,0 };  // NOLINT
-  const uint8_t k_native2js[] = { 40,102,117,110,99,116,105,111,110,40,101,120,112,111,114,116,115,44,32,114,101,113,117,105,114,101,44,32,105,110,116,101,114,110,97,108,66,105,110,100,105,110,103,41,32,123,103,108,111,98,97,108,46,104,105,112,112,121,66,114,105,100,103,101,32,61,32,40,95,97,99,116,105,111,110,44,32,95,99,97,108,108,79,98,106,41,32,61,62,32,123,10,32,32,108,101,116,32,114,101,115,112,32,61,32,39,115,117,99,99,101,115,115,39,59,10,10,32,32,108,101,116,32,97,99,116,105,111,110,32,61,32,95,97,99,116,105,111,110,59,10,32,32,108,101,116,32,99,97,108,108,79,98,106,32,61,32,95,99,97,108,108,79,98,106,59,10,10,32,32,105,102,32,40,97,99,116,105,111,110,32,61,61,61,32,39,112,97,117,115,101,73,110,115,116,97,110,99,101,39,41,32,123,10,32,32,32,32,97,99,116,105,111,110,32,61,32,39,99,97,108,108,74,115,77,111,100,117,108,101,39,59,10,32,32,32,32,99,97,108,108,79,98,106,32,61,32,123,10,32,32,32,32,32,32,109,101,116,104,111,100,78,97,109,101,58,32,39,114,101,99,101,105,118,101,78,97,116,105,118,101,69,118,101,110,116,39,44,10,32,32,32,32,32,32,109,111,100,117,108,101,78,97,109,101,58,32,39,69,118,101,110,116,68,105,115,112,97,116,99,104,101,114,39,44,10,32,32,32,32,32,32,112,97,114,97,109,115,58,32,91,39,64,104,105,112,112,121,58,112,97,117,115,101,73,110,115,116,97,110,99,101,39,44,32,110,117,108,108,93,44,10,32,32,32,32,125,59,10,32,32,125,10,10,32,32,105,102,32,40,97,99,116,105,111,110,32,61,61,61,32,39,114,101,115,117,109,101,73,110,115,116,97,110,99,101,39,41,32,123,10,32,32,32,32,97,99,116,105,111,110,32,61,32,39,99,97,108,108,74,115,77,111,100,117,108,101,39,59,10,32,32,32,32,99,97,108,108,79,98,106,32,61,32,123,10,32,32,32,32,32,32,109,101,116,104,111,100,78,97,109,101,58,32,39,114,101,99,101,105,118,101,78,97,116,105,118,101,69,118,101,110,116,39,44,10,32,32,32,32,32,32,109,111,100,117,108,101,78,97,109,101,58,32,39,69,118,101,110,116,68,105,115,112,97,116,99,104,101,114,39,44,10,32,32,32,32,32,32,112,97,114,97,109,115,58,32,91,39,64,104,105,112,112,121,58,114,101,115,117,109,101,73,110,115,116,97,110,99,101,39,44,32,110,117,108,108,93,44,10,32,32,32,32,125,59,10,32,32,125,10,10,32,32,115,119,105,116,99,104,32,40,97,99,116,105,111,110,41,32,123,10,32,32,32,32,99,97,115,101,32,39,108,111,97,100,73,110,115,116,97,110,99,101,39,58,32,123,10,32,32,32,32,32,32,105,102,32,40,95,95,71,76,79,66,65,76,95,95,46,97,112,112,82,101,103,105,115,116,101,114,91,99,97,108,108,79,98,106,46,110,97,109,101,93,41,32,123,10,32,32,32,32,32,32,32,32,79,98,106,101,99,116,46,97,115,115,105,103,110,40,99,97,108,108,79,98,106,46,112,97,114,97,109,115,44,32,123,10,32,32,32,32,32,32,32,32,32,32,95,95,105,110,115,116,97,110,99,101,78,97,109,101,95,95,58,32,99,97,108,108,79,98,106,46,110,97,109,101,44,10,32,32,32,32,32,32,32,32,32,32,95,95,105,110,115,116,97,110,99,101,73,100,95,95,58,32,99,97,108,108,79,98,106,46,105,100,44,10,32,32,32,32,32,32,32,32,125,41,59,10,10,32,32,32,32,32,32,32,32,79,98,106,101,99,116,46,97,115,115,105,103,110,40,95,95,71,76,79,66,65,76,95,95,46,97,112,112,82,101,103,105,115,116,101,114,91,99,97,108,108,79,98,106,46,110,97,109,101,93,44,32,123,10,32,32,32,32,32,32,32,32,32,32,105,100,58,32,99,97,108,108,79,98,106,46,105,100,44,10,32,32,32,32,32,32,32,32,32,32,115,117,112,101,114,80,114,111,112,115,58,32,99,97,108,108,79,98,106,46,112,97,114,97,109,115,44,10,32,32,32,32,32,32,32,32,125,41,59,10,10,32,32,32,32,32,32,32,32,99,111,110,115,116,32,69,118,101,110,116,77,111,100,117,108,101,32,61,32,95,95,71,76,79,66,65,76,95,95,46,106,115,77,111,100,117,108,101,76,105,115,116,46,69,118,101,110,116,68,105,115,112,97,116,99,104,101,114,59,10,32,32,32,32,32,32,32,32,105,102,32,40,69,118,101,110,116,77,111,100,117,108,101,32,38,38,32,116,121,112,101,111,102,32,69,118,101,110,116,77,111,100,117,108,101,46,114,101,99,101,105,118,101,78,97,116,105,118,101,69,118,101,110,116,32,61,61,61,32,39,102,117,110,99,116,105,111,110,39,41,32,123,10,32,32,32,32,32,32,32,32,32,32,99,111,110,115,116,32,112,97,114,97,109,115,32,61,32,91,39,64,104,112,58,108,111,97,100,73,110,115,116,97,110,99,101,39,44,32,99,97,108,108,79,98,106,46,112,97,114,97,109,115,93,59,10,32,32,32,32,32,32,32,32,32,32,69,118,101,110,116,77,111,100,117,108,101,46,114,101,99,101,105,118,101,78,97,116,105,118,101,69,118,101,110,116,40,112,97,114,97,109,115,41,59,10,32,32,32,32,32,32,32,32,125,10,10,32,32,32,32,32,32,32,32,95,95,71,76,79,66,65,76,95,95,46,97,112,112,82,101,103,105,115,116,101,114,91,99,97,108,108,79,98,106,46,110,97,109,101,93,46,114,117,110,40,99,97,108,108,79,98,106,46,112,97,114,97,109,115,41,59,10,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,114,101,115,112,32,61,32,96,101,114,114,111,114,58,32,36,123,99,97,108,108,79,98,106,46,110,97,109,101,125,32,105,115,32,110,111,116,32,114,101,103,105,115,116,32,105,110,32,106,115,96,59,10,32,32,32,32,32,32,32,32,116,104,114,111,119,32,69,114,114,111,114,40,114,101,115,112,41,59,10,32,32,32,32,32,32,125,10,32,32,32,32,32,32,98,114,101,97,107,59,10,32,32,32,32,125,10,32,32,32,32,99,97,115,101,32,39,99,97,108,108,66,97,99,107,39,58,32,123,10,32,32,32,32,32,32,105,102,32,40,99,97,108,108,79,98,106,46,114,101,115,117,108,116,32,61,61,61,32,49,41,32,123,10,32,32,32,32,32,32,32,32,114,101,115,112,32,61,32,39,101,114,114,111,114,58,32,110,97,116,105,118,101,32,110,111,32,109,111,100,117,108,101,115,39,59,10,32,32,32,32,32,32,125,32,101,108,115,101,32,105,102,32,40,99,97,108,108,79,98,106,46,99,97,108,108,73,100,32,38,38,32,99,97,108,108,79,98,106,46,109,111,100,117,108,101,78,97,109,101,32,61,61,61,32,39,65,110,105,109,97,116,105,111,110,70,114,97,109,101,77,111,100,117,108,101,39,32,38,38,32,99,97,108,108,79,98,106,46,109,111,100,117,108,101,70,117,110,99,32,61,61,61,32,39,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,39,41,32,123,10,32,32,32,32,32,32,32,32,95,95,71,76,79,66,65,76,95,95,46,99,97,110,82,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,32,61,32,116,114,117,101,59,10,10,32,32,32,32,32,32,32,32,105,102,32,40,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,81,117,101,117,101,91,99,97,108,108,79,98,106,46,99,97,108,108,73,100,93,41,32,123,10,32,32,32,32,32,32,32,32,32,32,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,81,117,101,117,101,91,99,97,108,108,79,98,106,46,99,97,108,108,73,100,93,46,102,111,114,69,97,99,104,40,40,99,98,41,32,61,62,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,99,98,32,61,61,61,32,39,102,117,110,99,116,105,111,110,39,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,99,98,40,99,97,108,108,79,98,106,46,112,97,114,97,109,115,41,59,10,32,32,32,32,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,32,32,125,41,59,10,10,32,32,32,32,32,32,32,32,32,32,100,101,108,101,116,101,32,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,81,117,101,117,101,91,99,97,108,108,79,98,106,46,99,97,108,108,73,100,93,59,10,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,125,32,101,108,115,101,32,105,102,32,40,99,97,108,108,79,98,106,46,99,97,108,108,73,100,32,38,38,32,95,95,71,76,79,66,65,76,95,95,46,109,111,100,117,108,101,67,97,108,108,76,105,115,116,91,99,97,108,108,79,98,106,46,99,97,108,108,73,100,93,41,32,123,10,32,32,32,32,32,32,32,32,99,111,110,115,116,32,99,97,108,108,98,97,99,107,79,98,106,32,61,32,95,95,71,76,79,66,65,76,95,95,46,109,111,100,117,108,101,67,97,108,108,76,105,115,116,91,99,97,108,108,79,98,106,46,99,97,108,108,73,100,93,59,10,32,32,32,32,32,32,32,32,105,102,32,40,99,97,108,108,79,98,106,46,114,101,115,117,108,116,32,33,61,61,32,48,32,38,38,32,116,121,112,101,111,102,32,99,97,108,108,98,97,99,107,79,98,106,46,114,101,106,101,99,116,32,61,61,61,32,39,102,117,110,99,116,105,111,110,39,41,32,123,10,32,32,32,32,32,32,32,32,32,32,99,97,108,108,98,97,99,107,79,98,106,46,114,101,106,101,99,116,40,99,97,108,108,79,98,106,46,112,97,114,97,109,115,41,59,10,32,32,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,32,32,99,97,108,108,98,97,99,107,79,98,106,46,99,98,40,99,97,108,108,79,98,106,46,112,97,114,97,109,115,41,59,10,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,105,102,32,40,99,97,108,108,98,97,99,107,79,98,106,46,116,121,112,101,32,61,61,61,32,48,32,124,124,32,99,97,108,108,98,97,99,107,79,98,106,46,116,121,112,101,32,61,61,61,32,49,41,32,123,10,32,32,32,32,32,32,32,32,32,32,100,101,108,101,116,101,32,95,95,71,76,79,66,65,76,95,95,46,109,111,100,117,108,101,67,97,108,108,76,105,115,116,91,99,97,108,108,79,98,106,46,99,97,108,108,73,100,93,59,10,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,114,101,115,112,32,61,32,39,101,114,114,111,114,58,32,99,97,108,108,106,115,32,105,100,32,105,115,32,110,111,116,32,114,101,103,105,115,116,32,105,110,32,106,115,39,59,10,32,32,32,32,32,32,125,10,32,32,32,32,32,32,98,114,101,97,107,59,10,32,32,32,32,125,10,32,32,32,32,99,97,115,101,32,39,99,97,108,108,74,115,77,111,100,117,108,101,39,58,32,123,10,32,32,32,32,32,32,105,102,32,40,33,99,97,108,108,79,98,106,32,124,124,32,33,99,97,108,108,79,98,106,46,109,111,100,117,108,101,78,97,109,101,32,124,124,32,33,99,97,108,108,79,98,106,46,109,101,116,104,111,100,78,97,109,101,41,32,123,10,32,32,32,32,32,32,32,32,114,101,115,112,32,61,32,39,101,114,114,111,114,58,32,99,97,108,108,74,115,77,111,100,117,108,101,32,112,97,114,97,109,32,105,110,118,97,108,105,100,39,59,10,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,99,111,110,115,116,32,116,97,114,103,101,116,77,111,100,117,108,101,32,61,32,95,95,71,76,79,66,65,76,95,95,46,106,115,77,111,100,117,108,101,76,105,115,116,91,99,97,108,108,79,98,106,46,109,111,100,117,108,101,78,97,109,101,93,59,10,32,32,32,32,32,32,32,32,105,102,32,40,33,116,97,114,103,101,116,77,111,100,117,108,101,32,124,124,32,116,121,112,101,111,102,32,116,97,114,103,101,116,77,111,100,117,108,101,91,99,97,108,108,79,98,106,46,109,101,116,104,111,100,78,97,109,101,93,32,33,61,61,32,39,102,117,110,99,116,105,111,110,39,41,32,123,10,32,32,32,32,32,32,32,32,32,32,114,101,115,112,32,61,32,39,101,114,114,111,114,58,32,99,97,108,108,74,115,77,111,100,117,108,101,32,116,97,114,103,101,116,116,105,110,103,32,97,110,32,117,110,100,101,102,105,110,101,100,32,109,111,100,117,108,101,32,111,114,32,109,101,116,104,111,100,39,59,10,32,32,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,32,32,116,97,114,103,101,116,77,111,100,117,108,101,91,99,97,108,108,79,98,106,46,109,101,116,104,111,100,78,97,109,101,93,40,99,97,108,108,79,98,106,46,112,97,114,97,109,115,41,59,10,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,125,10,32,32,32,32,32,32,98,114,101,97,107,59,10,32,32,32,32,125,10,32,32,32,32,99,97,115,101,32,39,100,101,115,116,114,111,121,73,110,115,116,97,110,99,101,39,58,32,123,10,32,32,32,32,32,32,103,108,111,98,97,108,46,72,105,112,112,121,46,101,109,105,116,40,39,100,101,115,116,114,111,121,73,110,115,116,97,110,99,101,39,41,59,10,32,32,32,32,32,32,99,111,110,115,116,32,114,101,110,100,101,114,73,100,32,61,32,68,97,116,101,46,110,111,119,40,41,46,116,111,83,116,114,105,110,103,40,41,59,10,32,32,32,32,32,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,40,39,85,73,77,97,110,97,103,101,114,77,111,100,117,108,101,39,44,32,39,115,116,97,114,116,66,97,116,99,104,39,44,32,114,101,110,100,101,114,73,100,41,59,10,32,32,32,32,32,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,40,39,85,73,77,97,110,97,103,101,114,77,111,100,117,108,101,39,44,32,39,100,101,108,101,116,101,78,111,100,101,39,44,32,99,97,108,108,79,98,106,44,32,91,123,32,105,100,58,32,99,97,108,108,79,98,106,32,125,93,41,59,10,32,32,32,32,32,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,40,39,85,73,77,97,110,97,103,101,114,77,111,100,117,108,101,39,44,32,39,101,110,100,66,97,116,99,104,39,44,32,114,101,110,100,101,114,73,100,41,59,10,10,32,32,32,32,32,32,99,111,110,115,116,32,99,117,114,114,101,110,116,78,111,100,101,84,114,101,101,32,61,32,95,95,71,76,79,66,65,76,95,95,46,110,111,100,101,84,114,101,101,67,97,99,104,101,91,99,97,108,108,79,98,106,93,59,10,32,32,32,32,32,32,105,102,32,40,99,117,114,114,101,110,116,78,111,100,101,84,114,101,101,32,38,38,32,65,114,114,97,121,46,105,115,65,114,114,97,121,40,99,117,114,114,101,110,116,78,111,100,101,84,114,101,101,41,41,32,123,10,32,32,32,32,32,32,32,32,108,101,116,32,114,111,111,116,86,105,101,119,78,111,100,101,59,10,10,32,32,32,32,32,32,32,32,99,117,114,114,101,110,116,78,111,100,101,84,114,101,101,46,101,118,101,114,121,40,40,110,111,100,101,41,32,61,62,32,123,10,32,32,32,32,32,32,32,32,32,32,105,102,32,40,110,111,100,101,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,114,111,111,116,86,105,101,119,78,111,100,101,32,61,32,110,111,100,101,59,10,32,32,32,32,32,32,32,32,32,32,32,32,114,101,116,117,114,110,32,102,97,108,115,101,59,10,32,32,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,32,32,114,101,116,117,114,110,32,116,114,117,101,59,10,32,32,32,32,32,32,32,32,125,41,59,10,10,32,32,32,32,32,32,32,32,105,102,32,40,114,111,111,116,86,105,101,119,78,111,100,101,41,32,123,10,32,32,32,32,32,32,32,32,32,32,119,104,105,108,101,32,40,33,40,114,111,111,116,86,105,101,119,78,111,100,101,32,38,38,32,114,111,111,116,86,105,101,119,78,111,100,101,46,109,101,109,111,105,122,101,100,80,114,111,112,115,32,38,38,32,40,116,121,112,101,111,102,32,114,111,111,116,86,105,101,119,78,111,100,101,46,109,101,109,111,105,122,101,100,80,114,111,112,115,46,95,95,105,110,115,116,97,110,99,101,73,100,95,95,32,33,61,61,32,39,117,110,100,101,102,105,110,101,100,39,41,41,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,114,111,111,116,86,105,101,119,78,111,100,101,32,61,32,114,111,111,116,86,105,101,119,78,111,100,101,46,114,101,116,117,114,110,59,10,32,32,32,32,32,32,32,32,32,32,32,32,105,102,32,40,33,114,111,111,116,86,105,101,119,78,111,100,101,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,98,114,101,97,107,59,10,32,32,32,32,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,32,32,125,10,10,32,32,32,32,32,32,32,32,32,32,105,102,32,40,114,111,111,116,86,105,101,119,78,111,100,101,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,99,111,110,115,116,32,100,101,108,101,116,101,78,111,100,101,87,111,114,107,32,61,32,40,99,117,114,114,101,110,116,78,111,100,101,41,32,61,62,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,105,102,32,40,99,117,114,114,101,110,116,78,111,100,101,46,99,104,105,108,100,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,100,101,108,101,116,101,78,111,100,101,87,111,114,107,40,99,117,114,114,101,110,116,78,111,100,101,46,99,104,105,108,100,41,59,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,125,10,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,99,111,110,115,116,32,105,110,115,116,97,110,99,101,32,61,32,99,117,114,114,101,110,116,78,111,100,101,46,115,116,97,116,101,78,111,100,101,59,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,116,114,121,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,105,102,32,40,105,110,115,116,97,110,99,101,32,38,38,32,116,121,112,101,111,102,32,105,110,115,116,97,110,99,101,46,99,111,109,112,111,110,101,110,116,87,105,108,108,85,110,109,111,117,110,116,32,61,61,61,32,39,102,117,110,99,116,105,111,110,39,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,105,110,115,116,97,110,99,101,46,99,111,109,112,111,110,101,110,116,87,105,108,108,85,110,109,111,117,110,116,40,41,59,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,125,10,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,99,111,110,115,116,32,123,32,114,101,102,32,125,32,61,32,99,117,114,114,101,110,116,78,111,100,101,59,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,114,101,102,32,61,61,61,32,39,102,117,110,99,116,105,111,110,39,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,114,101,102,40,41,59,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,125,32,99,97,116,99,104,32,40,101,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,99,111,110,115,111,108,101,46,101,114,114,111,114,40,101,41,59,32,47,47,32,101,115,108,105,110,116,45,100,105,115,97,98,108,101,45,108,105,110,101,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,125,10,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,105,102,32,40,99,117,114,114,101,110,116,78,111,100,101,46,115,105,98,108,105,110,103,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,100,101,108,101,116,101,78,111,100,101,87,111,114,107,40,99,117,114,114,101,110,116,78,111,100,101,46,115,105,98,108,105,110,103,41,59,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,32,32,32,32,125,59,10,10,32,32,32,32,32,32,32,32,32,32,32,32,100,101,108,101,116,101,78,111,100,101,87,111,114,107,40,114,111,111,116,86,105,101,119,78,111,100,101,41,59,10,32,32,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,125,10,10,32,32,32,32,32,32,100,101,108,101,116,101,32,95,95,71,76,79,66,65,76,95,95,46,110,111,100,101,73,100,67,97,99,104,101,91,99,97,108,108,79,98,106,93,59,10,32,32,32,32,32,32,100,101,108,101,116,101,32,95,95,71,76,79,66,65,76,95,95,46,110,111,100,101,84,114,101,101,67,97,99,104,101,91,99,97,108,108,79,98,106,93,59,10,32,32,32,32,32,32,95,95,71,76,79,66,65,76,95,95,46,100,101,115,116,114,111,121,73,110,115,116,97,110,99,101,76,105,115,116,91,99,97,108,108,79,98,106,93,32,61,32,116,114,117,101,59,10,32,32,32,32,32,32,98,114,101,97,107,59,10,32,32,32,32,125,10,32,32,32,32,100,101,102,97,117,108,116,58,32,123,10,32,32,32,32,32,32,114,101,115,112,32,61,32,39,101,114,114,111,114,58,32,97,99,116,105,111,110,32,110,111,116,32,100,101,102,105,110,101,39,59,10,32,32,32,32,32,32,98,114,101,97,107,59,10,32,32,32,32,125,10,32,32,125,10,10,32,32,114,101,116,117,114,110,32,114,101,115,112,59,10,125,59,10,125,41,59,0 };  // NOLINT
+  const uint8_t k_native2js[] = { 40,102,117,110,99,116,105,111,110,40,101,120,112,111,114,116,115,44,32,114,101,113,117,105,114,101,44,32,105,110,116,101,114,110,97,108,66,105,110,100,105,110,103,41,32,123,103,108,111,98,97,108,46,104,105,112,112,121,66,114,105,100,103,101,32,61,32,40,95,97,99,116,105,111,110,44,32,95,99,97,108,108,79,98,106,41,32,61,62,32,123,10,32,32,108,101,116,32,114,101,115,112,32,61,32,39,115,117,99,99,101,115,115,39,59,10,10,32,32,108,101,116,32,97,99,116,105,111,110,32,61,32,95,97,99,116,105,111,110,59,10,32,32,108,101,116,32,99,97,108,108,79,98,106,32,61,32,95,99,97,108,108,79,98,106,59,10,10,32,32,105,102,32,40,97,99,116,105,111,110,32,61,61,61,32,39,112,97,117,115,101,73,110,115,116,97,110,99,101,39,41,32,123,10,32,32,32,32,97,99,116,105,111,110,32,61,32,39,99,97,108,108,74,115,77,111,100,117,108,101,39,59,10,32,32,32,32,99,97,108,108,79,98,106,32,61,32,123,10,32,32,32,32,32,32,109,101,116,104,111,100,78,97,109,101,58,32,39,114,101,99,101,105,118,101,78,97,116,105,118,101,69,118,101,110,116,39,44,10,32,32,32,32,32,32,109,111,100,117,108,101,78,97,109,101,58,32,39,69,118,101,110,116,68,105,115,112,97,116,99,104,101,114,39,44,10,32,32,32,32,32,32,112,97,114,97,109,115,58,32,91,39,64,104,105,112,112,121,58,112,97,117,115,101,73,110,115,116,97,110,99,101,39,44,32,110,117,108,108,93,44,10,32,32,32,32,125,59,10,32,32,125,10,10,32,32,105,102,32,40,97,99,116,105,111,110,32,61,61,61,32,39,114,101,115,117,109,101,73,110,115,116,97,110,99,101,39,41,32,123,10,32,32,32,32,97,99,116,105,111,110,32,61,32,39,99,97,108,108,74,115,77,111,100,117,108,101,39,59,10,32,32,32,32,99,97,108,108,79,98,106,32,61,32,123,10,32,32,32,32,32,32,109,101,116,104,111,100,78,97,109,101,58,32,39,114,101,99,101,105,118,101,78,97,116,105,118,101,69,118,101,110,116,39,44,10,32,32,32,32,32,32,109,111,100,117,108,101,78,97,109,101,58,32,39,69,118,101,110,116,68,105,115,112,97,116,99,104,101,114,39,44,10,32,32,32,32,32,32,112,97,114,97,109,115,58,32,91,39,64,104,105,112,112,121,58,114,101,115,117,109,101,73,110,115,116,97,110,99,101,39,44,32,110,117,108,108,93,44,10,32,32,32,32,125,59,10,32,32,125,10,10,32,32,115,119,105,116,99,104,32,40,97,99,116,105,111,110,41,32,123,10,32,32,32,32,99,97,115,101,32,39,108,111,97,100,73,110,115,116,97,110,99,101,39,58,32,123,10,32,32,32,32,32,32,105,102,32,40,95,95,71,76,79,66,65,76,95,95,46,97,112,112,82,101,103,105,115,116,101,114,91,99,97,108,108,79,98,106,46,110,97,109,101,93,41,32,123,10,32,32,32,32,32,32,32,32,79,98,106,101,99,116,46,97,115,115,105,103,110,40,99,97,108,108,79,98,106,46,112,97,114,97,109,115,44,32,123,10,32,32,32,32,32,32,32,32,32,32,95,95,105,110,115,116,97,110,99,101,78,97,109,101,95,95,58,32,99,97,108,108,79,98,106,46,110,97,109,101,44,10,32,32,32,32,32,32,32,32,32,32,95,95,105,110,115,116,97,110,99,101,73,100,95,95,58,32,99,97,108,108,79,98,106,46,105,100,44,10,32,32,32,32,32,32,32,32,125,41,59,10,10,32,32,32,32,32,32,32,32,79,98,106,101,99,116,46,97,115,115,105,103,110,40,95,95,71,76,79,66,65,76,95,95,46,97,112,112,82,101,103,105,115,116,101,114,91,99,97,108,108,79,98,106,46,110,97,109,101,93,44,32,123,10,32,32,32,32,32,32,32,32,32,32,105,100,58,32,99,97,108,108,79,98,106,46,105,100,44,10,32,32,32,32,32,32,32,32,32,32,115,117,112,101,114,80,114,111,112,115,58,32,99,97,108,108,79,98,106,46,112,97,114,97,109,115,44,10,32,32,32,32,32,32,32,32,125,41,59,10,10,32,32,32,32,32,32,32,32,99,111,110,115,116,32,69,118,101,110,116,77,111,100,117,108,101,32,61,32,95,95,71,76,79,66,65,76,95,95,46,106,115,77,111,100,117,108,101,76,105,115,116,46,69,118,101,110,116,68,105,115,112,97,116,99,104,101,114,59,10,32,32,32,32,32,32,32,32,105,102,32,40,69,118,101,110,116,77,111,100,117,108,101,32,38,38,32,116,121,112,101,111,102,32,69,118,101,110,116,77,111,100,117,108,101,46,114,101,99,101,105,118,101,78,97,116,105,118,101,69,118,101,110,116,32,61,61,61,32,39,102,117,110,99,116,105,111,110,39,41,32,123,10,32,32,32,32,32,32,32,32,32,32,99,111,110,115,116,32,112,97,114,97,109,115,32,61,32,91,39,64,104,112,58,108,111,97,100,73,110,115,116,97,110,99,101,39,44,32,99,97,108,108,79,98,106,46,112,97,114,97,109,115,93,59,10,32,32,32,32,32,32,32,32,32,32,69,118,101,110,116,77,111,100,117,108,101,46,114,101,99,101,105,118,101,78,97,116,105,118,101,69,118,101,110,116,40,112,97,114,97,109,115,41,59,10,32,32,32,32,32,32,32,32,125,10,10,32,32,32,32,32,32,32,32,95,95,71,76,79,66,65,76,95,95,46,97,112,112,82,101,103,105,115,116,101,114,91,99,97,108,108,79,98,106,46,110,97,109,101,93,46,114,117,110,40,99,97,108,108,79,98,106,46,112,97,114,97,109,115,41,59,10,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,114,101,115,112,32,61,32,96,101,114,114,111,114,58,32,36,123,99,97,108,108,79,98,106,46,110,97,109,101,125,32,105,115,32,110,111,116,32,114,101,103,105,115,116,32,105,110,32,106,115,96,59,10,32,32,32,32,32,32,32,32,116,104,114,111,119,32,69,114,114,111,114,40,114,101,115,112,41,59,10,32,32,32,32,32,32,125,10,32,32,32,32,32,32,98,114,101,97,107,59,10,32,32,32,32,125,10,32,32,32,32,99,97,115,101,32,39,99,97,108,108,66,97,99,107,39,58,32,123,10,32,32,32,32,32,32,105,102,32,40,99,97,108,108,79,98,106,46,114,101,115,117,108,116,32,61,61,61,32,49,41,32,123,10,32,32,32,32,32,32,32,32,114,101,115,112,32,61,32,39,101,114,114,111,114,58,32,110,97,116,105,118,101,32,110,111,32,109,111,100,117,108,101,115,39,59,10,32,32,32,32,32,32,125,32,101,108,115,101,32,105,102,32,40,99,97,108,108,79,98,106,46,99,97,108,108,73,100,32,38,38,32,99,97,108,108,79,98,106,46,109,111,100,117,108,101,78,97,109,101,32,61,61,61,32,39,65,110,105,109,97,116,105,111,110,70,114,97,109,101,77,111,100,117,108,101,39,32,38,38,32,99,97,108,108,79,98,106,46,109,111,100,117,108,101,70,117,110,99,32,61,61,61,32,39,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,39,41,32,123,10,32,32,32,32,32,32,32,32,95,95,71,76,79,66,65,76,95,95,46,99,97,110,82,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,32,61,32,116,114,117,101,59,10,10,32,32,32,32,32,32,32,32,105,102,32,40,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,81,117,101,117,101,91,99,97,108,108,79,98,106,46,99,97,108,108,73,100,93,41,32,123,10,32,32,32,32,32,32,32,32,32,32,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,81,117,101,117,101,91,99,97,108,108,79,98,106,46,99,97,108,108,73,100,93,46,102,111,114,69,97,99,104,40,40,99,98,41,32,61,62,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,99,98,32,61,61,61,32,39,102,117,110,99,116,105,111,110,39,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,99,98,40,99,97,108,108,79,98,106,46,112,97,114,97,109,115,41,59,10,32,32,32,32,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,32,32,125,41,59,10,10,32,32,32,32,32,32,32,32,32,32,100,101,108,101,116,101,32,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,81,117,101,117,101,91,99,97,108,108,79,98,106,46,99,97,108,108,73,100,93,59,10,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,125,32,101,108,115,101,32,105,102,32,40,99,97,108,108,79,98,106,46,99,97,108,108,73,100,32,38,38,32,95,95,71,76,79,66,65,76,95,95,46,109,111,100,117,108,101,67,97,108,108,76,105,115,116,91,99,97,108,108,79,98,106,46,99,97,108,108,73,100,93,41,32,123,10,32,32,32,32,32,32,32,32,99,111,110,115,116,32,99,97,108,108,98,97,99,107,79,98,106,32,61,32,95,95,71,76,79,66,65,76,95,95,46,109,111,100,117,108,101,67,97,108,108,76,105,115,116,91,99,97,108,108,79,98,106,46,99,97,108,108,73,100,93,59,10,32,32,32,32,32,32,32,32,105,102,32,40,99,97,108,108,79,98,106,46,114,101,115,117,108,116,32,33,61,61,32,48,32,38,38,32,116,121,112,101,111,102,32,99,97,108,108,98,97,99,107,79,98,106,46,114,101,106,101,99,116,32,61,61,61,32,39,102,117,110,99,116,105,111,110,39,41,32,123,10,32,32,32,32,32,32,32,32,32,32,99,97,108,108,98,97,99,107,79,98,106,46,114,101,106,101,99,116,40,99,97,108,108,79,98,106,46,112,97,114,97,109,115,41,59,10,32,32,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,32,32,99,97,108,108,98,97,99,107,79,98,106,46,99,98,40,99,97,108,108,79,98,106,46,112,97,114,97,109,115,41,59,10,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,105,102,32,40,99,97,108,108,98,97,99,107,79,98,106,46,116,121,112,101,32,61,61,61,32,48,32,124,124,32,99,97,108,108,98,97,99,107,79,98,106,46,116,121,112,101,32,61,61,61,32,49,41,32,123,10,32,32,32,32,32,32,32,32,32,32,100,101,108,101,116,101,32,95,95,71,76,79,66,65,76,95,95,46,109,111,100,117,108,101,67,97,108,108,76,105,115,116,91,99,97,108,108,79,98,106,46,99,97,108,108,73,100,93,59,10,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,114,101,115,112,32,61,32,39,101,114,114,111,114,58,32,99,97,108,108,106,115,32,105,100,32,105,115,32,110,111,116,32,114,101,103,105,115,116,32,105,110,32,106,115,39,59,10,32,32,32,32,32,32,125,10,32,32,32,32,32,32,98,114,101,97,107,59,10,32,32,32,32,125,10,32,32,32,32,99,97,115,101,32,39,99,97,108,108,74,115,77,111,100,117,108,101,39,58,32,123,10,32,32,32,32,32,32,105,102,32,40,33,99,97,108,108,79,98,106,32,124,124,32,33,99,97,108,108,79,98,106,46,109,111,100,117,108,101,78,97,109,101,32,124,124,32,33,99,97,108,108,79,98,106,46,109,101,116,104,111,100,78,97,109,101,41,32,123,10,32,32,32,32,32,32,32,32,114,101,115,112,32,61,32,39,101,114,114,111,114,58,32,99,97,108,108,74,115,77,111,100,117,108,101,32,112,97,114,97,109,32,105,110,118,97,108,105,100,39,59,10,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,99,111,110,115,116,32,116,97,114,103,101,116,77,111,100,117,108,101,32,61,32,95,95,71,76,79,66,65,76,95,95,46,106,115,77,111,100,117,108,101,76,105,115,116,91,99,97,108,108,79,98,106,46,109,111,100,117,108,101,78,97,109,101,93,59,10,32,32,32,32,32,32,32,32,105,102,32,40,33,116,97,114,103,101,116,77,111,100,117,108,101,32,124,124,32,116,121,112,101,111,102,32,116,97,114,103,101,116,77,111,100,117,108,101,91,99,97,108,108,79,98,106,46,109,101,116,104,111,100,78,97,109,101,93,32,33,61,61,32,39,102,117,110,99,116,105,111,110,39,41,32,123,10,32,32,32,32,32,32,32,32,32,32,114,101,115,112,32,61,32,39,101,114,114,111,114,58,32,99,97,108,108,74,115,77,111,100,117,108,101,32,116,97,114,103,101,116,116,105,110,103,32,97,110,32,117,110,100,101,102,105,110,101,100,32,109,111,100,117,108,101,32,111,114,32,109,101,116,104,111,100,39,59,10,32,32,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,32,32,116,97,114,103,101,116,77,111,100,117,108,101,91,99,97,108,108,79,98,106,46,109,101,116,104,111,100,78,97,109,101,93,40,99,97,108,108,79,98,106,46,112,97,114,97,109,115,41,59,10,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,125,10,32,32,32,32,32,32,98,114,101,97,107,59,10,32,32,32,32,125,10,32,32,32,32,99,97,115,101,32,39,99,97,108,108,66,97,116,99,104,39,58,32,123,10,32,32,32,32,32,32,47,47,32,67,97,108,108,115,32,99,111,108,108,101,99,116,101,100,32,98,121,32,110,97,116,105,118,101,32,119,105,116,104,105,110,32,111,110,101,32,102,114,97,109,101,44,32,114,101,112,108,97,121,32,116,104,101,109,32,105,110,32,111,114,100,101,114,32,97,110,100,10,32,32,32,32,32,32,47,47,32,114,101,112,111,114,116,32,116,104,101,32,102,105,114,115,116,32,102,97,105,108,117,114,101,32,97,102,116,101,114,32,97,108,108,32,111,102,32,116,104,101,109,32,97,114,101,32,100,101,108,105,118,101,114,101,100,46,10,32,32,32,32,32,32,105,102,32,40,33,65,114,114,97,121,46,105,115,65,114,114,97,121,40,99,97,108,108,79,98,106,41,41,32,123,10,32,32,32,32,32,32,32,32,114,101,115,112,32,61,32,39,101,114,114,111,114,58,32,99,97,108,108,66,97,116,99,104,32,112,97,114,97,109,32,105,110,118,97,108,105,100,39,59,10,32,32,32,32,32,32,125,32,101,108,115,101,32,123,10,32,32,32,32,32,32,32,32,108,101,116,32,98,97,116,99,104,69,114,114,111,114,32,61,32,110,117,108,108,59,10,32,32,32,32,32,32,32,32,99,97,108,108,79,98,106,46,102,111,114,69,97,99,104,40,40,99,97,108,108,41,32,61,62,32,123,10,32,32,32,32,32,32,32,32,32,32,105,102,32,40,33,99,97,108,108,32,124,124,32,33,99,97,108,108,46,97,99,116,105,111,110,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,114,101,116,117,114,110,59,10,32,32,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,32,32,116,114,121,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,103,108,111,98,97,108,46,104,105,112,112,121,66,114,105,100,103,101,40,99,97,108,108,46,97,99,116,105,111,110,44,32,99,97,108,108,46,112,97,114,97,109,115,41,59,10,32,32,32,32,32,32,32,32,32,32,125,32,99,97,116,99,104,32,40,101,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,105,102,32,40,33,98,97,116,99,104,69,114,114,111,114,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,98,97,116,99,104,69,114,114,111,114,32,61,32,101,59,10,32,32,32,32,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,125,41,59,10,32,32,32,32,32,32,32,32,105,102,32,40,98,97,116,99,104,69,114,114,111,114,41,32,123,10,32,32,32,32,32,32,32,32,32,32,116,104,114,111,119,32,98,97,116,99,104,69,114,114,111,114,59,10,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,125,10,32,32,32,32,32,32,98,114,101,97,107,59,10,32,32,32,32,125,10,32,32,32,32,99,97,115,101,32,39,100,101,115,116,114,111,121,73,110,115,116,97,110,99,101,39,58,32,123,10,32,32,32,32,32,32,103,108,111,98,97,108,46,72,105,112,112,121,46,101,109,105,116,40,39,100,101,115,116,114,111,121,73,110,115,116,97,110,99,101,39,41,59,10,32,32,32,32,32,32,99,111,110,115,116,32,114,101,110,100,101,114,73,100,32,61,32,68,97,116,101,46,110,111,119,40,41,46,116,111,83,116,114,105,110,103,40,41,59,10,32,32,32,32,32,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,40,39,85,73,77,97,110,97,103,101,114,77,111,100,117,108,101,39,44,32,39,115,116,97,114,116,66,97,116,99,104,39,44,32,114,101,110,100,101,114,73,100,41,59,10,32,32,32,32,32,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,40,39,85,73,77,97,110,97,103,101,114,77,111,100,117,108,101,39,44,32,39,100,101,108,101,116,101,78,111,100,101,39,44,32,99,97,108,108,79,98,106,44,32,91,123,32,105,100,58,32,99,97,108,108,79,98,106,32,125,93,41,59,10,32,32,32,32,32,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,40,39,85,73,77,97,110,97,103,101,114,77,111,100,117,108,101,39,44,32,39,101,110,100,66,97,116,99,104,39,44,32,114,101,110,100,101,114,73,100,41,59,10,10,32,32,32,32,32,32,99,111,110,115,116,32,99,117,114,114,101,110,116,78,111,100,101,84,114,101,101,32,61,32,95,95,71,76,79,66,65,76,95,95,46,110,111,100,101,84,114,101,101,67,97,99,104,101,91,99,97,108,108,79,98,106,93,59,10,32,32,32,32,32,32,105,102,32,40,99,117,114,114,101,110,116,78,111,100,101,84,114,101,101,32,38,38,32,65,114,114,97,121,46,105,115,65,114,114,97,121,40,99,117,114,114,101,110,116,78,111,100,101,84,114,101,101,41,41,32,123,10,32,32,32,32,32,32,32,32,108,101,116,32,114,111,111,116,86,105,101,119,78,111,100,101,59,10,10,32,32,32,32,32,32,32,32,99,117,114,114,101,110,116,78,111,100,101,84,114,101,101,46,101,118,101,114,121,40,40,110,111,100,101,41,32,61,62,32,123,10,32,32,32,32,32,32,32,32,32,32,105,102,32,40,110,111,100,101,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,114,111,111,116,86,105,101,119,78,111,100,101,32,61,32,110,111,100,101,59,10,32,32,32,32,32,32,32,32,32,32,32,32,114,101,116,117,114,110,32,102,97,108,115,101,59,10,32,32,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,32,32,114,101,116,117,114,110,32,116,114,117,101,59,10,32,32,32,32,32,32,32,32,125,41,59,10,10,32,32,32,32,32,32,32,32,105,102,32,40,114,111,111,116,86,105,101,119,78,111,100,101,41,32,123,10,32,32,32,32,32,32,32,32,32,32,119,104,105,108,101,32,40,33,40,114,111,111,116,86,105,101,119,78,111,100,101,32,38,38,32,114,111,111,116,86,105,101,119,78,111,100,101,46,109,101,109,111,105,122,101,100,80,114,111,112,115,32,38,38,32,40,116,121,112,101,111,102,32,114,111,111,116,86,105,101,119,78,111,100,101,46,109,101,109,111,105,122,101,100,80,114,111,112,115,46,95,95,105,110,115,116,97,110,99,101,73,100,95,95,32,33,61,61,32,39,117,110,100,101,102,105,110,101,100,39,41,41,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,114,111,111,116,86,105,101,119,78,111,100,101,32,61,32,114,111,111,116,86,105,101,119,78,111,100,101,46,114,101,116,117,114,110,59,10,32,32,32,32,32,32,32,32,32,32,32,32,105,102,32,40,33,114,111,111,116,86,105,101,119,78,111,100,101,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,98,114,101,97,107,59,10,32,32,32,32,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,32,32,125,10,10,32,32,32,32,32,32,32,32,32,32,105,102,32,40,114,111,111,116,86,105,101,119,78,111,100,101,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,99,111,110,115,116,32,100,101,108,101,116,101,78,111,100,101,87,111,114,107,32,61,32,40,99,117,114,114,101,110,116,78,111,100,101,41,32,61,62,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,105,102,32,40,99,117,114,114,101,110,116,78,111,100,101,46,99,104,105,108,100,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,100,101,108,101,116,101,78,111,100,101,87,111,114,107,40,99,117,114,114,101,110,116,78,111,100,101,46,99,104,105,108,100,41,59,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,125,10,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,99,111,110,115,116,32,105,110,115,116,97,110,99,101,32,61,32,99,117,114,114,101,110,116,78,111,100,101,46,115,116,97,116,101,78,111,100,101,59,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,116,114,121,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,105,102,32,40,105,110,115,116,97,110,99,101,32,38,38,32,116,121,112,101,111,102,32,105,110,115,116,97,110,99,101,46,99,111,109,112,111,110,101,110,116,87,105,108,108,85,110,109,111,117,110,116,32,61,61,61,32,39,102,117,110,99,116,105,111,110,39,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,105,110,115,116,97,110,99,101,46,99,111,109,112,111,110,101,110,116,87,105,108,108,85,110,109,111,117,110,116,40,41,59,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,125,10,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,99,111,110,115,116,32,123,32,114,101,102,32,125,32,61,32,99,117,114,114,101,110,116,78,111,100,101,59,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,105,102,32,40,116,121,112,101,111,102,32,114,101,102,32,61,61,61,32,39,102,117,110,99,116,105,111,110,39,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,114,101,102,40,41,59,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,125,32,99,97,116,99,104,32,40,101,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,99,111,110,115,111,108,101,46,101,114,114,111,114,40,101,41,59,32,47,47,32,101,115,108,105,110,116,45,100,105,115,97,98,108,101,45,108,105,110,101,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,125,10,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,105,102,32,40,99,117,114,114,101,110,116,78,111,100,101,46,115,105,98,108,105,110,103,41,32,123,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,32,100,101,108,101,116,101,78,111,100,101,87,111,114,107,40,99,117,114,114,101,110,116,78,111,100,101,46,115,105,98,108,105,110,103,41,59,10,32,32,32,32,32,32,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,32,32,32,32,125,59,10,10,32,32,32,32,32,32,32,32,32,32,32,32,100,101,108,101,116,101,78,111,100,101,87,111,114,107,40,114,111,111,116,86,105,101,119,78,111,100,101,41,59,10,32,32,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,32,32,125,10,32,32,32,32,32,32,125,10,10,32,32,32,32,32,32,100,101,108,101,116,101,32,95,95,71,76,79,66,65,76,95,95,46,110,111,100,101,73,100,67,97,99,104,101,91,99,97,108,108,79,98,106,93,59,10,32,32,32,32,32,32,100,101,108,101,116,101,32,95,95,71,76,79,66,65,76,95,95,46,110,111,100,101,84,114,101,101,67,97,99,104,101,91,99,97,108,108,79,98,106,93,59,10,32,32,32,32,32,32,95,95,71,76,79,66,65,76,95,95,46,100,101,115,116,114,111,121,73,110,115,116,97,110,99,101,76,105,115,116,91,99,97,108,108,79,98,106,93,32,61,32,116,114,117,101,59,10,32,32,32,32,32,32,98,114,101,97,107,59,10,32,32,32,32,125,10,32,32,32,32,100,101,102,97,117,108,116,58,32,123,10,32,32,32,32,32,32,114,101,115,112,32,61,32,39,101,114,114,111,114,58,32,97,99,116,105,111,110,32,110,111,116,32,100,101,102,105,110,101,39,59,10,32,32,32,32,32,32,98,114,101,97,107,59,10,32,32,32,32,125,10,32,32,125,10,10,32,32,114,101,116,117,114,110,32,114,101,115,112,59,10,125,59,10,125,41,59,0 };  // NOLINT
   const uint8_t k_requestAnimationFrame[] = { 40,102,117,110,99,116,105,111,110,40,101,120,112,111,114,116,115,44,32,114,101,113,117,105,114,101,44,32,105,110,116,101,114,110,97,108,66,105,110,100,105,110,103,41,32,123,103,108,111,98,97,108,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,32,61,32,40,99,98,41,32,61,62,32,123,10,32,32,105,102,32,40,99,98,41,32,123,10,32,32,32,32,105,102,32,40,95,95,71,76,79,66,65,76,95,95,46,99,97,110,82,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,41,32,123,10,32,32,32,32,32,32,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,73,100,32,61,32,95,95,71,76,79,66,65,76,95,95,46,109,111,100,117,108,101,67,97,108,108,73,100,59,10,32,32,32,32,32,32,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,81,117,101,117,101,91,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,73,100,93,32,61,32,91,93,59,10,32,32,32,32,32,32,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,81,117,101,117,101,91,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,73,100,93,46,112,117,115,104,40,99,98,41,59,10,10,32,32,32,32,32,32,95,95,71,76,79,66,65,76,95,95,46,99,97,110,82,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,32,61,32,102,97,108,115,101,59,10,10,32,32,32,32,32,32,72,105,112,112,121,46,98,114,105,100,103,101,46,99,97,108,108,78,97,116,105,118,101,87,105,116,104,67,97,108,108,98,97,99,107,73,100,40,39,65,110,105,109,97,116,105,111,110,70,114,97,109,101,77,111,100,117,108,101,39,44,32,39,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,39,44,32,116,114,117,101,41,59,10,32,32,32,32,125,32,101,108,115,101,32,105,102,32,40,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,81,117,101,117,101,91,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,73,100,93,41,32,123,10,32,32,32,32,32,32,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,81,117,101,117,101,91,95,95,71,76,79,66,65,76,95,95,46,114,101,113,117,101,115,116,65,110,105,109,97,116,105,111,110,70,114,97,109,101,73,100,93,46,112,117,115,104,40,99,98,41,59,10,32,32,32,32,125,10,10,32,32,32,32,114,101,116,117,114,110,32,39,39,59,10,32,32,125,10,10,32,32,116,104,114,111,119,32,110,101,119,32,84,121,112,101,69,114,114,111,114,40,39,73,110,118,97,108,105,100,32,97,114,103,117,109,101,110,116,115,39,41,59,10,125,59,10,10,103,108,111,98,97,108,46,99,97,110,99,101,108,65,110,105,109,97,116,105,111,110,70,114,97,109,101,32,61,32,40,41,32,61,62,32,123,125,59,10,125,41,59,0 };  // NOLINT
 }  // namespace
 
@@ -24,10 +24,69 @@ import com.tencent.mtt.hippy.dom.flex.FlexOverflow;
 import com.tencent.mtt.hippy.dom.flex.FlexPositionType;
 import com.tencent.mtt.hippy.dom.flex.FlexWrap;
 
+import java.util.Arrays;
+
 public class FlexNodeStyle
 {
 	private long	mNativePointer	= 0;
 
+	// op codes of the packed style buffer, applied by FlexNodeStyle::FlexNodeStyleApply
+	private static final int			OP_DIRECTION			= 0;
+	private static final int			OP_FLEX_DIRECTION		= 1;
+	private static final int			OP_JUSTIFY_CONTENT		= 2;
+	private static final int			OP_ALIGN_ITEMS			= 3;
+	private static final int			OP_ALIGN_SELF			= 4;
+	private static final int			OP_ALIGN_CONTENT		= 5;
+	private static final int			OP_POSITION_TYPE		= 6;
+	private static final int			OP_FLEX_WRAP			= 7;
+	private static final int			OP_OVERFLOW				= 8;
+	private static final int			OP_DISPLAY				= 9;
+	private static final int			OP_FLEX					= 10;
+	private static final int			OP_FLEX_GROW			= 11;
+	private static final int			OP_FLEX_SHRINK			= 12;
+	private static final int			OP_FLEX_BASIS			= 13;
+	private static final int			OP_MARGIN				= 14;
+	private static final int			OP_MARGIN_AUTO			= 15;
+	private static final int			OP_PADDING				= 16;
+	private static final int			OP_BORDER				= 17;
+	private static final int			OP_POSITION				= 18;
+	private static final int			OP_WIDTH				= 19;
+	private static final int			OP_HEIGHT				= 20;
+	private static final int			OP_MIN_WIDTH			= 21;
+	private static final int			OP_MIN_HEIGHT			= 22;
+	private static final int			OP_MAX_WIDTH			= 23;
+	private static final int			OP_MAX_HEIGHT			= 24;
+	// every op is packed as 3 floats: op code, edge and value. NaN values are kept as they are, they unset the property
+	private static final int			OP_SIZE				= 3;
+
+	/**
+	 * the setters of a style between beginBatch() and endBatch() write into this buffer instead of calling
+	 * native, endBatch() then applies them in one native call. One buffer per thread, every engine has its dom
+	 * thread.
+	 */
+	private static final ThreadLocal<PackedStyleBuffer>	sPackedBuffer	= new ThreadLocal<PackedStyleBuffer>()
+																		{
+																			@Override
+																			protected PackedStyleBuffer initialValue()
+																			{
+																				return new PackedStyleBuffer();
+																			}
+																		};
+
+	private static class PackedStyleBuffer
+	{
+		float[]			mOps	= new float[OP_SIZE * 32];
+		int				mSize	= 0;
+		FlexNodeStyle	mOwner;
+	}
+
+	// the buffer of this thread while the setters are batched
+	private PackedStyleBuffer	mBatchBuffer;
+
+	// false once the loaded libflexbox.so is found to be built before nativeFlexNodeStyleApply, the setters
+	// then call native one by one
+	private static volatile boolean	sPackedApplySupported	= true;
+
 	public FlexNodeStyle(long flexNode)
 	{
 		mNativePointer = nativeFlexNodeStyleNew();
@@ -108,20 +167,193 @@ public class FlexNodeStyle
 
 	private native void nativeFlexNodeStyleFree(long nativeFlexNodeStyle);
 
-	protected void finalize() throws Throwable
+	/**
+	 * called by FlexNode.free, the setters do nothing after that
+	 */
+	void free()
 	{
-		try
+		if (mBatchBuffer != null)
+		{
+			mBatchBuffer.mSize = 0;
+			mBatchBuffer.mOwner = null;
+			mBatchBuffer = null;
+		}
+		if (mNativePointer != 0)
 		{
 			nativeFlexNodeStyleFree(mNativePointer);
 			mNativePointer = 0;
 		}
-		finally
+	}
+
+	private native void nativeSetFlexNode(long nativeFlexNodeStyle, long nativeFlexNode);
+
+	private native void nativeFlexNodeStyleApply(long nativeFlexNodeStyle, float[] ops, int count);
+
+	/**
+	 * batches the setters called until endBatch() into one native call.
+	 * @return false if the setters can not be batched, since this style or another one of this thread is already
+	 * batching, the setters then call native as usual and endBatch() must not be called
+	 */
+	public boolean beginBatch()
+	{
+		if (mBatchBuffer != null || mNativePointer == 0 || !sPackedApplySupported)
+		{
+			return false;
+		}
+		PackedStyleBuffer buffer = sPackedBuffer.get();
+		if (buffer.mOwner != null)
 		{
-			super.finalize();
+			return false;
 		}
+		buffer.mOwner = this;
+		mBatchBuffer = buffer;
+		return true;
 	}
 
-	private native void nativeSetFlexNode(long nativeFlexNodeStyle, long nativeFlexNode);
+	/**
+	 * applies the setters called since beginBatch()
+	 */
+	public void endBatch()
+	{
+		PackedStyleBuffer buffer = mBatchBuffer;
+		if (buffer == null)
+		{
+			return;
+		}
+		mBatchBuffer = null;
+		buffer.mOwner = null;
+		if (buffer.mSize > 0)
+		{
+			try
+			{
+				nativeFlexNodeStyleApply(mNativePointer, buffer.mOps, buffer.mSize / OP_SIZE);
+			}
+			catch (UnsatisfiedLinkError e)
+			{
+				sPackedApplySupported = false;
+				applyOneByOne(buffer.mOps, buffer.mSize);
+			}
+			finally
+			{
+				buffer.mSize = 0;
+			}
+		}
+	}
+
+	// the ops of the packed buffer applied through the setters of each property, for the libraries without
+	// nativeFlexNodeStyleApply
+	private void applyOneByOne(float[] ops, int size)
+	{
+		for (int i = 0; i < size; i += OP_SIZE)
+		{
+			int edge = (int) ops[i + 1];
+			float value = ops[i + 2];
+			switch ((int) ops[i])
+			{
+				case OP_DIRECTION:
+					nativeFlexNodeStyleSetDirection(mNativePointer, (int) value);
+					break;
+				case OP_FLEX_DIRECTION:
+					nativeFlexNodeStyleSetFlexDirection(mNativePointer, (int) value);
+					break;
+				case OP_JUSTIFY_CONTENT:
+					nativeFlexNodeStyleSetJustifyContent(mNativePointer, (int) value);
+					break;
+				case OP_ALIGN_ITEMS:
+					nativeFlexNodeStyleSetAlignItems(mNativePointer, (int) value);
+					break;
+				case OP_ALIGN_SELF:
+					nativeFlexNodeStyleSetAlignSelf(mNativePointer, (int) value);
+					break;
+				case OP_ALIGN_CONTENT:
+					nativeFlexNodeStyleSetAlignContent(mNativePointer, (int) value);
+					break;
+				case OP_POSITION_TYPE:
+					nativeFlexNodeStyleSetPositionType(mNativePointer, (int) value);
+					break;
+				case OP_FLEX_WRAP:
+					nativeFlexNodeStyleSetFlexWrap(mNativePointer, (int) value);
+					break;
+				case OP_OVERFLOW:
+					nativeFlexNodeStyleSetOverflow(mNativePointer, (int) value);
+					break;
+				case OP_DISPLAY:
+					nativeFlexNodeStyleSetDisplay(mNativePointer, (int) value);
+					break;
+				case OP_FLEX:
+					nativeFlexNodeStyleSetFlex(mNativePointer, value);
+					break;
+				case OP_FLEX_GROW:
+					nativeFlexNodeStyleSetFlexGrow(mNativePointer, value);
+					break;
+				case OP_FLEX_SHRINK:
+					nativeFlexNodeStyleSetFlexShrink(mNativePointer, value);
+					break;
+				case OP_FLEX_BASIS:
+					nativeFlexNodeStyleSetFlexBasis(mNativePointer, value);
+					break;
+				case OP_MARGIN:
+					nativeFlexNodeStyleSetMargin(mNativePointer, edge, value);
+					break;
+				case OP_MARGIN_AUTO:
+					nativeFlexNodeStyleSetMarginAuto(mNativePointer, edge);
+					break;
+				case OP_PADDING:
+					nativeFlexNodeStyleSetPadding(mNativePointer, edge, value);
+					break;
+				case OP_BORDER:
+					nativeFlexNodeStyleSetBorder(mNativePointer, edge, value);
+					break;
+				case OP_POSITION:
+					nativeFlexNodeStyleSetPosition(mNativePointer, edge, value);
+					break;
+				case OP_WIDTH:
+					nativeFlexNodeStyleSetWidth(mNativePointer, value);
+					break;
+				case OP_HEIGHT:
+					nativeFlexNodeStyleSetHeight(mNativePointer, value);
+					break;
+				case OP_MIN_WIDTH:
+					nativeFlexNodeStyleSetMinWidth(mNativePointer, value);
+					break;
+				case OP_MIN_HEIGHT:
+					nativeFlexNodeStyleSetMinHeight(mNativePointer, value);
+					break;
+				case OP_MAX_WIDTH:
+					nativeFlexNodeStyleSetMaxWidth(mNativePointer, value);
+					break;
+				case OP_MAX_HEIGHT:
+					nativeFlexNodeStyleSetMaxHeight(mNativePointer, value);
+					break;
+				default:
+					break;
+			}
+		}
+	}
+
+	/**
+	 * @return true if the setter is done here: batched, or dropped since the style is freed
+	 */
+	private boolean batch(int op, int edge, float value)
+	{
+		if (mNativePointer == 0)
+		{
+			return true;
+		}
+		PackedStyleBuffer buffer = mBatchBuffer;
+		if (buffer == null)
+		{
+			return false;
+		}
+		if (buffer.mSize + OP_SIZE > buffer.mOps.length)
+		{
+			buffer.mOps = Arrays.copyOf(buffer.mOps, buffer.mOps.length * 2);
+		}
+		buffer.mOps[buffer.mSize++] = op;
+		buffer.mOps[buffer.mSize++] = edge;
+		buffer.mOps[buffer.mSize++] = value;
+		return true;
+	}
 
 	private FlexDirection mDirection = FlexDirection.LTR;
 
@@ -137,7 +369,10 @@ public class FlexNodeStyle
 	public void setDirection(FlexDirection direction)
 	{
 		mDirection = direction;
-		nativeFlexNodeStyleSetDirection(mNativePointer, direction.ordinal());
+		if (!batch(OP_DIRECTION, 0, direction.ordinal()))
+		{
+			nativeFlexNodeStyleSetDirection(mNativePointer, direction.ordinal());
+		}
 	}
 
 	private FlexCSSDirection mFlexDirection;
@@ -154,7 +389,10 @@ public class FlexNodeStyle
 	public void setFlexDirection(FlexCSSDirection flexDirection)
 	{
 		mFlexDirection = flexDirection;
-		nativeFlexNodeStyleSetFlexDirection(mNativePointer, flexDirection.ordinal());
+		if (!batch(OP_FLEX_DIRECTION, 0, flexDirection.ordinal()))
+		{
+			nativeFlexNodeStyleSetFlexDirection(mNativePointer, flexDirection.ordinal());
+		}
 	}
 
 	private FlexJustify mJustifyContent;
@@ -205,7 +443,10 @@ public class FlexNodeStyle
 				break;
 			}
 		}
-		nativeFlexNodeStyleSetJustifyContent(mNativePointer, order);
+		if (!batch(OP_JUSTIFY_CONTENT, 0, order))
+		{
+			nativeFlexNodeStyleSetJustifyContent(mNativePointer, order);
+		}
 	}
 
 	private FlexAlign mAlignItems;
@@ -222,7 +463,10 @@ public class FlexNodeStyle
 	public void setAlignItems(FlexAlign alignItems)
 	{
 		mAlignItems = alignItems;
-		nativeFlexNodeStyleSetAlignItems(mNativePointer, alignItems.ordinal());
+		if (!batch(OP_ALIGN_ITEMS, 0, alignItems.ordinal()))
+		{
+			nativeFlexNodeStyleSetAlignItems(mNativePointer, alignItems.ordinal());
+		}
 	}
 
 	private FlexAlign mAlignSelf;
@@ -239,7 +483,10 @@ public class FlexNodeStyle
 	public void setAlignSelf(FlexAlign alignSelf)
 	{
 		mAlignSelf = alignSelf;
-		nativeFlexNodeStyleSetAlignSelf(mNativePointer, alignSelf.ordinal());
+		if (!batch(OP_ALIGN_SELF, 0, alignSelf.ordinal()))
+		{
+			nativeFlexNodeStyleSetAlignSelf(mNativePointer, alignSelf.ordinal());
+		}
 	}
 
 	private FlexAlign mAlignContent;
@@ -256,7 +503,10 @@ public class FlexNodeStyle
 	public void setAlignContent(FlexAlign alignContent)
 	{
 		mAlignContent = alignContent;
-		nativeFlexNodeStyleSetAlignContent(mNativePointer, alignContent.ordinal());
+		if (!batch(OP_ALIGN_CONTENT, 0, alignContent.ordinal()))
+		{
+			nativeFlexNodeStyleSetAlignContent(mNativePointer, alignContent.ordinal());
+		}
 	}
 
 	private FlexPositionType mPositionType;
@@ -273,7 +523,10 @@ public class FlexNodeStyle
 	public void setPositionType(FlexPositionType positionType)
 	{
 		mPositionType = positionType;
-		nativeFlexNodeStyleSetPositionType(mNativePointer, positionType.ordinal());
+		if (!batch(OP_POSITION_TYPE, 0, positionType.ordinal()))
+		{
+			nativeFlexNodeStyleSetPositionType(mNativePointer, positionType.ordinal());
+		}
 	}
 
 	private FlexWrap mFlexWrap;
@@ -283,7 +536,10 @@ public class FlexNodeStyle
 	public void setWrap(FlexWrap flexWrap)
 	{
 		mFlexWrap = flexWrap;
-		nativeFlexNodeStyleSetFlexWrap(mNativePointer, flexWrap.ordinal());
+		if (!batch(OP_FLEX_WRAP, 0, flexWrap.ordinal()))
+		{
+			nativeFlexNodeStyleSetFlexWrap(mNativePointer, flexWrap.ordinal());
+		}
 	}
 
 	private native int nativeFlexNodeStyleGetFlexWrap(long nativeFlexNodeStyle);
@@ -307,7 +563,10 @@ public class FlexNodeStyle
 	public void setOverflow(FlexOverflow overflow)
 	{
 		mOverFlow = overflow;
-		nativeFlexNodeStyleSetOverflow(mNativePointer, overflow.ordinal());
+		if (!batch(OP_OVERFLOW, 0, overflow.ordinal()))
+		{
+			nativeFlexNodeStyleSetOverflow(mNativePointer, overflow.ordinal());
+		}
 	}
 
 	public enum Display
@@ -342,7 +601,10 @@ public class FlexNodeStyle
 	public void setDisplay(Display display)
 	{
 		mDisplay = display;
-		nativeFlexNodeStyleSetDisplay(mNativePointer, display.ordinal());
+		if (!batch(OP_DISPLAY, 0, display.ordinal()))
+		{
+			nativeFlexNodeStyleSetDisplay(mNativePointer, display.ordinal());
+		}
 	}
 
 	private float	mFlex	= 0;
@@ -359,7 +621,10 @@ public class FlexNodeStyle
 	public void setFlex(float flex)
 	{
 		mFlex = flex;
-		nativeFlexNodeStyleSetFlex(mNativePointer, flex);
+		if (!batch(OP_FLEX, 0, flex))
+		{
+			nativeFlexNodeStyleSetFlex(mNativePointer, flex);
+		}
 	}
 
 	private float	mFlexGrow;
@@ -376,7 +641,10 @@ public class FlexNodeStyle
 	public void setFlexGrow(float flexGrow)
 	{
 		mFlexGrow = flexGrow;
-		nativeFlexNodeStyleSetFlexGrow(mNativePointer, flexGrow);
+		if (!batch(OP_FLEX_GROW, 0, flexGrow))
+		{
+			nativeFlexNodeStyleSetFlexGrow(mNativePointer, flexGrow);
+		}
 	}
 
 	private float	mFlexShrink	= 0;
@@ -393,7 +661,10 @@ public class FlexNodeStyle
 	public void setFlexShrink(float flexShrink)
 	{
 		mFlexShrink = flexShrink;
-		nativeFlexNodeStyleSetFlexShrink(mNativePointer, flexShrink);
+		if (!batch(OP_FLEX_SHRINK, 0, flexShrink))
+		{
+			nativeFlexNodeStyleSetFlexShrink(mNativePointer, flexShrink);
+		}
 	}
 
 	private float	mFlexBasis	= 0;
@@ -410,21 +681,30 @@ public class FlexNodeStyle
 	public void setFlexBasis(float flexBasis)
 	{
 		mFlexBasis = flexBasis;
-		nativeFlexNodeStyleSetFlexBasis(mNativePointer, flexBasis);
+		if (!batch(OP_FLEX_BASIS, 0, flexBasis))
+		{
+			nativeFlexNodeStyleSetFlexBasis(mNativePointer, flexBasis);
+		}
 	}
 
 	private native void nativeFlexNodeStyleSetFlexBasisPercent(long nativeFlexNodeStyle, float percent);
 
 	public void setFlexBasisPercent(float percent)
 	{
-		nativeFlexNodeStyleSetFlexBasisPercent(mNativePointer, percent);
+		if (mNativePointer != 0)
+		{
+			nativeFlexNodeStyleSetFlexBasisPercent(mNativePointer, percent);
+		}
 	}
 
 	private native void nativeFlexNodeStyleSetFlexBasisAuto(long nativeFlexNodeStyle);
 
 	public void setFlexBasisAuto()
 	{
-		nativeFlexNodeStyleSetFlexBasisAuto(mNativePointer);
+		if (mNativePointer != 0)
+		{
+			nativeFlexNodeStyleSetFlexBasisAuto(mNativePointer);
+		}
 	}
 
 	public enum Edge
@@ -483,21 +763,30 @@ public class FlexNodeStyle
 	public void setMargin(Edge edge, float margin)
 	{
 		mMargin[edge.ordinal()] = margin;
-		nativeFlexNodeStyleSetMargin(mNativePointer, edge.ordinal(), margin);
+		if (!batch(OP_MARGIN, edge.ordinal(), margin))
+		{
+			nativeFlexNodeStyleSetMargin(mNativePointer, edge.ordinal(), margin);
+		}
 	}
 
 	private native void nativeFlexNodeStyleSetMarginPercent(long nativeFlexNodeStyle, int edge, float percent);
 
 	public void setMarginPercent(Edge edge, float percent)
 	{
-		nativeFlexNodeStyleSetMarginPercent(mNativePointer, edge.ordinal(), percent);
+		if (mNativePointer != 0)
+		{
+			nativeFlexNodeStyleSetMarginPercent(mNativePointer, edge.ordinal(), percent);
+		}
 	}
 
 	private native void nativeFlexNodeStyleSetMarginAuto(long nativeFlexNodeStyle, int edge);
 
 	public void setMarginAuto(Edge edge)
 	{
-		nativeFlexNodeStyleSetMarginAuto(mNativePointer, edge.ordinal());
+		if (!batch(OP_MARGIN_AUTO, edge.ordinal(), 0))
+		{
+			nativeFlexNodeStyleSetMarginAuto(mNativePointer, edge.ordinal());
+		}
 	}
 
 	private native Object nativeFlexNodeStyleGetPadding(long nativeFlexNodeStyle, int edge);
@@ -512,14 +801,20 @@ public class FlexNodeStyle
 	public void setPadding(Edge edge, float padding)
 	{
 		mPadding[edge.ordinal()] = padding;
-		nativeFlexNodeStyleSetPadding(mNativePointer, edge.ordinal(), padding);
+		if (!batch(OP_PADDING, edge.ordinal(), padding))
+		{
+			nativeFlexNodeStyleSetPadding(mNativePointer, edge.ordinal(), padding);
+		}
 	}
 
 	private native void nativeFlexNodeStyleSetPaddingPercent(long nativeFlexNodeStyle, int edge, float percent);
 
 	public void setPaddingPercent(Edge edge, float percent)
 	{
-		nativeFlexNodeStyleSetPaddingPercent(mNativePointer, edge.ordinal(), percent);
+		if (mNativePointer != 0)
+		{
+			nativeFlexNodeStyleSetPaddingPercent(mNativePointer, edge.ordinal(), percent);
+		}
 	}
 
 	private native Object nativeFlexNodeStyleGetBorder(long nativeFlexNodeStyle, int edge);
@@ -534,7 +829,10 @@ public class FlexNodeStyle
 	public void setBorder(Edge edge, float border)
 	{
 		mBorder[edge.ordinal()] = border;
-		nativeFlexNodeStyleSetBorder(mNativePointer, edge.ordinal(), border);
+		if (!batch(OP_BORDER, edge.ordinal(), border))
+		{
+			nativeFlexNodeStyleSetBorder(mNativePointer, edge.ordinal(), border);
+		}
 	}
 
 	private native Object nativeFlexNodeStyleGetPosition(long nativeFlexNodeStyle, int edge);
@@ -549,14 +847,20 @@ public class FlexNodeStyle
 	public void setPosition(Edge edge, float position)
 	{
 		mPosition[edge.ordinal()] = position;
-		nativeFlexNodeStyleSetPosition(mNativePointer, edge.ordinal(), position);
+		if (!batch(OP_POSITION, edge.ordinal(), position))
+		{
+			nativeFlexNodeStyleSetPosition(mNativePointer, edge.ordinal(), position);
+		}
 	}
 
 	private native void nativeFlexNodeStyleSetPositionPercent(long nativeFlexNodeStyle, int edge, float percent);
 
 	public void setPositionPercent(Edge edge, float percent)
 	{
-		nativeFlexNodeStyleSetPositionPercent(mNativePointer, edge.ordinal(), percent);
+		if (mNativePointer != 0)
+		{
+			nativeFlexNodeStyleSetPositionPercent(mNativePointer, edge.ordinal(), percent);
+		}
 	}
 
 	private float	mWidth	= 0;
@@ -573,21 +877,30 @@ public class FlexNodeStyle
 	public void setWidth(float width)
 	{
 		mWidth = width;
-		nativeFlexNodeStyleSetWidth(mNativePointer, width);
+		if (!batch(OP_WIDTH, 0, width))
+		{
+			nativeFlexNodeStyleSetWidth(mNativePointer, width);
+		}
 	}
 
 	private native void nativeFlexNodeStyleSetWidthPercent(long nativeFlexNodeStyle, float percent);
 
 	public void setWidthPercent(float percent)
 	{
-		nativeFlexNodeStyleSetWidthPercent(mNativePointer, percent);
+		if (mNativePointer != 0)
+		{
+			nativeFlexNodeStyleSetWidthPercent(mNativePointer, percent);
+		}
 	}
 
 	private native void nativeFlexNodeStyleSetWidthAuto(long nativeFlexNodeStyle);
 
 	public void setWidthAuto()
 	{
-		nativeFlexNodeStyleSetWidthAuto(mNativePointer);
+		if (mNativePointer != 0)
+		{
+			nativeFlexNodeStyleSetWidthAuto(mNativePointer);
+		}
 	}
 
 	private float	mHeight	= 0;
@@ -604,21 +917,30 @@ public class FlexNodeStyle
 	public void setHeight(float height)
 	{
 		mHeight = height;
-		nativeFlexNodeStyleSetHeight(mNativePointer, height);
+		if (!batch(OP_HEIGHT, 0, height))
+		{
+			nativeFlexNodeStyleSetHeight(mNativePointer, height);
+		}
 	}
 
 	private native void nativeFlexNodeStyleSetHeightPercent(long nativeFlexNodeStyle, float percent);
 
 	public void setHeightPercent(float percent)
 	{
-		nativeFlexNodeStyleSetHeightPercent(mNativePointer, percent);
+		if (mNativePointer != 0)
+		{
+			nativeFlexNodeStyleSetHeightPercent(mNativePointer, percent);
+		}
 	}
 
 	private native void nativeFlexNodeStyleSetHeightAuto(long nativeFlexNodeStyle);
 
 	public void setHeightAuto()
 	{
-		nativeFlexNodeStyleSetHeightAuto(mNativePointer);
+		if (mNativePointer != 0)
+		{
+			nativeFlexNodeStyleSetHeightAuto(mNativePointer);
+		}
 	}
 
 	private float	mMinWidth;
@@ -635,14 +957,20 @@ public class FlexNodeStyle
 	public void setMinWidth(float minWidth)
 	{
 		mMinWidth = minWidth;
-		nativeFlexNodeStyleSetMinWidth(mNativePointer, minWidth);
+		if (!batch(OP_MIN_WIDTH, 0, minWidth))
+		{
+			nativeFlexNodeStyleSetMinWidth(mNativePointer, minWidth);
+		}
 	}
 
 	private native void nativeFlexNodeStyleSetMinWidthPercent(long nativeFlexNodeStyle, float percent);
 
 	public void setMinWidthPercent(float percent)
 	{
-		nativeFlexNodeStyleSetMinWidthPercent(mNativePointer, percent);
+		if (mNativePointer != 0)
+		{
+			nativeFlexNodeStyleSetMinWidthPercent(mNativePointer, percent);
+		}
 	}
 
 	private float	mMinHeight;
@@ -659,14 +987,20 @@ public class FlexNodeStyle
 	public void setMinHeight(float minHeight)
 	{
 		mMinHeight = minHeight;
-		nativeFlexNodeStyleSetMinHeight(mNativePointer, minHeight);
+		if (!batch(OP_MIN_HEIGHT, 0, minHeight))
+		{
+			nativeFlexNodeStyleSetMinHeight(mNativePointer, minHeight);
+		}
 	}
 
 	private native void nativeFlexNodeStyleSetMinHeightPercent(long nativeFlexNodeStyle, float percent);
 
 	public void setMinHeightPercent(float percent)
 	{
-		nativeFlexNodeStyleSetMinHeightPercent(mNativePointer, percent);
+		if (mNativePointer != 0)
+		{
+			nativeFlexNodeStyleSetMinHeightPercent(mNativePointer, percent);
+		}
 	}
 
 	private float	mMaxWidth;
@@ -683,14 +1017,20 @@ public class FlexNodeStyle
 	public void setMaxWidth(float maxWidth)
 	{
 		mMaxWidth = maxWidth;
-		nativeFlexNodeStyleSetMaxWidth(mNativePointer, maxWidth);
+		if (!batch(OP_MAX_WIDTH, 0, maxWidth))
+		{
+			nativeFlexNodeStyleSetMaxWidth(mNativePointer, maxWidth);
+		}
 	}
 
 	private native void nativeFlexNodeStyleSetMaxWidthPercent(long nativeFlexNodeStyle, float percent);
 
 	public void setMaxWidthPercent(float percent)
 	{
-		nativeFlexNodeStyleSetMaxWidthPercent(mNativePointer, percent);
+		if (mNativePointer != 0)
+		{
+			nativeFlexNodeStyleSetMaxWidthPercent(mNativePointer, percent);
+		}
 	}
 
 	private float	mMaxHeight;
@@ -707,14 +1047,20 @@ public class FlexNodeStyle
 	public void setMaxHeight(float maxHeight)
 	{
 		mMaxHeight = maxHeight;
-		nativeFlexNodeStyleSetMaxHeight(mNativePointer, maxHeight);
+		if (!batch(OP_MAX_HEIGHT, 0, maxHeight))
+		{
+			nativeFlexNodeStyleSetMaxHeight(mNativePointer, maxHeight);
+		}
 	}
 
 	private native void nativeFlexNodeStyleSetMaxHeightPercent(long nativeFlexNodeStyle, float percent);
 
 	public void setMaxHeightPercent(float percent)
 	{
-		nativeFlexNodeStyleSetMaxHeightPercent(mNativePointer, percent);
+		if (mNativePointer != 0)
+		{
+			nativeFlexNodeStyleSetMaxHeightPercent(mNativePointer, percent);
+		}
 	}
 
 	private float mAspectRatio;
@@ -731,7 +1077,10 @@ public class FlexNodeStyle
 	public void setAspectRatio(float aspectRatio)
 	{
 		mAspectRatio = aspectRatio;
-		nativeFlexNodeStyleSetAspectRatio(mNativePointer, aspectRatio);
+		if (mNativePointer != 0)
+		{
+			nativeFlexNodeStyleSetAspectRatio(mNativePointer, aspectRatio);
+		}
 	}
 
 }
@@ -15,8 +15,10 @@
  */
 
 #include <memory>
+#include <mutex>
+#include <new>
 #include <iostream>
-#include <map>
+#include <vector>
 #include <android/log.h>
 #include <time.h>
 #include "FlexNode.h"
@@ -33,69 +35,132 @@ static double layout_analyze_measureTime = 0.0f;
 static int newLayoutCount = 0;
 #endif
 
-static jclass clazz;
-
-static jfieldID widthField;
-static jfieldID heightField;
-static jfieldID leftField;
-static jfieldID topField;
-
-static jfieldID marginLeftField;
-static jfieldID marginTopField;
-static jfieldID marginRightField;
-static jfieldID marginBottomField;
-
-static jfieldID paddingLeftField;
-static jfieldID paddingTopField;
-static jfieldID paddingRightField;
-static jfieldID paddingBottomField;
-
-static jfieldID borderLeftField;
-static jfieldID borderTopField;
-static jfieldID borderRightField;
-static jfieldID borderBottomField;
-
-static jfieldID edgeSetFlagField;
-static jfieldID hasNewLayoutField;
-
+//the layout result of a node, in the order FlexNode.setLayoutResult reads it
+static const int kLayoutResultStride = 17;
 
 class LayoutContext {
  public:
-  LayoutContext(jlongArray nativeNodes, jobjectArray javaNodes) {
-    //1.setup the map index of HPNodes and java nodes.
-    jboolean isCopy = JNI_FALSE;
+  LayoutContext(jlongArray nativeNodes, jobjectArray javaNodes, bool indexChanged) {
     JNIEnv* env = GetJNIEnv();
-    jlong* flexNodes = env->GetLongArrayElements(nativeNodes, &isCopy);
-    jsize size = env->GetArrayLength(nativeNodes);
-
-    //__android_log_print(ANDROID_LOG_ERROR,  "LayoutContext", "node count %d", size);
+    size = env->GetArrayLength(nativeNodes);
+    ASSERT(size == env->GetArrayLength(javaNodes));
 
-    for (int i = 0; i < size; i++) {
-      HPNodeRef hpNode = _jlong2HPNodeRef(flexNodes[i]);
-      ASSERT(hpNode != nullptr);
-      node_ptr_index_map[hpNode] = i;
+    //1.the index of a HPNode in the java node array is kept in its context,
+    //it is only set again when nodes were added to or removed from the tree.
+    if (indexChanged) {
+      jlong* flexNodes = env->GetLongArrayElements(nativeNodes, nullptr);
+      for (int i = 0; i < size; i++) {
+        HPNodeRef hpNode = _jlong2HPNodeRef(flexNodes[i]);
+        ASSERT(hpNode != nullptr);
+        hpNode->setContext(reinterpret_cast<void*>(static_cast<intptr_t>(i + 1)));
+      }
+      env->ReleaseLongArrayElements(nativeNodes, flexNodes, JNI_ABORT);
     }
-    env->ReleaseLongArrayElements(nativeNodes, flexNodes, 0);
 
     //2.holds java object array
-    ASSERT(size == env->GetArrayLength(javaNodes));
     jnode_arr = javaNodes;
   }
 
+  int indexOf(HPNodeRef node) {
+    intptr_t index = reinterpret_cast<intptr_t>(node->getContext()) - 1;
+    return (index >= 0 && index < size) ? (int) index : -1;
+  }
+
   base::android::ScopedJavaLocalRef<jobject> get(HPNodeRef node) {
-    JNIEnv* env = GetJNIEnv();
-    auto idx = node_ptr_index_map.find(node);
-    if (idx == node_ptr_index_map.end()) {
+    int index = indexOf(node);
+    if (index < 0) {
       return base::android::ScopedJavaLocalRef<jobject>();
-    } else {
-      jobject java_object = env->GetObjectArrayElement(jnode_arr, idx->second);
-      return base::android::ScopedJavaLocalRef<jobject>(env, java_object);
+    }
+    JNIEnv* env = GetJNIEnv();
+    jobject java_object = env->GetObjectArrayElement(jnode_arr, index);
+    return base::android::ScopedJavaLocalRef<jobject>(env, java_object);
+  }
+
+  void addResult(int index, HPNodeRef node) {
+    results.push_back((float) index);
+    results.push_back(HPNodeLayoutGetLeft(node));
+    results.push_back(HPNodeLayoutGetTop(node));
+    results.push_back(HPNodeLayoutGetWidth(node));
+    results.push_back(HPNodeLayoutGetHeight(node));
+    results.push_back(HPNodeLayoutGetMargin(node, CSSDirection::CSSLeft));
+    results.push_back(HPNodeLayoutGetMargin(node, CSSDirection::CSSTop));
+    results.push_back(HPNodeLayoutGetMargin(node, CSSDirection::CSSRight));
+    results.push_back(HPNodeLayoutGetMargin(node, CSSDirection::CSSBottom));
+    results.push_back(HPNodeLayoutGetPadding(node, CSSDirection::CSSLeft));
+    results.push_back(HPNodeLayoutGetPadding(node, CSSDirection::CSSTop));
+    results.push_back(HPNodeLayoutGetPadding(node, CSSDirection::CSSRight));
+    results.push_back(HPNodeLayoutGetPadding(node, CSSDirection::CSSBottom));
+    results.push_back(HPNodeLayoutGetBorder(node, CSSDirection::CSSLeft));
+    results.push_back(HPNodeLayoutGetBorder(node, CSSDirection::CSSTop));
+    results.push_back(HPNodeLayoutGetBorder(node, CSSDirection::CSSRight));
+    results.push_back(HPNodeLayoutGetBorder(node, CSSDirection::CSSBottom));
+  }
+
+  //copies the results into the java array in one call, returns the number of nodes with a new layout
+  int writeResults(jfloatArray resultArray) {
+    int count = (int) (results.size() / kLayoutResultStride);
+    if (count > 0) {
+      GetJNIEnv()->SetFloatArrayRegion(resultArray, 0, (jsize) results.size(), results.data());
+    }
+    return count;
+  }
+
+  //sets the results on the fields of the java nodes, for the entry point without the result array
+  void writeFields() {
+    JNIEnv* env = GetJNIEnv();
+    for (size_t offset = 0; offset < results.size(); offset += kLayoutResultStride) {
+      base::android::ScopedJavaLocalRef<jobject> jnode(env,
+          env->GetObjectArrayElement(jnode_arr, (jsize) results[offset]));
+      const LayoutFields& fields = GetLayoutFields(env, jnode.obj());
+      const float* result = &results[offset + 1];
+      //left, top, width and height, then margin, padding and border when the flag of the edges is set
+      for (int i = 0; i < 4; i++) {
+        env->SetFloatField(jnode.obj(), fields.layout[i], result[i]);
+      }
+      int edgeSetFlag = env->GetIntField(jnode.obj(), fields.edgeSetFlag);
+      for (int edges = 0; edges < 3; edges++) {
+        if ((edgeSetFlag & (1 << edges)) == 0) {
+          continue;
+        }
+        for (int i = 4 + edges * 4; i < 8 + edges * 4; i++) {
+          env->SetFloatField(jnode.obj(), fields.layout[i], result[i]);
+        }
+      }
+      env->SetBooleanField(jnode.obj(), fields.hasNewLayout, JNI_TRUE);
     }
   }
 
  private:
-  std::map<HPNodeRef, size_t> node_ptr_index_map;
+  struct LayoutFields {
+    jfieldID layout[kLayoutResultStride - 1];
+    jfieldID edgeSetFlag;
+    jfieldID hasNewLayout;
+  };
+
+  static const LayoutFields& GetLayoutFields(JNIEnv* env, jobject jnode) {
+    static const LayoutFields fields = [env, jnode]() {
+      static const char* const kLayoutFieldNames[kLayoutResultStride - 1] = {
+        "mLeft", "mTop", "mWidth", "mHeight",
+        "mMarginLeft", "mMarginTop", "mMarginRight", "mMarginBottom",
+        "mPaddingLeft", "mPaddingTop", "mPaddingRight", "mPaddingBottom",
+        "mBorderLeft", "mBorderTop", "mBorderRight", "mBorderBottom"
+      };
+      LayoutFields f;
+      jclass clazz = env->GetObjectClass(jnode);
+      for (int i = 0; i < kLayoutResultStride - 1; i++) {
+        f.layout[i] = env->GetFieldID(clazz, kLayoutFieldNames[i], "F");
+      }
+      f.edgeSetFlag = env->GetFieldID(clazz, "mEdgeSetFlag", "I");
+      f.hasNewLayout = env->GetFieldID(clazz, "mHasNewLayout", "Z");
+      env->DeleteLocalRef(clazz);
+      return f;
+    }();
+    return fields;
+  }
+
+  jsize size;
   jobjectArray jnode_arr;
+  std::vector<float> results;
 };
 
 static HPSize HPJNIMeasureFunc(HPNodeRef node, float width,
@@ -129,10 +194,26 @@ static HPSize HPJNIMeasureFunc(HPNodeRef node, float width,
   }
 }
 
+//the nodes freed from java are kept for the next new nodes, so that the nodes of a list
+//reuse the memory of the ones removed instead of growing the native heap.
+static const size_t kMaxPooledNodes = 512;
+static std::mutex node_pool_mutex;
+static std::vector<FlexNode*> node_pool;
+
 static jlong FlexNodeNew(JNIEnv* env,
                          const base::android::JavaParamRef<jobject>& jcaller) {
 
-  FlexNode* flex_node = new FlexNode(env, jcaller);
+  FlexNode* flex_node = nullptr;
+  {
+    std::lock_guard<std::mutex> lock(node_pool_mutex);
+    if (!node_pool.empty()) {
+      flex_node = node_pool.back();
+      node_pool.pop_back();
+    }
+  }
+  if (flex_node == nullptr) {
+    flex_node = new FlexNode(env, jcaller);
+  }
   return reinterpret_cast<intptr_t>(flex_node);
 
 }
@@ -147,32 +228,25 @@ static int FlexNodeCount(HPNodeRef node) {
 }
 #endif
 
-static void TransferLayoutOutputsRecursive(HPNodeRef node, void * layoutContext) {
+//collects the results of the nodes with a new layout, the subtrees which were not laid out again are skipped.
+static void TransferLayoutOutputsRecursive(HPNodeRef node, LayoutContext* layoutContext) {
 
   ASSERT(layoutContext != nullptr);
-  base::android::ScopedJavaLocalRef<jobject> jnode =
-      ((LayoutContext*) layoutContext)->get(node);
-  if (jnode.is_null()) {
+  int index = layoutContext->indexOf(node);
+  if (index < 0) {
     return;
   }
 
-  JNIEnv* env = GetJNIEnv();
-  jobject java_node=jnode.obj();
-
   if (!HPNodeHasNewLayout(node)) {
 #ifdef LAYOUT_TIME_ANALYZE
-//    if (weakRef && ( localRef = GetJNIEnv()->NewLocalRef( weakRef) ) !=NULL ) {
-//      JNIEnv* env = GetJNIEnv();
+    JNIEnv* env = GetJNIEnv();
+    base::android::ScopedJavaLocalRef<jobject> jnode = layoutContext->get(node);
     static jclass clazz = env->FindClass(kFlexNodeClassPath);
     static jfieldID widthField = env->GetFieldID( clazz, "mWidth", "F");
-    float javaWidth = env->GetFloatField(java_node, widthField );
-//static jfieldID hasNewLayoutField = env->GetFieldID( clazz, "mHasNewLayout",  "Z");
-//hasNewLayout = env->GetBooleanField(weakRef ,hasNewLayoutField );
+    float javaWidth = env->GetFloatField(jnode.obj(), widthField );
     if(!isDefined(javaWidth)) {
       __android_log_print(ANDROID_LOG_ERROR, "HippyLayoutTime", "cache width NAN  node's fetchCount %d nodetype %d", node->fetchCount, node->style.nodeType);
     }
-//      GetJNIEnv()->DeleteLocalRef( localRef );
-//    }
 #endif 
     return;
   }
@@ -180,53 +254,7 @@ static void TransferLayoutOutputsRecursive(HPNodeRef node, void * layoutContext)
 #ifdef LAYOUT_TIME_ANALYZE
   newLayoutCount++;
 #endif
-    const int MARGIN = 1;
-    const int PADDING = 2;
-    const int BORDER = 4;
-
-    int hasEdgeSetFlag = env->GetIntField(java_node, edgeSetFlagField);
-
-    env->SetFloatField(java_node, widthField, HPNodeLayoutGetWidth(node));
-    env->SetFloatField(java_node, heightField, HPNodeLayoutGetHeight(node));
-    env->SetFloatField(java_node, leftField, HPNodeLayoutGetLeft(node));
-    env->SetFloatField(java_node, topField, HPNodeLayoutGetTop(node));
-
-    if ((hasEdgeSetFlag & MARGIN) == MARGIN) {
-      env->SetFloatField(java_node, marginLeftField,
-                         HPNodeLayoutGetMargin(node, CSSDirection::CSSLeft));
-      env->SetFloatField(java_node, marginTopField,
-                         HPNodeLayoutGetMargin(node, CSSDirection::CSSTop));
-      env->SetFloatField(java_node, marginRightField,
-                         HPNodeLayoutGetMargin(node, CSSDirection::CSSRight));
-      env->SetFloatField(java_node, marginBottomField,
-                         HPNodeLayoutGetMargin(node, CSSDirection::CSSBottom));
-    }
-
-    if ((hasEdgeSetFlag & PADDING) == PADDING) {
-      env->SetFloatField(java_node, paddingLeftField,
-                         HPNodeLayoutGetPadding(node, CSSDirection::CSSLeft));
-      env->SetFloatField(java_node, paddingTopField,
-                         HPNodeLayoutGetPadding(node, CSSDirection::CSSTop));
-      env->SetFloatField(java_node, paddingRightField,
-                         HPNodeLayoutGetPadding(node, CSSDirection::CSSRight));
-      env->SetFloatField(java_node, paddingBottomField,
-                         HPNodeLayoutGetPadding(node, CSSDirection::CSSBottom));
-
-    }
-
-    if ((hasEdgeSetFlag & BORDER) == BORDER) {
-      env->SetFloatField(java_node, borderLeftField,
-                         HPNodeLayoutGetBorder(node, CSSDirection::CSSLeft));
-      env->SetFloatField(java_node, borderTopField,
-                         HPNodeLayoutGetBorder(node, CSSDirection::CSSTop));
-      env->SetFloatField(java_node, borderRightField,
-                         HPNodeLayoutGetBorder(node, CSSDirection::CSSRight));
-      env->SetFloatField(java_node, borderBottomField,
-                         HPNodeLayoutGetBorder(node, CSSDirection::CSSBottom));
-
-    }
-
-    env->SetBooleanField(java_node, hasNewLayoutField, true);
+    layoutContext->addResult(index, node);
     HPNodesetHasNewLayout(node, false);
 #ifdef LAYOUT_TIME_ANALYZE
     node->fetchCount++;
@@ -270,18 +298,9 @@ void FlexNode::FlexNodeRemoveChild(
   FLEX_NODE_LOG("FlexNode::RemoveChild" );
   HPNodeRemoveChild(mHPNode, _jlong2HPNodeRef(childPointer));
 }
-void FlexNode::FlexNodeCalculateLayout(
-    JNIEnv* env, const base::android::JavaParamRef<jobject>& obj, jfloat width,
-    jfloat height,
-    const base::android::JavaParamRef<jlongArray>& nativeNodes,
-    const base::android::JavaParamRef<jobjectArray>& javaNodes,
-    jint direction) {
-  FLEX_NODE_LOG("FlexNode::CalculateLayout:%.2f,%.2f" , width , height );
-
-  ASSERT(!nativeNodes.is_null());
-  ASSERT(!javaNodes.is_null());
-  LayoutContext layoutContext(nativeNodes, javaNodes);
 
+//lays out the tree and collects the results of the nodes with a new layout into layoutContext
+void FlexNode::DoLayout(jfloat width, jfloat height, jint direction, LayoutContext* layoutContext) {
   //__android_log_print(ANDROID_LOG_INFO,  "HippyLayout", "start HPNodeDoLayout===========================================");
 #ifdef LAYOUT_TIME_ANALYZE
   // clock_t start =  clock();
@@ -295,7 +314,7 @@ void FlexNode::FlexNodeCalculateLayout(
     direction = 1;//HPDirection::LTR
   }
 
-  HPNodeDoLayout(mHPNode, width, height, (HPDirection)direction, (void *)&layoutContext);
+  HPNodeDoLayout(mHPNode, width, height, (HPDirection)direction, (void *)layoutContext);
 
 #ifdef LAYOUT_TIME_ANALYZE
   //clock_t end = clock();
@@ -305,7 +324,7 @@ void FlexNode::FlexNodeCalculateLayout(
       (1000*(end.tv_sec - start.tv_sec) + (end.tv_usec - start.tv_usec) /1000),
       layout_analyze_measureCount, layout_analyze_measureTime/(double) CLOCKS_PER_SEC* 1000);
 #endif
-  TransferLayoutOutputsRecursive(mHPNode, (void *)&layoutContext);
+  TransferLayoutOutputsRecursive(mHPNode, layoutContext);
 #ifdef LAYOUT_TIME_ANALYZE
   gettimeofday(&start ,NULL);
   __android_log_print(ANDROID_LOG_INFO, "HippyLayoutTime", "TransferLayoutOutputsRecursive %ld ms ", (1000*(start.tv_sec - end.tv_sec) + (start.tv_usec - end.tv_usec) /1000));
@@ -315,6 +334,39 @@ void FlexNode::FlexNodeCalculateLayout(
   // __android_log_print(ANDROID_LOG_INFO,  "HippyLayout", "end HPNodeDoLayout===========================================");
 }
 
+void FlexNode::FlexNodeCalculateLayout(
+    JNIEnv* env, const base::android::JavaParamRef<jobject>& obj, jfloat width,
+    jfloat height,
+    const base::android::JavaParamRef<jlongArray>& nativeNodes,
+    const base::android::JavaParamRef<jobjectArray>& javaNodes,
+    jint direction) {
+  FLEX_NODE_LOG("FlexNode::CalculateLayout:%.2f,%.2f" , width , height );
+
+  ASSERT(!nativeNodes.is_null());
+  ASSERT(!javaNodes.is_null());
+  LayoutContext layoutContext(nativeNodes, javaNodes, true);
+  DoLayout(width, height, direction, &layoutContext);
+  layoutContext.writeFields();
+}
+
+jint FlexNode::FlexNodeCalculateLayoutIncremental(
+    JNIEnv* env, const base::android::JavaParamRef<jobject>& obj, jfloat width,
+    jfloat height,
+    const base::android::JavaParamRef<jlongArray>& nativeNodes,
+    const base::android::JavaParamRef<jobjectArray>& javaNodes,
+    jboolean indexChanged,
+    const base::android::JavaParamRef<jfloatArray>& results,
+    jint direction) {
+  FLEX_NODE_LOG("FlexNode::CalculateLayoutIncremental:%.2f,%.2f" , width , height );
+
+  ASSERT(!nativeNodes.is_null());
+  ASSERT(!javaNodes.is_null());
+  ASSERT(!results.is_null());
+  LayoutContext layoutContext(nativeNodes, javaNodes, indexChanged);
+  DoLayout(width, height, direction, &layoutContext);
+  return layoutContext.writeResults(results);
+}
+
 void FlexNode::FlexNodeNodeMarkDirty(
     JNIEnv* env, const base::android::JavaParamRef<jobject>& obj) {
   FLEX_NODE_LOG("FlexNode::MarkDirty" );
@@ -369,7 +421,22 @@ void FlexNode::FlexNodemarkLayoutSeen(
 
 void FlexNode::FlexNodeFree(JNIEnv* env,
                             const base::android::JavaParamRef<jobject>& obj) {
-  delete this;
+  //the HPNode is destroyed in place, which takes it out of its parent and children,
+  //and a node in the initial state is built in the same memory.
+  mHPNode->~HPNode();
+  new (mHPNode) HPNode();
+
+  bool pooled = false;
+  {
+    std::lock_guard<std::mutex> lock(node_pool_mutex);
+    if (node_pool.size() < kMaxPooledNodes) {
+      node_pool.push_back(this);
+      pooled = true;
+    }
+  }
+  if (!pooled) {
+    delete this;
+  }
 }
 
 void FlexNode::FlexNodeFreeRecursive(
@@ -545,31 +612,6 @@ jint JNI_OnLoad(JavaVM* vm, void *) {
   //DemoDocument();
   //__android_log_print(ANDROID_LOG_INFO, "FlexBox", "JNI_OnLoad Sucess");
 
-  clazz = env->FindClass(kFlexNodeClassPath);
-
-  widthField = env->GetFieldID(clazz, "mWidth", "F");
-  heightField = env->GetFieldID(clazz, "mHeight", "F");
-  leftField = env->GetFieldID(clazz, "mLeft", "F");
-  topField = env->GetFieldID(clazz, "mTop", "F");
-
-  marginLeftField = env->GetFieldID(clazz, "mMarginLeft", "F");
-  marginTopField = env->GetFieldID(clazz, "mMarginTop", "F");
-  marginRightField = env->GetFieldID(clazz, "mMarginRight", "F");
-  marginBottomField = env->GetFieldID(clazz, "mMarginBottom", "F");
-
-  paddingLeftField = env->GetFieldID(clazz, "mPaddingLeft", "F");
-  paddingTopField = env->GetFieldID(clazz, "mPaddingTop", "F");
-  paddingRightField = env->GetFieldID(clazz, "mPaddingRight", "F");
-  paddingBottomField = env->GetFieldID(clazz, "mPaddingBottom", "F");
-
-  borderLeftField = env->GetFieldID(clazz, "mBorderLeft", "F");
-  borderTopField = env->GetFieldID(clazz, "mBorderTop", "F");
-  borderRightField = env->GetFieldID(clazz, "mBorderRight", "F");
-  borderBottomField = env->GetFieldID(clazz, "mBorderBottom", "F");
-
-  edgeSetFlagField = env->GetFieldID(clazz, "mEdgeSetFlag", "I");
-  hasNewLayoutField = env->GetFieldID(clazz, "mHasNewLayout", "Z");
-
   return JNI_VERSION_1_4;
 }
 
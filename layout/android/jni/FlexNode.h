@@ -26,6 +26,8 @@
 #define FLEX_NODE_MEM_FUN_SET_INCLUDE(type, name)	\
 	void  FlexNodeSet##name ( JNIEnv* env, const base::android::JavaParamRef<jobject>& obj ,  type name) 
 
+class LayoutContext;
+
 class FlexNode {
  public:
   HPNodeRef mHPNode;
@@ -51,6 +53,14 @@ class FlexNode {
                                const base::android::JavaParamRef<jlongArray>& nativeNodes,
                                const base::android::JavaParamRef<jobjectArray>& javaNodes,
                                jint direction);
+  jint FlexNodeCalculateLayoutIncremental(JNIEnv* env,
+                                          const base::android::JavaParamRef<jobject>& obj,
+                                          jfloat width, jfloat height,
+                                          const base::android::JavaParamRef<jlongArray>& nativeNodes,
+                                          const base::android::JavaParamRef<jobjectArray>& javaNodes,
+                                          jboolean indexChanged,
+                                          const base::android::JavaParamRef<jfloatArray>& results,
+                                          jint direction);
 
   void FlexNodeNodeMarkDirty(JNIEnv* env,
                              const base::android::JavaParamRef<jobject>& obj);
@@ -106,6 +116,7 @@ class FlexNode {
   FLEX_NODE_MEM_FUN_GET_INCLUDE(jfloat , BorderBottom);FLEX_NODE_MEM_FUN_SET_INCLUDE(jfloat , BorderBottom);
 
  private:
+  void DoLayout(jfloat width, jfloat height, jint direction, LayoutContext* layoutContext);
   virtual ~FlexNode();
   //DISALLOW_COPY_AND_ASSIGN(FlexNode);
 };
@@ -83,6 +83,30 @@ JNI_GENERATOR_EXPORT void
 	  direction);
 }
 
+JNI_GENERATOR_EXPORT jint
+    Java_com_tencent_smtt_flexbox_FlexNode_nativeFlexNodeCalculateLayoutIncremental(JNIEnv*
+    env, jobject jcaller,
+    jlong nativeFlexNode,
+    jfloat width,
+    jfloat height,
+    jlongArray nativeNodes,
+    jobjectArray javaNodes,
+    jboolean indexChanged,
+    jfloatArray results,
+    jint direction) {
+  FlexNode* native = reinterpret_cast<FlexNode*>(nativeFlexNode);
+  CHECK_NATIVE_PTR(env, jcaller, native, "FlexNodeCalculateLayoutIncremental", 0);
+  return native->FlexNodeCalculateLayoutIncremental(env,
+      base::android::JavaParamRef<jobject>(env, jcaller),
+      width,
+      height,
+      base::android::JavaParamRef<jlongArray>(env, nativeNodes),
+      base::android::JavaParamRef<jobjectArray>(env, javaNodes),
+      indexChanged,
+      base::android::JavaParamRef<jfloatArray>(env, results),
+	  direction);
+}
+
 JNI_GENERATOR_EXPORT jfloat
     Java_com_tencent_smtt_flexbox_FlexNode_nativeFlexNodeGetWidth(JNIEnv* env,
     jobject jcaller,
@@ -610,6 +634,20 @@ static const JNINativeMethod kMethodsFlexNode[] = {
 "V",
     reinterpret_cast<void*>(Java_com_tencent_smtt_flexbox_FlexNode_nativeFlexNodeCalculateLayout)
     },
+    { "nativeFlexNodeCalculateLayoutIncremental",
+"("
+"J"
+"F"
+"F"
+"[J"
+"[Lcom/tencent/smtt/flexbox/FlexNode;"
+"Z"
+"[F"
+"I"
+")"
+"I",
+    reinterpret_cast<void*>(Java_com_tencent_smtt_flexbox_FlexNode_nativeFlexNodeCalculateLayoutIncremental)
+    },
     { "nativeFlexNodeGetWidth",
 "("
 "J"
@@ -15,6 +15,7 @@
  */
 
 #include <memory>
+#include <vector>
 #include "FlexNodeStyle.h"
 #include "FlexNode.h"
 #include "FlexNodeStyleJni.h"
@@ -43,6 +44,144 @@ void FlexNodeStyle::FlexNodeStyleFree(
   delete this;
 }
 
+// op codes of the packed style buffer, in the order of the OP_ constants of FlexNodeStyle.java
+enum StyleOp {
+  kOpDirection = 0,
+  kOpFlexDirection,
+  kOpJustifyContent,
+  kOpAlignItems,
+  kOpAlignSelf,
+  kOpAlignContent,
+  kOpPositionType,
+  kOpFlexWrap,
+  kOpOverflow,
+  kOpDisplay,
+  kOpFlex,
+  kOpFlexGrow,
+  kOpFlexShrink,
+  kOpFlexBasis,
+  kOpMargin,
+  kOpMarginAuto,
+  kOpPadding,
+  kOpBorder,
+  kOpPosition,
+  kOpWidth,
+  kOpHeight,
+  kOpMinWidth,
+  kOpMinHeight,
+  kOpMaxWidth,
+  kOpMaxHeight,
+};
+
+// every op is 3 floats: op code, edge and value
+#define STYLE_OP_SIZE 3
+#define STYLE_OP_STACK_COUNT 64
+
+void FlexNodeStyle::FlexNodeStyleApply(
+    JNIEnv* env, const base::android::JavaParamRef<jobject>& obj,
+    const base::android::JavaParamRef<jfloatArray>& ops, jint count) {
+  if (mFlexNode == nullptr || count <= 0) {
+    return;
+  }
+  FLEX_NODE_LOG("FlexNodeStyle::Apply :%d" , count );
+  jsize size = count * STYLE_OP_SIZE;
+  float stackOps[STYLE_OP_STACK_COUNT * STYLE_OP_SIZE];
+  std::vector<float> heapOps;
+  float* values = stackOps;
+  if (count > STYLE_OP_STACK_COUNT) {
+    heapOps.resize(size);
+    values = heapOps.data();
+  }
+  env->GetFloatArrayRegion(ops.obj(), 0, size, values);
+
+  HPNodeRef node = mFlexNode->mHPNode;
+  for (jsize i = 0; i < size; i += STYLE_OP_SIZE) {
+    int op = (int) values[i];
+    CSSDirection edge = (CSSDirection) (int) values[i + 1];
+    float value = values[i + 2];
+    switch (op) {
+      case kOpDirection:
+        HPNodeStyleSetDirection(node, (HPDirection) (int) value);
+        break;
+      case kOpFlexDirection:
+        HPNodeStyleSetFlexDirection(node, (FlexDirection) (int) value);
+        break;
+      case kOpJustifyContent:
+        HPNodeStyleSetJustifyContent(node, (FlexAlign) (int) value);
+        break;
+      case kOpAlignItems:
+        HPNodeStyleSetAlignItems(node, (FlexAlign) (int) value);
+        break;
+      case kOpAlignSelf:
+        HPNodeStyleSetAlignSelf(node, (FlexAlign) (int) value);
+        break;
+      case kOpAlignContent:
+        HPNodeStyleSetAlignContent(node, (FlexAlign) (int) value);
+        break;
+      case kOpPositionType:
+        HPNodeStyleSetPositionType(node, (PositionType) (int) value);
+        break;
+      case kOpFlexWrap:
+        HPNodeStyleSetFlexWrap(node, (FlexWrapMode) (int) value);
+        break;
+      case kOpOverflow:
+        HPNodeStyleSetOverflow(node, (OverflowType) (int) value);
+        break;
+      case kOpDisplay:
+        HPNodeStyleSetDisplay(node, (DisplayType) (int) value);
+        break;
+      case kOpFlex:
+        HPNodeStyleSetFlex(node, value);
+        break;
+      case kOpFlexGrow:
+        HPNodeStyleSetFlexGrow(node, value);
+        break;
+      case kOpFlexShrink:
+        HPNodeStyleSetFlexShrink(node, value);
+        break;
+      case kOpFlexBasis:
+        HPNodeStyleSetFlexBasis(node, value);
+        break;
+      case kOpMargin:
+        HPNodeStyleSetMargin(node, edge, value);
+        break;
+      case kOpMarginAuto:
+        HPNodeStyleSetMarginAuto(node, edge);
+        break;
+      case kOpPadding:
+        HPNodeStyleSetPadding(node, edge, value);
+        break;
+      case kOpBorder:
+        HPNodeStyleSetBorder(node, edge, value);
+        break;
+      case kOpPosition:
+        HPNodeStyleSetPosition(node, edge, value);
+        break;
+      case kOpWidth:
+        HPNodeStyleSetWidth(node, value);
+        break;
+      case kOpHeight:
+        HPNodeStyleSetHeight(node, value);
+        break;
+      case kOpMinWidth:
+        HPNodeStyleSetMinWidth(node, value);
+        break;
+      case kOpMinHeight:
+        HPNodeStyleSetMinHeight(node, value);
+        break;
+      case kOpMaxWidth:
+        HPNodeStyleSetMaxWidth(node, value);
+        break;
+      case kOpMaxHeight:
+        HPNodeStyleSetMaxHeight(node, value);
+        break;
+      default:
+        FLEX_NODE_LOG("#not#FlexNodeStyle::Apply op:%d" , op );
+        break;
+    }
+  }
+}
+
 #define FLEX_NODE_STYLE_MEM_FUN_GET_CPP(type, name)	\
 	type  FlexNodeStyle::FlexNodeStyleGet##name ( JNIEnv* env, const base::android::JavaParamRef<jobject>& obj ) 
 
@@ -315,12 +454,12 @@ base::android::ScopedJavaLocalRef<jobject> FlexValue =
 Java_FlexNodeStyle_createFlexValue(env_ , 0, 0);
 return FlexValue;
 }
-FLEX_NODE_STYLE_MEM_FUN_SET_CPP( jint, MinWidth) {
-  FLEX_NODE_LOG("FlexNodeStyle::SetMinWidth: %d" , _MinWidth );
+FLEX_NODE_STYLE_MEM_FUN_SET_CPP( jfloat, MinWidth) {
+  FLEX_NODE_LOG("FlexNodeStyle::SetMinWidth: %.2f" , _MinWidth );
   HPNodeStyleSetMinWidth(mFlexNode->mHPNode, _MinWidth);
 }
-FLEX_NODE_STYLE_MEM_FUN_SET_CPP( jint, MinWidthPercent) {
-  FLEX_NODE_LOG("#not#FlexNodeStyle::SetMinWidthPercent: %d" , _MinWidthPercent );
+FLEX_NODE_STYLE_MEM_FUN_SET_CPP( jfloat, MinWidthPercent) {
+  FLEX_NODE_LOG("#not#FlexNodeStyle::SetMinWidthPercent: %.2f" , _MinWidthPercent );
 }
 
 FLEX_NODE_STYLE_MEM_FUN_GET_CPP( base::android::ScopedJavaLocalRef<jobject>, MinHeight){
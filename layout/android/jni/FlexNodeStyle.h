@@ -38,6 +38,11 @@ class FlexNodeStyle {
                    jlong flexnode);
   void FlexNodeStyleFree(JNIEnv* env,
                          const base::android::JavaParamRef<jobject>& obj);
+  // applies the ops packed by FlexNodeStyle.java between beginBatch and endBatch
+  void FlexNodeStyleApply(JNIEnv* env,
+                          const base::android::JavaParamRef<jobject>& obj,
+                          const base::android::JavaParamRef<jfloatArray>& ops,
+                          jint count);
 
   FLEX_NODE_STYLE_MEM_FUN_GET_INCLUDE( jint, Direction);FLEX_NODE_STYLE_MEM_FUN_SET_INCLUDE( jint, Direction);
 
@@ -97,8 +102,8 @@ class FlexNodeStyle {
   FLEX_NODE_STYLE_MEM_FUN_SET0_INCLUDE( jfloat, HeightAuto);
 
   FLEX_NODE_STYLE_MEM_FUN_GET_INCLUDE( base::android::ScopedJavaLocalRef<jobject>, MinWidth);
-  FLEX_NODE_STYLE_MEM_FUN_SET_INCLUDE( jint, MinWidth);
-  FLEX_NODE_STYLE_MEM_FUN_SET_INCLUDE( jint, MinWidthPercent);
+  FLEX_NODE_STYLE_MEM_FUN_SET_INCLUDE( jfloat, MinWidth);
+  FLEX_NODE_STYLE_MEM_FUN_SET_INCLUDE( jfloat, MinWidthPercent);
 
   FLEX_NODE_STYLE_MEM_FUN_GET_INCLUDE( base::android::ScopedJavaLocalRef<jobject>, MinHeight);
   FLEX_NODE_STYLE_MEM_FUN_SET_INCLUDE( jfloat, MinHeight);
@@ -48,11 +48,24 @@ JNI_GENERATOR_EXPORT void
     jlong nativeFlexNodeStyle,
     jlong node) {
   FlexNodeStyle* native = reinterpret_cast<FlexNodeStyle*>(nativeFlexNodeStyle);
-  CHECK_NATIVE_PTR(env, jcaller, native, "SetFlexNode", 0);
+  CHECK_NATIVE_PTR(env, jcaller, native, "SetFlexNode");
   return native->SetFlexNode(env, base::android::JavaParamRef<jobject>(env,
       jcaller),  node);
 }
 
+JNI_GENERATOR_EXPORT void
+    Java_com_tencent_smtt_flexbox_FlexNodeStyle_nativeFlexNodeStyleApply(JNIEnv*
+    env, jobject jcaller,
+    jlong nativeFlexNodeStyle,
+    jfloatArray ops,
+    jint count) {
+  FlexNodeStyle* native = reinterpret_cast<FlexNodeStyle*>(nativeFlexNodeStyle);
+  CHECK_NATIVE_PTR(env, jcaller, native, "FlexNodeStyleApply");
+  return native->FlexNodeStyleApply(env,
+      base::android::JavaParamRef<jobject>(env, jcaller),
+      base::android::JavaParamRef<jfloatArray>(env, ops), count);
+}
+
 JNI_GENERATOR_EXPORT jint
     Java_com_tencent_smtt_flexbox_FlexNodeStyle_nativeFlexNodeStyleGetDirection(JNIEnv*
     env, jobject jcaller,
@@ -783,6 +796,15 @@ static const JNINativeMethod kMethodsFlexNodeStyle[] = {
 "V",
     reinterpret_cast<void*>(Java_com_tencent_smtt_flexbox_FlexNodeStyle_nativeSetFlexNode)
     },
+    { "nativeFlexNodeStyleApply",
+"("
+"J"
+"[F"
+"I"
+")"
+"V",
+    reinterpret_cast<void*>(Java_com_tencent_smtt_flexbox_FlexNodeStyle_nativeFlexNodeStyleApply)
+    },
     { "nativeFlexNodeStyleGetDirection",
 "("
 "J"
@@ -22,7 +22,11 @@
 
 #define JNI_GENERATOR_EXPORT extern "C" __attribute__((visibility("default")))
 
-#define CHECK_NATIVE_PTR(env, jcaller, native_ptr, method_name, ...) 
+//java does not call native on freed nodes, whose pointer is 0. This guards the native side as well
+#define CHECK_NATIVE_PTR(env, jcaller, native_ptr, method_name, ...) \
+  if (native_ptr == nullptr) {                                      \
+    return __VA_ARGS__;                                             \
+  }
 
 //#define FLEX_NODE_LOG_CHECK 0
 #ifdef FLEX_NODE_LOG_CHECK
@@ -0,0 +1,117 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tencent.smtt.flexbox;
+
+import com.tencent.mtt.hippy.dom.flex.FlexAlign;
+import com.tencent.mtt.hippy.dom.flex.FlexCSSDirection;
+import com.tencent.mtt.hippy.dom.flex.FlexJustify;
+import com.tencent.mtt.hippy.dom.flex.FlexWrap;
+
+import java.util.Arrays;
+
+/**
+ * FileName: FlexNodeStyleBenchmark
+ * Description：compares setting 16 style props on 1000 nodes with one JNI call per prop and with the props
+ * packed by FlexNodeStyle#beginBatch into one JNI call per node. It needs libflexbox.so, so it is run from an app
+ * with the java directory and the so, not from the benchmark executables of layout/benchmark/hippy:
+ * call FlexNodeStyleBenchmark.run() and print the result.
+ * History：
+ */
+public class FlexNodeStyleBenchmark
+{
+	private static final int	NUM_NODES		= 1000;
+	private static final int	NUM_REPETITIONS	= 50;
+
+	public static String run()
+	{
+		FlexNode[] nodes = new FlexNode[NUM_NODES];
+		for (int i = 0; i < NUM_NODES; i++)
+		{
+			nodes[i] = new FlexNode();
+		}
+
+		// warm up the jit and the native code of both ways
+		measure(nodes, false);
+		measure(nodes, true);
+
+		StringBuilder result = new StringBuilder();
+		result.append(NUM_NODES).append(" nodes, 16 props per node\n");
+		result.append("one call per prop: ").append(measure(nodes, false)).append('\n');
+		result.append("one call per node: ").append(measure(nodes, true)).append('\n');
+
+		for (FlexNode node : nodes)
+		{
+			node.free();
+		}
+		return result.toString();
+	}
+
+	private static String measure(FlexNode[] nodes, boolean batch)
+	{
+		double[] timesInMs = new double[NUM_REPETITIONS];
+		for (int r = 0; r < NUM_REPETITIONS; r++)
+		{
+			long start = System.nanoTime();
+			for (int i = 0; i < nodes.length; i++)
+			{
+				FlexNode node = nodes[i];
+				boolean batching = batch && node.Style().beginBatch();
+				try
+				{
+					setStyle(node, i + r);
+				}
+				finally
+				{
+					if (batching)
+					{
+						node.Style().endBatch();
+					}
+				}
+			}
+			timesInMs[r] = (System.nanoTime() - start) / 1000000.0;
+		}
+
+		double mean = 0;
+		for (double time : timesInMs)
+		{
+			mean += time;
+		}
+		mean /= NUM_REPETITIONS;
+		Arrays.sort(timesInMs);
+		return String.format("median: %.3f ms, mean: %.3f ms", timesInMs[NUM_REPETITIONS / 2], mean);
+	}
+
+	// the props a list item usually has
+	private static void setStyle(FlexNode node, int seed)
+	{
+		node.setFlexDirection(FlexCSSDirection.ROW);
+		node.setJustifyContent(FlexJustify.SPACE_BETWEEN);
+		node.setAlignItems(FlexAlign.CENTER);
+		node.setWrap(FlexWrap.NOWRAP);
+		node.setFlexGrow(1);
+		node.setFlexShrink(0);
+		node.setStyleWidth(360 + seed % 7);
+		node.setStyleHeight(48);
+		node.setStyleMaxWidth(1080);
+		node.setStyleMinHeight(24);
+		node.setMargin(FlexNodeStyle.Edge.EDGE_LEFT.ordinal(), 8);
+		node.setMargin(FlexNodeStyle.Edge.EDGE_RIGHT.ordinal(), 8);
+		node.setPadding(FlexNodeStyle.Edge.EDGE_TOP.ordinal(), 4);
+		node.setPadding(FlexNodeStyle.Edge.EDGE_BOTTOM.ordinal(), 4);
+		node.setBorder(FlexNodeStyle.Edge.EDGE_ALL.ordinal(), 1);
+		node.setAlignSelf(FlexAlign.STRETCH);
+	}
+}
@@ -0,0 +1,244 @@
+/* Tencent is pleased to support the open source community by making Hippy available.
+ * Copyright (C) 2018 THL A29 Limited, a Tencent company. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/* this benchmark compares the two ways android/jni/FlexNode.cpp lays out a tree of 2000 nodes
+ * when one text node changed: the node index built again for every layout with its results
+ * read back node by node, and the index kept in the node contexts with the results of the
+ * nodes with a new layout packed in one array.
+ */
+#include <math.h>
+#include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <time.h>
+#include <map>
+#include <vector>
+
+#include "./Hippy.h"
+
+#define NUM_REPETITIONS 1000
+#define NUM_ROWS 50
+#define NUM_ITEMS 39
+#define LAYOUT_RESULT_STRIDE 17
+
+#define HPBENCHMARK(NAME, BLOCK)                         \
+  __start = clock();                                     \
+  for (uint32_t __i = 0; __i < NUM_REPETITIONS; __i++) { \
+    {BLOCK} __endTimes[__i] = clock();                   \
+  }                                                      \
+  __printBenchmarkResult(NAME, __start, __endTimes);
+
+static int __compareDoubles(const void* a, const void* b) {
+  double arg1 = *(const double*) a;
+  double arg2 = *(const double*) b;
+
+  if (arg1 < arg2) {
+    return -1;
+  }
+
+  if (arg1 > arg2) {
+    return 1;
+  }
+
+  return 0;
+}
+
+static void __printBenchmarkResult(
+    const char* name,
+    clock_t start,
+    clock_t* endTimes) {
+  double timesInMs[NUM_REPETITIONS];
+  double mean = 0;
+  clock_t lastEnd = start;
+  for (uint32_t i = 0; i < NUM_REPETITIONS; i++) {
+    timesInMs[i] = (endTimes[i] - lastEnd) / (double) CLOCKS_PER_SEC * 1000;
+    lastEnd = endTimes[i];
+    mean += timesInMs[i];
+  }
+  mean /= NUM_REPETITIONS;
+
+  qsort(timesInMs, NUM_REPETITIONS, sizeof(double), __compareDoubles);
+  double median = timesInMs[NUM_REPETITIONS / 2];
+
+  double variance = 0;
+  for (uint32_t i = 0; i < NUM_REPETITIONS; i++) {
+    variance += pow(timesInMs[i] - mean, 2);
+  }
+  variance /= NUM_REPETITIONS;
+  double stddev = sqrt(variance);
+
+  printf("%s: median: %lf ms, stddev: %lf ms\n", name, median, stddev);
+}
+
+static HPSize _measure(
+    HPNodeRef node,
+    float width,
+    MeasureMode widthMode,
+    float height,
+    MeasureMode heightMode,
+    void * layoutContext) {
+  return (HPSize){
+      .width = widthMode == MeasureModeUndefined ? 100 : width,
+      .height = 20,
+  };
+}
+
+struct JavaNodeFields {
+  float left;
+  float top;
+  float width;
+  float height;
+  bool hasNewLayout;
+};
+
+static void collectNodes(HPNodeRef root, std::vector<HPNodeRef>& nodes) {
+  nodes.clear();
+  nodes.push_back(root);
+  for (size_t i = 0; i < nodes.size(); i++) {
+    for (uint32_t j = 0; j < nodes[i]->childCount(); j++) {
+      nodes.push_back(nodes[i]->getChild(j));
+    }
+  }
+}
+
+//the results are set field by field, as SetFloatField did for every node
+static void transferWithMap(HPNodeRef node,
+                            std::map<HPNodeRef, size_t>& index,
+                            std::vector<JavaNodeFields>& fields) {
+  auto idx = index.find(node);
+  if (idx == index.end() || !HPNodeHasNewLayout(node)) {
+    return;
+  }
+  JavaNodeFields& field = fields[idx->second];
+  field.width = HPNodeLayoutGetWidth(node);
+  field.height = HPNodeLayoutGetHeight(node);
+  field.left = HPNodeLayoutGetLeft(node);
+  field.top = HPNodeLayoutGetTop(node);
+  field.hasNewLayout = true;
+  HPNodesetHasNewLayout(node, false);
+  for (uint32_t i = 0; i < node->childCount(); i++) {
+    transferWithMap(node->getChild(i), index, fields);
+  }
+}
+
+static void transferWithContext(HPNodeRef node, std::vector<float>& results) {
+  if (node->getContext() == nullptr || !HPNodeHasNewLayout(node)) {
+    return;
+  }
+  results.push_back((float) (reinterpret_cast<intptr_t>(node->getContext()) - 1));
+  results.push_back(HPNodeLayoutGetLeft(node));
+  results.push_back(HPNodeLayoutGetTop(node));
+  results.push_back(HPNodeLayoutGetWidth(node));
+  results.push_back(HPNodeLayoutGetHeight(node));
+  results.push_back(HPNodeLayoutGetMargin(node, CSSDirection::CSSLeft));
+  results.push_back(HPNodeLayoutGetMargin(node, CSSDirection::CSSTop));
+  results.push_back(HPNodeLayoutGetMargin(node, CSSDirection::CSSRight));
+  results.push_back(HPNodeLayoutGetMargin(node, CSSDirection::CSSBottom));
+  results.push_back(HPNodeLayoutGetPadding(node, CSSDirection::CSSLeft));
+  results.push_back(HPNodeLayoutGetPadding(node, CSSDirection::CSSTop));
+  results.push_back(HPNodeLayoutGetPadding(node, CSSDirection::CSSRight));
+  results.push_back(HPNodeLayoutGetPadding(node, CSSDirection::CSSBottom));
+  results.push_back(HPNodeLayoutGetBorder(node, CSSDirection::CSSLeft));
+  results.push_back(HPNodeLayoutGetBorder(node, CSSDirection::CSSTop));
+  results.push_back(HPNodeLayoutGetBorder(node, CSSDirection::CSSRight));
+  results.push_back(HPNodeLayoutGetBorder(node, CSSDirection::CSSBottom));
+  HPNodesetHasNewLayout(node, false);
+  for (uint32_t i = 0; i < node->childCount(); i++) {
+    transferWithContext(node->getChild(i), results);
+  }
+}
+
+static void layoutWithIndexRebuilt(HPNodeRef root, std::vector<HPNodeRef>& nodes,
+                                   std::vector<JavaNodeFields>& fields) {
+  collectNodes(root, nodes);
+  std::map<HPNodeRef, size_t> index;
+  for (size_t i = 0; i < nodes.size(); i++) {
+    index[nodes[i]] = i;
+  }
+  HPNodeDoLayout(root, VALUE_UNDEFINED, VALUE_UNDEFINED, DirectionLTR);
+  transferWithMap(root, index, fields);
+}
+
+static int layoutWithIndexKept(HPNodeRef root, std::vector<float>& results) {
+  if (!HPNodeIsDirty(root)) {
+    return 0;
+  }
+  results.clear();
+  HPNodeDoLayout(root, VALUE_UNDEFINED, VALUE_UNDEFINED, DirectionLTR);
+  transferWithContext(root, results);
+  return (int) (results.size() / LAYOUT_RESULT_STRIDE);
+}
+
+//a list page: rows of text items, 2000 nodes with the root
+static HPNodeRef createPage(std::vector<HPNodeRef>& leaves) {
+  const HPNodeRef root = HPNodeNew();
+  HPNodeStyleSetWidth(root, 1080);
+  for (uint32_t i = 0; i < NUM_ROWS; i++) {
+    const HPNodeRef row = HPNodeNew();
+    HPNodeStyleSetFlexDirection(row, FLexDirectionRow);
+    HPNodeStyleSetFlexWrap(row, FlexWrap);
+    HPNodeStyleSetPadding(row, CSSDirection::CSSAll, 8);
+    HPNodeInsertChild(root, row, i);
+    for (uint32_t j = 0; j < NUM_ITEMS; j++) {
+      const HPNodeRef item = HPNodeNew();
+      HPNodeSetMeasureFunc(item, _measure);
+      HPNodeStyleSetMargin(item, CSSDirection::CSSAll, 4);
+      HPNodeInsertChild(row, item, j);
+      leaves.push_back(item);
+    }
+  }
+  return root;
+}
+
+int main(int argc, char const* argv[]) {
+  clock_t __start;
+  clock_t __endTimes[NUM_REPETITIONS];
+
+  std::vector<HPNodeRef> leaves;
+  std::vector<HPNodeRef> nodes;
+  const HPNodeRef root = createPage(leaves);
+  collectNodes(root, nodes);
+  std::vector<JavaNodeFields> fields(nodes.size());
+  std::vector<float> results;
+  results.reserve(nodes.size() * LAYOUT_RESULT_STRIDE);
+  layoutWithIndexRebuilt(root, nodes, fields);
+  printf("%zu nodes\n", nodes.size());
+
+  HPBENCHMARK("One text changed, index rebuilt, results set per node", {
+    HPNodeMarkDirty(leaves[(__i * 7) % leaves.size()]);
+    layoutWithIndexRebuilt(root, nodes, fields);
+  });
+
+  HPBENCHMARK("No change, index rebuilt, results set per node", {
+    layoutWithIndexRebuilt(root, nodes, fields);
+  });
+
+  //the index is kept in the node contexts, as FlexNode.java builds it again on child changes only
+  for (size_t i = 0; i < nodes.size(); i++) {
+    nodes[i]->setContext(reinterpret_cast<void*>(static_cast<intptr_t>(i + 1)));
+  }
+
+  HPBENCHMARK("One text changed, index kept, packed results", {
+    HPNodeMarkDirty(leaves[(__i * 7) % leaves.size()]);
+    layoutWithIndexKept(root, results);
+  });
+
+  HPBENCHMARK("No change, index kept, packed results", {
+    layoutWithIndexKept(root, results);
+  });
+
+  HPNodeFreeRecursive(root);
+  return 0;
+}
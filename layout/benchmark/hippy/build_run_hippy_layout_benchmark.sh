@@ -21,3 +21,8 @@ BENCHMARK_RUN_PATH="${BUILD_DIR}"/hpbenchmark/hippy_layout_benchmark
 if [ -x "${BENCHMARK_RUN_PATH}" ];then
 ${BENCHMARK_RUN_PATH}
 fi
+
+BENCHMARK_RUN_PATH="${BUILD_DIR}"/hpbenchmark/hippy_incremental_layout_benchmark
+if [ -x "${BENCHMARK_RUN_PATH}" ];then
+${BENCHMARK_RUN_PATH}
+fi
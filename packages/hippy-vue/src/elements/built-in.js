@@ -63,6 +63,10 @@ const div = {
             },
             length: 1,
           };
+          // The samples of a touch move in one frame, page x, page y and ms since the first one for each.
+          if (nativeEventParams.history) {
+            event.history = nativeEventParams.history;
+          }
           break;
         case 'onFocus':
           event.isFocused = nativeEventName.focus;
@@ -74,6 +74,51 @@ test('receiveNativeGesture test', (t) => {
   t.pass();
 });
 
+test('receiveNativeGesture onTouchMove with history test', (t) => {
+  const history = [1, 2, 0, 3, 4, 8];
+  let touchMoveEvent;
+  let compatibleEvent;
+  const onTouchMove = (event) => {
+    touchMoveEvent = event;
+  };
+  const onCompatibleTouchMove = (event) => {
+    compatibleEvent = event;
+  };
+  childNode.addEventListener('touchmove', onTouchMove);
+  childNode.addEventListener('touchMove', onCompatibleTouchMove);
+  EventDispatcher.receiveNativeGesture({
+    id: childNode.nodeId,
+    name: 'onTouchMove',
+    page_x: 3,
+    page_y: 4,
+    history,
+  });
+  childNode.removeEventListener('touchmove', onTouchMove);
+  childNode.removeEventListener('touchMove', onCompatibleTouchMove);
+  t.is(touchMoveEvent.touches[0].clientX, 3);
+  t.is(touchMoveEvent.touches[0].clientY, 4);
+  t.deepEqual(touchMoveEvent.history, history);
+  t.is(compatibleEvent.touches[0].clientX, 3);
+  t.deepEqual(compatibleEvent.history, history);
+});
+
+test('receiveNativeGesture onTouchMove without history test', (t) => {
+  let touchMoveEvent;
+  const onTouchMove = (event) => {
+    touchMoveEvent = event;
+  };
+  childNode.addEventListener('touchmove', onTouchMove);
+  EventDispatcher.receiveNativeGesture({
+    id: childNode.nodeId,
+    name: 'onTouchMove',
+    page_x: 5,
+    page_y: 6,
+  });
+  childNode.removeEventListener('touchmove', onTouchMove);
+  t.is(touchMoveEvent.touches[0].clientY, 6);
+  t.is(touchMoveEvent.history, undefined);
+});
+
 test('receiveUIComponentEvent with wrong node id type test', (t) => {
   EventDispatcher.receiveUIComponentEvent([
     'str',
@@ -70,6 +70,9 @@ const EventDispatcher = {
           clientY: nativeEvent.page_y,
         },
       ];
+      if (nativeEvent.history) {
+        touchEvent.history = nativeEvent.history;
+      }
       targetNode.dispatchEvent(touchEvent);
     }
   },
@@ -0,0 +1,89 @@
+const fs   = require('fs');
+const path = require('path');
+
+/**
+ * Embedded sources known to differ from core/js.
+ * native2js still carries the old destroyInstance code and is patched by hand.
+ */
+const KNOWN_DRIFT = ['native2js'];
+
+/**
+ * Same wrapper as scripts/build-core.js puts around every file except bootstrap and ExceptionHandle.
+ */
+const wrapperBegin = Buffer.from('(function(exports, require, internalBinding) {');
+const wrapperEnd = Buffer.from('});');
+
+/**
+ * Get the absolute full path
+ * @param {string} path - relative path
+ */
+function getAbsolutePath(relativePath) {
+  return path.resolve(__dirname, relativePath);
+}
+
+/**
+ * Get the android core js files, in the order of scripts/build-core.js.
+ */
+function getAllRequiredFiles() {
+  const entry = getAbsolutePath('../core/js/entry/android/hippy.js');
+  const filePaths = [
+    getAbsolutePath('../core/js/bootstrap.js'),
+    entry,
+    getAbsolutePath('../core/js/modules/ExceptionHandle.js'),
+  ];
+  fs.readFileSync(entry).toString().split('\n').forEach((line) => {
+    if (line.split('//')[0].indexOf('require') > -1) {
+      const file = line.split("('")[1].split("')")[0];
+      filePaths.push(getAbsolutePath(`../core/js/entry/android/${file}`));
+    }
+  });
+  return filePaths;
+}
+
+/**
+ * Decode the byte array of an embedded source, without the trailing 0.
+ *
+ * @param {string} code - content of native_source_code_android.cc.
+ * @param {string} fileName - file name without extension.
+ */
+function readEmbedded(code, fileName) {
+  const match = code.match(new RegExp(`const uint8_t k_${fileName}\\[\\] = \\{ ([0-9,]+) \\};`));
+  if (!match) {
+    return null;
+  }
+  const bytes = match[1].split(',').filter(byte => byte !== '').map(Number);
+  return Buffer.from(bytes.slice(0, -1));
+}
+
+/**
+ * Check that the sources embedded for android match core/js, exit with 1 if not.
+ * Run `npm run buildcore` after changing core/js.
+ */
+function checkCore() {
+  const code = fs.readFileSync(getAbsolutePath('../core/src/napi/v8/native_source_code_android.cc')).toString();
+  const stale = [];
+  getAllRequiredFiles().forEach((filePath) => {
+    const fileName = path.basename(filePath, '.js');
+    if (KNOWN_DRIFT.indexOf(fileName) > -1) {
+      return;
+    }
+    const fileBuffer = fs.readFileSync(filePath);
+    const expected = fileName === 'bootstrap' || fileName === 'ExceptionHandle'
+      ? fileBuffer
+      : Buffer.concat([wrapperBegin, fileBuffer, wrapperEnd]);
+    const embedded = readEmbedded(code, fileName);
+    if (!embedded || !embedded.equals(expected)) {
+      stale.push(fileName);
+    }
+  });
+
+  if (stale.length > 0) {
+    /* eslint-disable-next-line no-console */
+    console.log(`[check core] native_source_code_android.cc is stale for: ${stale.join(', ')}`);
+    process.exit(1);
+  }
+  /* eslint-disable-next-line no-console */
+  console.log('[check core] native_source_code_android.cc matches core/js');
+}
+
+checkCore();